@@ -0,0 +1,224 @@
+package io.mosip.authentication.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.mosip.authentication.benchmark.support.Fixtures;
+import io.mosip.authentication.benchmark.support.PreloadedMasterDataCache;
+import io.mosip.authentication.benchmark.support.StubRestHelper;
+import io.mosip.authentication.common.service.cache.CompiledTemplateCache;
+import io.mosip.authentication.common.service.config.IDAMappingConfig;
+import io.mosip.authentication.common.service.factory.RestRequestFactory;
+import io.mosip.authentication.common.service.helper.IdInfoHelper;
+import io.mosip.authentication.common.service.impl.IdInfoFetcherImpl;
+import io.mosip.authentication.common.service.impl.notification.AuthNotificationQueue;
+import io.mosip.authentication.common.service.impl.notification.NotificationServiceImpl;
+import io.mosip.authentication.common.service.integration.IdTemplateManager;
+import io.mosip.authentication.common.service.integration.MasterDataManager;
+import io.mosip.authentication.common.service.integration.NotificationManager;
+import io.mosip.authentication.common.service.util.EnvUtil;
+import io.mosip.authentication.core.exception.IdAuthenticationBusinessException;
+import io.mosip.authentication.core.indauth.dto.AuthRequestDTO;
+import io.mosip.authentication.core.indauth.dto.AuthResponseDTO;
+import io.mosip.authentication.core.indauth.dto.IdentityDTO;
+import io.mosip.authentication.core.indauth.dto.IdentityInfoDTO;
+import io.mosip.authentication.core.indauth.dto.RequestDTO;
+import io.mosip.authentication.core.indauth.dto.ResponseDTO;
+import io.mosip.kernel.templatemanager.velocity.builder.TemplateManagerBuilderImpl;
+
+/**
+ * Benchmarks the time an auth request spends in
+ * {@link NotificationServiceImpl#sendAuthNotification} to notify the
+ * individual by SMS and email, with the notification rendered and sent on the
+ * request thread or handed over to the auth notification queue. The SMS and
+ * email endpoints are stubbed, their requests being sent asynchronously by the
+ * services. In the queued runs, the notifications the workers cannot keep up
+ * with are dropped, as in the services.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+// The kernel template manager reads the template text in the default charset, UTF-8 in the services
+@Fork(value = 2, jvmArgsAppend = "-Dfile.encoding=UTF-8")
+public class AuthNotificationBenchmark {
+
+	private static final int INDIVIDUALS_COUNT = 100;
+
+	@Param({ "false", "true" })
+	private boolean notificationQueue;
+
+	/** The template languages, separated by '+' as JMH splits the parameter values on commas. */
+	@Param({ "eng", "eng+ara+fra" })
+	private String languages;
+
+	private NotificationServiceImpl notificationService;
+
+	private AuthNotificationQueue authNotificationQueue;
+
+	private List<Notification> notifications;
+
+	/**
+	 * The auth request, response and identity of a notification.
+	 */
+	private static final class Notification {
+
+		private final AuthRequestDTO authRequestDTO;
+
+		private final AuthResponseDTO authResponseDTO;
+
+		private final Map<String, List<IdentityInfoDTO>> idInfo;
+
+		private Notification(AuthRequestDTO authRequestDTO, AuthResponseDTO authResponseDTO,
+				Map<String, List<IdentityInfoDTO>> idInfo) {
+			this.authRequestDTO = authRequestDTO;
+			this.authResponseDTO = authResponseDTO;
+			this.idInfo = idInfo;
+		}
+	}
+
+	/**
+	 * The position of a thread in the notifications.
+	 */
+	@State(Scope.Thread)
+	public static class Cursor {
+
+		private int index;
+
+		Notification next(List<Notification> notifications) {
+			index = (index + 1) % notifications.size();
+			return notifications.get(index);
+		}
+	}
+
+	/**
+	 * Wires the notification service on the stubbed endpoints and generates the
+	 * notifications.
+	 */
+	@Setup(Level.Trial)
+	public void setUp() {
+		List<String> templateLanguages = List.of(languages.split("\\+"));
+		EnvUtil.setDateTimePattern(Fixtures.DATE_TIME_PATTERN);
+		EnvUtil.setNotificationType("SMS|EMAIL");
+		EnvUtil.setAuthSmsTemplate(Fixtures.AUTH_SMS_TEMPLATE);
+		EnvUtil.setAuthEmailSubjectTemplate(Fixtures.AUTH_EMAIL_SUBJECT_TEMPLATE);
+		EnvUtil.setAuthEmailContentTemplate(Fixtures.AUTH_EMAIL_CONTENT_TEMPLATE);
+		EnvUtil.setUinMaskingCharCount("6");
+		EnvUtil.setNotificationDateFormat("dd-MM-yyyy");
+		EnvUtil.setNotificationTimeFormat("HH:mm:ss");
+		EnvUtil.setNotificationTimeZone("GMT+05:30");
+		EnvUtil.setDefaultTemplateLang(String.join(",", templateLanguages));
+		EnvUtil env = new EnvUtil();
+		StandardEnvironment environment = new StandardEnvironment();
+		environment.getPropertySources().addFirst(new MapPropertySource("notification", Map.of(
+				"sms-notification.rest.uri", "http://localhost:8084/notifier/sms",
+				"sms-notification.rest.httpMethod", "POST",
+				"sms-notification.rest.headers.mediaType", "application/json",
+				"sms-notification.rest.timeout", "1000",
+				"mail-notification.rest.uri", "http://localhost:8084/notifier/email",
+				"mail-notification.rest.httpMethod", "POST",
+				"mail-notification.rest.headers.mediaType", "multipart/form-data",
+				"mail-notification.rest.timeout", "1000")));
+		ReflectionTestUtils.setField(env, "env", environment);
+
+		IDAMappingConfig idMappingConfig = Fixtures.idMappingConfig();
+		IdInfoFetcherImpl idInfoFetcher = new IdInfoFetcherImpl();
+		ReflectionTestUtils.setField(idInfoFetcher, "idMappingConfig", idMappingConfig);
+		IdInfoHelper infoHelper = new IdInfoHelper();
+		ReflectionTestUtils.setField(infoHelper, "idMappingConfig", idMappingConfig);
+		ReflectionTestUtils.setField(infoHelper, "idInfoFetcher", idInfoFetcher);
+		ReflectionTestUtils.setField(infoHelper, "env", env);
+
+		CompiledTemplateCache templateCache = new CompiledTemplateCache();
+		templateCache.init();
+		MasterDataManager masterDataManager = new MasterDataManager();
+		ReflectionTestUtils.setField(masterDataManager, "masterDataCache",
+				new PreloadedMasterDataCache(Fixtures.authNotificationTemplates(), Map.of()));
+		IdTemplateManager idTemplateManager = new IdTemplateManager();
+		ReflectionTestUtils.setField(idTemplateManager, "templateManagerBuilder", new TemplateManagerBuilderImpl());
+		ReflectionTestUtils.setField(idTemplateManager, "masterDataManager", masterDataManager);
+		ReflectionTestUtils.setField(idTemplateManager, "compiledTemplateCache", templateCache);
+		idTemplateManager.idTemplateManagerPostConstruct();
+
+		RestRequestFactory restRequestFactory = new RestRequestFactory();
+		ReflectionTestUtils.setField(restRequestFactory, "env", env);
+		NotificationManager notificationManager = new NotificationManager();
+		ReflectionTestUtils.setField(notificationManager, "restHelper", new StubRestHelper(0, request -> "{}"));
+		ReflectionTestUtils.setField(notificationManager, "restRequestFactory", restRequestFactory);
+
+		authNotificationQueue = new AuthNotificationQueue();
+		ReflectionTestUtils.setField(authNotificationQueue, "enabled", notificationQueue);
+		ReflectionTestUtils.setField(authNotificationQueue, "capacity", 1000);
+		ReflectionTestUtils.setField(authNotificationQueue, "threadCount", 2);
+		authNotificationQueue.init();
+
+		notificationService = new NotificationServiceImpl();
+		ReflectionTestUtils.setField(notificationService, "infoHelper", infoHelper);
+		ReflectionTestUtils.setField(notificationService, "idInfoFetcher", idInfoFetcher);
+		ReflectionTestUtils.setField(notificationService, "idTemplateManager", idTemplateManager);
+		ReflectionTestUtils.setField(notificationService, "notificationManager", notificationManager);
+		ReflectionTestUtils.setField(notificationService, "authNotificationQueue", authNotificationQueue);
+
+		Random random = Fixtures.newRandom();
+		notifications = new ArrayList<>(INDIVIDUALS_COUNT);
+		for (int i = 0; i < INDIVIDUALS_COUNT; i++) {
+			Map<String, List<IdentityInfoDTO>> idInfo = Fixtures.identityInfo(random, templateLanguages);
+			AuthRequestDTO authRequestDTO = Fixtures.authRequestDTO(random);
+			IdentityDTO demographics = new IdentityDTO();
+			demographics.setName(List.of(idInfo.get(Fixtures.NAME_ATTRIBUTE).get(0)));
+			RequestDTO request = new RequestDTO();
+			request.setDemographics(demographics);
+			authRequestDTO.setRequest(request);
+			ResponseDTO response = new ResponseDTO();
+			response.setAuthStatus(random.nextInt(10) != 0);
+			AuthResponseDTO authResponseDTO = new AuthResponseDTO();
+			authResponseDTO.setResponseTime(authRequestDTO.getRequestTime());
+			authResponseDTO.setResponse(response);
+			notifications.add(new Notification(authRequestDTO, authResponseDTO, idInfo));
+		}
+	}
+
+	/**
+	 * Shuts the auth notification queue down.
+	 */
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		authNotificationQueue.destroy();
+	}
+
+	/**
+	 * Notifies an individual of an auth.
+	 *
+	 * @param cursor the cursor
+	 * @throws IdAuthenticationBusinessException the id authentication business exception
+	 */
+	@Benchmark
+	public void sendAuthNotification(Cursor cursor) throws IdAuthenticationBusinessException {
+		Notification notification = cursor.next(notifications);
+		notificationService.sendAuthNotification(notification.authRequestDTO,
+				notification.authRequestDTO.getIndividualId(), notification.authResponseDTO, notification.idInfo,
+				true);
+	}
+
+}
@@ -0,0 +1,206 @@
+package io.mosip.authentication.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.mosip.authentication.benchmark.support.EmbeddedDatabaseConfig;
+import io.mosip.authentication.benchmark.support.Fixtures;
+import io.mosip.authentication.common.service.builder.AuthTransactionBuilder;
+import io.mosip.authentication.common.service.entity.AutnTxn;
+import io.mosip.authentication.common.service.helper.AutnTxnSink;
+import io.mosip.authentication.common.service.helper.AutnTxnSink.DurabilityMode;
+import io.mosip.authentication.common.service.repository.AutnTxnRepository;
+import io.mosip.authentication.common.service.util.EnvUtil;
+import io.mosip.authentication.core.constant.RequestType;
+import io.mosip.authentication.core.exception.IdAuthenticationBusinessException;
+import io.mosip.authentication.core.indauth.dto.AuthRequestDTO;
+import io.mosip.authentication.core.partner.dto.PartnerDTO;
+
+/**
+ * Benchmarks the build of the auth transaction of a partner auth request, and
+ * its build and store through the auth transaction sink into the embedded
+ * database in each durability mode.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(2)
+public class AuthTransactionBenchmark {
+
+	private static final int REQUEST_COUNT = 1_000;
+
+	private List<AuthRequestDTO> requests;
+
+	private Optional<PartnerDTO> partner;
+
+	/**
+	 * The auth transaction sink over the embedded database.
+	 */
+	@State(Scope.Benchmark)
+	public static class Sink {
+
+		@Param({ "SYNC", "ASYNC", "ASYNC_WAL" })
+		private DurabilityMode sinkMode;
+
+		private AnnotationConfigApplicationContext context;
+
+		private ScheduledExecutorService flushExecutor;
+
+		private Path walDir;
+
+		private AutnTxnRepository autnTxnRepository;
+
+		private AutnTxnSink autnTxnSink;
+
+		/**
+		 * Starts the embedded database and the sink.
+		 *
+		 * @throws IOException Signals that the write-ahead log could not be opened.
+		 */
+		@Setup(Level.Trial)
+		public void setUp() throws IOException {
+			context = new AnnotationConfigApplicationContext(EmbeddedDatabaseConfig.class);
+			autnTxnRepository = context.getBean(AutnTxnRepository.class);
+			flushExecutor = Executors.newSingleThreadScheduledExecutor();
+			walDir = Files.createTempDirectory("autn-txn-wal");
+
+			autnTxnSink = new AutnTxnSink();
+			ReflectionTestUtils.setField(autnTxnSink, "mode", sinkMode);
+			ReflectionTestUtils.setField(autnTxnSink, "capacity", 10_000);
+			ReflectionTestUtils.setField(autnTxnSink, "batchSize", 100);
+			ReflectionTestUtils.setField(autnTxnSink, "flushIntervalMillis", 200L);
+			ReflectionTestUtils.setField(autnTxnSink, "maxAttempts", 5);
+			ReflectionTestUtils.setField(autnTxnSink, "walDir", walDir.toString());
+			ReflectionTestUtils.setField(autnTxnSink, "autntxnrepository", autnTxnRepository);
+			ReflectionTestUtils.setField(autnTxnSink, "flushExecutor", flushExecutor);
+			ReflectionTestUtils.setField(autnTxnSink, "mapper", Jackson2ObjectMapperBuilder.json().build());
+			autnTxnSink.init();
+		}
+
+		/**
+		 * Inserts the queued transactions and empties the table, so that each
+		 * iteration starts from an empty table.
+		 */
+		@TearDown(Level.Iteration)
+		public void clear() {
+			if (autnTxnSink.isEnabled()) {
+				autnTxnSink.flush();
+			}
+			autnTxnRepository.deleteAllInBatch();
+		}
+
+		/**
+		 * Stops the sink and the embedded database.
+		 *
+		 * @throws IOException Signals that the write-ahead log could not be deleted.
+		 */
+		@TearDown(Level.Trial)
+		public void tearDown() throws IOException {
+			autnTxnSink.destroy();
+			flushExecutor.shutdown();
+			context.close();
+			FileUtils.deleteDirectory(walDir.toFile());
+		}
+	}
+
+	/**
+	 * The position of a thread in the requests.
+	 */
+	@State(Scope.Thread)
+	public static class Cursor {
+
+		private int index;
+
+		AuthRequestDTO next(List<AuthRequestDTO> requests) {
+			index = (index + 1) % requests.size();
+			return requests.get(index);
+		}
+	}
+
+	/**
+	 * Generates the auth requests.
+	 */
+	@Setup(Level.Trial)
+	public void setUp() {
+		EnvUtil.setAppId("ida");
+		EnvUtil.setDateTimePattern(Fixtures.DATE_TIME_PATTERN);
+		Random random = Fixtures.newRandom();
+		requests = new ArrayList<>(REQUEST_COUNT);
+		for (int i = 0; i < REQUEST_COUNT; i++) {
+			requests.add(Fixtures.authRequestDTO(random));
+		}
+		PartnerDTO partnerDTO = new PartnerDTO();
+		partnerDTO.setPartnerId("mpartner-default-auth");
+		partnerDTO.setPartnerName("MOSIP default auth partner");
+		partner = Optional.of(partnerDTO);
+	}
+
+	private AutnTxn buildTransaction(AuthRequestDTO request) throws IdAuthenticationBusinessException {
+		// The env, the salt repository and the security manager are only used for internal transactions
+		return AuthTransactionBuilder.newInstance()
+				.withRequest(request)
+				.withToken(request.getIndividualId())
+				.addRequestType(RequestType.DEMO_AUTH)
+				.addRequestType(RequestType.FINGER_AUTH)
+				.withStatus(true)
+				.withPartner(partner)
+				.withInternal(false)
+				.build(null, null, null);
+	}
+
+	/**
+	 * Builds the auth transaction of a request.
+	 *
+	 * @param cursor the cursor
+	 * @return the auth transaction
+	 * @throws IdAuthenticationBusinessException the id authentication business exception
+	 */
+	@Benchmark
+	public AutnTxn build(Cursor cursor) throws IdAuthenticationBusinessException {
+		return buildTransaction(cursor.next(requests));
+	}
+
+	/**
+	 * Builds the auth transaction of a request and stores it through the sink.
+	 *
+	 * @param cursor the cursor
+	 * @param sink   the sink
+	 * @return the auth transaction
+	 * @throws IdAuthenticationBusinessException the id authentication business exception
+	 */
+	@Benchmark
+	public AutnTxn buildAndSave(Cursor cursor, Sink sink) throws IdAuthenticationBusinessException {
+		AutnTxn autnTxn = buildTransaction(cursor.next(requests));
+		sink.autnTxnSink.save(autnTxn);
+		return autnTxn;
+	}
+
+}
@@ -0,0 +1,189 @@
+package io.mosip.authentication.benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.SecretKey;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.mosip.authentication.benchmark.support.BenchmarkAuthFilter;
+import io.mosip.authentication.benchmark.support.Fixtures;
+import io.mosip.authentication.benchmark.support.LocalKeystoreCryptomanagerService;
+import io.mosip.authentication.common.service.integration.KeyManager;
+import io.mosip.authentication.common.service.transaction.manager.IdAuthSecurityManager;
+import io.mosip.authentication.common.service.util.EnvUtil;
+import io.mosip.authentication.core.exception.IdAuthenticationAppException;
+import io.mosip.authentication.core.util.BytesUtil;
+import io.mosip.authentication.core.util.CryptoUtil;
+import io.mosip.kernel.biometrics.constant.BiometricType;
+
+/**
+ * Benchmarks the decipher of the biometric segments of an auth request by the
+ * auth filter, with the partner key pair held in a local keystore by
+ * {@link LocalKeystoreCryptomanagerService}. The segments are encrypted the way
+ * a device does, each with its own symmetric key. The JWS signatures of the
+ * segments are not verified.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(2)
+public class BioDecipherBenchmark {
+
+	private static final String KEY_SPLITTER = "#KEY_SPLITTER#";
+
+	private static final int SALT_LAST_BYTES = 12;
+
+	private static final int AAD_LAST_BYTES = 16;
+
+	private static final String BIOMETRICS = "biometrics";
+
+	/** The number of biometric segments of the request, 13 being all the fingers, irises and face. */
+	@Param({ "1", "4", "13" })
+	private int segments;
+
+	/** The segment count from which the segments are deciphered in parallel, 0 to never. */
+	@Param({ "0", "4" })
+	private int parallelThreshold;
+
+	private ExecutorService bioDecipherExecutor;
+
+	private BenchmarkAuthFilter authFilter;
+
+	private List<Map<String, Object>> segmentMaps;
+
+	/**
+	 * Wires the auth filter and encrypts the biometric segments.
+	 *
+	 * @throws GeneralSecurityException the general security exception
+	 * @throws JsonProcessingException  the json processing exception
+	 */
+	@Setup(Level.Trial)
+	public void setUp() throws GeneralSecurityException, JsonProcessingException {
+		EnvUtil.setSaltLastBytesSum(SALT_LAST_BYTES);
+		EnvUtil.setAadLastBytesSum(AAD_LAST_BYTES);
+		EnvUtil.setBioDecipherParallelThreshold(parallelThreshold);
+
+		LocalKeystoreCryptomanagerService cryptomanagerService = new LocalKeystoreCryptomanagerService(KEY_SPLITTER);
+		IdAuthSecurityManager securityManager = new IdAuthSecurityManager();
+		ReflectionTestUtils.setField(securityManager, "cryptomanagerService", cryptomanagerService);
+		KeyManager keyManager = new KeyManager();
+		ReflectionTestUtils.setField(keyManager, "keySplitter", KEY_SPLITTER);
+		ReflectionTestUtils.setField(keyManager, "securityManager", securityManager);
+		ObjectMapper mapper = Jackson2ObjectMapperBuilder.json().build();
+		bioDecipherExecutor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+		authFilter = new BenchmarkAuthFilter(mapper, keyManager, bioDecipherExecutor);
+
+		Random random = Fixtures.newRandom();
+		segmentMaps = new ArrayList<>(segments);
+		for (int i = 0; i < segments; i++) {
+			segmentMaps.add(encryptSegment(random, i, cryptomanagerService, mapper));
+		}
+	}
+
+	private static Map<String, Object> encryptSegment(Random random, int index,
+			LocalKeystoreCryptomanagerService cryptomanagerService, ObjectMapper mapper)
+			throws GeneralSecurityException, JsonProcessingException {
+		BiometricType modality = Fixtures.modalityOfSegment(index);
+		String timestamp = Fixtures.requestTime();
+		String transactionId = Fixtures.transactionId(random);
+		byte[] xorBytes = BytesUtil.getXOR(timestamp, transactionId);
+		SecretKey symmetricKey = cryptomanagerService.generateSymmetricKey();
+		byte[] bioValue = cryptomanagerService.encryptData(symmetricKey, Fixtures.biometricCapture(random, modality),
+				BytesUtil.getLastBytes(xorBytes, SALT_LAST_BYTES), BytesUtil.getLastBytes(xorBytes, AAD_LAST_BYTES));
+
+		Map<String, Object> digitalId = new LinkedHashMap<>();
+		digitalId.put("serialNo", Fixtures.uin(random));
+		digitalId.put("make", "MOSIP");
+		digitalId.put("model", "SLAP01");
+		digitalId.put("type", modality.value());
+		digitalId.put("deviceSubType", modality == BiometricType.FACE ? "Full face" : "Slap");
+		digitalId.put("deviceProvider", "MOSIP");
+		digitalId.put("deviceProviderId", "MOSIP.PROXY.SBI");
+		digitalId.put("dateTime", timestamp);
+
+		Map<String, Object> data = new LinkedHashMap<>();
+		data.put("digitalId", toJws(mapper.writeValueAsBytes(digitalId)));
+		data.put("bioType", modality.value());
+		data.put("bioSubType", Fixtures.subTypeOfSegment(index));
+		data.put("purpose", "Auth");
+		data.put("env", "Developer");
+		data.put("domainUri", "https://ida.mosip.net");
+		data.put("bioValue", CryptoUtil.encodeBase64Url(bioValue));
+		data.put("transactionId", transactionId);
+		data.put("timestamp", timestamp);
+		data.put("requestedScore", "80");
+		data.put("qualityScore", "90");
+
+		Map<String, Object> segment = new LinkedHashMap<>();
+		segment.put("specVersion", "0.9.5");
+		segment.put("data", toJws(mapper.writeValueAsBytes(data)));
+		segment.put("hash", Fixtures.encodedBytes(random, 32));
+		segment.put("sessionKey", CryptoUtil.encodeBase64Url(cryptomanagerService.encryptKey(symmetricKey)));
+		segment.put("thumbprint", cryptomanagerService.getThumbprint());
+		return segment;
+	}
+
+	/** Wraps the payload in a JWS with a placeholder header and signature, which are not verified. */
+	private static String toJws(byte[] payload) {
+		return CryptoUtil.encodeBase64Url("{\"alg\":\"RS256\"}".getBytes(StandardCharsets.UTF_8)) + "."
+				+ CryptoUtil.encodeBase64Url(payload) + ".c2lnbmF0dXJl";
+	}
+
+	/**
+	 * Shuts down the bio decipher executor.
+	 */
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		bioDecipherExecutor.shutdownNow();
+	}
+
+	/**
+	 * Deciphers the biometric segments of a request. The request is copied as the
+	 * decipher replaces the segments in place.
+	 *
+	 * @return the deciphered request
+	 * @throws IdAuthenticationAppException the id authentication app exception
+	 */
+	@Benchmark
+	public Map<String, Object> decipherBioData() throws IdAuthenticationAppException {
+		List<Object> biometrics = new ArrayList<>(segmentMaps.size());
+		for (Map<String, Object> segment : segmentMaps) {
+			biometrics.add(new HashMap<>(segment));
+		}
+		Map<String, Object> request = new HashMap<>();
+		request.put(BIOMETRICS, biometrics);
+		authFilter.decipherBioData(request);
+		return request;
+	}
+
+}
@@ -0,0 +1,169 @@
+package io.mosip.authentication.benchmark;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.mosip.authentication.benchmark.support.Fixtures;
+import io.mosip.authentication.benchmark.support.StubBioAPIFactory;
+import io.mosip.authentication.benchmark.support.StubBioProvider;
+import io.mosip.authentication.common.service.cache.BirGalleryCache;
+import io.mosip.authentication.common.service.impl.IdInfoFetcherImpl;
+import io.mosip.authentication.common.service.impl.match.IdaIdMapping;
+import io.mosip.authentication.common.service.util.BioMatcherUtil;
+import io.mosip.authentication.core.constant.IdAuthCommonConstants;
+import io.mosip.authentication.core.exception.IdAuthenticationBusinessException;
+import io.mosip.authentication.core.spi.indauth.match.IdMapping;
+import io.mosip.kernel.biometrics.constant.BiometricType;
+
+/**
+ * Benchmarks the biometric match of a request against the stored biometrics of
+ * an identity, with the bio SDK stubbed by {@link StubBioProvider}. The
+ * identities are matched in turn so that the BIR gallery cache, when enabled,
+ * holds all of them after the warmup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(2)
+public class BioMatchBenchmark {
+
+	private static final int IDENTITY_COUNT = 100;
+
+	/** The id names of the captures of each modality, two fingers, two irises and the face. */
+	private static final Map<BiometricType, List<String>> ID_NAMES = Map.of(
+			BiometricType.FINGER, List.of("Left IndexFinger", "Right IndexFinger"),
+			BiometricType.IRIS, List.of("Left", "Right"),
+			BiometricType.FACE, List.of(BiometricType.FACE.value()));
+
+	/** The modalities of the request, separated by '+' as JMH splits the parameter values on commas. */
+	@Param({ "FINGER", "FINGER+IRIS", "FINGER+IRIS+FACE" })
+	private String modalities;
+
+	@Param({ "false", "true" })
+	private boolean concurrent;
+
+	@Param({ "0", "5" })
+	private long sdkLatencyMillis;
+
+	@Param({ "false", "true" })
+	private boolean galleryCache;
+
+	private ExecutorService bioMatchExecutor;
+
+	private BioMatcherUtil bioMatcherUtil;
+
+	private List<Identity> identities;
+
+	/**
+	 * The request and the stored biometrics of an identity.
+	 */
+	private static class Identity {
+
+		private final Map<String, String> probe = new LinkedHashMap<>();
+
+		private final Map<String, String> gallery = new HashMap<>();
+
+		private final Map<String, Object> properties = new HashMap<>();
+	}
+
+	/**
+	 * The position of a thread in the identities.
+	 */
+	@State(Scope.Thread)
+	public static class Cursor {
+
+		private int index;
+
+		Identity next(List<Identity> identities) {
+			index = (index + 1) % identities.size();
+			return identities.get(index);
+		}
+	}
+
+	/**
+	 * Wires the bio matcher and generates the identities.
+	 */
+	@Setup(Level.Trial)
+	public void setUp() {
+		BirGalleryCache birGalleryCache = new BirGalleryCache();
+		ReflectionTestUtils.setField(birGalleryCache, "enabled", galleryCache);
+		ReflectionTestUtils.setField(birGalleryCache, "maxSize", IDENTITY_COUNT);
+		ReflectionTestUtils.setField(birGalleryCache, "ttlSeconds", TimeUnit.HOURS.toSeconds(1));
+		ReflectionTestUtils.setField(birGalleryCache, "maxBytes", Long.MAX_VALUE);
+		birGalleryCache.init();
+
+		bioMatchExecutor = Executors.newFixedThreadPool(ID_NAMES.size() * Runtime.getRuntime().availableProcessors());
+		bioMatcherUtil = new BioMatcherUtil();
+		ReflectionTestUtils.setField(bioMatcherUtil, "idInfoFetcher", new IdInfoFetcherImpl());
+		ReflectionTestUtils.setField(bioMatcherUtil, "bioApiFactory",
+				new StubBioAPIFactory(new StubBioProvider(sdkLatencyMillis)));
+		ReflectionTestUtils.setField(bioMatcherUtil, "birGalleryCache", birGalleryCache);
+		ReflectionTestUtils.setField(bioMatcherUtil, "bdbProcessedLevel", "Raw");
+		ReflectionTestUtils.setField(bioMatcherUtil, "concurrentMatchEnabled", concurrent);
+		ReflectionTestUtils.setField(bioMatcherUtil, "bioMatchExecutor", bioMatchExecutor);
+
+		Random random = Fixtures.newRandom();
+		identities = new ArrayList<>(IDENTITY_COUNT);
+		for (int i = 0; i < IDENTITY_COUNT; i++) {
+			Identity identity = new Identity();
+			for (String modality : modalities.split("\\+")) {
+				BiometricType type = BiometricType.valueOf(modality);
+				for (String idName : ID_NAMES.get(type)) {
+					String capture = Base64.getEncoder().encodeToString(Fixtures.biometricCapture(random, type));
+					identity.probe.put(idName, capture);
+					identity.gallery.put(idName, capture);
+				}
+			}
+			identity.properties.put(IdMapping.class.getSimpleName(), IdaIdMapping.values());
+			identity.properties.put(IdAuthCommonConstants.TOKEN, Fixtures.uin(random));
+			identities.add(identity);
+		}
+	}
+
+	/**
+	 * Shuts down the bio match executor.
+	 */
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		bioMatchExecutor.shutdownNow();
+	}
+
+	/**
+	 * Matches the request of an identity against its stored biometrics.
+	 *
+	 * @param cursor the cursor
+	 * @return the match score
+	 * @throws IdAuthenticationBusinessException the id authentication business exception
+	 */
+	@Benchmark
+	public double match(Cursor cursor) throws IdAuthenticationBusinessException {
+		Identity identity = cursor.next(identities);
+		return bioMatcherUtil.match(identity.probe, identity.gallery, identity.properties);
+	}
+
+}
@@ -0,0 +1,121 @@
+package io.mosip.authentication.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.mosip.authentication.benchmark.support.EmbeddedDatabaseConfig;
+import io.mosip.authentication.benchmark.support.Fixtures;
+import io.mosip.authentication.common.service.cache.IdHashSaltTable;
+import io.mosip.authentication.common.service.entity.IdaUinHashSalt;
+import io.mosip.authentication.common.service.repository.IdaUinHashSaltRepo;
+import io.mosip.authentication.common.service.transaction.manager.IdAuthSecurityManager;
+import io.mosip.authentication.common.service.util.EnvUtil;
+import io.mosip.authentication.core.exception.IdAuthenticationBusinessException;
+
+/**
+ * Benchmarks the salted hash of the individual IDs, the salts being loaded from
+ * the embedded database into the salt table on the first hash.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(2)
+public class IdHashBenchmark {
+
+	/** The salt key length, the salts are indexed by the last digits of the ID. */
+	private static final int SALT_KEY_LENGTH = 3;
+
+	private static final int ID_COUNT = 10_000;
+
+	private AnnotationConfigApplicationContext context;
+
+	private IdAuthSecurityManager securityManager;
+
+	private List<String> ids;
+
+	/**
+	 * The position of a thread in the IDs.
+	 */
+	@State(Scope.Thread)
+	public static class Cursor {
+
+		private int index;
+
+		String next(List<String> ids) {
+			index = (index + 1) % ids.size();
+			return ids.get(index);
+		}
+	}
+
+	/**
+	 * Stores a salt per modulo and generates the IDs.
+	 */
+	@Setup(Level.Trial)
+	public void setUp() {
+		EnvUtil.setSaltKeyLength(SALT_KEY_LENGTH);
+		context = new AnnotationConfigApplicationContext(EmbeddedDatabaseConfig.class);
+		IdaUinHashSaltRepo uinHashSaltRepo = context.getBean(IdaUinHashSaltRepo.class);
+		Random random = Fixtures.newRandom();
+		List<IdaUinHashSalt> salts = new ArrayList<>();
+		for (int modulo = 0; modulo < Math.pow(10, SALT_KEY_LENGTH); modulo++) {
+			IdaUinHashSalt salt = new IdaUinHashSalt();
+			salt.setId(modulo);
+			salt.setSalt(Fixtures.encodedBytes(random, 16));
+			salt.setCreatedBy("ida");
+			salt.setCreatedDTimes(LocalDateTime.now());
+			salts.add(salt);
+		}
+		uinHashSaltRepo.saveAll(salts);
+
+		IdHashSaltTable idHashSaltTable = new IdHashSaltTable();
+		ReflectionTestUtils.setField(idHashSaltTable, "uinHashSaltRepo", uinHashSaltRepo);
+		securityManager = new IdAuthSecurityManager();
+		ReflectionTestUtils.setField(securityManager, "idHashSaltTable", idHashSaltTable);
+
+		ids = new ArrayList<>(ID_COUNT);
+		for (int i = 0; i < ID_COUNT; i++) {
+			ids.add(i % 2 == 0 ? Fixtures.uin(random) : Fixtures.vid(random));
+		}
+	}
+
+	/**
+	 * Closes the embedded database.
+	 */
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+	}
+
+	/**
+	 * Hashes an ID.
+	 *
+	 * @param cursor the cursor
+	 * @return the hash
+	 * @throws IdAuthenticationBusinessException the id authentication business exception
+	 */
+	@Benchmark
+	public String hash(Cursor cursor) throws IdAuthenticationBusinessException {
+		return securityManager.hash(cursor.next(ids));
+	}
+
+}
@@ -0,0 +1,243 @@
+package io.mosip.authentication.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.mosip.authentication.benchmark.support.EmbeddedDatabaseConfig;
+import io.mosip.authentication.benchmark.support.Fixtures;
+import io.mosip.authentication.common.service.entity.IdentityEntity;
+import io.mosip.authentication.common.service.repository.IdentityCacheRepository;
+
+/**
+ * Benchmarks the read of an identity from an {@code identity_cache} table of
+ * many rows, as done by IdServiceImpl for a demographic or a biometric auth:
+ * either in a single projection query, or by checking that the row exists
+ * before fetching it, as done before the projections. Each read runs in its
+ * own transaction, the way the request scoped entity manager of the services
+ * holds the lazy entity fetched by {@code getOne}. The table is stored in a
+ * file, as it does not fit in the heap.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(2)
+public class IdentityReadBenchmark {
+
+	/** The size of the encrypted demographic data of an identity. */
+	private static final int DEMO_DATA_BYTES = 2 * 1024;
+
+	/** The size of the encrypted biometric data of an identity, a few finger templates. */
+	private static final int BIO_DATA_BYTES = 8 * 1024;
+
+	private static final int INSERT_BATCH_SIZE = 1_000;
+
+	/** The number of identities read in turn, spread over the table. */
+	private static final int READ_ID_COUNT = 10_000;
+
+	/** The query of the demographic data before the projections. */
+	private static final String DEMO_DATA_QUERY = "SELECT i.id, i.demographicData, i.expiryTimestamp, "
+			+ "i.transactionLimit, i.token, i.crBy, i.crDTimes, i.updBy, i.updDTimes, i.isDeleted, i.delDTimes "
+			+ "FROM IdentityEntity i where i.id = :id";
+
+	private static final String INSERT_IDENTITY = "INSERT INTO ida.identity_cache (id, token_id, demo_data, bio_data, "
+			+ "expiry_timestamp, transaction_limit, cr_by, cr_dtimes, is_deleted) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+	@Param({ "1000000" })
+	private int rowCount;
+
+	@Param({ "false", "true" })
+	private boolean projection;
+
+	private Path databaseDir;
+
+	private AnnotationConfigApplicationContext context;
+
+	private IdentityCacheRepository identityRepo;
+
+	private EntityManager entityManager;
+
+	private TransactionTemplate transactionTemplate;
+
+	private List<String> readIds;
+
+	/**
+	 * The position of a thread in the identities read.
+	 */
+	@State(Scope.Thread)
+	public static class Cursor {
+
+		private int index;
+
+		String next(List<String> ids) {
+			index = (index + 1) % ids.size();
+			return ids.get(index);
+		}
+	}
+
+	/**
+	 * Starts the database and inserts the identities.
+	 *
+	 * @throws IOException  Signals that the database directory could not be
+	 *                      created.
+	 * @throws SQLException the SQL exception
+	 */
+	@Setup(Level.Trial)
+	public void setUp() throws IOException, SQLException {
+		databaseDir = Files.createTempDirectory("identity-cache");
+		context = new AnnotationConfigApplicationContext();
+		context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("database",
+				Map.of(EmbeddedDatabaseConfig.JDBC_URL, "jdbc:h2:file:" + databaseDir.resolve("ida")
+						+ ";MODE=PostgreSQL;INIT=CREATE SCHEMA IF NOT EXISTS ida")));
+		context.register(EmbeddedDatabaseConfig.class);
+		context.refresh();
+		identityRepo = context.getBean(IdentityCacheRepository.class);
+		entityManager = SharedEntityManagerCreator.createSharedEntityManager(context.getBean(EntityManagerFactory.class));
+		transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+		transactionTemplate.setReadOnly(true);
+
+		Random random = Fixtures.newRandom();
+		int readInterval = Math.max(1, rowCount / READ_ID_COUNT);
+		readIds = new ArrayList<>(READ_ID_COUNT);
+		try (Connection connection = context.getBean(DataSource.class).getConnection()) {
+			try (Statement statement = connection.createStatement()) {
+				// The columns are created with the default binary length of Hibernate
+				statement.execute("ALTER TABLE ida.identity_cache ALTER COLUMN demo_data VARBINARY");
+				statement.execute("ALTER TABLE ida.identity_cache ALTER COLUMN bio_data VARBINARY");
+			}
+			connection.setAutoCommit(false);
+			Timestamp createdTime = Timestamp.valueOf(LocalDateTime.now());
+			Timestamp expiryTime = Timestamp.valueOf(LocalDateTime.now().plusYears(10));
+			try (PreparedStatement insert = connection.prepareStatement(INSERT_IDENTITY)) {
+				for (int i = 0; i < rowCount; i++) {
+					String id = DigestUtils.sha256Hex(Integer.toString(i)).toUpperCase();
+					insert.setString(1, id);
+					insert.setString(2, Fixtures.uin(random));
+					insert.setBytes(3, randomBytes(random, DEMO_DATA_BYTES));
+					insert.setBytes(4, randomBytes(random, BIO_DATA_BYTES));
+					insert.setTimestamp(5, expiryTime);
+					insert.setInt(6, 100);
+					insert.setString(7, "IDA");
+					insert.setTimestamp(8, createdTime);
+					insert.setBoolean(9, false);
+					insert.addBatch();
+					if ((i + 1) % INSERT_BATCH_SIZE == 0 || i == rowCount - 1) {
+						insert.executeBatch();
+						connection.commit();
+					}
+					if (i % readInterval == 0 && readIds.size() < READ_ID_COUNT) {
+						readIds.add(id);
+					}
+				}
+			}
+		}
+		Collections.shuffle(readIds, random);
+	}
+
+	private static byte[] randomBytes(Random random, int length) {
+		byte[] bytes = new byte[length];
+		random.nextBytes(bytes);
+		return bytes;
+	}
+
+	/**
+	 * Stops the database and deletes its files.
+	 *
+	 * @throws IOException Signals that the database files could not be deleted.
+	 */
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		context.close();
+		FileUtils.deleteDirectory(databaseDir.toFile());
+	}
+
+	/**
+	 * Reads the demographic data of an identity.
+	 *
+	 * @param cursor the cursor
+	 * @return the identity
+	 */
+	@Benchmark
+	public IdentityEntity readDemoData(Cursor cursor) {
+		String id = cursor.next(readIds);
+		return transactionTemplate.execute(status -> projection ? identityRepo.findDemoDataById(id).orElseThrow()
+				: readDemoDataAfterExists(id));
+	}
+
+	/**
+	 * Reads the demographic and biometric data of an identity.
+	 *
+	 * @param cursor the cursor
+	 * @return the biometric data
+	 */
+	@Benchmark
+	public byte[] readBioData(Cursor cursor) {
+		String id = cursor.next(readIds);
+		return transactionTemplate.execute(status -> projection
+				? identityRepo.findDemoAndBioDataById(id).orElseThrow().getBiometricData()
+				: readBioDataAfterExists(id));
+	}
+
+	private IdentityEntity readDemoDataAfterExists(String id) {
+		if (!identityRepo.existsById(id)) {
+			throw new IllegalStateException("Id not found");
+		}
+		Object[] data = (Object[]) entityManager.createQuery(DEMO_DATA_QUERY).setParameter("id", id)
+				.getResultList().get(0);
+		IdentityEntity entity = new IdentityEntity();
+		entity.setId(String.valueOf(data[0]));
+		entity.setDemographicData((byte[]) data[1]);
+		entity.setExpiryTimestamp(Objects.nonNull(data[2]) ? LocalDateTime.parse(String.valueOf(data[2])) : null);
+		entity.setTransactionLimit(Objects.nonNull(data[3]) ? Integer.parseInt(String.valueOf(data[3])) : null);
+		entity.setToken(String.valueOf(data[4]));
+		return entity;
+	}
+
+	private byte[] readBioDataAfterExists(String id) {
+		if (!identityRepo.existsById(id)) {
+			throw new IllegalStateException("Id not found");
+		}
+		return identityRepo.getOne(id).getBiometricData();
+	}
+
+}
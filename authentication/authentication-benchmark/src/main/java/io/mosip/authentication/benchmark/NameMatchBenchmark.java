@@ -0,0 +1,138 @@
+package io.mosip.authentication.benchmark;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.BeanUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.mosip.authentication.benchmark.support.Fixtures;
+import io.mosip.authentication.benchmark.support.PreloadedMasterDataCache;
+import io.mosip.authentication.benchmark.support.StubDemoSdk;
+import io.mosip.authentication.common.service.impl.match.NameMatchingStrategy;
+import io.mosip.authentication.common.service.integration.MasterDataManager;
+import io.mosip.authentication.core.exception.IdAuthenticationBusinessException;
+import io.mosip.authentication.core.spi.indauth.match.MasterDataFetcher;
+import io.mosip.authentication.core.util.DemoMatcherUtil;
+import io.mosip.authentication.core.util.DemoNormalizer;
+
+/**
+ * Benchmarks the exact NAME match of a request typing the name with a title,
+ * in each language of the identity, the titles being removed by the name
+ * normalization. The titles are fetched from the title index of
+ * {@link MasterDataManager} or, without the index, read from the cached master
+ * data on every normalization.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(2)
+public class NameMatchBenchmark {
+
+	private static final int NAME_COUNT = 100;
+
+	/** The name languages, separated by '+' as JMH splits the parameter values on commas. */
+	@Param({ "eng", "eng+ara+fra" })
+	private String languages;
+
+	@Param({ "false", "true" })
+	private boolean titleIndex;
+
+	private List<Map<String, Object>> matchProperties;
+
+	private List<String[]> names;
+
+	/**
+	 * The position of a thread in the names.
+	 */
+	@State(Scope.Thread)
+	public static class Cursor {
+
+		private int index;
+
+		String[] next(List<String[]> names) {
+			index = (index + 1) % names.size();
+			return names.get(index);
+		}
+	}
+
+	/**
+	 * Wires the name normalization and generates the typed and registered
+	 * names.
+	 */
+	@Setup(Level.Trial)
+	public void setUp() {
+		StubDemoSdk demoSdk = new StubDemoSdk();
+		DemoNormalizer demoNormalizer = new DemoNormalizer();
+		ReflectionTestUtils.setField(demoNormalizer, "iDemoNormalizer", demoSdk);
+		DemoMatcherUtil demoMatcherUtil = BeanUtils.instantiateClass(DemoMatcherUtil.class);
+		ReflectionTestUtils.setField(demoMatcherUtil, "iDemoApi", demoSdk);
+
+		MasterDataManager masterDataManager = new MasterDataManager();
+		ReflectionTestUtils.setField(masterDataManager, "masterDataCache",
+				new PreloadedMasterDataCache(Map.of(), Fixtures.titleNames()));
+		// Without the index, the titles are read from the master data as fetchTitles did before
+		MasterDataFetcher titlesFetcher = titleIndex ? masterDataManager::fetchTitles
+				: () -> ReflectionTestUtils.invokeMethod(masterDataManager, "buildTitleIndex");
+
+		List<String> nameLanguages = List.of(languages.split("\\+"));
+		matchProperties = new ArrayList<>(nameLanguages.size());
+		for (String language : nameLanguages) {
+			Map<String, Object> props = new HashMap<>();
+			props.put("demoNormalizer", demoNormalizer);
+			props.put("demoMatcherUtil", demoMatcherUtil);
+			props.put("titlesFetcher", titlesFetcher);
+			props.put("langCode", language);
+			matchProperties.add(props);
+		}
+
+		Random random = Fixtures.newRandom();
+		names = new ArrayList<>(NAME_COUNT);
+		for (int i = 0; i < NAME_COUNT; i++) {
+			String storedName = Fixtures.fullName(random);
+			String[] languageNames = new String[nameLanguages.size() * 2];
+			for (int j = 0; j < nameLanguages.size(); j++) {
+				languageNames[j * 2] = Fixtures.addTitle(random, storedName, nameLanguages.get(j));
+				languageNames[j * 2 + 1] = storedName;
+			}
+			names.add(languageNames);
+		}
+	}
+
+	/**
+	 * Matches a typed name against the registered name in each language.
+	 *
+	 * @param cursor the cursor
+	 * @return the sum of the match values
+	 * @throws IdAuthenticationBusinessException the id authentication business exception
+	 */
+	@Benchmark
+	public int match(Cursor cursor) throws IdAuthenticationBusinessException {
+		String[] languageNames = cursor.next(names);
+		int matchValue = 0;
+		for (int i = 0; i < matchProperties.size(); i++) {
+			matchValue += NameMatchingStrategy.EXACT.getMatchFunction().match(languageNames[i * 2],
+					languageNames[i * 2 + 1], matchProperties.get(i));
+		}
+		return matchValue;
+	}
+
+}
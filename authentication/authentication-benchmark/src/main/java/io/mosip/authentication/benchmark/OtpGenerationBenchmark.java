@@ -0,0 +1,157 @@
+package io.mosip.authentication.benchmark;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.mosip.authentication.benchmark.support.Fixtures;
+import io.mosip.authentication.benchmark.support.StubRestHelper;
+import io.mosip.authentication.common.service.factory.RestRequestFactory;
+import io.mosip.authentication.common.service.impl.LocalOtpGenerator;
+import io.mosip.authentication.common.service.integration.OTPManager;
+import io.mosip.authentication.common.service.util.EnvUtil;
+import io.mosip.kernel.core.http.ResponseWrapper;
+
+/**
+ * Benchmarks the generation of an OTP value by {@link OTPManager}, either by
+ * the local OTP generator or requested from the kernel OTP manager, stubbed
+ * with a latency per request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(2)
+public class OtpGenerationBenchmark {
+
+	private static final int UIN_COUNT = 100;
+
+	private List<String> uins;
+
+	/**
+	 * The OTP manager generating the OTP values locally.
+	 */
+	@State(Scope.Benchmark)
+	public static class LocalGenerator {
+
+		private OTPManager otpManager;
+
+		/**
+		 * Wires the OTP manager on the local OTP generator.
+		 */
+		@Setup(Level.Trial)
+		public void setUp() {
+			LocalOtpGenerator otpGenerator = new LocalOtpGenerator();
+			ReflectionTestUtils.setField(otpGenerator, "length", 6);
+			ReflectionTestUtils.setField(otpGenerator, "scheme", "numeric");
+			otpGenerator.init();
+			otpManager = new OTPManager();
+			ReflectionTestUtils.setField(otpManager, "otpGenerator", otpGenerator);
+		}
+	}
+
+	/**
+	 * The OTP manager requesting the OTP values from the stubbed kernel OTP
+	 * manager.
+	 */
+	@State(Scope.Benchmark)
+	public static class RemoteGenerator {
+
+		@Param({ "0", "5" })
+		private long otpManagerLatencyMillis;
+
+		private OTPManager otpManager;
+
+		/**
+		 * Wires the OTP manager on the stubbed kernel OTP manager.
+		 */
+		@Setup(Level.Trial)
+		public void setUp() {
+			EnvUtil env = new EnvUtil();
+			StandardEnvironment environment = new StandardEnvironment();
+			environment.getPropertySources().addFirst(new MapPropertySource("otp", Map.of(
+					"otp-generate.rest.uri", "http://localhost:8080/otpmanager/otps",
+					"otp-generate.rest.httpMethod", "POST",
+					"otp-generate.rest.headers.mediaType", "application/json",
+					"otp-generate.rest.timeout", "100")));
+			ReflectionTestUtils.setField(env, "env", environment);
+			RestRequestFactory restRequestFactory = new RestRequestFactory();
+			ReflectionTestUtils.setField(restRequestFactory, "env", env);
+
+			ResponseWrapper<Map<String, String>> response = new ResponseWrapper<>();
+			response.setResponse(Map.of("otp", "111111", "status", "GENERATION_SUCCESSFUL"));
+			otpManager = new OTPManager();
+			ReflectionTestUtils.setField(otpManager, "restRequestFactory", restRequestFactory);
+			ReflectionTestUtils.setField(otpManager, "restHelper",
+					new StubRestHelper(otpManagerLatencyMillis, request -> response));
+		}
+	}
+
+	/**
+	 * The position of a thread in the UINs.
+	 */
+	@State(Scope.Thread)
+	public static class Cursor {
+
+		private int index;
+
+		String next(List<String> uins) {
+			index = (index + 1) % uins.size();
+			return uins.get(index);
+		}
+	}
+
+	/**
+	 * Generates the UINs the OTPs are generated for.
+	 */
+	@Setup(Level.Trial)
+	public void setUp() {
+		Random random = Fixtures.newRandom();
+		uins = IntStream.range(0, UIN_COUNT).mapToObj(i -> Fixtures.uin(random)).collect(Collectors.toList());
+	}
+
+	/**
+	 * Generates an OTP value with the local OTP generator.
+	 *
+	 * @param generator the generator
+	 * @param cursor    the cursor
+	 * @return the OTP
+	 */
+	@Benchmark
+	public String generateLocal(LocalGenerator generator, Cursor cursor) {
+		return ReflectionTestUtils.invokeMethod(generator.otpManager, "generateOTP", cursor.next(uins));
+	}
+
+	/**
+	 * Requests an OTP value from the kernel OTP manager.
+	 *
+	 * @param generator the generator
+	 * @param cursor    the cursor
+	 * @return the OTP
+	 */
+	@Benchmark
+	public String generateRemote(RemoteGenerator generator, Cursor cursor) {
+		return ReflectionTestUtils.invokeMethod(generator.otpManager, "generateOTP", cursor.next(uins));
+	}
+
+}
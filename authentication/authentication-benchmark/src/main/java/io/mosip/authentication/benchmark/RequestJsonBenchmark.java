@@ -0,0 +1,106 @@
+package io.mosip.authentication.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.mosip.authentication.benchmark.support.BenchmarkAuthFilter;
+import io.mosip.authentication.benchmark.support.Fixtures;
+import io.mosip.authentication.core.exception.IdAuthenticationAppException;
+
+/**
+ * Benchmarks the JSON handling of the auth filter: the read of the request
+ * body, sized by its biometric segments, and the write of the response without
+ * its null or empty fields.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(2)
+public class RequestJsonBenchmark {
+
+	private ObjectMapper mapper;
+
+	private BenchmarkAuthFilter authFilter;
+
+	private Map<String, Object> response;
+
+	/**
+	 * The serialized request body.
+	 */
+	@State(Scope.Benchmark)
+	public static class RequestBody {
+
+		/** The number of biometric segments the request is sized for. */
+		@Param({ "1", "4", "13" })
+		private int segments;
+
+		private byte[] bytes;
+
+		/**
+		 * Serializes the request body.
+		 *
+		 * @throws JsonProcessingException the json processing exception
+		 */
+		@Setup(Level.Trial)
+		public void setUp() throws JsonProcessingException {
+			bytes = Jackson2ObjectMapperBuilder.json().build()
+					.writeValueAsBytes(Fixtures.authRequestBody(Fixtures.newRandom(), segments));
+		}
+	}
+
+	/**
+	 * Wires the auth filter and generates the response.
+	 */
+	@Setup(Level.Trial)
+	public void setUp() {
+		mapper = Jackson2ObjectMapperBuilder.json().build();
+		authFilter = new BenchmarkAuthFilter(mapper, null, null);
+		response = Fixtures.authResponse(Fixtures.newRandom());
+	}
+
+	/**
+	 * Reads the request body.
+	 *
+	 * @param requestBody the request body
+	 * @return the request body
+	 * @throws IdAuthenticationAppException the id authentication app exception
+	 */
+	@Benchmark
+	public Map<String, Object> readRequestBody(RequestBody requestBody) throws IdAuthenticationAppException {
+		return authFilter.readRequestBody(new ByteArrayInputStream(requestBody.bytes));
+	}
+
+	/**
+	 * Removes the null or empty fields of the response and writes it. The response
+	 * is copied as the fields are removed in place.
+	 *
+	 * @return the response body
+	 * @throws JsonProcessingException the json processing exception
+	 */
+	@Benchmark
+	public String writeResponse() throws JsonProcessingException {
+		return mapper.writeValueAsString(authFilter.removeNullOrEmptyFields(new LinkedHashMap<>(response)));
+	}
+
+}
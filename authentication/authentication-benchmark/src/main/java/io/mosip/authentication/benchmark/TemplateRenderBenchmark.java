@@ -0,0 +1,120 @@
+package io.mosip.authentication.benchmark;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.mosip.authentication.benchmark.support.Fixtures;
+import io.mosip.authentication.benchmark.support.PreloadedMasterDataCache;
+import io.mosip.authentication.common.service.cache.CompiledTemplateCache;
+import io.mosip.authentication.common.service.integration.IdTemplateManager;
+import io.mosip.authentication.common.service.integration.MasterDataManager;
+import io.mosip.authentication.core.exception.IdAuthenticationBusinessException;
+import io.mosip.kernel.templatemanager.velocity.builder.TemplateManagerBuilderImpl;
+
+/**
+ * Benchmarks the rendering of an auth notification template by
+ * {@link IdTemplateManager}, the templates being already loaded in the master
+ * data cache, with the template text parsed on every rendering or once by the
+ * compiled template cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+// The kernel template manager reads the template text in the default charset, UTF-8 in the services
+@Fork(value = 2, jvmArgsAppend = "-Dfile.encoding=UTF-8")
+public class TemplateRenderBenchmark {
+
+	private static final int VALUES_COUNT = 100;
+
+	@Param({ Fixtures.AUTH_SMS_TEMPLATE, Fixtures.AUTH_EMAIL_CONTENT_TEMPLATE })
+	private String template;
+
+	/** The template languages, separated by '+' as JMH splits the parameter values on commas. */
+	@Param({ "eng", "eng+ara+fra" })
+	private String languages;
+
+	@Param({ "false", "true" })
+	private boolean compiledTemplateCache;
+
+	private List<String> templateLanguages;
+
+	private IdTemplateManager idTemplateManager;
+
+	private List<Map<String, Object>> values;
+
+	/**
+	 * The position of a thread in the template values.
+	 */
+	@State(Scope.Thread)
+	public static class Cursor {
+
+		private int index;
+
+		Map<String, Object> next(List<Map<String, Object>> values) {
+			index = (index + 1) % values.size();
+			return values.get(index);
+		}
+	}
+
+	/**
+	 * Wires the template manager and generates the template values.
+	 */
+	@Setup(Level.Trial)
+	public void setUp() {
+		CompiledTemplateCache templateCache = new CompiledTemplateCache();
+		ReflectionTestUtils.setField(templateCache, "enabled", compiledTemplateCache);
+		ReflectionTestUtils.setField(templateCache, "maxSize", 1000);
+		templateCache.init();
+
+		MasterDataManager masterDataManager = new MasterDataManager();
+		ReflectionTestUtils.setField(masterDataManager, "masterDataCache",
+				new PreloadedMasterDataCache(Fixtures.authNotificationTemplates(), Map.of()));
+
+		idTemplateManager = new IdTemplateManager();
+		ReflectionTestUtils.setField(idTemplateManager, "templateManagerBuilder", new TemplateManagerBuilderImpl());
+		ReflectionTestUtils.setField(idTemplateManager, "masterDataManager", masterDataManager);
+		ReflectionTestUtils.setField(idTemplateManager, "compiledTemplateCache", templateCache);
+		idTemplateManager.idTemplateManagerPostConstruct();
+
+		templateLanguages = List.of(languages.split("\\+"));
+		Random random = Fixtures.newRandom();
+		values = new ArrayList<>(VALUES_COUNT);
+		for (int i = 0; i < VALUES_COUNT; i++) {
+			values.add(Fixtures.authNotificationValues(random, templateLanguages));
+		}
+	}
+
+	/**
+	 * Renders the template with the values of a notification.
+	 *
+	 * @param cursor the cursor
+	 * @return the rendered template
+	 * @throws IdAuthenticationBusinessException the id authentication business exception
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	@Benchmark
+	public String applyTemplate(Cursor cursor) throws IdAuthenticationBusinessException, IOException {
+		return idTemplateManager.applyTemplate(template, cursor.next(values), templateLanguages);
+	}
+
+}
@@ -0,0 +1,112 @@
+package io.mosip.authentication.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.codec.EncoderException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.mosip.authentication.benchmark.support.Fixtures;
+import io.mosip.authentication.core.util.TextMatcherUtil;
+
+/**
+ * Benchmarks the phonetic match of a typed name against the registered name,
+ * with the registered names either repeating, so that their encodings are
+ * cached, or all distinct, so that they are encoded on every match.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(2)
+public class TextMatcherBenchmark {
+
+	/** The number of registered names matched in turn when their encodings are cached. */
+	private static final int REPEATED_NAME_COUNT = 100;
+
+	/** The number of registered names matched in turn, more than the stored encodings cached. */
+	private static final int DISTINCT_NAME_COUNT = 100_000;
+
+	@Param({ "english", "french" })
+	private String language;
+
+	private List<String[]> repeatedNames;
+
+	private List<String[]> distinctNames;
+
+	/**
+	 * The position of a thread in the names.
+	 */
+	@State(Scope.Thread)
+	public static class Cursor {
+
+		private int index;
+
+		String[] next(List<String[]> names) {
+			index = (index + 1) % names.size();
+			return names.get(index);
+		}
+	}
+
+	/**
+	 * Generates the typed and registered names.
+	 */
+	@Setup(Level.Trial)
+	public void setUp() {
+		Random random = Fixtures.newRandom();
+		repeatedNames = names(random, REPEATED_NAME_COUNT);
+		distinctNames = names(random, DISTINCT_NAME_COUNT);
+	}
+
+	private static List<String[]> names(Random random, int count) {
+		List<String[]> names = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			// Makes the registered names distinct without changing their encoding much
+			String storedName = Fixtures.fullName(random) + (count > REPEATED_NAME_COUNT ? " " + i : "");
+			names.add(new String[] { Fixtures.misspell(random, storedName), storedName });
+		}
+		return names;
+	}
+
+	/**
+	 * Matches a typed name against a registered name whose encoding is cached.
+	 *
+	 * @param cursor the cursor
+	 * @return the match value
+	 * @throws EncoderException the encoder exception
+	 */
+	@Benchmark
+	public Integer phoneticsMatchCachedStored(Cursor cursor) throws EncoderException {
+		String[] names = cursor.next(repeatedNames);
+		return TextMatcherUtil.phoneticsMatch(names[0], names[1], language);
+	}
+
+	/**
+	 * Matches a typed name against a registered name whose encoding is not
+	 * cached.
+	 *
+	 * @param cursor the cursor
+	 * @return the match value
+	 * @throws EncoderException the encoder exception
+	 */
+	@Benchmark
+	public Integer phoneticsMatchDistinctStored(Cursor cursor) throws EncoderException {
+		String[] names = cursor.next(distinctNames);
+		return TextMatcherUtil.phoneticsMatch(names[0], names[1], language);
+	}
+
+}
@@ -0,0 +1,98 @@
+package io.mosip.authentication.benchmark.support;
+
+import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.mosip.authentication.common.service.filter.ExternalAuthFilter;
+import io.mosip.authentication.common.service.filter.IdAuthFilter;
+import io.mosip.authentication.common.service.integration.KeyManager;
+import io.mosip.authentication.core.exception.IdAuthenticationAppException;
+
+/**
+ * The external auth filter with its collaborators set directly instead of from
+ * the web application context, exposing the steps of the filter which are
+ * benchmarked. The JWS signatures of the biometric segments are not verified,
+ * as it needs the partner certificates of the trust store.
+ */
+public class BenchmarkAuthFilter extends ExternalAuthFilter {
+
+	/** The private decipher of the biometric segments of a request. */
+	private static final Method DECIPHER_BIO_DATA = getDecipherBioDataMethod();
+
+	/**
+	 * Instantiates a new benchmark auth filter.
+	 *
+	 * @param mapper              the mapper
+	 * @param keyManager          the key manager
+	 * @param bioDecipherExecutor the executor deciphering the biometric segments
+	 *                            in parallel, null to decipher them sequentially
+	 */
+	public BenchmarkAuthFilter(ObjectMapper mapper, KeyManager keyManager, Executor bioDecipherExecutor) {
+		this.mapper = mapper;
+		this.keyManager = keyManager;
+		ReflectionTestUtils.setField(this, "bioDecipherExecutor", bioDecipherExecutor);
+	}
+
+	/**
+	 * Deciphers the biometric segments of the request in place.
+	 *
+	 * @param request the request
+	 * @throws IdAuthenticationAppException the id authentication app exception
+	 */
+	public void decipherBioData(Map<String, Object> request) throws IdAuthenticationAppException {
+		try {
+			DECIPHER_BIO_DATA.invoke(this, request);
+		} catch (InvocationTargetException e) {
+			if (e.getCause() instanceof IdAuthenticationAppException) {
+				throw (IdAuthenticationAppException) e.getCause();
+			}
+			throw new IllegalStateException(e.getCause());
+		} catch (IllegalAccessException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Reads the request body.
+	 *
+	 * @param requestBody the request body
+	 * @return the request body
+	 * @throws IdAuthenticationAppException the id authentication app exception
+	 */
+	public Map<String, Object> readRequestBody(InputStream requestBody) throws IdAuthenticationAppException {
+		return getRequestBody(requestBody);
+	}
+
+	/**
+	 * Removes the null or empty fields of the response.
+	 *
+	 * @param responseMap the response
+	 * @return the response without the null or empty fields
+	 */
+	public Map<String, Object> removeNullOrEmptyFields(Map<String, Object> responseMap) {
+		return removeNullOrEmptyFieldsInResponse(responseMap);
+	}
+
+	@Override
+	protected boolean isSignatureVerificationRequired() {
+		return false;
+	}
+
+	private static Method getDecipherBioDataMethod() {
+		try {
+			Method method = IdAuthFilter.class.getDeclaredMethod("decipherBioData", Map.class);
+			method.setAccessible(true);
+			return method;
+		} catch (NoSuchMethodException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+}
@@ -0,0 +1,102 @@
+package io.mosip.authentication.benchmark.support;
+
+import java.util.List;
+import java.util.Properties;
+
+import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.core.env.Environment;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.mosip.authentication.common.service.entity.AutnTxn;
+import io.mosip.authentication.common.service.entity.IdaUinHashSalt;
+import io.mosip.authentication.common.service.entity.IdentityEntity;
+import io.mosip.authentication.common.service.repository.AutnTxnRepository;
+import io.mosip.authentication.common.service.repository.IdaUinHashSaltRepo;
+import io.mosip.authentication.common.service.repository.IdentityCacheRepository;
+import io.mosip.kernel.dataaccess.hibernate.repository.impl.HibernateRepositoryImpl;
+
+/**
+ * The repositories of the benchmarks over an H2 database in the PostgreSQL
+ * mode, with the tables of their entities created on start. The database is in
+ * memory unless the {@value #JDBC_URL} property gives another URL, such as a
+ * file for the tables too large for the heap.
+ */
+@Configuration
+@EnableJpaRepositories(basePackageClasses = AutnTxnRepository.class, repositoryBaseClass = HibernateRepositoryImpl.class,
+		includeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, value = { AutnTxnRepository.class,
+				IdaUinHashSaltRepo.class, IdentityCacheRepository.class }))
+public class EmbeddedDatabaseConfig {
+
+	/** The entities of the repositories, the other entities are not mapped. */
+	private static final List<String> ENTITIES = List.of(AutnTxn.class.getName(), IdaUinHashSalt.class.getName(),
+			IdentityEntity.class.getName());
+
+	/** The property of the JDBC URL of the database. */
+	public static final String JDBC_URL = "benchmark.jdbc-url";
+
+	/** The URL of the in-memory database. */
+	private static final String IN_MEMORY_JDBC_URL = "jdbc:h2:mem:ida;MODE=PostgreSQL;DB_CLOSE_DELAY=-1;"
+			+ "INIT=CREATE SCHEMA IF NOT EXISTS ida";
+
+	/**
+	 * The data source.
+	 *
+	 * @param environment the environment
+	 * @return the data source
+	 */
+	@Bean(destroyMethod = "close")
+	public DataSource dataSource(Environment environment) {
+		HikariDataSource dataSource = new HikariDataSource();
+		dataSource.setJdbcUrl(environment.getProperty(JDBC_URL, IN_MEMORY_JDBC_URL));
+		dataSource.setUsername("sa");
+		dataSource.setMaximumPoolSize(Runtime.getRuntime().availableProcessors() + 2);
+		return dataSource;
+	}
+
+	/**
+	 * The entity manager factory.
+	 *
+	 * @param dataSource the data source
+	 * @return the entity manager factory
+	 */
+	@Bean
+	public LocalContainerEntityManagerFactoryBean entityManagerFactory(DataSource dataSource) {
+		LocalContainerEntityManagerFactoryBean entityManagerFactory = new LocalContainerEntityManagerFactoryBean();
+		entityManagerFactory.setDataSource(dataSource);
+		entityManagerFactory.setPackagesToScan(AutnTxn.class.getPackage().getName());
+		entityManagerFactory.setPersistenceUnitPostProcessors(
+				persistenceUnit -> persistenceUnit.getManagedClassNames().retainAll(ENTITIES));
+		entityManagerFactory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+		Properties jpaProperties = new Properties();
+		jpaProperties.setProperty("hibernate.dialect", "org.hibernate.dialect.H2Dialect");
+		jpaProperties.setProperty("hibernate.hbm2ddl.auto", "create");
+		jpaProperties.setProperty("hibernate.jdbc.batch_size", "100");
+		jpaProperties.setProperty("hibernate.show_sql", "false");
+		entityManagerFactory.setJpaProperties(jpaProperties);
+		return entityManagerFactory;
+	}
+
+	/**
+	 * The transaction manager.
+	 *
+	 * @param entityManagerFactory the entity manager factory
+	 * @return the transaction manager
+	 */
+	@Bean
+	public PlatformTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+		return new JpaTransactionManager(entityManagerFactory);
+	}
+
+}
@@ -0,0 +1,455 @@
+package io.mosip.authentication.benchmark.support;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import io.mosip.authentication.common.service.config.IDAMappingConfig;
+import io.mosip.authentication.core.indauth.dto.AuthRequestDTO;
+import io.mosip.authentication.core.indauth.dto.IdentityInfoDTO;
+import io.mosip.authentication.core.util.CryptoUtil;
+import io.mosip.kernel.biometrics.constant.BiometricType;
+
+/**
+ * Generators of the benchmark fixtures. The fixtures are generated from a seeded
+ * random so that the runs to compare work on the same data, and are sized as in
+ * production: 10 digit UINs, the first and last names of a national register,
+ * and biometric captures of the sizes the registered devices send.
+ */
+public final class Fixtures {
+
+	/** The seed of the fixtures. */
+	public static final long SEED = 20221017L;
+
+	/** The request time pattern of the auth requests. */
+	public static final String DATE_TIME_PATTERN = "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'";
+
+	/** The capture size of a finger, an ISO 19794-4 image compressed in JPEG 2000. */
+	private static final int FINGER_CAPTURE_BYTES = 12 * 1024;
+
+	/** The capture size of an iris, an ISO 19794-6 image compressed in JPEG 2000. */
+	private static final int IRIS_CAPTURE_BYTES = 25 * 1024;
+
+	/** The capture size of a face, an ISO 19794-5 image compressed in JPEG 2000. */
+	private static final int FACE_CAPTURE_BYTES = 40 * 1024;
+
+	private static final String[] FIRST_NAMES = { "Ibrahim", "Fatima", "Mohammed", "Aisha", "Youssef", "Salma",
+			"Omar", "Khadija", "Ahmed", "Meryem", "Hamza", "Zineb", "Mehdi", "Imane", "Karim", "Nadia", "Rachid",
+			"Samira", "Anas", "Hajar", "Jean", "Marie", "Pierre", "Camille", "Lucas", "Chloe", "Antoine", "Manon",
+			"Nicolas", "Sophie" };
+
+	private static final String[] LAST_NAMES = { "Ali", "Benali", "El Amrani", "Tazi", "Alaoui", "Bennani",
+			"Chraibi", "Idrissi", "Berrada", "Lahlou", "El Fassi", "Sebti", "Ouazzani", "Kettani", "Benjelloun",
+			"Martin", "Bernard", "Dubois", "Thomas", "Robert", "Richard", "Petit", "Durand", "Leroy", "Moreau" };
+
+	private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern(DATE_TIME_PATTERN);
+
+	/** The name of the auth SMS template. */
+	public static final String AUTH_SMS_TEMPLATE = "auth-sms-template";
+
+	/** The name of the auth email subject template. */
+	public static final String AUTH_EMAIL_SUBJECT_TEMPLATE = "auth-email-subject-template";
+
+	/** The name of the auth email content template. */
+	public static final String AUTH_EMAIL_CONTENT_TEMPLATE = "auth-email-content-template";
+
+	/** The identity attribute of the name, in each language. */
+	public static final String NAME_ATTRIBUTE = "fullName";
+
+	/** The identity attribute of the phone number. */
+	public static final String PHONE_ATTRIBUTE = "phone";
+
+	/** The identity attribute of the email. */
+	public static final String EMAIL_ATTRIBUTE = "email";
+
+	/** The languages of the templates and titles, the mandatory one first. */
+	public static final List<String> LANGUAGES = List.of("eng", "ara", "fra");
+
+	/** The auth SMS template by language. */
+	private static final Map<String, String> AUTH_SMS_TEXTS = Map.of(
+			"eng", "Dear $name, your $idvidType $idvid was used for authentication with $authType on $date at $time. "
+					+ "#if($status == \"Passed\")The authentication passed.#else The authentication failed.#end "
+					+ "If this was not you, please contact the nearest registration centre.",
+			"ara", "عزيزي $name، تم استخدام $idvidType $idvid للمصادقة باستخدام $authType بتاريخ $date على الساعة $time. "
+					+ "#if($status == \"Passed\")نجحت المصادقة.#else فشلت المصادقة.#end "
+					+ "إذا لم تكن أنت، يرجى الاتصال بأقرب مركز تسجيل.",
+			"fra", "Cher $name, votre $idvidType $idvid a été utilisé pour une authentification par $authType le $date à $time. "
+					+ "#if($status == \"Passed\")L'authentification a réussi.#else L'authentification a échoué.#end "
+					+ "Si ce n'était pas vous, contactez le centre d'enregistrement le plus proche.");
+
+	/** The auth email subject template by language. */
+	private static final Map<String, String> AUTH_EMAIL_SUBJECT_TEXTS = Map.of(
+			"eng", "Authentication $status",
+			"ara", "المصادقة: $status",
+			"fra", "Authentification : $status");
+
+	/** The auth email content template by language. */
+	private static final Map<String, String> AUTH_EMAIL_CONTENT_TEXTS = Map.of(
+			"eng", "<p>Dear $name,</p><p>Your $idvidType $idvid was used for authentication on $date at $time.</p>"
+					+ "<table><tr><td>Authentication type</td><td>$authType</td></tr>"
+					+ "<tr><td>Status</td><td>#if($status == \"Passed\")Passed#else Failed#end</td></tr></table>"
+					+ "<p>If this was not you, please contact the nearest registration centre.</p><p>Thank you</p>",
+			"ara", "<p>عزيزي $name،</p><p>تم استخدام $idvidType $idvid للمصادقة بتاريخ $date على الساعة $time.</p>"
+					+ "<table><tr><td>نوع المصادقة</td><td>$authType</td></tr>"
+					+ "<tr><td>الحالة</td><td>#if($status == \"Passed\")نجحت#else فشلت#end</td></tr></table>"
+					+ "<p>إذا لم تكن أنت، يرجى الاتصال بأقرب مركز تسجيل.</p><p>شكرا</p>",
+			"fra", "<p>Cher $name,</p><p>Votre $idvidType $idvid a été utilisé pour une authentification le $date à $time.</p>"
+					+ "<table><tr><td>Type d'authentification</td><td>$authType</td></tr>"
+					+ "<tr><td>Statut</td><td>#if($status == \"Passed\")Réussie#else Échouée#end</td></tr></table>"
+					+ "<p>Si ce n'était pas vous, contactez le centre d'enregistrement le plus proche.</p><p>Merci</p>");
+
+	/** The master data titles by language. */
+	private static final Map<String, List<String>> TITLE_NAMES = Map.of(
+			"eng", List.of("Mr", "Mrs", "Miss", "Ms", "Dr", "Prof", "Sir", "Madam", "Rev", "Hon"),
+			"ara", List.of("السيد", "السيدة", "الآنسة", "الدكتور", "الدكتورة", "الأستاذ", "الأستاذة", "الشيخ", "الحاج",
+					"الحاجة"),
+			"fra", List.of("M", "Mme", "Mlle", "Dr", "Pr", "Me", "Mgr", "Maître", "Docteur", "Professeur"));
+
+	private Fixtures() {
+	}
+
+	/**
+	 * Creates the random of the fixtures.
+	 *
+	 * @return the random
+	 */
+	public static Random newRandom() {
+		return new Random(SEED);
+	}
+
+	/**
+	 * Generates a UIN.
+	 *
+	 * @param random the random
+	 * @return the UIN
+	 */
+	public static String uin(Random random) {
+		return digits(random, 10);
+	}
+
+	/**
+	 * Generates a VID.
+	 *
+	 * @param random the random
+	 * @return the VID
+	 */
+	public static String vid(Random random) {
+		return digits(random, 16);
+	}
+
+	/**
+	 * Generates a transaction ID.
+	 *
+	 * @param random the random
+	 * @return the transaction ID
+	 */
+	public static String transactionId(Random random) {
+		return digits(random, 10);
+	}
+
+	/**
+	 * Generates a full name.
+	 *
+	 * @param random the random
+	 * @return the name
+	 */
+	public static String fullName(Random random) {
+		return FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " " + LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+	}
+
+	/**
+	 * Misspells the name the way a typed name differs from the registered one:
+	 * a letter dropped, doubled or swapped with the next one, or the name kept
+	 * as is.
+	 *
+	 * @param random the random
+	 * @param name   the name
+	 * @return the misspelt name
+	 */
+	public static String misspell(Random random, String name) {
+		int index = 1 + random.nextInt(name.length() - 2);
+		switch (random.nextInt(4)) {
+		case 0:
+			return name.substring(0, index) + name.substring(index + 1);
+		case 1:
+			return name.substring(0, index) + name.charAt(index) + name.substring(index);
+		case 2:
+			return name.substring(0, index) + name.charAt(index + 1) + name.charAt(index) + name.substring(index + 2);
+		default:
+			return name;
+		}
+	}
+
+	/**
+	 * Generates a biometric capture of the modality.
+	 *
+	 * @param random   the random
+	 * @param modality the modality
+	 * @return the capture
+	 */
+	public static byte[] biometricCapture(Random random, BiometricType modality) {
+		byte[] capture = new byte[captureBytes(modality)];
+		random.nextBytes(capture);
+		return capture;
+	}
+
+	/**
+	 * Gets the capture size of the modality.
+	 *
+	 * @param modality the modality
+	 * @return the capture size
+	 */
+	public static int captureBytes(BiometricType modality) {
+		switch (modality) {
+		case IRIS:
+			return IRIS_CAPTURE_BYTES;
+		case FACE:
+			return FACE_CAPTURE_BYTES;
+		default:
+			return FINGER_CAPTURE_BYTES;
+		}
+	}
+
+	/**
+	 * Gets the current time in the request time pattern.
+	 *
+	 * @return the request time
+	 */
+	public static String requestTime() {
+		return LocalDateTime.now(ZoneOffset.UTC).format(DATE_TIME_FORMATTER);
+	}
+
+	/**
+	 * Generates an auth request DTO as bound by the auth controller.
+	 *
+	 * @param random the random
+	 * @return the auth request
+	 */
+	public static AuthRequestDTO authRequestDTO(Random random) {
+		AuthRequestDTO authRequestDTO = new AuthRequestDTO();
+		authRequestDTO.setId("mosip.identity.auth");
+		authRequestDTO.setVersion("1.0");
+		authRequestDTO.setIndividualId(uin(random));
+		authRequestDTO.setIndividualIdType("UIN");
+		authRequestDTO.setTransactionID(transactionId(random));
+		authRequestDTO.setRequestTime(requestTime());
+		authRequestDTO.setConsentObtained(true);
+		authRequestDTO.setSpecVersion("1.0");
+		authRequestDTO.setEnv("Staging");
+		authRequestDTO.setDomainUri("https://api-internal.mosip.net");
+		return authRequestDTO;
+	}
+
+	/**
+	 * Generates the body of an auth request with biometrics, as received by the
+	 * auth filter: the request, the session key and the HMAC are encrypted and
+	 * base64 URL encoded, so their size is the one of the biometric segments.
+	 *
+	 * @param random   the random
+	 * @param segments the number of biometric segments
+	 * @return the request body
+	 */
+	public static Map<String, Object> authRequestBody(Random random, int segments) {
+		int requestBytes = 0;
+		for (int i = 0; i < segments; i++) {
+			// A segment is the JWS of the encrypted capture, base64 URL encoded twice
+			requestBytes += captureBytes(modalityOfSegment(i)) * 16 / 9 + 2048;
+		}
+		Map<String, Object> body = new LinkedHashMap<>();
+		body.put("id", "mosip.identity.auth");
+		body.put("version", "1.0");
+		body.put("requestTime", requestTime());
+		body.put("env", "Staging");
+		body.put("domainUri", "https://api-internal.mosip.net");
+		body.put("transactionID", transactionId(random));
+		Map<String, Object> requestedAuth = new LinkedHashMap<>();
+		requestedAuth.put("otp", false);
+		requestedAuth.put("demo", false);
+		requestedAuth.put("bio", true);
+		body.put("requestedAuth", requestedAuth);
+		body.put("consentObtained", true);
+		body.put("individualId", uin(random));
+		body.put("individualIdType", "UIN");
+		body.put("specVersion", "1.0");
+		body.put("thumbprint", encodedBytes(random, 32));
+		body.put("requestSessionKey", encodedBytes(random, 256));
+		body.put("requestHMAC", encodedBytes(random, 64));
+		body.put("request", encodedBytes(random, requestBytes));
+		return body;
+	}
+
+	/**
+	 * Generates the response of a successful auth, with the empty and null
+	 * fields the auth filter removes.
+	 *
+	 * @param random the random
+	 * @return the response
+	 */
+	public static Map<String, Object> authResponse(Random random) {
+		Map<String, Object> response = new LinkedHashMap<>();
+		response.put("authStatus", true);
+		response.put("authToken", digits(random, 36));
+		Map<String, Object> responseBody = new LinkedHashMap<>();
+		responseBody.put("id", "mosip.identity.auth");
+		responseBody.put("version", "1.0");
+		responseBody.put("transactionID", transactionId(random));
+		responseBody.put("responseTime", requestTime());
+		responseBody.put("response", response);
+		responseBody.put("errors", new ArrayList<>());
+		responseBody.put("metadata", null);
+		return responseBody;
+	}
+
+	/**
+	 * Gets the auth notification templates, by template name and language.
+	 *
+	 * @return the templates
+	 */
+	public static Map<String, Map<String, String>> authNotificationTemplates() {
+		return Map.of(AUTH_SMS_TEMPLATE, AUTH_SMS_TEXTS, AUTH_EMAIL_SUBJECT_TEMPLATE, AUTH_EMAIL_SUBJECT_TEXTS,
+				AUTH_EMAIL_CONTENT_TEMPLATE, AUTH_EMAIL_CONTENT_TEXTS);
+	}
+
+	/**
+	 * Generates the values of the auth notification templates, as extracted
+	 * from the auth request and the identity.
+	 *
+	 * @param random    the random
+	 * @param languages the template languages
+	 * @return the template values
+	 */
+	public static Map<String, Object> authNotificationValues(Random random, List<String> languages) {
+		Map<String, Object> values = new HashMap<>();
+		for (String language : languages) {
+			values.put("name_" + language, fullName(random));
+		}
+		values.put("date", "17-10-2022");
+		values.put("time", "10:15:30");
+		values.put("idvid", "XXXXXX" + digits(random, 4));
+		values.put("idvidType", "UIN");
+		values.put("authType", "Fingerprint Authentication");
+		values.put("status", random.nextInt(10) == 0 ? "Failed" : "Passed");
+		return values;
+	}
+
+	/**
+	 * Gets the master data titles by language.
+	 *
+	 * @return the title names by language
+	 */
+	public static Map<String, List<String>> titleNames() {
+		return TITLE_NAMES;
+	}
+
+	/**
+	 * Adds a title of the language to the name, the way an individual may type
+	 * it.
+	 *
+	 * @param random   the random
+	 * @param name     the name
+	 * @param language the language
+	 * @return the titled name
+	 */
+	public static String addTitle(Random random, String name, String language) {
+		List<String> titles = TITLE_NAMES.get(language);
+		return titles.get(random.nextInt(titles.size())) + " " + name;
+	}
+
+	/**
+	 * Generates the demographic identity info of an individual, as returned by
+	 * the ID repository: the name in each language, the phone number and the
+	 * email.
+	 *
+	 * @param random    the random
+	 * @param languages the languages of the name
+	 * @return the identity info by attribute
+	 */
+	public static Map<String, List<IdentityInfoDTO>> identityInfo(Random random, List<String> languages) {
+		String name = fullName(random);
+		List<IdentityInfoDTO> names = new ArrayList<>();
+		for (String language : languages) {
+			names.add(new IdentityInfoDTO(language, name));
+		}
+		Map<String, List<IdentityInfoDTO>> identityInfo = new HashMap<>();
+		identityInfo.put(NAME_ATTRIBUTE, names);
+		identityInfo.put(PHONE_ATTRIBUTE, List.of(new IdentityInfoDTO(null, "9" + digits(random, 9))));
+		identityInfo.put(EMAIL_ATTRIBUTE, List.of(new IdentityInfoDTO(null,
+				name.toLowerCase().replace(' ', '.') + digits(random, 3) + "@example.com")));
+		return identityInfo;
+	}
+
+	/**
+	 * Gets the ID mapping of the identity info attributes.
+	 *
+	 * @return the ID mapping config
+	 */
+	public static IDAMappingConfig idMappingConfig() {
+		IDAMappingConfig idMappingConfig = new IDAMappingConfig();
+		idMappingConfig.setName(List.of(NAME_ATTRIBUTE));
+		idMappingConfig.setPhoneNumber(List.of(PHONE_ATTRIBUTE));
+		idMappingConfig.setEmailId(List.of(EMAIL_ATTRIBUTE));
+		idMappingConfig.setDynamicAttributes(Map.of());
+		return idMappingConfig;
+	}
+
+	/**
+	 * Gets the modality of the segment, the segments of a request being the 10
+	 * fingers, the 2 irises and the face in turn.
+	 *
+	 * @param index the segment index
+	 * @return the modality
+	 */
+	public static BiometricType modalityOfSegment(int index) {
+		int position = index % 13;
+		if (position < 10) {
+			return BiometricType.FINGER;
+		}
+		return position < 12 ? BiometricType.IRIS : BiometricType.FACE;
+	}
+
+	/**
+	 * Gets the sub type of the segment.
+	 *
+	 * @param index the segment index
+	 * @return the sub type
+	 */
+	public static String subTypeOfSegment(int index) {
+		int position = index % 13;
+		List<String> fingers = List.of("Left IndexFinger", "Left MiddleFinger", "Left RingFinger",
+				"Left LittleFinger", "Left Thumb", "Right IndexFinger", "Right MiddleFinger", "Right RingFinger",
+				"Right LittleFinger", "Right Thumb");
+		if (position < 10) {
+			return fingers.get(position);
+		}
+		return position == 10 ? "Left" : position == 11 ? "Right" : "";
+	}
+
+	/**
+	 * Generates random bytes, base64 URL encoded.
+	 *
+	 * @param random the random
+	 * @param length the number of bytes
+	 * @return the encoded bytes
+	 */
+	public static String encodedBytes(Random random, int length) {
+		byte[] bytes = new byte[length];
+		random.nextBytes(bytes);
+		return CryptoUtil.encodeBase64Url(bytes);
+	}
+
+	private static String digits(Random random, int length) {
+		StringBuilder digits = new StringBuilder(length);
+		digits.append(1 + random.nextInt(9));
+		for (int i = 1; i < length; i++) {
+			digits.append(random.nextInt(10));
+		}
+		return digits.toString();
+	}
+
+}
@@ -0,0 +1,223 @@
+package io.mosip.authentication.benchmark.support;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.KeyStore;
+import java.security.MessageDigest;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.SecureRandom;
+import java.security.cert.Certificate;
+import java.security.cert.X509Certificate;
+import java.security.spec.MGF1ParameterSpec;
+import java.util.Arrays;
+import java.util.Date;
+
+import javax.crypto.Cipher;
+import javax.crypto.KeyGenerator;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.OAEPParameterSpec;
+import javax.crypto.spec.PSource;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.cert.jcajce.JcaX509CertificateConverter;
+import org.bouncycastle.cert.jcajce.JcaX509v3CertificateBuilder;
+import org.bouncycastle.operator.OperatorCreationException;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
+
+import io.mosip.authentication.common.service.transaction.manager.IdAuthSecurityManager;
+import io.mosip.authentication.core.util.CryptoUtil;
+import io.mosip.kernel.cryptomanager.dto.CryptoWithPinRequestDto;
+import io.mosip.kernel.cryptomanager.dto.CryptoWithPinResponseDto;
+import io.mosip.kernel.cryptomanager.dto.CryptomanagerRequestDto;
+import io.mosip.kernel.cryptomanager.dto.CryptomanagerResponseDto;
+import io.mosip.kernel.cryptomanager.service.CryptomanagerService;
+
+/**
+ * A crypto manager decrypting with a partner key held in a local in-memory
+ * PKCS12 keystore, in place of the key manager and its HSM. The data is
+ * decrypted as by the key manager: the certificate thumbprint, the RSA OAEP
+ * encrypted symmetric key, the key splitter and the AES GCM encrypted data,
+ * with the salt as the nonce and the AAD as given in the request. The
+ * encryption the devices do is provided to generate the fixtures.
+ */
+public class LocalKeystoreCryptomanagerService implements CryptomanagerService {
+
+	private static final String KEY_ALIAS = "ida-partner";
+
+	private static final char[] KEYSTORE_PASSWORD = "benchmark".toCharArray();
+
+	private static final String ASYMMETRIC_ALGORITHM = "RSA/ECB/OAEPWITHSHA-256ANDMGF1PADDING";
+
+	private static final String SYMMETRIC_ALGORITHM = "AES/GCM/NoPadding";
+
+	private static final int GCM_TAG_LENGTH = 128;
+
+	private static final int THUMBPRINT_LENGTH = 32;
+
+	private static final OAEPParameterSpec OAEP_PARAMETERS = new OAEPParameterSpec("SHA-256", "MGF1",
+			MGF1ParameterSpec.SHA256, PSource.PSpecified.DEFAULT);
+
+	private final KeyStore keyStore;
+
+	/** The private key, read once so that the keystore entry decryption is not measured. */
+	private final PrivateKey privateKey;
+
+	private final byte[] keySplitter;
+
+	private final byte[] thumbprint;
+
+	private final SecureRandom secureRandom = new SecureRandom();
+
+	/**
+	 * Instantiates a new crypto manager with a newly generated RSA 2048 key pair.
+	 *
+	 * @param keySplitter the key splitter
+	 * @throws GeneralSecurityException if the key pair could not be generated
+	 */
+	public LocalKeystoreCryptomanagerService(String keySplitter) throws GeneralSecurityException {
+		this.keySplitter = keySplitter.getBytes(StandardCharsets.UTF_8);
+		KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+		keyPairGenerator.initialize(2048, secureRandom);
+		KeyPair keyPair = keyPairGenerator.generateKeyPair();
+		X509Certificate certificate = selfSign(keyPair);
+		try {
+			keyStore = KeyStore.getInstance("PKCS12");
+			keyStore.load(null, KEYSTORE_PASSWORD);
+		} catch (IOException e) {
+			throw new GeneralSecurityException(e);
+		}
+		keyStore.setKeyEntry(KEY_ALIAS, keyPair.getPrivate(), KEYSTORE_PASSWORD, new Certificate[] { certificate });
+		thumbprint = MessageDigest.getInstance("SHA-256").digest(certificate.getEncoded());
+		privateKey = (PrivateKey) keyStore.getKey(KEY_ALIAS, KEYSTORE_PASSWORD);
+	}
+
+	/**
+	 * Gets the thumbprint of the partner certificate, hex encoded as sent in the
+	 * requests.
+	 *
+	 * @return the thumbprint
+	 */
+	public String getThumbprint() {
+		return IdAuthSecurityManager.toHex(thumbprint);
+	}
+
+	/**
+	 * Encrypts a new symmetric key with the partner public key, as a device does
+	 * for a biometric segment.
+	 *
+	 * @param symmetricKey the symmetric key
+	 * @return the encrypted symmetric key
+	 * @throws GeneralSecurityException the general security exception
+	 */
+	public byte[] encryptKey(SecretKey symmetricKey) throws GeneralSecurityException {
+		PublicKey publicKey = keyStore.getCertificate(KEY_ALIAS).getPublicKey();
+		Cipher cipher = Cipher.getInstance(ASYMMETRIC_ALGORITHM);
+		cipher.init(Cipher.ENCRYPT_MODE, publicKey, OAEP_PARAMETERS);
+		return cipher.doFinal(symmetricKey.getEncoded());
+	}
+
+	/**
+	 * Generates a new symmetric key.
+	 *
+	 * @return the symmetric key
+	 * @throws GeneralSecurityException the general security exception
+	 */
+	public SecretKey generateSymmetricKey() throws GeneralSecurityException {
+		KeyGenerator keyGenerator = KeyGenerator.getInstance("AES");
+		keyGenerator.init(256, secureRandom);
+		return keyGenerator.generateKey();
+	}
+
+	/**
+	 * Encrypts the data with the symmetric key, as a device does for a biometric
+	 * segment.
+	 *
+	 * @param symmetricKey the symmetric key
+	 * @param data         the data
+	 * @param nonce        the nonce
+	 * @param aad          the AAD
+	 * @return the encrypted data
+	 * @throws GeneralSecurityException the general security exception
+	 */
+	public byte[] encryptData(SecretKey symmetricKey, byte[] data, byte[] nonce, byte[] aad)
+			throws GeneralSecurityException {
+		Cipher cipher = Cipher.getInstance(SYMMETRIC_ALGORITHM);
+		cipher.init(Cipher.ENCRYPT_MODE, symmetricKey, new GCMParameterSpec(GCM_TAG_LENGTH, nonce));
+		cipher.updateAAD(aad);
+		return cipher.doFinal(data);
+	}
+
+	@Override
+	public CryptomanagerResponseDto decrypt(CryptomanagerRequestDto cryptoRequestDto) {
+		try {
+			byte[] data = CryptoUtil.decodeBase64Url(cryptoRequestDto.getData());
+			int offset = startsWith(data, thumbprint) ? THUMBPRINT_LENGTH : 0;
+			int splitterIndex = indexOf(data, keySplitter, offset);
+			if (splitterIndex < 0) {
+				throw new IllegalArgumentException("Key splitter not found");
+			}
+			Cipher keyCipher = Cipher.getInstance(ASYMMETRIC_ALGORITHM);
+			keyCipher.init(Cipher.DECRYPT_MODE, privateKey, OAEP_PARAMETERS);
+			byte[] symmetricKey = keyCipher.doFinal(data, offset, splitterIndex - offset);
+
+			Cipher dataCipher = Cipher.getInstance(SYMMETRIC_ALGORITHM);
+			dataCipher.init(Cipher.DECRYPT_MODE, new SecretKeySpec(symmetricKey, "AES"),
+					new GCMParameterSpec(GCM_TAG_LENGTH, CryptoUtil.decodeBase64(cryptoRequestDto.getSalt())));
+			dataCipher.updateAAD(CryptoUtil.decodeBase64(cryptoRequestDto.getAad()));
+			int dataIndex = splitterIndex + keySplitter.length;
+			byte[] decrypted = dataCipher.doFinal(data, dataIndex, data.length - dataIndex);
+			return new CryptomanagerResponseDto(CryptoUtil.encodeBase64Url(decrypted));
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	@Override
+	public CryptomanagerResponseDto encrypt(CryptomanagerRequestDto cryptoRequestDto) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public CryptoWithPinResponseDto encryptWithPin(CryptoWithPinRequestDto requestDto) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public CryptoWithPinResponseDto decryptWithPin(CryptoWithPinRequestDto requestDto) {
+		throw new UnsupportedOperationException();
+	}
+
+	private static X509Certificate selfSign(KeyPair keyPair) throws GeneralSecurityException {
+		try {
+			X500Name name = new X500Name("CN=IDA-BENCHMARK,O=MOSIP");
+			long now = System.currentTimeMillis();
+			JcaX509v3CertificateBuilder builder = new JcaX509v3CertificateBuilder(name, BigInteger.valueOf(now),
+					new Date(now - 60_000), new Date(now + 365L * 24 * 3600 * 1000), name, keyPair.getPublic());
+			return new JcaX509CertificateConverter()
+					.getCertificate(builder.build(new JcaContentSignerBuilder("SHA256withRSA").build(keyPair.getPrivate())));
+		} catch (OperatorCreationException e) {
+			throw new GeneralSecurityException(e);
+		}
+	}
+
+	private static boolean startsWith(byte[] data, byte[] prefix) {
+		return data.length > prefix.length && Arrays.equals(data, 0, prefix.length, prefix, 0, prefix.length);
+	}
+
+	private static int indexOf(byte[] data, byte[] sequence, int fromIndex) {
+		for (int i = fromIndex; i <= data.length - sequence.length; i++) {
+			if (Arrays.equals(data, i, i + sequence.length, sequence, 0, sequence.length)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+}
@@ -0,0 +1,68 @@
+package io.mosip.authentication.benchmark.support;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import io.mosip.authentication.common.service.cache.MasterDataCache;
+
+/**
+ * A master data cache returning the templates and titles it is created with,
+ * in the format of the master data service, the way the master data cache
+ * returns them once they are loaded by the master data cache initializer.
+ */
+public class PreloadedMasterDataCache extends MasterDataCache {
+
+	private final Map<String, Map<String, Object>> templates = new HashMap<>();
+
+	private final Map<String, Object> titles;
+
+	/**
+	 * Instantiates a new preloaded master data cache.
+	 *
+	 * @param templateTexts the texts of the templates by template name and
+	 *                      language
+	 * @param titleNames    the title names by language
+	 */
+	public PreloadedMasterDataCache(Map<String, Map<String, String>> templateTexts,
+			Map<String, List<String>> titleNames) {
+		for (Entry<String, Map<String, String>> template : templateTexts.entrySet()) {
+			List<Map<String, Object>> templateList = new ArrayList<>();
+			for (Entry<String, String> text : template.getValue().entrySet()) {
+				Map<String, Object> masterData = new LinkedHashMap<>();
+				masterData.put("langCode", text.getKey());
+				masterData.put("templateTypeCode", template.getKey());
+				masterData.put("fileText", text.getValue());
+				masterData.put("isActive", true);
+				templateList.add(masterData);
+			}
+			templates.put(template.getKey(), Map.of("response", Map.of("templates", templateList)));
+		}
+		List<Map<String, Object>> titleList = new ArrayList<>();
+		for (Entry<String, List<String>> languageTitles : titleNames.entrySet()) {
+			for (String titleName : languageTitles.getValue()) {
+				Map<String, Object> masterData = new LinkedHashMap<>();
+				masterData.put("code", titleName.toUpperCase());
+				masterData.put("titleName", titleName);
+				masterData.put("langCode", languageTitles.getKey());
+				masterData.put("isActive", true);
+				titleList.add(masterData);
+			}
+		}
+		titles = Map.of("response", Map.of("titleList", titleList));
+	}
+
+	@Override
+	public Map<String, Object> getMasterDataTitles() {
+		return titles;
+	}
+
+	@Override
+	public Map<String, Object> getMasterDataTemplate(String template) {
+		return templates.get(template);
+	}
+
+}
@@ -0,0 +1,30 @@
+package io.mosip.authentication.benchmark.support;
+
+import io.mosip.kernel.biometrics.constant.BiometricFunction;
+import io.mosip.kernel.biometrics.constant.BiometricType;
+import io.mosip.kernel.biosdk.provider.factory.BioAPIFactory;
+import io.mosip.kernel.biosdk.provider.spi.iBioProviderApi;
+
+/**
+ * A bio API factory returning the same stub provider for all the modalities,
+ * without loading the SDKs of the configuration.
+ */
+public class StubBioAPIFactory extends BioAPIFactory {
+
+	private final iBioProviderApi bioProvider;
+
+	/**
+	 * Instantiates a new stub bio API factory.
+	 *
+	 * @param bioProvider the bio provider
+	 */
+	public StubBioAPIFactory(iBioProviderApi bioProvider) {
+		this.bioProvider = bioProvider;
+	}
+
+	@Override
+	public iBioProviderApi getBioProvider(BiometricType modality, BiometricFunction function) {
+		return bioProvider;
+	}
+
+}
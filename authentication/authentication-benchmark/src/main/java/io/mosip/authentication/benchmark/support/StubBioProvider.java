@@ -0,0 +1,74 @@
+package io.mosip.authentication.benchmark.support;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import io.mosip.kernel.biometrics.constant.BiometricFunction;
+import io.mosip.kernel.biometrics.constant.BiometricType;
+import io.mosip.kernel.biometrics.entities.BIR;
+import io.mosip.kernel.biosdk.provider.spi.iBioProviderApi;
+
+/**
+ * A bio SDK provider in place of the SDK of a vendor. A sample matches when its
+ * data block is one of the record, compared byte by byte so that the cost grows
+ * with the capture size, and each match waits the configured SDK latency, the
+ * way a call to a remote or a native matcher does.
+ */
+public class StubBioProvider implements iBioProviderApi {
+
+	private final long latencyNanos;
+
+	/**
+	 * Instantiates a new stub bio provider.
+	 *
+	 * @param latencyMillis the latency of a match in millis
+	 */
+	public StubBioProvider(long latencyMillis) {
+		this.latencyNanos = TimeUnit.MILLISECONDS.toNanos(latencyMillis);
+	}
+
+	@Override
+	public Map<BiometricType, List<BiometricFunction>> init(Map<BiometricType, Map<String, String>> params) {
+		return Collections.emptyMap();
+	}
+
+	@Override
+	public boolean verify(List<BIR> sample, List<BIR> record, BiometricType modality, Map<String, String> flags) {
+		if (latencyNanos > 0) {
+			long deadline = System.nanoTime() + latencyNanos;
+			// Stops waiting when the match is cancelled
+			for (long remaining = latencyNanos; remaining > 0
+					&& !Thread.currentThread().isInterrupted(); remaining = deadline - System.nanoTime()) {
+				LockSupport.parkNanos(remaining);
+			}
+		}
+		return sample.stream().allMatch(sampleBir -> record.stream()
+				.anyMatch(recordBir -> Arrays.equals(sampleBir.getBdb(), recordBir.getBdb())));
+	}
+
+	@Override
+	public Map<String, Boolean> identify(List<BIR> sample, Map<String, List<BIR>> gallery, BiometricType modality,
+			Map<String, String> flags) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public float[] getSegmentQuality(BIR[] sample, Map<String, String> flags) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public Map<BiometricType, Float> getModalityQuality(BIR[] sample, Map<String, String> flags) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public List<BIR> extractTemplate(List<BIR> sample, Map<String, String> flags) {
+		throw new UnsupportedOperationException();
+	}
+
+}
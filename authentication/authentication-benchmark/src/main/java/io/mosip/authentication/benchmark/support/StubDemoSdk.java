@@ -0,0 +1,79 @@
+package io.mosip.authentication.benchmark.support;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import io.mosip.authentication.core.util.DemoMatcherUtil;
+import io.mosip.kernel.demographics.spi.IDemoApi;
+import io.mosip.kernel.demographics.spi.IDemoNormalizer;
+
+/**
+ * A demographic SDK in place of the SDK of a vendor. A name is normalized by
+ * lower casing it, removing its punctuation and the titles of its language
+ * and collapsing its spaces. Two texts match exactly when equal, and
+ * partially by the share of the words of the request text found in the
+ * stored one.
+ */
+public class StubDemoSdk implements IDemoNormalizer, IDemoApi {
+
+	@Override
+	public void init() {
+	}
+
+	@Override
+	public String normalizeName(String nameInfo, String language, Map<String, List<String>> titlesByLanguage) {
+		List<String> titles = titlesByLanguage.getOrDefault(language, List.of());
+		List<String> words = new ArrayList<>();
+		for (String word : normalize(nameInfo, language).split(" ")) {
+			if (!word.isEmpty() && titles.stream().noneMatch(title -> title.equalsIgnoreCase(word))) {
+				words.add(word);
+			}
+		}
+		return String.join(" ", words);
+	}
+
+	@Override
+	public String normalizeAddress(String address, String language) {
+		return normalize(address, language).trim();
+	}
+
+	@Override
+	public int doExactMatch(String reqInfo, String entityInfo, Map<String, String> flags) {
+		return reqInfo.equals(entityInfo) ? DemoMatcherUtil.EXACT_MATCH_VALUE : 0;
+	}
+
+	@Override
+	public int doPartialMatch(String reqInfo, String entityInfo, Map<String, String> flags) {
+		String[] reqWords = reqInfo.split(" ");
+		Set<String> entityWords = new HashSet<>(List.of(entityInfo.split(" ")));
+		int matched = 0;
+		for (String word : reqWords) {
+			if (entityWords.contains(word)) {
+				matched++;
+			}
+		}
+		return matched * DemoMatcherUtil.EXACT_MATCH_VALUE / reqWords.length;
+	}
+
+	@Override
+	public int doPhoneticsMatch(String reqInfo, String entityInfo, String language, Map<String, String> flags) {
+		throw new UnsupportedOperationException();
+	}
+
+	private static String normalize(String text, String language) {
+		StringBuilder normalized = new StringBuilder(text.length());
+		for (char c : text.toLowerCase(Locale.forLanguageTag(language)).toCharArray()) {
+			if (Character.isLetterOrDigit(c)) {
+				normalized.append(c);
+			} else if (normalized.length() > 0 && normalized.charAt(normalized.length() - 1) != ' ') {
+				normalized.append(' ');
+			}
+		}
+		return normalized.toString();
+	}
+
+}
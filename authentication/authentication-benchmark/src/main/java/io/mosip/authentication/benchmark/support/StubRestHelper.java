@@ -0,0 +1,54 @@
+package io.mosip.authentication.benchmark.support;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+import io.mosip.idrepository.core.dto.RestRequestDTO;
+import io.mosip.idrepository.core.exception.RestServiceException;
+import io.mosip.idrepository.core.helper.RestHelper;
+
+/**
+ * A REST helper standing in for the kernel services, such as the SMS, email
+ * and OTP endpoints, without sending the requests. A synchronous request waits
+ * for the latency of the service before returning its response. An
+ * asynchronous request returns at once, as the services only hand it over to
+ * the async executor.
+ */
+public class StubRestHelper extends RestHelper {
+
+	private final long latencyNanos;
+
+	private final Function<RestRequestDTO, Object> responder;
+
+	/**
+	 * Instantiates a new stub REST helper.
+	 *
+	 * @param latencyMillis the latency of the services, in milliseconds
+	 * @param responder     the responder, giving the response of a request
+	 */
+	public StubRestHelper(long latencyMillis, Function<RestRequestDTO, Object> responder) {
+		this.latencyNanos = TimeUnit.MILLISECONDS.toNanos(latencyMillis);
+		this.responder = responder;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T requestSync(RestRequestDTO request) throws RestServiceException {
+		if (latencyNanos > 0) {
+			long deadline = System.nanoTime() + latencyNanos;
+			for (long remaining = latencyNanos; remaining > 0
+					&& !Thread.currentThread().isInterrupted(); remaining = deadline - System.nanoTime()) {
+				LockSupport.parkNanos(remaining);
+			}
+		}
+		return (T) responder.apply(request);
+	}
+
+	@Override
+	public CompletableFuture<Object> requestAsync(RestRequestDTO request) {
+		return CompletableFuture.completedFuture(responder.apply(request));
+	}
+
+}
@@ -8,30 +8,40 @@ import static io.mosip.authentication.core.constant.IdAuthCommonConstants.TRANSA
 
 import java.io.IOException;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.stereotype.Component;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import io.micrometer.core.instrument.util.StringEscapeUtils;
 import io.mosip.authentication.common.service.entity.AutnTxn;
-import io.mosip.authentication.common.service.repository.AutnTxnRepository;
 import io.mosip.authentication.common.service.transaction.manager.IdAuthSecurityManager;
 import io.mosip.authentication.common.service.util.EnvUtil;
 import io.mosip.authentication.common.service.websub.impl.IdAuthFraudAnalysisEventPublisher;
 import io.mosip.authentication.core.constant.RequestType;
 import io.mosip.authentication.core.dto.IdAuthFraudAnalysisEventDTO;
+import io.mosip.authentication.core.util.SlidingWindowCounter;
 import io.mosip.kernel.core.util.DateUtils;
 
 /**
  * @author Manoj SP
  *
+ * The request flooding is analysed from in-memory counters of the events of
+ * each individual and partner within the request flooding time difference,
+ * counted in buckets of a tenth of it. The counts are per instance and
+ * include the events of the bucket the time difference starts in.
  */
 @Component
 @Async("fraudAnalysisExecutor")
@@ -39,6 +49,10 @@ public class IdAuthFraudAnalysisEventManager {
 
 	private static final String AUTH = "AUTH";
 
+	private static final int BUCKETS_PER_WINDOW = 10;
+
+	private static final long CLEANUP_INTERVAL_MILLIS = 60_000;
+
 	@Value("${ida.fraud-analysis.request-flooding.time-diff-in-sec:1}")
 	private int requestFloodingTimeDiff;
 
@@ -48,12 +62,54 @@ public class IdAuthFraudAnalysisEventManager {
 	@Autowired(required = false)
 	private IdAuthFraudAnalysisEventPublisher publisher;
 
-	@Autowired
-	private AutnTxnRepository authtxnRepo;
-	
 	@Autowired
 	private ObjectMapper mapper;
-	
+
+	@Autowired
+	private ThreadPoolTaskScheduler taskScheduler;
+
+	/** The events by individual id hash. */
+	private SlidingWindowCounter<String> idvIdRequestCounter;
+
+	/** The events by partner id. */
+	private SlidingWindowCounter<String> partnerIdRequestCounter;
+
+	private ScheduledFuture<?> scheduledCleanup;
+
+	/**
+	 * Creates the request counters and schedules the removal of the individuals
+	 * and partners without a recent event.
+	 */
+	@PostConstruct
+	public void init() {
+		long windowMillis = requestFloodingTimeDiff * 1000L;
+		long bucketMillis = Math.max(1, windowMillis / BUCKETS_PER_WINDOW);
+		idvIdRequestCounter = new SlidingWindowCounter<>(windowMillis, bucketMillis);
+		partnerIdRequestCounter = new SlidingWindowCounter<>(windowMillis, bucketMillis);
+		scheduledCleanup = taskScheduler.scheduleWithFixedDelay(this::removeExpired, CLEANUP_INTERVAL_MILLIS);
+	}
+
+	/**
+	 * Stops the removal of the individuals and partners without a recent event.
+	 */
+	@PreDestroy
+	public void destroy() {
+		if (scheduledCleanup != null) {
+			scheduledCleanup.cancel(false);
+		}
+	}
+
+	/**
+	 * Removes the individuals and partners without an event within the request
+	 * flooding time difference and the cleanup interval, allowing for the skew
+	 * of the request times.
+	 */
+	public void removeExpired() {
+		long before = System.currentTimeMillis() - requestFloodingTimeDiff * 1000L - CLEANUP_INTERVAL_MILLIS;
+		idvIdRequestCounter.removeBefore(before);
+		partnerIdRequestCounter.removeBefore(before);
+	}
+
 	public void analyseDigitalSignatureFailure(String uri, Map<String, Object> request, String errorMessage) {
 		if (EnvUtil.getIsFraudAnalysisEnabled()) {
 			List<String> pathSegments = Arrays.asList(uri.split("/"));
@@ -84,13 +140,21 @@ public class IdAuthFraudAnalysisEventManager {
 	}
 
 	private void analyseRequestFlooding(IdAuthFraudAnalysisEventDTO eventData) {
+		long requestTime = toEpochMilli(eventData.getRequestTime());
+		if (eventData.getIndividualIdHash() != null) {
+			idvIdRequestCounter.increment(eventData.getIndividualIdHash(), requestTime);
+		}
+		if (eventData.getPartnerId() != null) {
+			partnerIdRequestCounter.increment(eventData.getPartnerId(), requestTime);
+		}
 		requestFloodingBasedOnIdvId(eventData);
 		requestFloodingBasedOnPartnerId(eventData);
 	}
 
 	private void requestFloodingBasedOnIdvId(IdAuthFraudAnalysisEventDTO eventData) {
-		Long requestCount = authtxnRepo.countByRefIdAndRequestDTtimesAfter(eventData.getIndividualIdHash(),
-				eventData.getRequestTime().minusSeconds(requestFloodingTimeDiff));
+		long afterRequestTime = toEpochMilli(eventData.getRequestTime().minusSeconds(requestFloodingTimeDiff));
+		long requestCount = eventData.getIndividualIdHash() == null ? 0
+				: idvIdRequestCounter.count(eventData.getIndividualIdHash(), afterRequestTime);
 		if (requestCount >= requestCountForFlooding) {
 			eventData.setComment(String.format("Multple Request received with count : %s within seconds : %s", requestCount,
 					requestFloodingTimeDiff));
@@ -99,8 +163,9 @@ public class IdAuthFraudAnalysisEventManager {
 	}
 
 	private void requestFloodingBasedOnPartnerId(IdAuthFraudAnalysisEventDTO eventData) {
-		Long requestCount = authtxnRepo.countByEntityIdAndRequestDTtimesAfter(eventData.getPartnerId(),
-				eventData.getRequestTime().minusSeconds(requestFloodingTimeDiff));
+		long afterRequestTime = toEpochMilli(eventData.getRequestTime().minusSeconds(requestFloodingTimeDiff));
+		long requestCount = eventData.getPartnerId() == null ? 0
+				: partnerIdRequestCounter.count(eventData.getPartnerId(), afterRequestTime);
 		if (requestCount >= requestCountForFlooding) {
 			eventData.setComment(String.format("Multple Request received with count : %s within seconds : %s", requestCount,
 					requestFloodingTimeDiff));
@@ -108,6 +173,10 @@ public class IdAuthFraudAnalysisEventManager {
 		}
 	}
 
+	private static long toEpochMilli(LocalDateTime requestTime) {
+		return requestTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+	}
+
 	private IdAuthFraudAnalysisEventDTO createEventData(String hash, String txnId, String partnerId, String authType,
 			LocalDateTime requestTime, String authStatus, String comment) {
 		IdAuthFraudAnalysisEventDTO eventData = new IdAuthFraudAnalysisEventDTO();
@@ -122,6 +191,9 @@ public class IdAuthFraudAnalysisEventManager {
 	}
 
 	private String formatAsJson(String comment) {
+		if (!isJsonCandidate(comment)) {
+			return comment;
+		}
 		try {
 			mapper.readValue(comment, Object.class);
 			return StringEscapeUtils.escapeJson(comment);
@@ -130,6 +202,23 @@ public class IdAuthFraudAnalysisEventManager {
 		}
 	}
 
+	/**
+	 * Checks if the comment may be a JSON needing escaping, that is, an object, an
+	 * array or a string, so that the plain text comments are not parsed.
+	 */
+	private static boolean isJsonCandidate(String comment) {
+		if (comment == null) {
+			return false;
+		}
+		for (int i = 0; i < comment.length(); i++) {
+			char c = comment.charAt(i);
+			if (!Character.isWhitespace(c)) {
+				return c == '{' || c == '[' || c == '"';
+			}
+		}
+		return false;
+	}
+
 	private String getAuthType(List<String> pathSegments, String authType, Map<String, Object> request) {
 		String contextSuffix = pathSegments.get(3);
 		if (contextSuffix.contentEquals(OTP)) {
@@ -0,0 +1,213 @@
+package io.mosip.authentication.common.service.cache;
+
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.AUTH_LOCK_CACHE_ENABLED;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.AUTH_LOCK_CACHE_MAX_SIZE;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.AUTH_LOCK_CACHE_REFRESH_INTERVAL_MILLIS;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.AUTH_LOCK_CACHE_TTL_SECONDS;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.mosip.authentication.common.service.entity.AuthtypeLock;
+import io.mosip.authentication.common.service.repository.AuthLockRepository;
+import io.mosip.authentication.common.service.util.CacheMetricsUtil;
+import io.mosip.authentication.core.constant.IdAuthCommonConstants;
+import io.mosip.authentication.core.logger.IdaLogger;
+import io.mosip.authentication.core.util.BoundedTtlCache;
+import io.mosip.kernel.core.exception.ExceptionUtils;
+import io.mosip.kernel.core.logger.spi.Logger;
+import io.mosip.kernel.core.util.DateUtils;
+
+/**
+ * The Class AuthLockCache holds the latest auth type lock rows of a token, so
+ * that the auth type lock checks of the auth filter and of the OTP request do
+ * not query the database on every request. The unlock expiry of the rows is
+ * evaluated on every check. Entries are loaded lazily, removed when this
+ * instance updates the auth type status of the token, and removed on every
+ * instance by periodically looking up the tokens updated since the previous
+ * look up. Entries are also bounded by a time-to-live. The cache is disabled
+ * by default, the lock check metrics are published regardless.
+ */
+@Component
+public class AuthLockCache implements MeterBinder {
+
+	private static final String CACHE_NAME = "auth-lock";
+
+	/** The logger. */
+	private static Logger logger = IdaLogger.getLogger(AuthLockCache.class);
+
+	@Value("${" + AUTH_LOCK_CACHE_ENABLED + ":false}")
+	private boolean enabled;
+
+	@Value("${" + AUTH_LOCK_CACHE_MAX_SIZE + ":10000}")
+	private int maxSize;
+
+	@Value("${" + AUTH_LOCK_CACHE_TTL_SECONDS + ":300}")
+	private long ttlSeconds;
+
+	@Value("${" + AUTH_LOCK_CACHE_REFRESH_INTERVAL_MILLIS + ":5000}")
+	private long refreshIntervalMillis;
+
+	@Autowired
+	private AuthLockRepository authLockRepository;
+
+	/** The task scheduler. */
+	@Autowired
+	private ThreadPoolTaskScheduler taskScheduler;
+
+	private BoundedTtlCache<String, List<AuthtypeLock>> cache;
+
+	/** The time of the previous look up of the updated tokens. */
+	private LocalDateTime lastRefreshTime;
+
+	private ScheduledFuture<?> scheduledRefresh;
+
+	/** The number of auth type lock queries made for the lock checks. */
+	private final LongAdder databaseQueryCount = new LongAdder();
+
+	private volatile Timer checkTimer;
+
+	/**
+	 * Initializes the cache and schedules the look up of the updated tokens.
+	 */
+	@PostConstruct
+	public void init() {
+		if (enabled) {
+			cache = new BoundedTtlCache<>(maxSize, ttlSeconds);
+			lastRefreshTime = DateUtils.getUTCCurrentDateTime();
+			if (refreshIntervalMillis > 0) {
+				scheduledRefresh = taskScheduler.scheduleWithFixedDelay(this::refresh, refreshIntervalMillis);
+			}
+			logger.info(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "init",
+					"auth lock cache enabled with max-size: " + maxSize + ", ttl-seconds: " + ttlSeconds
+							+ ", refresh-interval-millis: " + refreshIntervalMillis);
+		}
+	}
+
+	/**
+	 * Stops the look up of the updated tokens.
+	 */
+	@PreDestroy
+	public void destroy() {
+		if (scheduledRefresh != null) {
+			scheduledRefresh.cancel(false);
+		}
+	}
+
+	/**
+	 * Checks if the cache is enabled.
+	 *
+	 * @return true, if is enabled
+	 */
+	public boolean isEnabled() {
+		return cache != null;
+	}
+
+	/**
+	 * Gets the auth type lock rows of the token, loading and caching them if not
+	 * cached. The returned rows are shared and should not be modified.
+	 *
+	 * @param token  the token
+	 * @param loader the loader querying the rows of the token
+	 * @return the auth type lock rows
+	 */
+	public List<AuthtypeLock> getAuthTypeLocks(String token, Function<String, List<AuthtypeLock>> loader) {
+		long startTime = System.nanoTime();
+		try {
+			List<AuthtypeLock> authTypeLocks = isEnabled() ? cache.get(token) : null;
+			if (authTypeLocks == null) {
+				databaseQueryCount.increment();
+				authTypeLocks = loader.apply(token);
+				if (isEnabled()) {
+					cache.put(token, List.copyOf(authTypeLocks));
+				}
+			}
+			return authTypeLocks;
+		} finally {
+			Timer timer = checkTimer;
+			if (timer != null) {
+				timer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+			}
+		}
+	}
+
+	/**
+	 * Removes the cached rows of the token once the current transaction commits.
+	 *
+	 * @param token the token
+	 */
+	public void invalidate(String token) {
+		if (!isEnabled()) {
+			return;
+		}
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+				@Override
+				public void afterCommit() {
+					cache.invalidate(token);
+				}
+			});
+		} else {
+			cache.invalidate(token);
+		}
+	}
+
+	/**
+	 * Removes the cached rows of the tokens updated since the previous look up.
+	 * The look up goes back one more interval, to also cover the updates which
+	 * committed after the previous look up and small clock differences between
+	 * the instances.
+	 */
+	public void refresh() {
+		if (!isEnabled()) {
+			return;
+		}
+		LocalDateTime refreshTime = DateUtils.getUTCCurrentDateTime();
+		try {
+			List<String> tokens = authLockRepository
+					.findTokensUpdatedSince(lastRefreshTime.minus(refreshIntervalMillis, ChronoUnit.MILLIS));
+			tokens.forEach(cache::invalidate);
+			lastRefreshTime = refreshTime;
+		} catch (RuntimeException e) {
+			logger.error(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "refresh",
+					"failed to look up the updated tokens: " + ExceptionUtils.getStackTrace(e));
+		}
+	}
+
+	public long getDatabaseQueryCount() {
+		return databaseQueryCount.sum();
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		FunctionCounter.builder("ida.auth-lock.database-queries", this, AuthLockCache::getDatabaseQueryCount)
+				.description("The number of auth type lock queries made for the lock checks.")
+				.register(registry);
+		checkTimer = Timer.builder("ida.auth-lock.check")
+				.description("The time taken to get the auth type lock status of a token.")
+				.register(registry);
+		if (isEnabled()) {
+			CacheMetricsUtil.bindCacheMetrics(registry, CACHE_NAME, cache);
+		}
+	}
+
+}
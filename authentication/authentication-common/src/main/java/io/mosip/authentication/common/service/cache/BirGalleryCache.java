@@ -0,0 +1,258 @@
+package io.mosip.authentication.common.service.cache;
+
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.BIR_GALLERY_CACHE_ENABLED;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.BIR_GALLERY_CACHE_MAX_BYTES;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.BIR_GALLERY_CACHE_MAX_SIZE;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.BIR_GALLERY_CACHE_TTL_SECONDS;
+
+import java.lang.ref.WeakReference;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.mosip.authentication.common.service.util.CacheMetricsUtil;
+import io.mosip.authentication.core.constant.IdAuthCommonConstants;
+import io.mosip.authentication.core.constant.IdAuthenticationErrorConstants;
+import io.mosip.authentication.core.exception.IdAuthUncheckedException;
+import io.mosip.authentication.core.logger.IdaLogger;
+import io.mosip.authentication.core.util.BoundedTtlCache;
+import io.mosip.kernel.biometrics.entities.BIR;
+import io.mosip.kernel.core.logger.spi.Logger;
+
+/**
+ * The Class BirGalleryCache holds the decoded gallery BIRs of recently
+ * authenticated individuals, keyed by the identity token and the gallery
+ * attribute name, so that repeated biometric matches of the same individual
+ * skip the Base64 decoding and BIR construction of the stored biometrics. A
+ * cached BIR is only used while the stored value it was built from is
+ * unchanged, which is checked against a SHA-256 digest of that value rather
+ * than the value itself. The cache is disabled by default and bounded by size,
+ * by the bytes of the decoded biometric data blocks and by time-to-live.
+ */
+@Component
+public class BirGalleryCache implements MeterBinder {
+
+	private static final String CACHE_NAME = "bir-gallery";
+
+	/** The logger. */
+	private static Logger logger = IdaLogger.getLogger(BirGalleryCache.class);
+
+	/** The SHA-256 digest reused by the thread for digesting the stored values. */
+	private static final ThreadLocal<MessageDigest> SOURCE_DIGEST = ThreadLocal.withInitial(() -> {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IdAuthUncheckedException(IdAuthenticationErrorConstants.UNABLE_TO_PROCESS, e);
+		}
+	});
+
+	@Value("${" + BIR_GALLERY_CACHE_ENABLED + ":false}")
+	private boolean enabled;
+
+	@Value("${" + BIR_GALLERY_CACHE_MAX_SIZE + ":10000}")
+	private int maxSize;
+
+	@Value("${" + BIR_GALLERY_CACHE_TTL_SECONDS + ":300}")
+	private long ttlSeconds;
+
+	@Value("${" + BIR_GALLERY_CACHE_MAX_BYTES + ":268435456}")
+	private long maxBytes;
+
+	private BoundedTtlCache<String, CachedGallery> cache;
+
+	/** The decode time saved by the cache hits. */
+	private final LongAdder decodeNanosSaved = new LongAdder();
+
+	/**
+	 * Initializes the cache.
+	 */
+	@PostConstruct
+	public void init() {
+		if (enabled) {
+			cache = new BoundedTtlCache<>(maxSize, ttlSeconds, maxBytes, CachedGallery::getBytes);
+			logger.info(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "init",
+					"BIR gallery cache enabled with max-size: " + maxSize + ", max-bytes: " + maxBytes
+							+ ", ttl-seconds: " + ttlSeconds);
+		}
+	}
+
+	/**
+	 * Checks if the cache is enabled.
+	 *
+	 * @return true, if is enabled
+	 */
+	public boolean isEnabled() {
+		return cache != null;
+	}
+
+	/**
+	 * Gets the cached gallery BIR of the attribute, building and caching it when
+	 * not cached or when the stored value has changed.
+	 *
+	 * @param token        the identity token
+	 * @param galleryKey   the gallery attribute name
+	 * @param galleryValue the stored gallery value
+	 * @param birBuilder   builds the BIR from the stored value
+	 * @return the BIR
+	 */
+	public BIR get(String token, String galleryKey, String galleryValue, Supplier<BIR> birBuilder) {
+		if (!isEnabled() || token == null || galleryValue == null) {
+			return birBuilder.get();
+		}
+		CachedGallery gallery = cache.get(token);
+		CachedBir cachedBir = gallery == null ? null : gallery.birs.get(galleryKey);
+		byte[] sourceDigest = null;
+		if (cachedBir != null) {
+			// The same stored value instance, as held by the identity data cache, needs no digest
+			if (cachedBir.source.get() != galleryValue) {
+				sourceDigest = digest(galleryValue);
+			}
+			if (sourceDigest == null || Arrays.equals(cachedBir.sourceDigest, sourceDigest)) {
+				decodeNanosSaved.add(cachedBir.decodeNanos);
+				return cachedBir.bir;
+			}
+		}
+		long startTime = System.nanoTime();
+		BIR bir = birBuilder.get();
+		long decodeNanos = System.nanoTime() - startTime;
+		if (sourceDigest == null) {
+			sourceDigest = digest(galleryValue);
+		}
+		// The gallery is replaced rather than updated, for the cache to weigh it again
+		cache.put(token,
+				new CachedGallery(gallery, galleryKey, new CachedBir(galleryValue, sourceDigest, bir, decodeNanos)));
+		return bir;
+	}
+
+	/**
+	 * Removes the cached gallery of the identity token.
+	 *
+	 * @param token the identity token
+	 */
+	public void invalidate(String token) {
+		if (isEnabled() && token != null) {
+			cache.invalidate(token);
+		}
+	}
+
+	/**
+	 * Removes the cached galleries of the identity tokens.
+	 *
+	 * @param tokens the identity tokens
+	 */
+	public void invalidate(Collection<String> tokens) {
+		tokens.forEach(this::invalidate);
+	}
+
+	/**
+	 * Gets the approximate memory held by the cached galleries, counting the
+	 * decoded biometric data blocks.
+	 *
+	 * @return the bytes
+	 */
+	public long getCachedBytes() {
+		return isEnabled() ? cache.getWeight() : 0;
+	}
+
+	/**
+	 * Gets the approximate memory held per cached identity.
+	 *
+	 * @return the bytes per identity
+	 */
+	public double getCachedBytesPerIdentity() {
+		int size = isEnabled() ? cache.size() : 0;
+		return size == 0 ? 0 : (double) getCachedBytes() / size;
+	}
+
+	public long getDecodeNanosSaved() {
+		return decodeNanosSaved.sum();
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		if (isEnabled()) {
+			CacheMetricsUtil.bindCacheMetrics(registry, CACHE_NAME, cache);
+			FunctionCounter.builder("ida.bir-gallery-cache.decode-time-saved", this,
+					galleryCache -> (double) galleryCache.getDecodeNanosSaved() / TimeUnit.SECONDS.toNanos(1))
+					.baseUnit("seconds")
+					.description("The BIR decoding time saved by the cache hits.")
+					.register(registry);
+			Gauge.builder("ida.bir-gallery-cache.bytes", this, BirGalleryCache::getCachedBytes)
+					.baseUnit("bytes")
+					.description("The approximate memory held by the cached galleries.")
+					.register(registry);
+			Gauge.builder("ida.bir-gallery-cache.identity.bytes", this, BirGalleryCache::getCachedBytesPerIdentity)
+					.baseUnit("bytes")
+					.description("The approximate memory held per cached identity.")
+					.register(registry);
+		}
+	}
+
+	private static byte[] digest(String value) {
+		return SOURCE_DIGEST.get().digest(value.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * The immutable cached gallery of one identity, by gallery attribute name.
+	 */
+	private static class CachedGallery {
+
+		private final Map<String, CachedBir> birs;
+
+		private final long bytes;
+
+		private CachedGallery(CachedGallery gallery, String galleryKey, CachedBir cachedBir) {
+			Map<String, CachedBir> birs = gallery == null ? new HashMap<>() : new HashMap<>(gallery.birs);
+			birs.put(galleryKey, cachedBir);
+			this.birs = birs;
+			this.bytes = birs.values().stream().mapToLong(CachedBir::getBytes).sum();
+		}
+
+		private long getBytes() {
+			return bytes;
+		}
+	}
+
+	/**
+	 * The cached BIR along with the digest of the stored value it was built
+	 * from. The stored value itself is only weakly referenced.
+	 */
+	private static class CachedBir {
+
+		private final WeakReference<String> source;
+
+		private final byte[] sourceDigest;
+
+		private final BIR bir;
+
+		private final long decodeNanos;
+
+		private CachedBir(String source, byte[] sourceDigest, BIR bir, long decodeNanos) {
+			this.source = new WeakReference<>(source);
+			this.sourceDigest = sourceDigest;
+			this.bir = bir;
+			this.decodeNanos = decodeNanos;
+		}
+
+		private long getBytes() {
+			return sourceDigest.length + (bir.getBdb() == null ? 0 : bir.getBdb().length);
+		}
+	}
+
+}
@@ -0,0 +1,138 @@
+package io.mosip.authentication.common.service.cache;
+
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.COMPILED_TEMPLATE_CACHE_ENABLED;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.COMPILED_TEMPLATE_CACHE_MAX_SIZE;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.COMPILED_TEMPLATE_CACHE_TTL_SECONDS;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.annotation.PostConstruct;
+
+import org.apache.velocity.Template;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.mosip.authentication.common.service.util.CacheMetricsUtil;
+import io.mosip.authentication.core.constant.IdAuthCommonConstants;
+import io.mosip.authentication.core.logger.IdaLogger;
+import io.mosip.authentication.core.util.BoundedTtlCache;
+import io.mosip.kernel.core.logger.spi.Logger;
+
+/**
+ * The Class CompiledTemplateCache holds the parsed notification templates,
+ * keyed by the template name and the ordered template languages, so that
+ * rendering a notification does not fetch and parse the template text again.
+ * The templates of a template name are removed when its master data template
+ * cache is cleared, and a template parsed before that is not cached afterwards.
+ * The cache is disabled by default.
+ */
+@Component
+public class CompiledTemplateCache implements MeterBinder {
+
+	private static final String CACHE_NAME = "compiled-template";
+
+	/** The logger. */
+	private static Logger logger = IdaLogger.getLogger(CompiledTemplateCache.class);
+
+	@Value("${" + COMPILED_TEMPLATE_CACHE_ENABLED + ":false}")
+	private boolean enabled;
+
+	@Value("${" + COMPILED_TEMPLATE_CACHE_MAX_SIZE + ":1000}")
+	private int maxSize;
+
+	@Value("${" + COMPILED_TEMPLATE_CACHE_TTL_SECONDS + ":0}")
+	private long ttlSeconds;
+
+	private BoundedTtlCache<List<String>, Template> cache;
+
+	/** Incremented on every invalidation, to skip caching templates parsed before it. */
+	private long generation;
+
+	/**
+	 * Initializes the cache.
+	 */
+	@PostConstruct
+	public void init() {
+		if (enabled) {
+			cache = new BoundedTtlCache<>(maxSize, ttlSeconds);
+			logger.info(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "init",
+					"compiled template cache enabled with max-size: " + maxSize + ", ttl-seconds: " + ttlSeconds);
+		}
+	}
+
+	/**
+	 * Checks if the cache is enabled.
+	 *
+	 * @return true, if is enabled
+	 */
+	public boolean isEnabled() {
+		return cache != null;
+	}
+
+	/**
+	 * Gets the cached template.
+	 *
+	 * @param templateName      the template name
+	 * @param templateLanguages the ordered template languages
+	 * @return the template, or null if not cached or the cache is disabled
+	 */
+	public Template get(String templateName, List<String> templateLanguages) {
+		return isEnabled() ? cache.get(getKey(templateName, templateLanguages)) : null;
+	}
+
+	/**
+	 * Gets the current generation, to be read before fetching the template text
+	 * and passed back on {@link #put}.
+	 *
+	 * @return the generation
+	 */
+	public synchronized long getGeneration() {
+		return generation;
+	}
+
+	/**
+	 * Caches the template, unless the cache was invalidated since the given
+	 * generation was read.
+	 *
+	 * @param templateName      the template name
+	 * @param templateLanguages the ordered template languages
+	 * @param template          the template
+	 * @param generation        the generation read before fetching the template text
+	 */
+	public synchronized void put(String templateName, List<String> templateLanguages, Template template,
+			long generation) {
+		if (isEnabled() && generation == this.generation) {
+			cache.put(getKey(templateName, templateLanguages), template);
+		}
+	}
+
+	/**
+	 * Removes the templates of the template name, for all the languages.
+	 *
+	 * @param templateName the template name
+	 */
+	public synchronized void invalidate(String templateName) {
+		if (isEnabled()) {
+			generation++;
+			cache.invalidateIf(key -> key.get(0).equals(templateName));
+		}
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		if (isEnabled()) {
+			CacheMetricsUtil.bindCacheMetrics(registry, CACHE_NAME, cache);
+		}
+	}
+
+	private static List<String> getKey(String templateName, List<String> templateLanguages) {
+		List<String> key = new ArrayList<>(templateLanguages.size() + 1);
+		key.add(templateName);
+		key.addAll(templateLanguages);
+		return key;
+	}
+
+}
@@ -0,0 +1,114 @@
+package io.mosip.authentication.common.service.cache;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import io.mosip.authentication.common.service.entity.IdaUinHashSalt;
+import io.mosip.authentication.common.service.repository.IdaUinHashSaltRepo;
+import io.mosip.authentication.common.service.util.EnvUtil;
+import io.mosip.authentication.core.constant.IdAuthCommonConstants;
+import io.mosip.authentication.core.logger.IdaLogger;
+import io.mosip.kernel.core.exception.ExceptionUtils;
+import io.mosip.kernel.core.logger.spi.Logger;
+
+/**
+ * The Class IdHashSaltTable keeps the ID hash salts in memory, indexed by the
+ * salt modulo, so that hashing an ID does not need a repository lookup. The
+ * salt table is small and only grows, hence it is preloaded once on
+ * application start-up and filled in as new salts are stored. A modulo not yet
+ * present in the table is looked up in the repository.
+ */
+@Component
+public class IdHashSaltTable implements ApplicationListener<ApplicationReadyEvent> {
+
+	/** The logger. */
+	private static Logger logger = IdaLogger.getLogger(IdHashSaltTable.class);
+
+	@Autowired
+	private IdaUinHashSaltRepo uinHashSaltRepo;
+
+	/** The salts indexed by modulo, null until loaded. */
+	private volatile AtomicReferenceArray<byte[]> salts;
+
+	@Override
+	public void onApplicationEvent(ApplicationReadyEvent event) {
+		try {
+			getSalts();
+		} catch (DataAccessException e) {
+			// The table is loaded again on the first hash
+			logger.error(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "onApplicationEvent",
+					ExceptionUtils.getStackTrace(e));
+		}
+	}
+
+	/**
+	 * Gets the salt of the modulo.
+	 *
+	 * @param modulo the modulo
+	 * @return the salt, or null if there is no salt for the modulo
+	 */
+	public byte[] getSalt(int modulo) {
+		AtomicReferenceArray<byte[]> table = getSalts();
+		boolean inRange = modulo >= 0 && modulo < table.length();
+		byte[] salt = inRange ? table.get(modulo) : null;
+		if (salt == null) {
+			String saltValue = uinHashSaltRepo.retrieveSaltById(modulo);
+			if (saltValue != null) {
+				salt = saltValue.getBytes();
+				if (inRange) {
+					table.set(modulo, salt);
+				}
+			}
+		}
+		return salt;
+	}
+
+	/**
+	 * Adds the salt of the modulo after it is stored in the repository.
+	 *
+	 * @param modulo the modulo
+	 * @param salt   the salt
+	 */
+	public void putSalt(int modulo, String salt) {
+		AtomicReferenceArray<byte[]> table = salts;
+		if (table != null && modulo >= 0 && modulo < table.length() && salt != null) {
+			table.set(modulo, salt.getBytes());
+		}
+	}
+
+	private AtomicReferenceArray<byte[]> getSalts() {
+		AtomicReferenceArray<byte[]> table = salts;
+		if (table == null) {
+			synchronized (this) {
+				table = salts;
+				if (table == null) {
+					table = loadSalts();
+					salts = table;
+				}
+			}
+		}
+		return table;
+	}
+
+	private AtomicReferenceArray<byte[]> loadSalts() {
+		AtomicReferenceArray<byte[]> table = new AtomicReferenceArray<>(
+				(int) Math.pow(10, EnvUtil.getSaltKeyLength()));
+		List<IdaUinHashSalt> saltEntities = uinHashSaltRepo.findAll();
+		for (IdaUinHashSalt saltEntity : saltEntities) {
+			int modulo = saltEntity.getId();
+			if (modulo >= 0 && modulo < table.length() && saltEntity.getSalt() != null) {
+				table.set(modulo, saltEntity.getSalt().getBytes());
+			}
+		}
+		logger.info(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "loadSalts",
+				"loaded salts: " + saltEntities.size());
+		return table;
+	}
+
+}
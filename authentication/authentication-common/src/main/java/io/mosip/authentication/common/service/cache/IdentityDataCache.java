@@ -0,0 +1,281 @@
+package io.mosip.authentication.common.service.cache;
+
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.IDENTITY_DATA_CACHE_ENABLED;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.IDENTITY_DATA_CACHE_MAX_BYTES;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.IDENTITY_DATA_CACHE_MAX_SIZE;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.IDENTITY_DATA_CACHE_TTL_SECONDS;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.mosip.authentication.common.service.entity.IdentityEntity;
+import io.mosip.authentication.common.service.util.CacheMetricsUtil;
+import io.mosip.authentication.core.constant.IdAuthCommonConstants;
+import io.mosip.authentication.core.logger.IdaLogger;
+import io.mosip.authentication.core.util.BoundedTtlCache;
+import io.mosip.kernel.core.logger.spi.Logger;
+import lombok.Getter;
+
+/**
+ * The Class IdentityDataCache holds the filtered and decrypted identity
+ * attributes of recently authenticated individuals, keyed by the ID hash, so
+ * that repeated lookups of the same individual skip the read of the identity
+ * data, the parsing and the zero knowledge decryption. A cached identity is
+ * only used while the identity cache row it was built from is unchanged, which
+ * the callers check on every read against the row metadata, so that updates,
+ * deactivations and removals made through any instance take effect at once.
+ * The cache is disabled by default and bounded by size, by the approximate
+ * bytes of the cached attributes and by time-to-live.
+ */
+@Component
+public class IdentityDataCache implements MeterBinder {
+
+	private static final String CACHE_NAME = "identity-data";
+
+	/** The logger. */
+	private static Logger logger = IdaLogger.getLogger(IdentityDataCache.class);
+
+	@Value("${" + IDENTITY_DATA_CACHE_ENABLED + ":false}")
+	private boolean enabled;
+
+	@Value("${" + IDENTITY_DATA_CACHE_MAX_SIZE + ":10000}")
+	private int maxSize;
+
+	@Value("${" + IDENTITY_DATA_CACHE_MAX_BYTES + ":268435456}")
+	private long maxBytes;
+
+	@Value("${" + IDENTITY_DATA_CACHE_TTL_SECONDS + ":300}")
+	private long ttlSeconds;
+
+	private BoundedTtlCache<String, CachedIdentity> cache;
+
+	/**
+	 * Initializes the cache.
+	 */
+	@PostConstruct
+	public void init() {
+		if (enabled) {
+			cache = new BoundedTtlCache<>(maxSize, ttlSeconds, maxBytes, CachedIdentity::getBytes);
+			logger.info(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "init",
+					"identity data cache enabled with max-size: " + maxSize + ", max-bytes: " + maxBytes
+							+ ", ttl-seconds: " + ttlSeconds);
+		}
+	}
+
+	/**
+	 * Checks if the cache is enabled.
+	 *
+	 * @return true, if is enabled
+	 */
+	public boolean isEnabled() {
+		return cache != null;
+	}
+
+	/**
+	 * Gets the cached identity for the ID hash.
+	 *
+	 * @param idHash the id hash
+	 * @return the cached identity, or null if not cached or the cache is disabled
+	 */
+	public CachedIdentity get(String idHash) {
+		return isEnabled() ? cache.get(idHash) : null;
+	}
+
+	/**
+	 * Caches the identity for the ID hash.
+	 *
+	 * @param idHash   the id hash
+	 * @param identity the identity
+	 */
+	public void put(String idHash, CachedIdentity identity) {
+		if (isEnabled()) {
+			cache.put(idHash, identity);
+		}
+	}
+
+	/**
+	 * Removes the cached identity of the ID hash once the current transaction
+	 * commits, so that a read racing with the update cannot cache the old row
+	 * again.
+	 *
+	 * @param idHash the id hash
+	 */
+	public void invalidate(String idHash) {
+		if (!isEnabled() || idHash == null) {
+			return;
+		}
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+				@Override
+				public void afterCommit() {
+					cache.invalidate(idHash);
+				}
+			});
+		} else {
+			cache.invalidate(idHash);
+		}
+	}
+
+	/**
+	 * Removes the cached identities of the ID hashes.
+	 *
+	 * @param idHashes the id hashes
+	 */
+	public void invalidate(Collection<String> idHashes) {
+		idHashes.forEach(this::invalidate);
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		if (isEnabled()) {
+			CacheMetricsUtil.bindCacheMetrics(registry, CACHE_NAME, cache);
+			Gauge.builder("ida.identity-data-cache.bytes", cache, BoundedTtlCache::getWeight)
+					.baseUnit("bytes")
+					.description("The approximate memory held by the cached identity attributes.")
+					.register(registry);
+		}
+	}
+
+	/**
+	 * Builds the key of one attribute view of the identity, since the same
+	 * individual is read with and without biometrics and with different
+	 * attribute filters.
+	 *
+	 * @param isBio                the is bio
+	 * @param lowercaseFilterAttributes the filter attributes in lower case
+	 * @return the view key
+	 */
+	public static String getViewKey(boolean isBio, Set<String> lowercaseFilterAttributes) {
+		return isBio + ":" + String.join(",", new TreeSet<>(lowercaseFilterAttributes));
+	}
+
+	/**
+	 * Estimates the bytes held by a decrypted attribute value.
+	 *
+	 * @param value the value
+	 * @return the bytes
+	 */
+	private static long estimateBytes(Object value) {
+		if (value instanceof String) {
+			return 40 + 2L * ((String) value).length();
+		}
+		if (value instanceof byte[]) {
+			return 16 + ((byte[]) value).length;
+		}
+		if (value instanceof Map) {
+			return ((Map<?, ?>) value).entrySet().stream()
+					.mapToLong(entry -> 32 + estimateBytes(entry.getKey()) + estimateBytes(entry.getValue())).sum();
+		}
+		if (value instanceof Collection) {
+			return ((Collection<?>) value).stream().mapToLong(element -> 8 + estimateBytes(element)).sum();
+		}
+		return 16;
+	}
+
+	/**
+	 * The cached identity. Holds the metadata of the identity cache row the
+	 * attribute views were decrypted from, used to check on every read that the
+	 * row is unchanged and to validate the individual, along with the views.
+	 * Instances are immutable; a view is added by caching a copy, so that the
+	 * size of the entry is known when it is put.
+	 */
+	public static class CachedIdentity {
+
+		@Getter
+		private final String token;
+
+		@Getter
+		private final LocalDateTime expiryTimestamp;
+
+		private final Integer transactionLimit;
+
+		private final LocalDateTime crDTimes;
+
+		private final LocalDateTime updDTimes;
+
+		private final Map<String, Map<String, Object>> views;
+
+		@Getter
+		private final long bytes;
+
+		/**
+		 * Instantiates a new cached identity without views for the identity cache
+		 * row.
+		 *
+		 * @param entity the identity cache row
+		 */
+		public CachedIdentity(IdentityEntity entity) {
+			this.token = entity.getToken();
+			this.expiryTimestamp = entity.getExpiryTimestamp();
+			this.transactionLimit = entity.getTransactionLimit();
+			this.crDTimes = entity.getCrDTimes();
+			this.updDTimes = entity.getUpdDTimes();
+			this.views = Map.of();
+			this.bytes = 0;
+		}
+
+		private CachedIdentity(CachedIdentity identity, Map<String, Map<String, Object>> views) {
+			this.token = identity.token;
+			this.expiryTimestamp = identity.expiryTimestamp;
+			this.transactionLimit = identity.transactionLimit;
+			this.crDTimes = identity.crDTimes;
+			this.updDTimes = identity.updDTimes;
+			this.views = views;
+			this.bytes = estimateBytes(views);
+		}
+
+		/**
+		 * Checks if the identity cache row is unchanged since the identity was
+		 * cached.
+		 *
+		 * @param entity the current identity cache row
+		 * @return true, if unchanged
+		 */
+		public boolean isCurrent(IdentityEntity entity) {
+			return Objects.equals(token, entity.getToken())
+					&& Objects.equals(expiryTimestamp, entity.getExpiryTimestamp())
+					&& Objects.equals(transactionLimit, entity.getTransactionLimit())
+					&& Objects.equals(crDTimes, entity.getCrDTimes())
+					&& Objects.equals(updDTimes, entity.getUpdDTimes());
+		}
+
+		/**
+		 * Gets the attribute view for the key.
+		 *
+		 * @param viewKey the view key
+		 * @return the view, or null if not cached
+		 */
+		public Map<String, Object> getView(String viewKey) {
+			return views.get(viewKey);
+		}
+
+		/**
+		 * Copies the cached identity with the attribute view added.
+		 *
+		 * @param viewKey the view key
+		 * @param view    the view
+		 * @return the cached identity with the view
+		 */
+		public CachedIdentity withView(String viewKey, Map<String, Object> view) {
+			Map<String, Map<String, Object>> newViews = new HashMap<>(views);
+			newViews.put(viewKey, view);
+			return new CachedIdentity(this, Map.copyOf(newViews));
+		}
+	}
+
+}
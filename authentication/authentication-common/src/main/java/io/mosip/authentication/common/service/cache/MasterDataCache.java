@@ -46,6 +46,13 @@ public class MasterDataCache {
 	@Qualifier("withSelfTokenWebclient")
 	private RestHelper restHelper;
 
+	/** The compiled template cache. */
+	@Autowired
+	private CompiledTemplateCache compiledTemplateCache;
+
+	/** Incremented when the titles cache is cleared, to rebuild the title index. */
+	private volatile long titlesVersion;
+
 	/**
 	 * Gets the master data titles.
 	 *
@@ -86,21 +93,36 @@ public class MasterDataCache {
 	}
 	
 	/**
-	 * Clear master data template cache.
+	 * Clear master data template cache. The entry is evicted before the compiled
+	 * templates are invalidated, so that they are not parsed again from the
+	 * evicted template.
 	 *
 	 * @param template the template
 	 */
-	@CacheEvict(value=MASTERDATA_TEMPLATES, key = "#template")
+	@CacheEvict(value=MASTERDATA_TEMPLATES, key = "#template", beforeInvocation = true)
 	public void clearMasterDataTemplateCache(String template) {
+		compiledTemplateCache.invalidate(template);
 		logger.info(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "clearMasterDataTemplateCache",
 				"masterdata cache cleared for template code: " + template);
 	}
 	
 	/**
-	 * Clear master data titles cache.
+	 * Gets the version of the cached titles, which changes when the titles cache
+	 * is cleared.
+	 *
+	 * @return the titles version
+	 */
+	public long getTitlesVersion() {
+		return titlesVersion;
+	}
+
+	/**
+	 * Clear master data titles cache. The titles are evicted before the version
+	 * changes, so that the title index is not rebuilt from the evicted titles.
 	 */
-	@CacheEvict(value=MASTERDATA_TITLES)
+	@CacheEvict(value=MASTERDATA_TITLES, beforeInvocation = true)
 	public void clearMasterDataTitlesCache() {
+		titlesVersion++;
 		logger.info(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "clearMasterDataTitlesCache",
 				"masterdata cache cleared for titles");
 	}
@@ -0,0 +1,272 @@
+package io.mosip.authentication.common.service.cache;
+
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.NORMALIZED_TEXT_CACHE_ENABLED;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.NORMALIZED_TEXT_CACHE_MAX_SIZE;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.NORMALIZED_TEXT_CACHE_TTL_SECONDS;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.mosip.authentication.common.service.util.CacheMetricsUtil;
+import io.mosip.authentication.core.constant.IdAuthCommonConstants;
+import io.mosip.authentication.core.exception.IdAuthenticationBusinessException;
+import io.mosip.authentication.core.logger.IdaLogger;
+import io.mosip.authentication.core.spi.indauth.match.NormalizationMemo;
+import io.mosip.authentication.core.util.BoundedTtlCache;
+import io.mosip.kernel.core.logger.spi.Logger;
+
+/**
+ * The Class NormalizedTextCache holds the normalized stored demographic texts
+ * of recently authenticated individuals, keyed by the identity token and by
+ * the normalizer, language and stored text, so that repeated demo
+ * authentications of the same individual skip normalizing the stored values.
+ * Each demo authentication also gets a {@link NormalizationMemo} which
+ * remembers every text it normalized, so the same request or stored text is
+ * normalized only once per request. As the name normalization removes the
+ * master data titles, the texts of an individual normalized before the titles
+ * were cleared are not reused. The cache is disabled by default and bounded
+ * both by size and time-to-live.
+ */
+@Component
+public class NormalizedTextCache implements MeterBinder {
+
+	private static final String CACHE_NAME = "normalized-text";
+
+	/** The logger. */
+	private static Logger logger = IdaLogger.getLogger(NormalizedTextCache.class);
+
+	@Value("${" + NORMALIZED_TEXT_CACHE_ENABLED + ":false}")
+	private boolean enabled;
+
+	@Value("${" + NORMALIZED_TEXT_CACHE_MAX_SIZE + ":10000}")
+	private int maxSize;
+
+	@Value("${" + NORMALIZED_TEXT_CACHE_TTL_SECONDS + ":300}")
+	private long ttlSeconds;
+
+	@Autowired
+	private MasterDataCache masterDataCache;
+
+	private BoundedTtlCache<String, CachedTexts> cache;
+
+	/** The number of texts found already normalized in the same request. */
+	private final LongAdder memoHitCount = new LongAdder();
+
+	/** The normalization time saved by the memo and the cache hits. */
+	private final LongAdder normalizeNanosSaved = new LongAdder();
+
+	private volatile Timer savedPerAuthTimer;
+
+	/**
+	 * Initializes the cache.
+	 */
+	@PostConstruct
+	public void init() {
+		if (enabled) {
+			cache = new BoundedTtlCache<>(maxSize, ttlSeconds);
+			logger.info(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "init",
+					"normalized text cache enabled with max-size: " + maxSize + ", ttl-seconds: " + ttlSeconds);
+		}
+	}
+
+	/**
+	 * Checks if the cache is enabled.
+	 *
+	 * @return true, if is enabled
+	 */
+	public boolean isEnabled() {
+		return cache != null;
+	}
+
+	/**
+	 * Creates the memo of one demo authentication.
+	 *
+	 * @param token the identity token
+	 * @return the memo, or null if the cache is disabled
+	 */
+	public RequestMemo createMemo(String token) {
+		return isEnabled() ? new RequestMemo(token, masterDataCache.getTitlesVersion()) : null;
+	}
+
+	/**
+	 * Records the normalization time saved by the memo in its demo
+	 * authentication.
+	 *
+	 * @param memo the memo
+	 */
+	public void recordSaved(RequestMemo memo) {
+		if (memo != null && savedPerAuthTimer != null) {
+			savedPerAuthTimer.record(memo.getNanosSaved(), TimeUnit.NANOSECONDS);
+		}
+	}
+
+	/**
+	 * Removes the cached texts of the identity token.
+	 *
+	 * @param token the identity token
+	 */
+	public void invalidate(String token) {
+		if (isEnabled() && token != null) {
+			cache.invalidate(token);
+		}
+	}
+
+	/**
+	 * Removes the cached texts of the identity tokens.
+	 *
+	 * @param tokens the identity tokens
+	 */
+	public void invalidate(Collection<String> tokens) {
+		tokens.forEach(this::invalidate);
+	}
+
+	public long getMemoHitCount() {
+		return memoHitCount.sum();
+	}
+
+	public long getNormalizeNanosSaved() {
+		return normalizeNanosSaved.sum();
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		if (isEnabled()) {
+			CacheMetricsUtil.bindCacheMetrics(registry, CACHE_NAME, cache);
+			FunctionCounter.builder("ida.normalized-text-cache.memo.hits", this, NormalizedTextCache::getMemoHitCount)
+					.description("The number of texts found already normalized in the same request.")
+					.register(registry);
+			FunctionCounter.builder("ida.normalized-text-cache.normalize-time-saved", this,
+					textCache -> (double) textCache.getNormalizeNanosSaved() / TimeUnit.SECONDS.toNanos(1))
+					.baseUnit("seconds")
+					.description("The text normalization time saved by the memo and the cache hits.")
+					.register(registry);
+			savedPerAuthTimer = Timer.builder("ida.normalized-text-cache.demo-auth.time-saved")
+					.description("The text normalization time saved per demo authentication.")
+					.register(registry);
+		}
+	}
+
+	/**
+	 * The memo of one demo authentication. The stored texts not found in the memo
+	 * are looked up in the cache of the individual.
+	 */
+	public class RequestMemo implements NormalizationMemo {
+
+		private final String token;
+
+		private final long titlesVersion;
+
+		private final Map<List<String>, NormalizedText> texts = new ConcurrentHashMap<>();
+
+		private final LongAdder nanosSaved = new LongAdder();
+
+		private RequestMemo(String token, long titlesVersion) {
+			this.token = token;
+			this.titlesVersion = titlesVersion;
+		}
+
+		@Override
+		public String normalizeRequestText(String normalizer, String langCode, String text,
+				Normalization normalization) throws IdAuthenticationBusinessException {
+			List<String> key = List.of(normalizer, langCode, text);
+			NormalizedText normalizedText = texts.get(key);
+			if (normalizedText != null) {
+				memoHitCount.increment();
+				saved(normalizedText);
+				return normalizedText.text;
+			}
+			normalizedText = NormalizedText.normalize(normalization);
+			texts.put(key, normalizedText);
+			return normalizedText.text;
+		}
+
+		@Override
+		public String normalizeEntityText(String normalizer, String langCode, String text,
+				Normalization normalization) throws IdAuthenticationBusinessException {
+			if (token == null) {
+				return normalizeRequestText(normalizer, langCode, text, normalization);
+			}
+			List<String> key = List.of(normalizer, langCode, text);
+			NormalizedText normalizedText = texts.get(key);
+			if (normalizedText != null) {
+				memoHitCount.increment();
+				saved(normalizedText);
+				return normalizedText.text;
+			}
+			CachedTexts cachedTexts = cache.get(token);
+			if (cachedTexts == null || cachedTexts.titlesVersion != titlesVersion) {
+				cachedTexts = new CachedTexts(titlesVersion);
+				cache.put(token, cachedTexts);
+			}
+			normalizedText = cachedTexts.texts.get(key);
+			if (normalizedText != null) {
+				saved(normalizedText);
+			} else {
+				normalizedText = NormalizedText.normalize(normalization);
+				cachedTexts.texts.put(key, normalizedText);
+			}
+			texts.put(key, normalizedText);
+			return normalizedText.text;
+		}
+
+		private void saved(NormalizedText normalizedText) {
+			nanosSaved.add(normalizedText.normalizeNanos);
+			normalizeNanosSaved.add(normalizedText.normalizeNanos);
+		}
+
+		public long getNanosSaved() {
+			return nanosSaved.sum();
+		}
+	}
+
+	/**
+	 * The cached texts of one identity, normalized with the given titles version.
+	 */
+	private static class CachedTexts {
+
+		private final long titlesVersion;
+
+		private final Map<List<String>, NormalizedText> texts = new ConcurrentHashMap<>();
+
+		private CachedTexts(long titlesVersion) {
+			this.titlesVersion = titlesVersion;
+		}
+	}
+
+	/**
+	 * The normalized text along with the time taken to normalize it.
+	 */
+	private static class NormalizedText {
+
+		private final String text;
+
+		private final long normalizeNanos;
+
+		private NormalizedText(String text, long normalizeNanos) {
+			this.text = text;
+			this.normalizeNanos = normalizeNanos;
+		}
+
+		private static NormalizedText normalize(NormalizationMemo.Normalization normalization)
+				throws IdAuthenticationBusinessException {
+			long startTime = System.nanoTime();
+			String text = normalization.normalize();
+			return new NormalizedText(text, System.nanoTime() - startTime);
+		}
+	}
+
+}
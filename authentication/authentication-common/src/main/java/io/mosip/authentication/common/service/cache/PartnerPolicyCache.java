@@ -0,0 +1,201 @@
+package io.mosip.authentication.common.service.cache;
+
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.PARTNER_POLICY_CACHE_ENABLED;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.PARTNER_POLICY_CACHE_MAX_SIZE;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.PARTNER_POLICY_CACHE_TTL_SECONDS;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.mosip.authentication.common.service.entity.MispLicenseData;
+import io.mosip.authentication.common.service.entity.OIDCClientData;
+import io.mosip.authentication.common.service.entity.PartnerMapping;
+import io.mosip.authentication.common.service.util.CacheMetricsUtil;
+import io.mosip.authentication.core.constant.IdAuthCommonConstants;
+import io.mosip.authentication.core.logger.IdaLogger;
+import io.mosip.authentication.core.partner.dto.MispPolicyDTO;
+import io.mosip.authentication.core.partner.dto.PolicyDTO;
+import io.mosip.authentication.core.util.BoundedTtlCache;
+import io.mosip.kernel.core.logger.spi.Logger;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * The Class PartnerPolicyCache holds the validated partner, API key, MISP
+ * license and policy data of a (partner ID, API key, MISP license key)
+ * combination, along with the policies already converted to DTOs. Entries are
+ * removed when the partner data change events are handled, and are bounded by
+ * a time-to-live for the instances which do not handle those events. The
+ * cache is disabled by default.
+ */
+@Component
+public class PartnerPolicyCache implements MeterBinder {
+
+	private static final String CACHE_NAME = "partner-policy";
+
+	/** The logger. */
+	private static Logger logger = IdaLogger.getLogger(PartnerPolicyCache.class);
+
+	@Value("${" + PARTNER_POLICY_CACHE_ENABLED + ":false}")
+	private boolean enabled;
+
+	@Value("${" + PARTNER_POLICY_CACHE_MAX_SIZE + ":1000}")
+	private int maxSize;
+
+	@Value("${" + PARTNER_POLICY_CACHE_TTL_SECONDS + ":60}")
+	private long ttlSeconds;
+
+	private BoundedTtlCache<List<String>, PartnerPolicySnapshot> cache;
+
+	/**
+	 * Initializes the cache.
+	 */
+	@PostConstruct
+	public void init() {
+		if (enabled) {
+			cache = new BoundedTtlCache<>(maxSize, ttlSeconds);
+			logger.info(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "init",
+					"partner policy cache enabled with max-size: " + maxSize + ", ttl-seconds: " + ttlSeconds);
+		}
+	}
+
+	/**
+	 * Checks if the cache is enabled.
+	 *
+	 * @return true, if is enabled
+	 */
+	public boolean isEnabled() {
+		return cache != null;
+	}
+
+	/**
+	 * Gets the cached snapshot.
+	 *
+	 * @param partnerId       the partner id
+	 * @param partnerApiKey   the partner api key
+	 * @param mispLicenseKey  the misp license key
+	 * @return the snapshot, or null if not cached or the cache is disabled
+	 */
+	public PartnerPolicySnapshot get(String partnerId, String partnerApiKey, String mispLicenseKey) {
+		return isEnabled() ? cache.get(getKey(partnerId, partnerApiKey, mispLicenseKey)) : null;
+	}
+
+	/**
+	 * Caches the snapshot.
+	 *
+	 * @param partnerId      the partner id
+	 * @param partnerApiKey  the partner api key
+	 * @param mispLicenseKey the misp license key
+	 * @param snapshot       the snapshot
+	 */
+	public void put(String partnerId, String partnerApiKey, String mispLicenseKey, PartnerPolicySnapshot snapshot) {
+		if (isEnabled()) {
+			cache.put(getKey(partnerId, partnerApiKey, mispLicenseKey), snapshot);
+		}
+	}
+
+	/**
+	 * Removes the snapshots of the partner.
+	 *
+	 * @param partnerId the partner id
+	 */
+	public void invalidatePartner(String partnerId) {
+		invalidateIf(snapshot -> Objects.equals(snapshot.getPartnerMapping().getPartnerId(), partnerId));
+	}
+
+	/**
+	 * Removes the snapshots of the API key or OIDC client.
+	 *
+	 * @param apiKeyId the api key id
+	 */
+	public void invalidateApiKey(String apiKeyId) {
+		invalidateIf(snapshot -> Objects.equals(snapshot.getPartnerMapping().getApiKeyId(), apiKeyId));
+	}
+
+	/**
+	 * Removes the snapshots using the policy, either as the partner policy or as
+	 * the MISP policy.
+	 *
+	 * @param policyId the policy id
+	 */
+	public void invalidatePolicy(String policyId) {
+		invalidateIf(snapshot -> Objects.equals(snapshot.getPartnerMapping().getPolicyId(), policyId)
+				|| Objects.equals(snapshot.getMispLicenseData().getPolicyId(), policyId));
+	}
+
+	/**
+	 * Removes the snapshots of the MISP.
+	 *
+	 * @param mispId the misp id
+	 */
+	public void invalidateMisp(String mispId) {
+		invalidateIf(snapshot -> Objects.equals(snapshot.getMispLicenseData().getMispId(), mispId));
+	}
+
+	/**
+	 * Removes the snapshots matching the predicate. Within a transaction, they
+	 * are only removed once it commits, so that a concurrent auth reading the
+	 * partner data before the commit does not cache the old rows again.
+	 *
+	 * @param snapshotPredicate the snapshot predicate
+	 */
+	private void invalidateIf(Predicate<PartnerPolicySnapshot> snapshotPredicate) {
+		if (!isEnabled()) {
+			return;
+		}
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+				@Override
+				public void afterCommit() {
+					cache.invalidateEntriesIf((key, snapshot) -> snapshotPredicate.test(snapshot));
+				}
+			});
+		} else {
+			cache.invalidateEntriesIf((key, snapshot) -> snapshotPredicate.test(snapshot));
+		}
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		if (isEnabled()) {
+			CacheMetricsUtil.bindCacheMetrics(registry, CACHE_NAME, cache);
+		}
+	}
+
+	private static List<String> getKey(String partnerId, String partnerApiKey, String mispLicenseKey) {
+		return Arrays.asList(partnerId, partnerApiKey, mispLicenseKey);
+	}
+
+	/**
+	 * The validated partner and policy data. The entities are detached and are
+	 * only read, the commence and expiry times are validated again on every use.
+	 */
+	@Getter
+	@AllArgsConstructor
+	public static class PartnerPolicySnapshot {
+
+		private final PartnerMapping partnerMapping;
+
+		private final MispLicenseData mispLicenseData;
+
+		/** The OIDC client data, null if the API key is not an OIDC client. */
+		private final OIDCClientData oidcClientData;
+
+		private final PolicyDTO policy;
+
+		/** The MISP policy, null if the MISP has no policy. */
+		private final MispPolicyDTO mispPolicy;
+	}
+
+}
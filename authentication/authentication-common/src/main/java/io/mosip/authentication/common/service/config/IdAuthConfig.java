@@ -3,6 +3,9 @@ package io.mosip.authentication.common.service.config;
 import java.util.Arrays;
 import java.util.Locale;
 import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.stream.Collectors;
 
 import javax.annotation.PostConstruct;
@@ -16,6 +19,7 @@ import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.context.support.ResourceBundleMessageSource;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.web.servlet.LocaleResolver;
 import org.springframework.web.servlet.i18n.SessionLocaleResolver;
@@ -92,6 +96,30 @@ public abstract class IdAuthConfig extends HibernateDaoConfig {
 		return threadPoolTaskScheduler;
 	}
 
+	/**
+	 * Single thread executor flushing the audit request queue, so that slow audit
+	 * calls do not hold the threads of the shared task scheduler.
+	 *
+	 * @return the executor
+	 */
+	@Bean
+	@Qualifier("auditQueueExecutor")
+	public ScheduledExecutorService auditQueueExecutor() {
+		return Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("idauth-audit-queue-"));
+	}
+
+	/**
+	 * Single thread executor flushing the auth transaction sink, so that slow
+	 * inserts do not hold the threads of the shared task scheduler.
+	 *
+	 * @return the executor
+	 */
+	@Bean
+	@Qualifier("autnTxnSinkExecutor")
+	public ScheduledExecutorService autnTxnSinkExecutor() {
+		return Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("idauth-autn-txn-sink-"));
+	}
+
 	/**
 	 * Checks if is finger auth enabled.
 	 *
@@ -160,6 +188,66 @@ public abstract class IdAuthConfig extends HibernateDaoConfig {
 	    return executor;
 	}
 	
+	/**
+	 * Executor for deciphering the biometric segments of a request in parallel.
+	 * Bounded by the thread count and queue capacity; when both are exhausted the
+	 * segment is deciphered on the request thread.
+	 *
+	 * @return the executor
+	 */
+	@Bean
+	@Qualifier("bioDecipherExecutor")
+	public Executor bioDecipherExecutor() {
+	    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+	    executor.setCorePoolSize(EnvUtil.getBioDecipherThreadCount());
+	    executor.setMaxPoolSize(EnvUtil.getBioDecipherThreadCount());
+	    executor.setQueueCapacity(EnvUtil.getBioDecipherQueueCapacity());
+	    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+	    executor.setThreadNamePrefix("idauth-bio-decipher-");
+	    executor.initialize();
+	    return executor;
+	}
+
+	/**
+	 * Executor for matching the biometric modalities of a request concurrently.
+	 * Bounded by the thread count and queue capacity; when both are exhausted the
+	 * modality is matched on the request thread.
+	 *
+	 * @return the executor
+	 */
+	@Bean
+	@Qualifier("bioMatchExecutor")
+	public Executor bioMatchExecutor() {
+	    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+	    executor.setCorePoolSize(EnvUtil.getBioMatchThreadCount());
+	    executor.setMaxPoolSize(EnvUtil.getBioMatchThreadCount());
+	    executor.setQueueCapacity(EnvUtil.getBioMatchQueueCapacity());
+	    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+	    executor.setThreadNamePrefix("idauth-bio-match-");
+	    executor.initialize();
+	    return executor;
+	}
+
+	/**
+	 * Executor for evaluating the match inputs of a request in parallel. Bounded
+	 * by the thread count and queue capacity; when both are exhausted the match
+	 * input is evaluated on the request thread.
+	 *
+	 * @return the executor
+	 */
+	@Bean
+	@Qualifier("matchInputExecutor")
+	public Executor matchInputExecutor() {
+	    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+	    executor.setCorePoolSize(EnvUtil.getMatchInputThreadCount());
+	    executor.setMaxPoolSize(EnvUtil.getMatchInputThreadCount());
+	    executor.setQueueCapacity(EnvUtil.getMatchInputQueueCapacity());
+	    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+	    executor.setThreadNamePrefix("idauth-match-input-");
+	    executor.initialize();
+	    return executor;
+	}
+	
 	@Scheduled(fixedRateString = "${" + "mosip.ida.monitor-thread-queue-in-ms" + ":10000}")
 	public void monitorThreadQueueLimit() {
 		if (StringUtils.isNotBlank(EnvUtil.getMonitorAsyncThreadQueue())) {
@@ -74,6 +74,65 @@ public class IdentityEntity {
 	@Column(name = "del_dtimes")
 	private LocalDateTime delDTimes;
 
+	/**
+	 * The constructor used in retrieval of the metadata of the identity, without
+	 * its data.
+	 *
+	 * @param id the id
+	 * @param token the token
+	 * @param expiryTimestamp the expiry timestamp
+	 * @param transactionLimit the transaction limit
+	 * @param crDTimes the created time
+	 * @param updDTimes the updated time
+	 */
+	public IdentityEntity(String id, String token, LocalDateTime expiryTimestamp, Integer transactionLimit,
+			LocalDateTime crDTimes, LocalDateTime updDTimes) {
+		this.id = id;
+		this.token = token;
+		this.expiryTimestamp = expiryTimestamp;
+		this.transactionLimit = transactionLimit;
+		this.crDTimes = crDTimes;
+		this.updDTimes = updDTimes;
+	}
+
+	/**
+	 * The constructor used in retrieval of the fields needed to read the
+	 * demographic data of the identity.
+	 *
+	 * @param id the id
+	 * @param token the token
+	 * @param demographicData the demographic data
+	 * @param expiryTimestamp the expiry timestamp
+	 * @param transactionLimit the transaction limit
+	 * @param crDTimes the created time
+	 * @param updDTimes the updated time
+	 */
+	public IdentityEntity(String id, String token, byte[] demographicData, LocalDateTime expiryTimestamp,
+			Integer transactionLimit, LocalDateTime crDTimes, LocalDateTime updDTimes) {
+		this(id, token, expiryTimestamp, transactionLimit, crDTimes, updDTimes);
+		this.demographicData = demographicData;
+	}
+
+	/**
+	 * The constructor used in retrieval of the fields needed to read the
+	 * demographic and biometric data of the identity.
+	 *
+	 * @param id the id
+	 * @param token the token
+	 * @param demographicData the demographic data
+	 * @param biometricData the biometric data
+	 * @param expiryTimestamp the expiry timestamp
+	 * @param transactionLimit the transaction limit
+	 * @param crDTimes the created time
+	 * @param updDTimes the updated time
+	 */
+	public IdentityEntity(String id, String token, byte[] demographicData, byte[] biometricData,
+			LocalDateTime expiryTimestamp, Integer transactionLimit, LocalDateTime crDTimes,
+			LocalDateTime updDTimes) {
+		this(id, token, demographicData, expiryTimestamp, transactionLimit, crDTimes, updDTimes);
+		this.biometricData = biometricData;
+	}
+
 	/* (non-Javadoc)
 	 * @see java.lang.Object#hashCode()
 	 */
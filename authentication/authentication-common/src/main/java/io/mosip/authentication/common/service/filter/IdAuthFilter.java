@@ -45,6 +45,9 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.OptionalInt;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -130,6 +133,9 @@ public abstract class IdAuthFilter extends BaseAuthFilter {
 	private AuthContextClazzRefProvider authContextClazzRefProvider; 
 
 	private AuthMethodsRefValues authMethodsRefValues;
+
+	/** The executor for deciphering the biometric segments in parallel. */
+	private Executor bioDecipherExecutor;
 	
 	/**
 	 * Initialize the filter.
@@ -152,6 +158,11 @@ public abstract class IdAuthFilter extends BaseAuthFilter {
 		}
 		authContextClazzRefProvider = context.getBean(AuthContextClazzRefProvider.class);
 		authMethodsRefValues = authContextClazzRefProvider.getAuthMethodsRefValues();
+		try {
+			bioDecipherExecutor = context.getBean("bioDecipherExecutor", Executor.class);
+		} catch (NoSuchBeanDefinitionException ex) {
+			// Segments are deciphered sequentially
+		}
 	}
 
 	/**
@@ -261,17 +272,76 @@ public abstract class IdAuthFilter extends BaseAuthFilter {
 		Object biometrics = request.get(BIOMETRICS);
 		if (Objects.nonNull(biometrics) && biometrics instanceof List) {
 			List<Object> bioIdentity = (List<Object>) biometrics;
-			List<Object> bioIdentityInfo = new ArrayList<>();
-			for (int i = 0; i < bioIdentity.size(); i++) {
-				Object obj = bioIdentity.get(i);
-				if (obj instanceof Map) {
-					bioIdentityInfo.add(decipherBioData(obj, i));
+			List<Object> bioIdentityInfo;
+			if (isParallelBioDecipherRequired(bioIdentity.size())) {
+				bioIdentityInfo = decipherBioDataInParallel(bioIdentity);
+			} else {
+				bioIdentityInfo = new ArrayList<>();
+				for (int i = 0; i < bioIdentity.size(); i++) {
+					Object obj = bioIdentity.get(i);
+					if (obj instanceof Map) {
+						bioIdentityInfo.add(decipherBioData(obj, i));
+					}
 				}
 			}
 			request.replace(BIOMETRICS, bioIdentityInfo);
 		}
 	}
 
+	/**
+	 * Checks if the biometric segments are to be deciphered in parallel, which is
+	 * when the segment count reaches the configured threshold.
+	 *
+	 * @param segmentCount the segment count
+	 * @return true, if parallel decipher is required
+	 */
+	private boolean isParallelBioDecipherRequired(int segmentCount) {
+		Integer threshold = EnvUtil.getBioDecipherParallelThreshold();
+		return bioDecipherExecutor != null && threshold != null && threshold > 0 && segmentCount >= threshold;
+	}
+
+	/**
+	 * Deciphers the biometric segments in parallel on the bio decipher executor.
+	 * The segment order is kept, and when more than one segment fails the error
+	 * of the first failed segment is thrown, as in the sequential decipher.
+	 *
+	 * @param bioIdentity the biometric segments
+	 * @return the deciphered segments
+	 * @throws IdAuthenticationAppException the id authentication app exception
+	 */
+	private List<Object> decipherBioDataInParallel(List<Object> bioIdentity) throws IdAuthenticationAppException {
+		List<CompletableFuture<Map<String, Object>>> futures = new ArrayList<>(bioIdentity.size());
+		for (int i = 0; i < bioIdentity.size(); i++) {
+			Object obj = bioIdentity.get(i);
+			if (obj instanceof Map) {
+				int index = i;
+				futures.add(CompletableFuture.supplyAsync(() -> {
+					try {
+						return decipherBioData(obj, index);
+					} catch (IdAuthenticationAppException e) {
+						throw new CompletionException(e);
+					}
+				}, bioDecipherExecutor));
+			}
+		}
+
+		List<Object> bioIdentityInfo = new ArrayList<>(futures.size());
+		for (CompletableFuture<Map<String, Object>> future : futures) {
+			try {
+				bioIdentityInfo.add(future.join());
+			} catch (CompletionException e) {
+				Throwable cause = e.getCause();
+				if (cause instanceof IdAuthenticationAppException) {
+					throw (IdAuthenticationAppException) cause;
+				} else if (cause instanceof RuntimeException) {
+					throw (RuntimeException) cause;
+				}
+				throw new IdAuthenticationAppException(IdAuthenticationErrorConstants.UNABLE_TO_PROCESS, cause);
+			}
+		}
+		return bioIdentityInfo;
+	}
+
 	/**
 	 * Decipher bio data.
 	 *
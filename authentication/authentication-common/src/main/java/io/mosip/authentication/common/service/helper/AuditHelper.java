@@ -59,6 +59,10 @@ public class AuditHelper {
 	@Autowired
 	private EnvUtil env;
 
+	/** The audit request queue. */
+	@Autowired
+	private AuditRequestQueue auditRequestQueue;
+
 	
 	/**
 	 * Method to build audit requests and send it to audit service.
@@ -90,7 +94,11 @@ public class AuditHelper {
 		RequestWrapper<AuditRequestDto> auditRequest = auditFactory.buildRequest(module, event, id, idType, desc);
 		RestRequestDTO restRequest = restFactory.buildRequest(RestServicesConstants.AUDIT_MANAGER_SERVICE, auditRequest,
 				Map.class);
-		restHelper.requestAsync(restRequest);
+		if (auditRequestQueue.isEnabled()) {
+			auditRequestQueue.submit(restRequest);
+		} else {
+			restHelper.requestAsync(restRequest);
+		}
 	}
 	
 	/**
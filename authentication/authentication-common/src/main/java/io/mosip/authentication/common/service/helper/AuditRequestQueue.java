@@ -0,0 +1,238 @@
+package io.mosip.authentication.common.service.helper;
+
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.AUDIT_QUEUE_BATCH_SIZE;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.AUDIT_QUEUE_CAPACITY;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.AUDIT_QUEUE_ENABLED;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.AUDIT_QUEUE_FLUSH_INTERVAL_MILLIS;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.AUDIT_QUEUE_FULL_POLICY;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.mosip.authentication.core.constant.IdAuthCommonConstants;
+import io.mosip.authentication.core.logger.IdaLogger;
+import io.mosip.idrepository.core.dto.RestRequestDTO;
+import io.mosip.idrepository.core.helper.RestHelper;
+import io.mosip.kernel.core.exception.ExceptionUtils;
+import io.mosip.kernel.core.logger.spi.Logger;
+
+/**
+ * The Class AuditRequestQueue takes the audit requests off the request
+ * threads. Requests are held in a bounded in-memory queue which is drained in
+ * batches by a dedicated flusher thread, either when a batch worth of requests
+ * is queued or when the flush interval elapses. The audit manager takes one
+ * audit per call, so a batch is still one call per request: the calls of a
+ * batch are sent concurrently and the flusher waits for them to complete
+ * before sending the next batch, which bounds the number of audit calls in
+ * flight. The queue only relieves the request threads of the call; it does not
+ * reduce the number of calls. The queue is disabled by default.
+ */
+@Component
+public class AuditRequestQueue implements MeterBinder {
+
+	/**
+	 * The policy applied to an audit request when the queue is full.
+	 */
+	public enum FullQueuePolicy {
+		/** Discard the request. */
+		DROP,
+		/** Send the request right away from the calling thread. */
+		DIRECT
+	}
+
+	/** The logger. */
+	private static Logger logger = IdaLogger.getLogger(AuditRequestQueue.class);
+
+	@Value("${" + AUDIT_QUEUE_ENABLED + ":false}")
+	private boolean enabled;
+
+	@Value("${" + AUDIT_QUEUE_CAPACITY + ":10000}")
+	private int capacity;
+
+	@Value("${" + AUDIT_QUEUE_BATCH_SIZE + ":50}")
+	private int batchSize;
+
+	@Value("${" + AUDIT_QUEUE_FLUSH_INTERVAL_MILLIS + ":1000}")
+	private long flushIntervalMillis;
+
+	@Value("${" + AUDIT_QUEUE_FULL_POLICY + ":DROP}")
+	private FullQueuePolicy fullQueuePolicy;
+
+	/** The rest helper. */
+	@Autowired
+	@Qualifier("withSelfTokenWebclient")
+	private RestHelper restHelper;
+
+	/** The flush executor. */
+	@Autowired
+	@Qualifier("auditQueueExecutor")
+	private ScheduledExecutorService flushExecutor;
+
+	private BlockingQueue<RestRequestDTO> queue;
+
+	private ScheduledFuture<?> scheduledFlush;
+
+	/** Set while a size triggered flush is pending, to avoid submitting one per request. */
+	private final AtomicBoolean flushTriggered = new AtomicBoolean();
+
+	private final ReentrantLock flushLock = new ReentrantLock();
+
+	private final LongAdder droppedCount = new LongAdder();
+
+	private volatile Timer flushTimer;
+
+	/**
+	 * Initializes the queue and schedules the periodic flush.
+	 */
+	@PostConstruct
+	public void init() {
+		if (enabled) {
+			queue = new ArrayBlockingQueue<>(capacity);
+			scheduledFlush = flushExecutor.scheduleWithFixedDelay(this::flush, flushIntervalMillis,
+					flushIntervalMillis, TimeUnit.MILLISECONDS);
+			logger.info(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "init",
+					"audit request queue enabled with capacity: " + capacity + ", batch-size: " + batchSize
+							+ ", flush-interval-millis: " + flushIntervalMillis + ", full-queue-policy: "
+							+ fullQueuePolicy);
+		}
+	}
+
+	/**
+	 * Checks if the queue is enabled.
+	 *
+	 * @return true, if is enabled
+	 */
+	public boolean isEnabled() {
+		return queue != null;
+	}
+
+	/**
+	 * Queues the audit request. When the queue is full the request is dropped or
+	 * sent right away as per the full queue policy.
+	 *
+	 * @param restRequest the rest request
+	 */
+	public void submit(RestRequestDTO restRequest) {
+		if (queue.offer(restRequest)) {
+			if (queue.size() >= batchSize && flushTriggered.compareAndSet(false, true)) {
+				flushExecutor.execute(this::flush);
+			}
+		} else if (fullQueuePolicy == FullQueuePolicy.DIRECT) {
+			restHelper.requestAsync(restRequest);
+		} else {
+			droppedCount.increment();
+			logger.warn(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "submit",
+					"audit request queue is full, dropping audit request");
+		}
+	}
+
+	/**
+	 * Sends in batches the audit requests queued when the flush starts. The
+	 * requests queued meanwhile are left to the next flush, so that a flush ends
+	 * even when the requests come in faster than they are sent. Only one flush
+	 * runs at a time.
+	 */
+	public void flush() {
+		if (!flushLock.tryLock()) {
+			return;
+		}
+		try {
+			flushTriggered.set(false);
+			List<RestRequestDTO> batch = new ArrayList<>(batchSize);
+			int remaining = queue.size();
+			while (remaining > 0 && queue.drainTo(batch, Math.min(batchSize, remaining)) > 0) {
+				remaining -= batch.size();
+				long startTime = System.nanoTime();
+				sendBatch(batch);
+				if (flushTimer != null) {
+					flushTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+				}
+				batch.clear();
+			}
+		} finally {
+			flushLock.unlock();
+		}
+	}
+
+	private void sendBatch(List<RestRequestDTO> batch) {
+		CompletableFuture<?>[] futures = new CompletableFuture<?>[batch.size()];
+		for (int i = 0; i < batch.size(); i++) {
+			try {
+				futures[i] = restHelper.requestAsync(batch.get(i));
+			} catch (RuntimeException e) {
+				futures[i] = CompletableFuture.completedFuture(null);
+				logger.error(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "sendBatch",
+						ExceptionUtils.getStackTrace(e));
+			}
+		}
+		try {
+			CompletableFuture.allOf(futures).join();
+		} catch (CompletionException e) {
+			logger.error(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "sendBatch",
+					"audit request failed: " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Stops the periodic flush and sends the audit requests still queued.
+	 */
+	@PreDestroy
+	public void destroy() {
+		if (isEnabled()) {
+			scheduledFlush.cancel(false);
+			flush();
+		}
+	}
+
+	/**
+	 * Gets the number of queued audit requests.
+	 *
+	 * @return the size
+	 */
+	public int size() {
+		return isEnabled() ? queue.size() : 0;
+	}
+
+	public long getDroppedCount() {
+		return droppedCount.sum();
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		if (isEnabled()) {
+			Gauge.builder("ida.audit.queue.size", this, AuditRequestQueue::size)
+					.description("The number of audit requests waiting to be sent.")
+					.register(registry);
+			FunctionCounter.builder("ida.audit.queue.dropped", this, AuditRequestQueue::getDroppedCount)
+					.description("The number of audit requests dropped as the queue was full.")
+					.register(registry);
+			flushTimer = Timer.builder("ida.audit.queue.flush")
+					.description("The time taken to send a batch of audit requests.")
+					.register(registry);
+		}
+	}
+
+}
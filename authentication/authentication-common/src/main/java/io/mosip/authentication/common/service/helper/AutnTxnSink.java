@@ -0,0 +1,742 @@
+package io.mosip.authentication.common.service.helper;
+
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.AUTN_TXN_SINK_BATCH_SIZE;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.AUTN_TXN_SINK_CAPACITY;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.AUTN_TXN_SINK_FLUSH_INTERVAL_MILLIS;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.AUTN_TXN_SINK_MAX_ATTEMPTS;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.AUTN_TXN_SINK_MODE;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.AUTN_TXN_SINK_WAL_DIR;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.mosip.authentication.common.service.entity.AutnTxn;
+import io.mosip.authentication.common.service.repository.AutnTxnRepository;
+import io.mosip.authentication.core.constant.IdAuthCommonConstants;
+import io.mosip.authentication.core.logger.IdaLogger;
+import io.mosip.kernel.core.exception.ExceptionUtils;
+import io.mosip.kernel.core.logger.spi.Logger;
+
+/**
+ * The Class AutnTxnSink stores the authentication transactions. In the
+ * default {@link DurabilityMode#SYNC} mode a transaction is inserted on the
+ * calling thread. In the write-behind modes the transactions are held in a
+ * bounded in-memory queue and inserted in batches by a dedicated flusher
+ * thread, either when a batch worth of transactions is queued or when the
+ * flush interval elapses. A transaction is inserted on the calling thread when
+ * the queue is full.
+ * <p>
+ * A flush inserts the transactions queued when it starts. The transactions
+ * which could not be inserted are retried by the next flushes; a transaction
+ * rejected by the database, or failing {@code max-attempts} flushes in which
+ * other transactions were inserted, is appended to a dead-letter file in the
+ * write-ahead log directory instead of being retried forever.
+ * <p>
+ * In the {@link DurabilityMode#ASYNC_WAL} mode the transactions are appended to
+ * a write-ahead log segment before being queued, and the calling threads wait
+ * for a shared force of the segment to disk, so that concurrent transactions
+ * are forced together. The segment is switched on every flush and deleted once
+ * all of its transactions are inserted or dead-lettered. The segments left by
+ * a killed instance are queued again on the next start.
+ * <p>
+ * The transactions not yet inserted are kept in memory and can be looked up
+ * with {@link #countPending(Predicate)} and {@link #findLatestPending(Predicate)},
+ * so that the checks done on the recent transactions see them.
+ */
+@Component
+public class AutnTxnSink implements MeterBinder {
+
+	/**
+	 * The durability of the queued transactions.
+	 */
+	public enum DurabilityMode {
+		/** Insert on the calling thread. */
+		SYNC,
+		/** Insert in the background, the queued transactions are lost if the instance is killed. */
+		ASYNC,
+		/**
+		 * Insert in the background, the queued transactions are written to a local
+		 * write-ahead log first and inserted from it on the next start if the
+		 * instance is killed.
+		 */
+		ASYNC_WAL
+	}
+
+	private static final String WAL_SEGMENT_PREFIX = "autn-txn-";
+
+	private static final String WAL_SEGMENT_SUFFIX = ".wal";
+
+	private static final String DEAD_LETTER_FILE = "autn-txn-dead-letter.jsonl";
+
+	private static final byte[] LINE_SEPARATOR = "\n".getBytes(StandardCharsets.UTF_8);
+
+	/** The logger. */
+	private static Logger logger = IdaLogger.getLogger(AutnTxnSink.class);
+
+	@Value("${" + AUTN_TXN_SINK_MODE + ":SYNC}")
+	private DurabilityMode mode;
+
+	@Value("${" + AUTN_TXN_SINK_CAPACITY + ":10000}")
+	private int capacity;
+
+	@Value("${" + AUTN_TXN_SINK_BATCH_SIZE + ":100}")
+	private int batchSize;
+
+	@Value("${" + AUTN_TXN_SINK_FLUSH_INTERVAL_MILLIS + ":200}")
+	private long flushIntervalMillis;
+
+	@Value("${" + AUTN_TXN_SINK_MAX_ATTEMPTS + ":5}")
+	private int maxAttempts;
+
+	@Value("${" + AUTN_TXN_SINK_WAL_DIR + ":${user.home}/autn-txn-wal}")
+	private String walDir;
+
+	/** The autntxnrepository. */
+	@Autowired
+	private AutnTxnRepository autntxnrepository;
+
+	/** The flush executor. */
+	@Autowired
+	@Qualifier("autnTxnSinkExecutor")
+	private ScheduledExecutorService flushExecutor;
+
+	@Autowired
+	private ObjectMapper mapper;
+
+	private Path walPath;
+
+	private BlockingQueue<QueuedAutnTxn> queue;
+
+	/** The transactions to insert again, only used by the flusher. */
+	private final Deque<QueuedAutnTxn> retries = new ArrayDeque<>();
+
+	/** The transactions accepted but not yet inserted, by id. */
+	private final Map<String, AutnTxn> pending = new ConcurrentHashMap<>();
+
+	private ScheduledFuture<?> scheduledFlush;
+
+	/** Set while a size triggered flush is pending, to avoid submitting one per transaction. */
+	private final AtomicBoolean flushTriggered = new AtomicBoolean();
+
+	private final ReentrantLock flushLock = new ReentrantLock();
+
+	/** Guards the current write-ahead log segment and the sealed segments. */
+	private final Object walLock = new Object();
+
+	/** Lets one thread at a time force the current segment for all the waiting threads. */
+	private final Object walForceLock = new Object();
+
+	private final AtomicLong walSequence = new AtomicLong(System.currentTimeMillis());
+
+	private WalSegment walSegment;
+
+	private FileChannel walChannel;
+
+	/** The number of records appended to the write-ahead log, across segments. */
+	private long walAppendedRecords;
+
+	/** The number of records appended and forced to disk. */
+	private final AtomicLong walForcedRecords = new AtomicLong();
+
+	/** The write-ahead log segments which are deleted once their transactions are inserted. */
+	private final List<WalSegment> sealedWalSegments = new ArrayList<>();
+
+	private final LongAdder syncFallbackCount = new LongAdder();
+
+	private final LongAdder deadLetterCount = new LongAdder();
+
+	private volatile Timer flushTimer;
+
+	/**
+	 * Initializes the queue, queues the transactions left in the write-ahead log
+	 * and schedules the periodic flush.
+	 *
+	 * @throws IOException Signals that the write-ahead log could not be opened.
+	 */
+	@PostConstruct
+	public void init() throws IOException {
+		if (mode != DurabilityMode.SYNC) {
+			walPath = Paths.get(walDir).toAbsolutePath();
+			queue = new ArrayBlockingQueue<>(capacity);
+			if (mode == DurabilityMode.ASYNC_WAL) {
+				Files.createDirectories(walPath);
+				replayWal();
+				openWalSegment();
+				if (!retries.isEmpty()) {
+					flush();
+				}
+			}
+			scheduledFlush = flushExecutor.scheduleWithFixedDelay(this::flush, flushIntervalMillis,
+					flushIntervalMillis, TimeUnit.MILLISECONDS);
+			logger.info(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "init",
+					"auth transaction sink mode: " + mode + ", capacity: " + capacity + ", batch-size: " + batchSize
+							+ ", flush-interval-millis: " + flushIntervalMillis + ", wal-dir: " + walPath);
+		}
+	}
+
+	/**
+	 * Checks if the transactions are written behind.
+	 *
+	 * @return true, if is enabled
+	 */
+	public boolean isEnabled() {
+		return queue != null;
+	}
+
+	/**
+	 * Stores the transaction, either right away or through the queue as per the
+	 * durability mode.
+	 *
+	 * @param autnTxn the autn txn
+	 */
+	public void save(AutnTxn autnTxn) {
+		if (!isEnabled()) {
+			autntxnrepository.saveAndFlush(autnTxn);
+			return;
+		}
+		pending.put(autnTxn.getId(), autnTxn);
+		boolean queued;
+		if (mode == DurabilityMode.ASYNC_WAL) {
+			long walPosition = 0;
+			synchronized (walLock) {
+				queued = queue.remainingCapacity() > 0 && appendToWal(autnTxn);
+				if (queued) {
+					walSegment.outstanding.incrementAndGet();
+					queue.offer(new QueuedAutnTxn(autnTxn, walSegment));
+					walPosition = walAppendedRecords;
+				}
+			}
+			if (queued) {
+				forceWal(walPosition);
+			}
+		} else {
+			queued = queue.offer(new QueuedAutnTxn(autnTxn, null));
+		}
+		if (!queued) {
+			syncFallbackCount.increment();
+			try {
+				autntxnrepository.saveAndFlush(autnTxn);
+			} finally {
+				pending.remove(autnTxn.getId());
+			}
+		} else if (queue.size() >= batchSize && flushTriggered.compareAndSet(false, true)) {
+			flushExecutor.execute(this::flush);
+		}
+	}
+
+	/**
+	 * Counts the transactions not yet inserted which match the predicate.
+	 *
+	 * @param predicate the predicate
+	 * @return the count
+	 */
+	public long countPending(Predicate<AutnTxn> predicate) {
+		return pending.isEmpty() ? 0 : pending.values().stream().filter(predicate).count();
+	}
+
+	/**
+	 * Finds the latest created transaction not yet inserted which matches the
+	 * predicate.
+	 *
+	 * @param predicate the predicate
+	 * @return the transaction
+	 */
+	public Optional<AutnTxn> findLatestPending(Predicate<AutnTxn> predicate) {
+		return pending.isEmpty() ? Optional.empty()
+				: pending.values().stream().filter(predicate).max(Comparator.comparing(AutnTxn::getCrDTimes,
+						Comparator.nullsFirst(Comparator.naturalOrder())));
+	}
+
+	/**
+	 * Inserts in batches the transactions to retry and the transactions queued
+	 * when the flush starts. The transactions queued meanwhile are left to the
+	 * next flush, so that a flush ends even when the transactions come in faster
+	 * than they are inserted. Only one flush runs at a time.
+	 */
+	public void flush() {
+		if (!flushLock.tryLock()) {
+			return;
+		}
+		try {
+			flushTriggered.set(false);
+			if (mode == DurabilityMode.ASYNC_WAL) {
+				sealWalSegment();
+			}
+			List<QueuedAutnTxn> failed = new ArrayList<>();
+			List<QueuedAutnTxn> batch = new ArrayList<>(batchSize);
+			boolean inserted = false;
+			int remaining = retries.size() + queue.size();
+			while (remaining > 0) {
+				while (batch.size() < batchSize && !retries.isEmpty()) {
+					batch.add(retries.poll());
+				}
+				if (batch.size() < batchSize) {
+					queue.drainTo(batch, Math.min(batchSize, remaining) - batch.size());
+				}
+				if (batch.isEmpty()) {
+					break;
+				}
+				remaining -= batch.size();
+				long startTime = System.nanoTime();
+				inserted |= saveBatch(batch, failed);
+				if (flushTimer != null) {
+					flushTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+				}
+				batch.clear();
+			}
+			if (!failed.isEmpty()) {
+				retryLater(failed, inserted);
+			}
+			if (mode == DurabilityMode.ASYNC_WAL) {
+				deleteCompletedWalSegments();
+			}
+		} finally {
+			flushLock.unlock();
+		}
+	}
+
+	/**
+	 * Inserts the batch, falling back to inserting the transactions one by one
+	 * when the batch insert fails.
+	 *
+	 * @param batch  the batch
+	 * @param failed collects the transactions to retry
+	 * @return true, if at least one transaction was inserted
+	 */
+	private boolean saveBatch(List<QueuedAutnTxn> batch, List<QueuedAutnTxn> failed) {
+		try {
+			autntxnrepository.saveAll(batch.stream().map(queued -> queued.autnTxn).collect(Collectors.toList()));
+			autntxnrepository.flush();
+			batch.forEach(this::complete);
+			return true;
+		} catch (RuntimeException e) {
+			logger.error(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "saveBatch",
+					"batch insert failed, inserting one by one: " + e.getMessage());
+			boolean inserted = false;
+			for (QueuedAutnTxn queued : batch) {
+				try {
+					autntxnrepository.saveAndFlush(queued.autnTxn);
+					complete(queued);
+					inserted = true;
+				} catch (DataIntegrityViolationException ex) {
+					if (!deadLetter(queued, ex)) {
+						failed.add(queued);
+					}
+				} catch (RuntimeException ex) {
+					failed.add(queued);
+				}
+			}
+			return inserted;
+		}
+	}
+
+	/**
+	 * Keeps the failed transactions for the next flush. A failure only counts as
+	 * an attempt when other transactions were inserted by the same flush, so that
+	 * the transactions are not dead-lettered while the database is unavailable.
+	 *
+	 * @param failed   the failed transactions
+	 * @param inserted whether the flush inserted other transactions
+	 */
+	private void retryLater(List<QueuedAutnTxn> failed, boolean inserted) {
+		logger.error(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "flush",
+				"auth transactions could not be inserted, retrying in next flush: " + failed.size());
+		for (QueuedAutnTxn queued : failed) {
+			if (inserted && ++queued.failedAttempts >= maxAttempts
+					&& deadLetter(queued, new IllegalStateException("failed " + queued.failedAttempts + " attempts"))) {
+				continue;
+			}
+			retries.add(queued);
+		}
+	}
+
+	/**
+	 * Appends the transaction to the dead-letter file and forces it to disk.
+	 *
+	 * @param queued the queued transaction
+	 * @param cause  the cause
+	 * @return true, if written
+	 */
+	private boolean deadLetter(QueuedAutnTxn queued, Exception cause) {
+		try {
+			Files.createDirectories(walPath);
+			try (FileChannel channel = FileChannel.open(walPath.resolve(DEAD_LETTER_FILE), StandardOpenOption.CREATE,
+					StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+				channel.write(ByteBuffer.wrap(toWalRecord(queued.autnTxn)));
+				channel.force(false);
+			}
+			complete(queued);
+			deadLetterCount.increment();
+			logger.error(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "deadLetter",
+					"auth transaction " + queued.autnTxn.getId() + " written to " + DEAD_LETTER_FILE + ": "
+							+ cause.getMessage());
+			return true;
+		} catch (IOException e) {
+			logger.error(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "deadLetter",
+					ExceptionUtils.getStackTrace(e));
+			return false;
+		}
+	}
+
+	/**
+	 * Marks the transaction as stored.
+	 *
+	 * @param queued the queued transaction
+	 */
+	private void complete(QueuedAutnTxn queued) {
+		pending.remove(queued.autnTxn.getId());
+		if (queued.walSegment != null) {
+			queued.walSegment.outstanding.decrementAndGet();
+		}
+	}
+
+	/**
+	 * Stops the periodic flush and inserts the transactions still queued.
+	 */
+	@PreDestroy
+	public void destroy() {
+		if (isEnabled()) {
+			scheduledFlush.cancel(false);
+			flush();
+			if (!retries.isEmpty()) {
+				logger.error(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "destroy",
+						"auth transactions not inserted on shutdown: " + retries.size()
+								+ (mode == DurabilityMode.ASYNC_WAL ? ", kept in the write-ahead log" : ", lost"));
+			}
+			if (mode == DurabilityMode.ASYNC_WAL) {
+				synchronized (walLock) {
+					closeWalSegment();
+				}
+			}
+		}
+	}
+
+	private byte[] toWalRecord(AutnTxn autnTxn) throws IOException {
+		ByteArrayOutputStream record = new ByteArrayOutputStream();
+		mapper.writeValue(record, autnTxn);
+		record.write(LINE_SEPARATOR);
+		return record.toByteArray();
+	}
+
+	/**
+	 * Appends the transaction to the current segment without forcing it to disk.
+	 * On a write failure the segment is switched, so that the next records do not
+	 * follow a partial one.
+	 */
+	private boolean appendToWal(AutnTxn autnTxn) {
+		try {
+			if (walChannel == null) {
+				openWalSegment();
+			}
+			walChannel.write(ByteBuffer.wrap(toWalRecord(autnTxn)));
+			walSegment.records++;
+			walAppendedRecords++;
+			return true;
+		} catch (IOException e) {
+			logger.error(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "appendToWal",
+					ExceptionUtils.getStackTrace(e));
+			if (walChannel != null) {
+				switchWalSegment();
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * Waits until the records appended up to the position are forced to disk. The
+	 * thread getting the lock forces all the records appended so far, so that the
+	 * threads waiting meanwhile return without forcing again.
+	 *
+	 * @param walPosition the position
+	 */
+	private void forceWal(long walPosition) {
+		if (walForcedRecords.get() >= walPosition) {
+			return;
+		}
+		synchronized (walForceLock) {
+			if (walForcedRecords.get() >= walPosition) {
+				return;
+			}
+			FileChannel channel;
+			long appendedRecords;
+			synchronized (walLock) {
+				channel = walChannel;
+				appendedRecords = walAppendedRecords;
+			}
+			if (channel == null) {
+				// The segment was closed meanwhile, which forced it to disk
+				return;
+			}
+			try {
+				channel.force(false);
+				walForcedRecords.accumulateAndGet(appendedRecords, Math::max);
+			} catch (ClosedChannelException e) {
+				// The segment was sealed meanwhile, which forced it to disk
+			} catch (IOException e) {
+				logger.error(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "forceWal",
+						ExceptionUtils.getStackTrace(e));
+			}
+		}
+	}
+
+	/**
+	 * Switches to a new write-ahead log segment, so that the current one can be
+	 * deleted once the transactions queued so far are inserted.
+	 */
+	private void sealWalSegment() {
+		synchronized (walLock) {
+			if (walChannel != null && walSegment.records > 0) {
+				switchWalSegment();
+			}
+		}
+	}
+
+	private void switchWalSegment() {
+		closeWalSegment();
+		try {
+			openWalSegment();
+		} catch (IOException e) {
+			// appendToWal opens a segment again, or the transactions are inserted right away
+			logger.error(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "switchWalSegment",
+					ExceptionUtils.getStackTrace(e));
+		}
+	}
+
+	private void openWalSegment() throws IOException {
+		Path path = walPath.resolve(
+				String.format("%s%020d%s", WAL_SEGMENT_PREFIX, walSequence.incrementAndGet(), WAL_SEGMENT_SUFFIX));
+		walChannel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE,
+				StandardOpenOption.APPEND);
+		walSegment = new WalSegment(path);
+	}
+
+	/**
+	 * Forces and closes the current segment. An empty segment is deleted, any
+	 * other is kept until its transactions are inserted.
+	 */
+	private void closeWalSegment() {
+		if (walChannel == null) {
+			return;
+		}
+		try {
+			walChannel.force(false);
+			walForcedRecords.accumulateAndGet(walAppendedRecords, Math::max);
+			walChannel.close();
+		} catch (IOException e) {
+			logger.error(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "closeWalSegment",
+					ExceptionUtils.getStackTrace(e));
+		}
+		walChannel = null;
+		if (walSegment.records == 0) {
+			deleteWalSegment(walSegment.path);
+		} else {
+			sealedWalSegments.add(walSegment);
+		}
+	}
+
+	private void deleteCompletedWalSegments() {
+		synchronized (walLock) {
+			for (Iterator<WalSegment> iterator = sealedWalSegments.iterator(); iterator.hasNext();) {
+				WalSegment segment = iterator.next();
+				if (segment.outstanding.get() == 0) {
+					deleteWalSegment(segment.path);
+					iterator.remove();
+				}
+			}
+		}
+	}
+
+	private void deleteWalSegment(Path segment) {
+		try {
+			Files.deleteIfExists(segment);
+		} catch (IOException e) {
+			logger.error(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "deleteWalSegment",
+					ExceptionUtils.getStackTrace(e));
+		}
+	}
+
+	/**
+	 * Queues for the first flush the transactions of the write-ahead log segments
+	 * left by the previous run, skipping the ones which were already inserted. A
+	 * segment is deleted once its transactions are inserted or dead-lettered.
+	 */
+	private void replayWal() throws IOException {
+		List<Path> segments = new ArrayList<>();
+		try (DirectoryStream<Path> stream = Files.newDirectoryStream(walPath,
+				WAL_SEGMENT_PREFIX + "*" + WAL_SEGMENT_SUFFIX)) {
+			stream.forEach(segments::add);
+		}
+		segments.sort(Comparator.naturalOrder());
+		for (Path segment : segments) {
+			List<AutnTxn> autnTxns;
+			try {
+				autnTxns = readWalSegment(segment);
+			} catch (IOException e) {
+				logger.error(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "replayWal",
+						"could not read " + segment.getFileName() + ": " + ExceptionUtils.getStackTrace(e));
+				continue;
+			}
+			if (!autnTxns.isEmpty()) {
+				try {
+					Set<String> existingIds = new HashSet<>(autntxnrepository.findExistingIds(
+							autnTxns.stream().map(AutnTxn::getId).collect(Collectors.toList())));
+					autnTxns.removeIf(autnTxn -> existingIds.contains(autnTxn.getId()));
+				} catch (RuntimeException e) {
+					// Inserting a transaction again replaces it
+					logger.error(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "replayWal",
+							"could not look up the inserted transactions: " + e.getMessage());
+				}
+			}
+			WalSegment walSegment = new WalSegment(segment);
+			walSegment.records = autnTxns.size();
+			walSegment.outstanding.set(autnTxns.size());
+			sealedWalSegments.add(walSegment);
+			for (AutnTxn autnTxn : autnTxns) {
+				pending.put(autnTxn.getId(), autnTxn);
+				retries.add(new QueuedAutnTxn(autnTxn, walSegment));
+			}
+			logger.info(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "replayWal",
+					"queued auth transactions from " + segment.getFileName() + ": " + autnTxns.size());
+		}
+	}
+
+	private List<AutnTxn> readWalSegment(Path segment) throws IOException {
+		List<AutnTxn> autnTxns = new ArrayList<>();
+		try (BufferedReader reader = Files.newBufferedReader(segment, StandardCharsets.UTF_8)) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				if (!line.isEmpty()) {
+					try {
+						autnTxns.add(mapper.readValue(line, AutnTxn.class));
+					} catch (IOException e) {
+						// The last record is partial if the instance was killed while writing it
+						logger.error(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(),
+								"readWalSegment", "skipping unreadable record in " + segment.getFileName());
+					}
+				}
+			}
+		}
+		return autnTxns;
+	}
+
+	/**
+	 * Gets the number of transactions not yet inserted.
+	 *
+	 * @return the pending count
+	 */
+	public int getPendingCount() {
+		return pending.size();
+	}
+
+	public long getSyncFallbackCount() {
+		return syncFallbackCount.sum();
+	}
+
+	public long getDeadLetterCount() {
+		return deadLetterCount.sum();
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		if (isEnabled()) {
+			Gauge.builder("ida.autn-txn.sink.pending", this, AutnTxnSink::getPendingCount)
+					.description("The number of auth transactions waiting to be inserted.")
+					.register(registry);
+			FunctionCounter.builder("ida.autn-txn.sink.sync-fallback", this, AutnTxnSink::getSyncFallbackCount)
+					.description("The number of auth transactions inserted on the request thread as the queue was full.")
+					.register(registry);
+			FunctionCounter.builder("ida.autn-txn.sink.dead-letter", this, AutnTxnSink::getDeadLetterCount)
+					.description("The number of auth transactions written to the dead-letter file.")
+					.register(registry);
+			flushTimer = Timer.builder("ida.autn-txn.sink.flush")
+					.description("The time taken to insert a batch of auth transactions.")
+					.register(registry);
+		}
+	}
+
+	/**
+	 * A queued transaction along with the write-ahead log segment holding it.
+	 */
+	private static class QueuedAutnTxn {
+
+		private final AutnTxn autnTxn;
+
+		private final WalSegment walSegment;
+
+		/** The failed insert attempts, only used by the flusher. */
+		private int failedAttempts;
+
+		private QueuedAutnTxn(AutnTxn autnTxn, WalSegment walSegment) {
+			this.autnTxn = autnTxn;
+			this.walSegment = walSegment;
+		}
+	}
+
+	/**
+	 * A write-ahead log segment along with the number of its transactions not yet
+	 * inserted.
+	 */
+	private static class WalSegment {
+
+		private final Path path;
+
+		private final AtomicInteger outstanding = new AtomicInteger();
+
+		/** The records appended, guarded by the WAL lock. */
+		private long records;
+
+		private WalSegment(Path path) {
+			this.path = path;
+		}
+	}
+
+}
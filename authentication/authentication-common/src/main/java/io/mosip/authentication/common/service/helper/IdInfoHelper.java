@@ -7,8 +7,10 @@ import static io.mosip.authentication.core.constant.IdAuthCommonConstants.BIO_SU
 import static io.mosip.authentication.core.constant.IdAuthCommonConstants.BIO_TYPE_SEPARATOR;
 import static io.mosip.authentication.core.constant.IdAuthCommonConstants.LANG_CODE_SEPARATOR;
 import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.IDA_DEFAULT_IDENTITY_FILTER_ATTRIBUTES;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.MATCH_INPUT_PARALLEL_ENABLED;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
@@ -19,17 +21,28 @@ import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import io.mosip.authentication.common.service.config.IDAMappingConfig;
 import io.mosip.authentication.common.service.impl.match.BioAuthType;
 import io.mosip.authentication.common.service.impl.match.DemoMatchType;
@@ -69,7 +82,7 @@ import io.mosip.kernel.core.logger.spi.Logger;
  */
 
 @Component
-public class IdInfoHelper {
+public class IdInfoHelper implements MeterBinder {
 
 	/** The id mapping config. */
 	@Autowired
@@ -94,6 +107,19 @@ public class IdInfoHelper {
 	@Autowired
 	private EnvUtil env;
 
+	@Value("${" + MATCH_INPUT_PARALLEL_ENABLED + ":false}")
+	private boolean parallelMatchEnabled;
+
+	/** The executor for evaluating the match inputs in parallel. */
+	@Autowired(required = false)
+	@Qualifier("matchInputExecutor")
+	private Executor matchInputExecutor;
+
+	private volatile MeterRegistry meterRegistry;
+
+	/** The match latency timers by auth type and match type. */
+	private final Map<List<String>, Timer> matchTimers = new ConcurrentHashMap<>();
+
 	/**
 	 * Get Authrequest Info.
 	 *
@@ -347,9 +373,35 @@ public class IdInfoHelper {
 	public List<MatchOutput> matchIdentityData(AuthRequestDTO authRequestDTO,
 			Map<String, List<IdentityInfoDTO>> identityEntity, Collection<MatchInput> listMatchInputs, String partnerId)
 			throws IdAuthenticationBusinessException {
+		return matchIdentityData(authRequestDTO, identityEntity, listMatchInputs, partnerId, matchOutput -> false);
+	}
+
+	/**
+	 * Match id data. When parallel match is enabled the match inputs are
+	 * evaluated in parallel on the match input executor, and the evaluation stops
+	 * at the first match output that decides the outcome of the auth type, or at
+	 * the first failure. The match outputs are returned in the order of their
+	 * match inputs.
+	 *
+	 * @param authRequestDTO  the identity DTO
+	 * @param identityEntity  the id entity
+	 * @param listMatchInputs the list match inputs
+	 * @param partnerId the partner id
+	 * @param outcomeDecider  tests if a match output decides the outcome
+	 * @return the list
+	 * @throws IdAuthenticationBusinessException the id authentication business
+	 *                                           exception
+	 */
+	public List<MatchOutput> matchIdentityData(AuthRequestDTO authRequestDTO,
+			Map<String, List<IdentityInfoDTO>> identityEntity, Collection<MatchInput> listMatchInputs, String partnerId,
+			Predicate<MatchOutput> outcomeDecider) throws IdAuthenticationBusinessException {
+		if (isParallelMatchRequired(listMatchInputs)) {
+			return matchInParallel(authRequestDTO, identityEntity, new ArrayList<>(listMatchInputs), partnerId,
+					outcomeDecider);
+		}
 		List<MatchOutput> matchOutputList = new ArrayList<>();
 		for (MatchInput matchInput : listMatchInputs) {
-			MatchOutput matchOutput = matchType(authRequestDTO, identityEntity, matchInput, partnerId);
+			MatchOutput matchOutput = timedMatchType(authRequestDTO, identityEntity, matchInput, partnerId);
 			if (matchOutput != null) {
 				matchOutputList.add(matchOutput);
 			}
@@ -357,6 +409,134 @@ public class IdInfoHelper {
 		return matchOutputList;
 	}
 
+	/**
+	 * Checks if the match inputs are to be evaluated in parallel, which is when
+	 * enabled and more than one match input is given.
+	 *
+	 * @param listMatchInputs the list match inputs
+	 * @return true, if parallel match is required
+	 */
+	private boolean isParallelMatchRequired(Collection<MatchInput> listMatchInputs) {
+		return parallelMatchEnabled && matchInputExecutor != null && listMatchInputs.size() > 1;
+	}
+
+	/**
+	 * Evaluates the match inputs in parallel on the match input executor. The
+	 * first match output that decides the outcome, or the first failure, cancels
+	 * the outstanding evaluations.
+	 *
+	 * @param authRequestDTO  the identity DTO
+	 * @param identityEntity  the id entity
+	 * @param matchInputs     the match inputs
+	 * @param partnerId       the partner id
+	 * @param outcomeDecider  tests if a match output decides the outcome
+	 * @return the match outputs evaluated, in the order of their match inputs
+	 * @throws IdAuthenticationBusinessException the id authentication business
+	 *                                           exception
+	 */
+	private List<MatchOutput> matchInParallel(AuthRequestDTO authRequestDTO,
+			Map<String, List<IdentityInfoDTO>> identityEntity, List<MatchInput> matchInputs, String partnerId,
+			Predicate<MatchOutput> outcomeDecider) throws IdAuthenticationBusinessException {
+		CompletionService<MatchOutput> completionService = new ExecutorCompletionService<>(matchInputExecutor);
+		Map<Future<MatchOutput>, Integer> pending = new LinkedHashMap<>();
+		MatchOutput[] matchOutputs = new MatchOutput[matchInputs.size()];
+		try {
+			for (int i = 0; i < matchInputs.size(); i++) {
+				MatchInput matchInput = matchInputs.get(i);
+				pending.put(completionService
+						.submit(() -> timedMatchType(authRequestDTO, identityEntity, matchInput, partnerId)), i);
+			}
+			while (!pending.isEmpty()) {
+				Future<MatchOutput> done = completionService.take();
+				MatchOutput matchOutput = getMatchOutput(done);
+				matchOutputs[pending.remove(done)] = matchOutput;
+				if (matchOutput != null && outcomeDecider.test(matchOutput)) {
+					break;
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IdAuthenticationBusinessException(IdAuthenticationErrorConstants.UNABLE_TO_PROCESS, e);
+		} finally {
+			pending.keySet().forEach(future -> future.cancel(true));
+		}
+		return Arrays.stream(matchOutputs).filter(Objects::nonNull).collect(Collectors.toList());
+	}
+
+	/**
+	 * Gets the match output of a completed evaluation.
+	 *
+	 * @param future the completed evaluation
+	 * @return the match output
+	 * @throws IdAuthenticationBusinessException the id authentication business
+	 *                                           exception
+	 */
+	private MatchOutput getMatchOutput(Future<MatchOutput> future) throws IdAuthenticationBusinessException {
+		try {
+			return future.get();
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof IdAuthenticationBusinessException) {
+				throw (IdAuthenticationBusinessException) cause;
+			} else if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			} else if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new IdAuthenticationBusinessException(IdAuthenticationErrorConstants.UNABLE_TO_PROCESS, cause);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IdAuthenticationBusinessException(IdAuthenticationErrorConstants.UNABLE_TO_PROCESS, e);
+		}
+	}
+
+	/**
+	 * Match type, recording the time taken by the match type.
+	 *
+	 * @param authRequestDTO the auth request DTO
+	 * @param idEntity     the id entity
+	 * @param input          the input
+	 * @param partnerId the partner id
+	 * @return the match output
+	 * @throws IdAuthenticationBusinessException the id authentication business
+	 *                                           exception
+	 */
+	private MatchOutput timedMatchType(AuthRequestDTO authRequestDTO, Map<String, List<IdentityInfoDTO>> idEntity,
+			MatchInput input, String partnerId) throws IdAuthenticationBusinessException {
+		long startTime = System.nanoTime();
+		try {
+			return matchType(authRequestDTO, idEntity, input, partnerId);
+		} finally {
+			recordMatchTime(input, System.nanoTime() - startTime);
+		}
+	}
+
+	/**
+	 * Records the time taken to evaluate the match input, by auth type and match
+	 * type.
+	 *
+	 * @param input the input
+	 * @param nanos the time taken
+	 */
+	private void recordMatchTime(MatchInput input, long nanos) {
+		MeterRegistry registry = meterRegistry;
+		if (registry != null) {
+			String authType = input.getAuthType() == null ? "" : input.getAuthType().getType();
+			String matchType = String.valueOf(input.getMatchType());
+			matchTimers.computeIfAbsent(List.of(authType, matchType), key -> Timer.builder("ida.match-input.match")
+					.tag("authType", authType)
+					.tag("matchType", matchType)
+					.description("The time taken to evaluate a match input.")
+					.publishPercentileHistogram()
+					.register(registry)).record(nanos, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		meterRegistry = registry;
+	}
+
 	/**
 	 * Match identity data.
 	 *
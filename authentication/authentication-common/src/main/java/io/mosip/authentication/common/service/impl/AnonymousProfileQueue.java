@@ -0,0 +1,223 @@
+package io.mosip.authentication.common.service.impl;
+
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.ANONYMOUS_PROFILE_QUEUE_BATCH_SIZE;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.ANONYMOUS_PROFILE_QUEUE_CAPACITY;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.ANONYMOUS_PROFILE_QUEUE_ENABLED;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.ANONYMOUS_PROFILE_QUEUE_FLUSH_INTERVAL_MILLIS;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.mosip.authentication.common.service.entity.AnonymousProfileEntity;
+import io.mosip.authentication.common.service.impl.idevent.AnonymousAuthenticationProfile;
+import io.mosip.authentication.common.service.repository.AuthAnonymousProfileRepository;
+import io.mosip.authentication.common.service.websub.impl.AuthAnonymousEventPublisher;
+import io.mosip.authentication.core.constant.IdAuthCommonConstants;
+import io.mosip.authentication.core.logger.IdaLogger;
+import io.mosip.kernel.core.exception.ExceptionUtils;
+import io.mosip.kernel.core.logger.spi.Logger;
+
+/**
+ * The Class AnonymousProfileQueue takes the anonymous profile storing off the
+ * request threads. The profiles are built on the request thread, so that only
+ * the anonymized data is retained, and queued in a bounded in-memory queue
+ * which is drained in batches by a background flusher, either when a batch
+ * worth of profiles is queued or when the flush interval elapses. A batch is
+ * inserted in one transaction and then published. Profiles are dropped when
+ * the queue is full, as they are analytics data. The queue is disabled by
+ * default.
+ */
+@Component
+public class AnonymousProfileQueue implements MeterBinder {
+
+	/** The logger. */
+	private static Logger logger = IdaLogger.getLogger(AnonymousProfileQueue.class);
+
+	@Value("${" + ANONYMOUS_PROFILE_QUEUE_ENABLED + ":false}")
+	private boolean enabled;
+
+	@Value("${" + ANONYMOUS_PROFILE_QUEUE_CAPACITY + ":10000}")
+	private int capacity;
+
+	@Value("${" + ANONYMOUS_PROFILE_QUEUE_BATCH_SIZE + ":100}")
+	private int batchSize;
+
+	@Value("${" + ANONYMOUS_PROFILE_QUEUE_FLUSH_INTERVAL_MILLIS + ":1000}")
+	private long flushIntervalMillis;
+
+	@Autowired
+	private AuthAnonymousProfileRepository authAnonymousProfileRepository;
+
+	@Autowired
+	private AuthAnonymousEventPublisher authAnonymousEventPublisher;
+
+	@Autowired
+	private ObjectMapper mapper;
+
+	/** The task scheduler. */
+	@Autowired
+	private ThreadPoolTaskScheduler taskScheduler;
+
+	private BlockingQueue<AnonymousAuthenticationProfile> queue;
+
+	private ScheduledFuture<?> scheduledFlush;
+
+	/** Set while a size triggered flush is pending, to avoid submitting one per profile. */
+	private final AtomicBoolean flushTriggered = new AtomicBoolean();
+
+	private final ReentrantLock flushLock = new ReentrantLock();
+
+	private final LongAdder droppedCount = new LongAdder();
+
+	private volatile Timer flushTimer;
+
+	/**
+	 * Initializes the queue and schedules the periodic flush.
+	 */
+	@PostConstruct
+	public void init() {
+		if (enabled) {
+			queue = new ArrayBlockingQueue<>(capacity);
+			scheduledFlush = taskScheduler.scheduleWithFixedDelay(this::flush, flushIntervalMillis);
+			logger.info(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "init",
+					"anonymous profile queue enabled with capacity: " + capacity + ", batch-size: " + batchSize
+							+ ", flush-interval-millis: " + flushIntervalMillis);
+		}
+	}
+
+	/**
+	 * Checks if the queue is enabled.
+	 *
+	 * @return true, if is enabled
+	 */
+	public boolean isEnabled() {
+		return queue != null;
+	}
+
+	/**
+	 * Queues the profile. The profile is dropped when the queue is full.
+	 *
+	 * @param profile the profile
+	 */
+	public void submit(AnonymousAuthenticationProfile profile) {
+		if (queue.offer(profile)) {
+			if (queue.size() >= batchSize && flushTriggered.compareAndSet(false, true)) {
+				taskScheduler.execute(this::flush);
+			}
+		} else {
+			droppedCount.increment();
+		}
+	}
+
+	/**
+	 * Inserts and publishes in batches the profiles queued when the flush
+	 * starts; the profiles queued meanwhile are left to the next flush. Only one
+	 * flush runs at a time.
+	 */
+	public void flush() {
+		if (!flushLock.tryLock()) {
+			return;
+		}
+		try {
+			flushTriggered.set(false);
+			List<AnonymousAuthenticationProfile> batch = new ArrayList<>(batchSize);
+			int remaining = queue.size();
+			while (remaining > 0 && queue.drainTo(batch, Math.min(batchSize, remaining)) > 0) {
+				remaining -= batch.size();
+				long startTime = System.nanoTime();
+				storeBatch(batch);
+				if (flushTimer != null) {
+					flushTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+				}
+				batch.clear();
+			}
+		} finally {
+			flushLock.unlock();
+		}
+	}
+
+	private void storeBatch(List<AnonymousAuthenticationProfile> profiles) {
+		List<AnonymousProfileEntity> entities = new ArrayList<>(profiles.size());
+		for (AnonymousAuthenticationProfile profile : profiles) {
+			entities.add(AuthAnonymousProfileServiceImpl.createAnonymousProfileEntity(mapper, profile));
+		}
+		try {
+			authAnonymousProfileRepository.saveAll(entities);
+			authAnonymousProfileRepository.flush();
+		} catch (RuntimeException e) {
+			logger.error(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "storeBatch",
+					"Error saving anonymous profiles: " + ExceptionUtils.getStackTrace(e));
+			return;
+		}
+		for (AnonymousAuthenticationProfile profile : profiles) {
+			try {
+				authAnonymousEventPublisher.publishEvent(profile);
+			} catch (RuntimeException e) {
+				logger.error(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "storeBatch",
+						"Error publishing anonymous profile: " + e.getMessage());
+			}
+		}
+	}
+
+	/**
+	 * Stops the periodic flush and stores the profiles still queued.
+	 */
+	@PreDestroy
+	public void destroy() {
+		if (isEnabled()) {
+			scheduledFlush.cancel(false);
+			flush();
+		}
+	}
+
+	/**
+	 * Gets the number of queued profiles.
+	 *
+	 * @return the size
+	 */
+	public int size() {
+		return isEnabled() ? queue.size() : 0;
+	}
+
+	public long getDroppedCount() {
+		return droppedCount.sum();
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		if (isEnabled()) {
+			Gauge.builder("ida.anonymous-profile.queue.size", this, AnonymousProfileQueue::size)
+					.description("The number of anonymous profiles waiting to be stored.")
+					.register(registry);
+			FunctionCounter.builder("ida.anonymous-profile.queue.dropped", this, AnonymousProfileQueue::getDroppedCount)
+					.description("The number of anonymous profiles dropped as the queue was full.")
+					.register(registry);
+			flushTimer = Timer.builder("ida.anonymous-profile.queue.flush")
+					.description("The time taken to store and publish a batch of anonymous profiles.")
+					.register(registry);
+		}
+	}
+
+}
@@ -63,7 +63,7 @@ import io.mosip.kernel.core.util.DateUtils;
 public class AuthAnonymousProfileServiceImpl implements AuthAnonymousProfileService {
 	
 
-	private Logger logger = IdaLogger.getLogger(AuthAnonymousProfileServiceImpl.class);
+	private static Logger logger = IdaLogger.getLogger(AuthAnonymousProfileServiceImpl.class);
 	
 	@Autowired
 	private IdInfoHelper idInfoHelper;
@@ -89,16 +89,36 @@ public class AuthAnonymousProfileServiceImpl implements AuthAnonymousProfileServ
 	@Autowired
 	private ObjectMapper mapper;
 	
+	@Autowired
+	private AnonymousProfileQueue anonymousProfileQueue;
 
 	@Override
 	public void storeAnonymousProfile(Map<String, Object> requestBody, Map<String, Object> requestMetadata,
 			Map<String, Object> responseMetadata, boolean status, List<AuthError> errors) {
 		AnonymousAuthenticationProfile ananymousProfile = createAnonymousProfile(requestBody, requestMetadata, responseMetadata, status, errors);
+		if (anonymousProfileQueue.isEnabled()) {
+			// Only the built profile is queued, not the request holding the identity data
+			anonymousProfileQueue.submit(ananymousProfile);
+			return;
+		}
 		storeAnonymousProfile(ananymousProfile);
 		authAnonymousEventPublisher.publishEvent(ananymousProfile);
 	}
 
 	private void storeAnonymousProfile(AnonymousAuthenticationProfile ananymousProfile) {
+		authAnonymousProfileRepository.save(createAnonymousProfileEntity(mapper, ananymousProfile));
+		authAnonymousProfileRepository.flush();
+	}
+
+	/**
+	 * Creates the entity storing the profile.
+	 *
+	 * @param mapper           the mapper
+	 * @param ananymousProfile the ananymous profile
+	 * @return the anonymous profile entity
+	 */
+	static AnonymousProfileEntity createAnonymousProfileEntity(ObjectMapper mapper,
+			AnonymousAuthenticationProfile ananymousProfile) {
 		AnonymousProfileEntity authAnonymousProfileEntity = new AnonymousProfileEntity();
 		String id = UUID.randomUUID().toString();
 		authAnonymousProfileEntity.setId(id);
@@ -111,9 +131,7 @@ public class AuthAnonymousProfileServiceImpl implements AuthAnonymousProfileServ
 		} catch (JsonProcessingException e) {
 			logger.error("Error saving anonymous profile. %s", ExceptionUtils.getStackTrace(e));
 		}
-		
-		authAnonymousProfileRepository.save(authAnonymousProfileEntity);
-		authAnonymousProfileRepository.flush();
+		return authAnonymousProfileEntity;
 	}
 
 	private AnonymousAuthenticationProfile createAnonymousProfile(Map<String, Object> requestBody,
@@ -8,6 +8,7 @@ import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import io.mosip.authentication.common.service.cache.AuthLockCache;
 import io.mosip.authentication.common.service.entity.AuthtypeLock;
 import io.mosip.authentication.common.service.repository.AuthLockRepository;
 import io.mosip.authentication.core.exception.IdAuthenticationBusinessException;
@@ -32,6 +33,10 @@ public class AuthtypeStatusImpl implements AuthtypeStatusService {
 	@Autowired
 	AuthLockRepository authLockRepository;
 
+	/** The auth lock cache. */
+	@Autowired
+	private AuthLockCache authLockCache;
+
 	@Override
 	public List<AuthtypeStatus> fetchAuthtypeStatus(String token) throws IdAuthenticationBusinessException {
 		List<AuthtypeLock> authTypeLockList = getAuthTypeList(token);
@@ -39,6 +44,16 @@ public class AuthtypeStatusImpl implements AuthtypeStatusService {
 	}
 
 	public List<AuthtypeLock> getAuthTypeList(String token) throws IdAuthenticationBusinessException {
+		return authLockCache.getAuthTypeLocks(token, this::findAuthTypeLocks);
+	}
+
+	/**
+	 * Queries the latest auth type lock row of each auth type of the token.
+	 *
+	 * @param token the token
+	 * @return the auth type lock rows
+	 */
+	private List<AuthtypeLock> findAuthTypeLocks(String token) {
 		List<AuthtypeLock> authTypeLockList;
 		List<Object[]> authTypeLockObjectsList = authLockRepository.findByToken(token);
 		authTypeLockList = authTypeLockObjectsList.stream()
@@ -15,6 +15,7 @@ import io.mosip.authentication.common.service.config.IDAMappingConfig;
 import io.mosip.authentication.common.service.helper.IdInfoHelper;
 import io.mosip.authentication.common.service.impl.match.BioAuthType;
 import io.mosip.authentication.common.service.impl.match.BioMatchType;
+import io.mosip.authentication.core.constant.IdAuthCommonConstants;
 import io.mosip.authentication.core.exception.IdAuthenticationBusinessException;
 import io.mosip.authentication.core.indauth.dto.AuthRequestDTO;
 import io.mosip.authentication.core.indauth.dto.AuthStatusInfo;
@@ -74,7 +75,7 @@ public class BioAuthServiceImpl implements BioAuthService {
 //			if (isAuth) {
 //				verifyBiometricDevice(authRequestDTO.getRequest().getBiometrics());
 //			}
-			List<MatchInput> listMatchInputs = constructMatchInput(authRequestDTO, bioIdentity);
+			List<MatchInput> listMatchInputs = constructMatchInput(authRequestDTO, token, bioIdentity);
 			List<MatchOutput> listMatchOutputs = getMatchOutput(listMatchInputs, authRequestDTO, bioIdentity,
 					partnerId);
 			// Using OR condition on the match output for Bio auth.
@@ -89,10 +90,15 @@ public class BioAuthServiceImpl implements BioAuthService {
 	 * Constucts Match inputs based on Matched Bio Authtype and Bio Match type.
 	 *
 	 * @param authRequestDTO the auth request DTO
+	 * @param token the identity token, used by the bio matcher to look up the cached gallery
 	 * @return the list
 	 */
-	private List<MatchInput> constructMatchInput(AuthRequestDTO authRequestDTO, Map<String, List<IdentityInfoDTO>> bioIdentity) {
-		return matchInputBuilder.buildMatchInput(authRequestDTO, BioAuthType.values(), BioMatchType.values(), bioIdentity);
+	private List<MatchInput> constructMatchInput(AuthRequestDTO authRequestDTO, String token,
+			Map<String, List<IdentityInfoDTO>> bioIdentity) {
+		List<MatchInput> matchInputs = matchInputBuilder.buildMatchInput(authRequestDTO, BioAuthType.values(),
+				BioMatchType.values(), bioIdentity);
+		matchInputs.forEach(input -> input.getMatchProperties().put(IdAuthCommonConstants.TOKEN, token));
+		return matchInputs;
 	}
 
 	/**
@@ -107,7 +113,9 @@ public class BioAuthServiceImpl implements BioAuthService {
 	 */
 	private List<MatchOutput> getMatchOutput(List<MatchInput> listMatchInputs, AuthRequestDTO authRequestDTO,
 			Map<String, List<IdentityInfoDTO>> demoEntity, String partnerId) throws IdAuthenticationBusinessException {
-		return idInfoHelper.matchIdentityData(authRequestDTO, demoEntity, listMatchInputs, partnerId);
+		// Bio auth matches if any match, so the first match decides the outcome.
+		return idInfoHelper.matchIdentityData(authRequestDTO, demoEntity, listMatchInputs, partnerId,
+				MatchOutput::isMatched);
 	}
 
 }
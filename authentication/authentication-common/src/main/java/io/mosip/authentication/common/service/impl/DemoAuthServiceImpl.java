@@ -8,10 +8,13 @@ import org.springframework.stereotype.Service;
 
 import io.mosip.authentication.common.service.builder.AuthStatusInfoBuilder;
 import io.mosip.authentication.common.service.builder.MatchInputBuilder;
+import io.mosip.authentication.common.service.cache.NormalizedTextCache;
+import io.mosip.authentication.common.service.cache.NormalizedTextCache.RequestMemo;
 import io.mosip.authentication.common.service.config.IDAMappingConfig;
 import io.mosip.authentication.common.service.helper.IdInfoHelper;
 import io.mosip.authentication.common.service.impl.match.DemoAuthType;
 import io.mosip.authentication.common.service.impl.match.DemoMatchType;
+import io.mosip.authentication.core.constant.IdAuthCommonConstants;
 import io.mosip.authentication.core.constant.IdAuthenticationErrorConstants;
 import io.mosip.authentication.core.exception.IdAuthenticationBusinessException;
 import io.mosip.authentication.core.indauth.dto.AuthRequestDTO;
@@ -41,6 +44,10 @@ public class DemoAuthServiceImpl implements DemoAuthService {
 	@Autowired
 	IDAMappingConfig idaMappingConfig;
 
+	/** The normalized text cache. */
+	@Autowired
+	private NormalizedTextCache normalizedTextCache;
+
 	/**
 	 * Gets the match output.
 	 *
@@ -54,7 +61,9 @@ public class DemoAuthServiceImpl implements DemoAuthService {
 	 */
 	public List<MatchOutput> getMatchOutput(List<MatchInput> listMatchInputs, AuthRequestDTO authRequestDTO,
 			Map<String, List<IdentityInfoDTO>> demoEntity, String partnerId) throws IdAuthenticationBusinessException {
-		return idInfoHelper.matchIdentityData(authRequestDTO, demoEntity, listMatchInputs, partnerId);
+		// Demo auth matches only if all match, so the first mismatch decides the outcome.
+		return idInfoHelper.matchIdentityData(authRequestDTO, demoEntity, listMatchInputs, partnerId,
+				matchOutput -> !matchOutput.isMatched());
 	}
 
 	/*
@@ -71,8 +80,14 @@ public class DemoAuthServiceImpl implements DemoAuthService {
 		}
 
 		List<MatchInput> listMatchInputs = constructMatchInput(authRequestDTO, demoEntity);
+		RequestMemo normalizationMemo = normalizedTextCache.createMemo(token);
+		if (normalizationMemo != null) {
+			listMatchInputs.forEach(input -> input.getMatchProperties().put(IdAuthCommonConstants.NORMALIZATION_MEMO,
+					normalizationMemo));
+		}
 
 		List<MatchOutput> listMatchOutputs = getMatchOutput(listMatchInputs, authRequestDTO, demoEntity, partnerId);
+		normalizedTextCache.recordSaved(normalizationMemo);
 		// Using AND condition on the match output for Bio auth.
 		boolean demoMatched = !listMatchOutputs.isEmpty() && listMatchOutputs.stream().allMatch(MatchOutput::isMatched);
 		return AuthStatusInfoBuilder.buildStatusInfo(demoMatched, listMatchInputs, listMatchOutputs,
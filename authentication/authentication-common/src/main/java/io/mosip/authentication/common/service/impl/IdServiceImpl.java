@@ -25,9 +25,11 @@ import org.springframework.transaction.TransactionException;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.mosip.authentication.common.service.cache.IdentityDataCache;
+import io.mosip.authentication.common.service.cache.IdentityDataCache.CachedIdentity;
 import io.mosip.authentication.common.service.entity.AutnTxn;
 import io.mosip.authentication.common.service.entity.IdentityEntity;
-import io.mosip.authentication.common.service.repository.AutnTxnRepository;
+import io.mosip.authentication.common.service.helper.AutnTxnSink;
 import io.mosip.authentication.common.service.repository.IdentityCacheRepository;
 import io.mosip.authentication.common.service.transaction.manager.IdAuthSecurityManager;
 import io.mosip.authentication.core.constant.IdAuthCommonConstants;
@@ -60,9 +62,9 @@ public class IdServiceImpl implements IdService<AutnTxn> {
 	/** The logger. */
 	private static Logger logger = IdaLogger.getLogger(IdServiceImpl.class);
 
-	/** The autntxnrepository. */
+	/** The auth transaction sink. */
 	@Autowired
-	private AutnTxnRepository autntxnrepository;
+	private AutnTxnSink autnTxnSink;
 
 	@Autowired
 	private ObjectMapper mapper;
@@ -73,6 +75,9 @@ public class IdServiceImpl implements IdService<AutnTxn> {
 	@Autowired
 	private IdAuthSecurityManager securityManager;
 
+	@Autowired
+	private IdentityDataCache identityDataCache;
+
 	@Value("${" + IDA_ZERO_KNOWLEDGE_UNENCRYPTED_CREDENTIAL_ATTRIBUTES + ":#{null}" + "}")
 	private String zkUnEncryptedCredAttribs;
 
@@ -148,7 +153,7 @@ public class IdServiceImpl implements IdService<AutnTxn> {
 	 *                                           exception
 	 */
 	public void saveAutnTxn(AutnTxn authTxn) throws IdAuthenticationBusinessException {
-		autntxnrepository.saveAndFlush(authTxn);
+		autnTxnSink.save(authTxn);
 	}
 
 	/**
@@ -194,9 +199,27 @@ public class IdServiceImpl implements IdService<AutnTxn> {
 							idType.getType(), e));
 		}
 
+		Set<String> filterAttributesInLowercase = filterAttributes.isEmpty() ? Set.of()
+				: filterAttributes.stream().map(String::toLowerCase).collect(Collectors.toSet());
+		String viewKey = IdentityDataCache.getViewKey(isBio, filterAttributesInLowercase);
 		try {
-			IdentityEntity entity = null;
-			if (!identityRepo.existsById(hashedId)) {
+			CachedIdentity cachedIdentity = identityDataCache.get(hashedId);
+			Map<String, Object> cachedView = cachedIdentity == null ? null : cachedIdentity.getView(viewKey);
+			if (cachedView != null) {
+				// The row metadata is read on every hit, so that an identity updated, deactivated or
+				// removed through any instance is not served from the cache
+				Optional<IdentityEntity> metadata = identityRepo.findMetadataById(hashedId);
+				if (metadata.isPresent() && cachedIdentity.isCurrent(metadata.get())) {
+					validateExpiry(metadata.get().getExpiryTimestamp(), idType);
+					return buildIdentityResponse(cachedView, cachedIdentity.getToken(), hashedId);
+				}
+				identityDataCache.invalidate(hashedId);
+				cachedIdentity = null;
+			}
+
+			Optional<IdentityEntity> identityEntity = isBio ? identityRepo.findDemoAndBioDataById(hashedId)
+					: identityRepo.findDemoDataById(hashedId);
+			if (identityEntity.isEmpty()) {
 				logger.error(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "getIdentity",
 						"Id not found in DB");
 				throw new IdAuthenticationBusinessException(
@@ -204,37 +227,13 @@ public class IdServiceImpl implements IdService<AutnTxn> {
 						String.format(IdAuthenticationErrorConstants.ID_NOT_AVAILABLE.getErrorMessage(),
 								idType.getType()));
 			}
+			IdentityEntity entity = identityEntity.get();
 
-			if (isBio) {
-				entity = identityRepo.getOne(hashedId);
-			} else {
-				Object[] data = identityRepo.findDemoDataById(hashedId).get(0);
-				entity = new IdentityEntity();
-				entity.setId(String.valueOf(data[0]));
-				entity.setDemographicData((byte[]) data[1]);
-				entity.setExpiryTimestamp(Objects.nonNull(data[2]) ? LocalDateTime.parse(String.valueOf(data[2])) : null);
-				entity.setTransactionLimit(Objects.nonNull(data[3]) ? Integer.parseInt(String.valueOf(data[3])) : null);
-				entity.setToken(String.valueOf(data[4]));
-			}
-
-			if (Objects.nonNull(entity.getExpiryTimestamp())
-					&& DateUtils.before(entity.getExpiryTimestamp(), DateUtils.getUTCCurrentDateTime())) {
-				logger.error(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "getIdentity",
-						idType.getType() + " expired/deactivated/revoked/blocked");
-				IdAuthenticationErrorConstants errorConstant;
-				if (idType == IdType.UIN) {
-					errorConstant = IdAuthenticationErrorConstants.UIN_DEACTIVATED_BLOCKED;
-				} else {
-					errorConstant = IdAuthenticationErrorConstants.VID_EXPIRED_DEACTIVATED_REVOKED;
-				}
-				throw new IdAuthenticationBusinessException(errorConstant);
-			}
+			validateExpiry(entity.getExpiryTimestamp(), idType);
 
 			Map<String, Object> responseMap = new LinkedHashMap<>();
 
 			Map<String, String> demoDataMap = mapper.readValue(entity.getDemographicData(), Map.class);
-			Set<String> filterAttributesInLowercase = filterAttributes.isEmpty() ? Set.of()
-					: filterAttributes.stream().map(String::toLowerCase).collect(Collectors.toSet());
 
 			if (!filterAttributesInLowercase.isEmpty()) {
 				Map<String, String> demoDataMapPostFilter = demoDataMap.entrySet().stream()
@@ -252,9 +251,15 @@ public class IdServiceImpl implements IdService<AutnTxn> {
 					responseMap.put(BIOMETRICS, decryptConfiguredAttributes(id, bioDataMapPostFilter));
 				}
 			}
-			responseMap.put(TOKEN, entity.getToken());
-			responseMap.put(ID_HASH, hashedId);
-			return responseMap;
+
+			if (identityDataCache.isEnabled()) {
+				if (cachedIdentity == null || !cachedIdentity.isCurrent(entity)) {
+					cachedIdentity = new CachedIdentity(entity);
+				}
+				identityDataCache.put(hashedId,
+						cachedIdentity.withView(viewKey, Collections.unmodifiableMap(new LinkedHashMap<>(responseMap))));
+			}
+			return buildIdentityResponse(responseMap, entity.getToken(), hashedId);
 		} catch (IOException | DataAccessException | TransactionException | JDBCConnectionException e) {
 			logger.error(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "getIdentity",
 					ExceptionUtils.getStackTrace(e));
@@ -262,6 +267,43 @@ public class IdServiceImpl implements IdService<AutnTxn> {
 		}
 	}
 
+	/**
+	 * Validates that the identity is not expired, deactivated, revoked or blocked.
+	 *
+	 * @param expiryTimestamp the expiry timestamp
+	 * @param idType the id type
+	 * @throws IdAuthenticationBusinessException the id authentication business exception
+	 */
+	private void validateExpiry(LocalDateTime expiryTimestamp, IdType idType) throws IdAuthenticationBusinessException {
+		if (Objects.nonNull(expiryTimestamp)
+				&& DateUtils.before(expiryTimestamp, DateUtils.getUTCCurrentDateTime())) {
+			logger.error(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "getIdentity",
+					idType.getType() + " expired/deactivated/revoked/blocked");
+			IdAuthenticationErrorConstants errorConstant;
+			if (idType == IdType.UIN) {
+				errorConstant = IdAuthenticationErrorConstants.UIN_DEACTIVATED_BLOCKED;
+			} else {
+				errorConstant = IdAuthenticationErrorConstants.VID_EXPIRED_DEACTIVATED_REVOKED;
+			}
+			throw new IdAuthenticationBusinessException(errorConstant);
+		}
+	}
+
+	/**
+	 * Builds the identity response from the decrypted attributes.
+	 *
+	 * @param identityData the decrypted demographic and biometric attributes
+	 * @param token the token
+	 * @param hashedId the hashed id
+	 * @return the response map
+	 */
+	private Map<String, Object> buildIdentityResponse(Map<String, Object> identityData, String token, String hashedId) {
+		Map<String, Object> responseMap = new LinkedHashMap<>(identityData);
+		responseMap.put(TOKEN, token);
+		responseMap.put(ID_HASH, hashedId);
+		return responseMap;
+	}
+
 	/**
 	 * Decrypt the attributes as per configuration.
 	 * @param id
@@ -345,6 +387,7 @@ public class IdServiceImpl implements IdService<AutnTxn> {
 					} else {
 						identityRepo.deleteById(vid);
 					}
+					identityDataCache.invalidate(vid);
 				}
 			}
 
@@ -0,0 +1,141 @@
+package io.mosip.authentication.common.service.impl;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.mosip.authentication.common.service.util.EnvUtil;
+import io.mosip.authentication.core.spi.otp.service.OtpRequestLimiter;
+
+/**
+ * The Class InMemoryOtpRequestLimiter keeps the times of the allowed OTP
+ * requests of each token within the flooding duration in memory, at most one
+ * more than the flooding max count per token. The limit applies per instance
+ * and the request times are lost on restart, so with the OTP requests of a
+ * token balanced across N instances up to N times the max count are allowed.
+ * A deployment needing a limit shared by the instances provides a primary
+ * {@link OtpRequestLimiter} bean backed by a shared store. Tokens without a
+ * request within the flooding duration are removed every minute.
+ */
+@Component
+public class InMemoryOtpRequestLimiter implements OtpRequestLimiter, MeterBinder {
+
+	private static final long CLEANUP_INTERVAL_MILLIS = 60_000;
+
+	/** The task scheduler. */
+	@Autowired
+	private ThreadPoolTaskScheduler taskScheduler;
+
+	/** The times of the allowed requests by token, oldest first. */
+	private final Map<String, Deque<Long>> requestTimes = new ConcurrentHashMap<>();
+
+	/** The nano time source. */
+	private LongSupplier nanoTime = System::nanoTime;
+
+	/** The number of requests found flooded. */
+	private final LongAdder floodedCount = new LongAdder();
+
+	private ScheduledFuture<?> scheduledCleanup;
+
+	/**
+	 * Schedules the removal of the tokens without a recent request.
+	 */
+	@PostConstruct
+	public void init() {
+		scheduledCleanup = taskScheduler.scheduleWithFixedDelay(this::removeExpired, CLEANUP_INTERVAL_MILLIS);
+	}
+
+	/**
+	 * Stops the removal of the tokens without a recent request.
+	 */
+	@PreDestroy
+	public void destroy() {
+		if (scheduledCleanup != null) {
+			scheduledCleanup.cancel(false);
+		}
+	}
+
+	@Override
+	public boolean isRequestFlooded(String token) {
+		long now = nanoTime.getAsLong();
+		long windowStart = getWindowStart(now);
+		int maxCount = EnvUtil.getOtpRequestFloodingMaxCount();
+		boolean[] flooded = new boolean[1];
+		requestTimes.compute(token, (key, times) -> {
+			Deque<Long> tokenRequestTimes = times == null ? new ArrayDeque<>() : times;
+			removeBefore(tokenRequestTimes, windowStart);
+			if (tokenRequestTimes.size() > maxCount) {
+				flooded[0] = true;
+			} else {
+				tokenRequestTimes.addLast(now);
+			}
+			return tokenRequestTimes;
+		});
+		if (flooded[0]) {
+			floodedCount.increment();
+		}
+		return flooded[0];
+	}
+
+	/**
+	 * Removes the tokens without a request within the flooding duration.
+	 */
+	public void removeExpired() {
+		long windowStart = getWindowStart(nanoTime.getAsLong());
+		requestTimes.keySet().forEach(token -> requestTimes.computeIfPresent(token, (key, times) -> {
+			removeBefore(times, windowStart);
+			return times.isEmpty() ? null : times;
+		}));
+	}
+
+	private static long getWindowStart(long now) {
+		return now - TimeUnit.MINUTES.toNanos(EnvUtil.getOtpRequestFloodingDuration());
+	}
+
+	private static void removeBefore(Deque<Long> times, long windowStart) {
+		while (!times.isEmpty() && times.peekFirst() - windowStart < 0) {
+			times.pollFirst();
+		}
+	}
+
+	/**
+	 * Gets the number of tokens with a request within the flooding duration,
+	 * including the ones not yet removed.
+	 *
+	 * @return the token count
+	 */
+	public int getTokenCount() {
+		return requestTimes.size();
+	}
+
+	public long getFloodedCount() {
+		return floodedCount.sum();
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		FunctionCounter.builder("ida.otp.request-limiter.flooded", this, InMemoryOtpRequestLimiter::getFloodedCount)
+				.description("The number of OTP requests rejected as flooded.")
+				.register(registry);
+		Gauge.builder("ida.otp.request-limiter.tokens", this, InMemoryOtpRequestLimiter::getTokenCount)
+				.description("The number of tokens with a recent OTP request.")
+				.register(registry);
+	}
+
+}
@@ -0,0 +1,91 @@
+package io.mosip.authentication.common.service.impl;
+
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.MOSIP_KERNEL_OTP_DEFAULT_LENGTH;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.OTP_GENERATOR_LENGTH;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.OTP_GENERATOR_SCHEME;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.OTP_GENERATOR_TYPE;
+
+import java.security.SecureRandom;
+import java.util.Locale;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import io.mosip.authentication.core.constant.IdAuthCommonConstants;
+import io.mosip.authentication.core.logger.IdaLogger;
+import io.mosip.authentication.core.spi.otp.service.OtpGenerator;
+import io.mosip.kernel.core.logger.spi.Logger;
+
+/**
+ * The Class LocalOtpGenerator generates the OTP values from a secure random
+ * number generator within ID Authentication, instead of requesting them from
+ * the kernel OTP manager. It is used by the services importing it when the
+ * OTP generator type is {@value #TYPE}.
+ */
+@Component
+@ConditionalOnProperty(value = OTP_GENERATOR_TYPE, havingValue = LocalOtpGenerator.TYPE)
+public class LocalOtpGenerator implements OtpGenerator {
+
+	/** The OTP generator type selecting this implementation. */
+	public static final String TYPE = "local";
+
+	/** The logger. */
+	private static Logger logger = IdaLogger.getLogger(LocalOtpGenerator.class);
+
+	@Value("${" + OTP_GENERATOR_LENGTH + ":${" + MOSIP_KERNEL_OTP_DEFAULT_LENGTH + ":6}}")
+	private int length;
+
+	@Value("${" + OTP_GENERATOR_SCHEME + ":numeric}")
+	private String scheme;
+
+	private final SecureRandom random = new SecureRandom();
+
+	/** The characters of the configured scheme. */
+	private String characters;
+
+	/**
+	 * Validates the configured length and scheme.
+	 */
+	@PostConstruct
+	public void init() {
+		if (length <= 0) {
+			throw new IllegalArgumentException(OTP_GENERATOR_LENGTH + " should be greater than 0");
+		}
+		characters = OtpScheme.valueOf(scheme.toUpperCase(Locale.ROOT)).getCharacters();
+		logger.info(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "init",
+				"local otp generator enabled with length: " + length + ", scheme: " + scheme);
+	}
+
+	@Override
+	public String generateOtp(String key) {
+		char[] otp = new char[length];
+		for (int i = 0; i < length; i++) {
+			otp[i] = characters.charAt(random.nextInt(characters.length()));
+		}
+		return new String(otp);
+	}
+
+	/**
+	 * The OTP schemes.
+	 */
+	private enum OtpScheme {
+
+		NUMERIC("0123456789"),
+
+		ALPHANUMERIC("0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ");
+
+		private final String characters;
+
+		OtpScheme(String characters) {
+			this.characters = characters;
+		}
+
+		String getCharacters() {
+			return characters;
+		}
+	}
+
+}
@@ -13,6 +13,7 @@ import io.mosip.authentication.common.service.builder.AuthStatusInfoBuilder;
 import io.mosip.authentication.common.service.builder.MatchInputBuilder;
 import io.mosip.authentication.common.service.config.IDAMappingConfig;
 import io.mosip.authentication.common.service.entity.AutnTxn;
+import io.mosip.authentication.common.service.helper.AutnTxnSink;
 import io.mosip.authentication.common.service.helper.IdInfoHelper;
 import io.mosip.authentication.common.service.impl.match.PinAuthType;
 import io.mosip.authentication.common.service.impl.match.PinMatchType;
@@ -49,6 +50,10 @@ public class OTPAuthServiceImpl implements OTPAuthService {
 	/** The autntxnrepository. */
 	@Autowired
 	private AutnTxnRepository autntxnrepository;
+
+	/** The auth transaction sink. */
+	@Autowired
+	private AutnTxnSink autnTxnSink;
 	
 	/** The mosipLogger. */
 	private static Logger mosipLogger = IdaLogger.getLogger(OTPAuthServiceImpl.class);
@@ -178,8 +183,11 @@ public class OTPAuthServiceImpl implements OTPAuthService {
 
 	public boolean validateTxnAndIdvidPartner(String txnId, String token, String idType, String partnerId) throws IdAuthenticationBusinessException {
 		boolean validOtpAuth;
-		Optional<AutnTxn> authTxn = autntxnrepository
-				.findByTxnId(txnId, PageRequest.of(0, 1), RequestType.OTP_REQUEST.getType()).stream().findFirst();
+		Optional<AutnTxn> authTxn = autnTxnSink
+				.findLatestPending(txn -> txnId.equals(txn.getRequestTrnId())
+						&& RequestType.OTP_REQUEST.getType().equals(txn.getAuthTypeCode()))
+				.or(() -> autntxnrepository.findByTxnId(txnId, PageRequest.of(0, 1), RequestType.OTP_REQUEST.getType())
+						.stream().findFirst());
 		if (!authTxn.isPresent()) {
 			mosipLogger.error(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), AUTHENTICATE,
 					"Invalid TransactionID");
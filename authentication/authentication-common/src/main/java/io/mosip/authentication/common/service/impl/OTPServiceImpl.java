@@ -1,8 +1,5 @@
 package io.mosip.authentication.common.service.impl;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.time.temporal.ChronoUnit;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -10,8 +7,6 @@ import java.util.Map;
 import java.util.Optional;
 
 import io.mosip.authentication.authfilter.exception.IdAuthenticationFilterException;
-import io.mosip.authentication.common.service.entity.AuthtypeLock;
-import io.mosip.authentication.common.service.repository.AuthLockRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
@@ -23,7 +18,6 @@ import io.mosip.authentication.common.service.helper.IdInfoHelper;
 import io.mosip.authentication.common.service.impl.match.DemoMatchType;
 import io.mosip.authentication.common.service.integration.OTPManager;
 import io.mosip.authentication.common.service.integration.TokenIdManager;
-import io.mosip.authentication.common.service.repository.AutnTxnRepository;
 import io.mosip.authentication.common.service.repository.IdaUinHashSaltRepo;
 import io.mosip.authentication.common.service.transaction.manager.IdAuthSecurityManager;
 import io.mosip.authentication.common.service.util.EnvUtil;
@@ -42,15 +36,16 @@ import io.mosip.authentication.core.otp.dto.MaskedResponseDTO;
 import io.mosip.authentication.core.otp.dto.OtpRequestDTO;
 import io.mosip.authentication.core.otp.dto.OtpResponseDTO;
 import io.mosip.authentication.core.partner.dto.PartnerDTO;
+import io.mosip.authentication.core.spi.authtype.status.service.AuthtypeStatusService;
 import io.mosip.authentication.core.spi.id.service.IdService;
 import io.mosip.authentication.core.spi.indauth.match.IdInfoFetcher;
 import io.mosip.authentication.core.spi.otp.service.OTPService;
+import io.mosip.authentication.core.spi.otp.service.OtpRequestLimiter;
 import io.mosip.authentication.core.spi.partner.service.PartnerService;
 import io.mosip.authentication.core.util.LanguageComparator;
 import io.mosip.authentication.core.util.MaskUtil;
-import io.mosip.kernel.core.exception.ParseException;
+import io.mosip.idrepository.core.dto.AuthtypeStatus;
 import io.mosip.kernel.core.logger.spi.Logger;
-import io.mosip.kernel.core.util.DateUtils;
 
 /**
  * Service implementation of OtpTriggerService.
@@ -74,13 +69,13 @@ public class OTPServiceImpl implements OTPService {
 	@Autowired
 	private IdService<AutnTxn> idAuthService;
 
-	/** The autntxnrepository. */
+	/** The otp request limiter. */
 	@Autowired
-	private AutnTxnRepository autntxnrepository;
+	private OtpRequestLimiter otpRequestLimiter;
 
-	/** The auth lock repository. */
+	/** The auth type status service. */
 	@Autowired
-	AuthLockRepository authLockRepository;
+	private AuthtypeStatusService authtypeStatusService;
 
 	/** The env. */
 	@Autowired
@@ -163,7 +158,7 @@ public class OTPServiceImpl implements OTPService {
 
 	}
 
-	private void validateAllowedOtpChannles(String token, List<String> otpChannel) throws IdAuthenticationFilterException {
+	private void validateAllowedOtpChannles(String token, List<String> otpChannel) throws IdAuthenticationBusinessException {
 
 		if(otpChannel.stream().anyMatch(channel -> OTP.equalsIgnoreCase(channel))) {
 			checkAuthLock(token, OTP);
@@ -176,10 +171,12 @@ public class OTPServiceImpl implements OTPService {
 		}
 	}
 
-	private void checkAuthLock(String token, String authTypeCode) throws IdAuthenticationFilterException {
-		List<AuthtypeLock> authTypeLocks = authLockRepository.findByTokenAndAuthtypecode(token, authTypeCode);
-		for(AuthtypeLock authtypeLock : authTypeLocks) {
-			if(authtypeLock.getStatuscode().equalsIgnoreCase("true")){
+	private void checkAuthLock(String token, String authTypeCode) throws IdAuthenticationBusinessException {
+		List<AuthtypeStatus> authTypeStatusList = authtypeStatusService.fetchAuthtypeStatus(token);
+		for(AuthtypeStatus authTypeStatus : authTypeStatusList) {
+			String code = authTypeStatus.getAuthSubType() == null ? authTypeStatus.getAuthType()
+					: authTypeStatus.getAuthType() + "-" + authTypeStatus.getAuthSubType();
+			if(code.equalsIgnoreCase(authTypeCode) && authTypeStatus.getLocked()){
 				throw new IdAuthenticationFilterException(
 						IdAuthenticationErrorConstants.AUTH_TYPE_LOCKED.getErrorCode(),
 						String.format(IdAuthenticationErrorConstants.AUTH_TYPE_LOCKED.getErrorMessage(),
@@ -201,10 +198,9 @@ public class OTPServiceImpl implements OTPService {
 	private OtpResponseDTO doGenerateOTP(OtpRequestDTO otpRequestDto, String partnerId, boolean isInternal, String token, String individualIdType, Map<String, Object> idResDTO)
 			throws IdAuthenticationBusinessException, IDDataValidationException {
 		String individualId = otpRequestDto.getIndividualId();
-		String requestTime = otpRequestDto.getRequestTime();
 		OtpResponseDTO otpResponseDTO = new OtpResponseDTO();
 		
-		if (isOtpFlooded(token, requestTime)) {
+		if (otpRequestLimiter.isRequestFlooded(token)) {
 			throw new IdAuthenticationBusinessException(IdAuthenticationErrorConstants.OTP_REQUEST_FLOODED);
 		} else {
 			String transactionId = otpRequestDto.getTransactionID();
@@ -289,36 +285,6 @@ public class OTPServiceImpl implements OTPService {
 
 	}	
 
-	/**
-	 * Validate the number of request for OTP generation. Limit for the number of
-	 * request for OTP is should not exceed 3 in 60sec.
-	 *
-	 * @return true, if is otp flooded
-	 * @throws IdAuthenticationBusinessException
-	 */
-	private boolean isOtpFlooded(String token, String requestTime) throws IdAuthenticationBusinessException {
-		boolean isOtpFlooded = false;
-		LocalDateTime reqTime;
-		try {
-			String strUTCDate = DateUtils.getUTCTimeFromDate(
-					DateUtils.parseToDate(requestTime, EnvUtil.getDateTimePattern()));
-			reqTime = LocalDateTime.parse(strUTCDate,
-					DateTimeFormatter.ofPattern(EnvUtil.getDateTimePattern()));
-
-		} catch (ParseException e) {
-			mosipLogger.error(IdAuthCommonConstants.SESSION_ID, this.getClass().getName(), e.getClass().getName(),
-					e.getMessage());
-			throw new IdAuthenticationBusinessException(IdAuthenticationErrorConstants.UNABLE_TO_PROCESS, e);
-		}
-		int addMinutes = EnvUtil.getOtpRequestFloodingDuration();
-		LocalDateTime addMinutesInOtpRequestDTimes = reqTime.minus(addMinutes, ChronoUnit.MINUTES);
-		int maxCount = EnvUtil.getOtpRequestFloodingMaxCount();
-		if (autntxnrepository.countRequestDTime(reqTime, addMinutesInOtpRequestDTimes, token) > maxCount) {
-			isOtpFlooded = true;
-		}
-		return isOtpFlooded;
-	}
-
 	private void processChannel(String value, String phone, String email, MaskedResponseDTO maskedResponseDTO) throws IdAuthenticationBusinessException {
 		if (value.equalsIgnoreCase(NotificationType.SMS.getChannel())) {
 			maskedResponseDTO.setMaskedMobile(MaskUtil.maskMobile(phone));
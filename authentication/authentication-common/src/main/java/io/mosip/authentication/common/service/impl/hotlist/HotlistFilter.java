@@ -0,0 +1,374 @@
+package io.mosip.authentication.common.service.impl.hotlist;
+
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.HOTLIST_FILTER_ENABLED;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.HOTLIST_FILTER_FALSE_POSITIVE_PROBABILITY;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.HOTLIST_FILTER_MAX_STALENESS_MILLIS;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.HOTLIST_FILTER_MAX_MEMORY_BYTES;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.HOTLIST_FILTER_REBUILD_INTERVAL_MILLIS;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.mosip.authentication.common.service.entity.HotlistCache;
+import io.mosip.authentication.common.service.repository.HotlistCacheRepository;
+import io.mosip.authentication.core.constant.IdAuthCommonConstants;
+import io.mosip.authentication.core.logger.IdaLogger;
+import io.mosip.authentication.core.util.CountingBloomFilter;
+import io.mosip.kernel.core.exception.ExceptionUtils;
+import io.mosip.kernel.core.logger.spi.Logger;
+
+/**
+ * The Class HotlistFilter keeps a counting Bloom filter of the hotlisted id
+ * hashes per id type, so that the hotlist status of an id which is definitely
+ * not hotlisted is answered without looking it up. The filters are built from
+ * the hotlist cache table at startup and rebuilt periodically, which also
+ * brings in the hotlist events handled by other instances, and are updated in
+ * place once the transactions of this instance commit. Each filter is sized
+ * for twice its current entries at the configured false positive
+ * probability, sharing the configured memory between the id types, and is
+ * rebuilt when it outgrows that size. An id hotlisted through another instance
+ * is therefore only ruled in once the next rebuild reads it. Until the first
+ * build succeeds, and once the last successful build is older than the max
+ * staleness, every id is looked up. The filter is disabled by default.
+ */
+@Component
+public class HotlistFilter implements MeterBinder {
+
+	/** The logger. */
+	private static Logger logger = IdaLogger.getLogger(HotlistFilter.class);
+
+	/** The minimum number of entries a filter is sized for. */
+	private static final int MIN_EXPECTED_ENTRIES = 1000;
+
+	@Value("${" + HOTLIST_FILTER_ENABLED + ":false}")
+	private boolean enabled;
+
+	@Value("${" + HOTLIST_FILTER_FALSE_POSITIVE_PROBABILITY + ":0.01}")
+	private double falsePositiveProbability;
+
+	@Value("${" + HOTLIST_FILTER_MAX_MEMORY_BYTES + ":1048576}")
+	private long maxMemoryBytes;
+
+	@Value("${" + HOTLIST_FILTER_REBUILD_INTERVAL_MILLIS + ":60000}")
+	private long rebuildIntervalMillis;
+
+	@Value("${" + HOTLIST_FILTER_MAX_STALENESS_MILLIS + ":300000}")
+	private long maxStalenessMillis;
+
+	@Autowired
+	private HotlistCacheRepository hotlistCacheRepo;
+
+	/** The task scheduler. */
+	@Autowired
+	private ThreadPoolTaskScheduler taskScheduler;
+
+	/** The filters by id type, null until built. */
+	private volatile Map<String, CountingBloomFilter> filters;
+
+	/** The time of the last successful build. */
+	private volatile long builtNanos;
+
+	private LongSupplier nanoTime = System::nanoTime;
+
+	/**
+	 * The entries added while a rebuild is reading the database, added again to
+	 * the rebuilt filters. The removals are not replayed, as removing an entry
+	 * the rebuild did not read could remove other entries.
+	 */
+	private List<Consumer<Map<String, CountingBloomFilter>>> addedDuringRebuild;
+
+	private ScheduledFuture<?> scheduledRebuild;
+
+	/** The number of ids found not hotlisted by the filter. */
+	private final LongAdder negativeCount = new LongAdder();
+
+	/** The number of ids passed by the filter and found hotlisted. */
+	private final LongAdder confirmedCount = new LongAdder();
+
+	/** The number of ids passed by the filter and not found hotlisted. */
+	private final LongAdder falsePositiveCount = new LongAdder();
+
+	private volatile Timer rebuildTimer;
+
+	/**
+	 * Builds the filters and schedules the periodic rebuild.
+	 */
+	@PostConstruct
+	public void init() {
+		if (enabled) {
+			rebuild();
+			scheduledRebuild = taskScheduler.scheduleWithFixedDelay(this::rebuild, rebuildIntervalMillis);
+			logger.info(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "init",
+					"hotlist filter enabled with false-positive-probability: " + falsePositiveProbability
+							+ ", max-memory-bytes: " + maxMemoryBytes + ", rebuild-interval-millis: "
+							+ rebuildIntervalMillis);
+		}
+	}
+
+	/**
+	 * Stops the periodic rebuild.
+	 */
+	@PreDestroy
+	public void destroy() {
+		if (scheduledRebuild != null) {
+			scheduledRebuild.cancel(false);
+		}
+	}
+
+	/**
+	 * Checks if the filters are built, no longer ago than the max staleness.
+	 *
+	 * @return true, if is built
+	 */
+	public boolean isBuilt() {
+		return filters != null && !isStale();
+	}
+
+	private boolean isStale() {
+		return nanoTime.getAsLong() - builtNanos > TimeUnit.MILLISECONDS.toNanos(maxStalenessMillis);
+	}
+
+	/**
+	 * Checks if the id might be hotlisted. A false result means the id is
+	 * definitely not hotlisted. Every id might be hotlisted until the filters are
+	 * built and once they are stale.
+	 *
+	 * @param idHash the id hash
+	 * @param idType the id type
+	 * @return true, if the id might be hotlisted
+	 */
+	public boolean mightContain(String idHash, String idType) {
+		Map<String, CountingBloomFilter> currentFilters = filters;
+		if (currentFilters == null || isStale()) {
+			return true;
+		}
+		CountingBloomFilter filter = currentFilters.get(idType);
+		if (filter == null || !filter.mightContain(idHash)) {
+			negativeCount.increment();
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Records the outcome of the lookup of an id passed by the filter.
+	 *
+	 * @param hotlisted whether the id was found hotlisted
+	 */
+	public void recordLookup(boolean hotlisted) {
+		if (isBuilt()) {
+			(hotlisted ? confirmedCount : falsePositiveCount).increment();
+		}
+	}
+
+	/**
+	 * Rebuilds the filters from the database, if enabled. Only one rebuild runs at
+	 * a time.
+	 */
+	public void rebuild() {
+		if (!enabled) {
+			return;
+		}
+		synchronized (this) {
+			if (addedDuringRebuild != null) {
+				return;
+			}
+			addedDuringRebuild = new ArrayList<>();
+		}
+		long startTime = nanoTime.getAsLong();
+		Map<String, CountingBloomFilter> rebuiltFilters;
+		try {
+			Map<String, List<String>> idHashesByType = hotlistCacheRepo.findAll().stream()
+					.collect(Collectors.groupingBy(HotlistCache::getIdType,
+							Collectors.mapping(HotlistCache::getIdHash, Collectors.toList())));
+			long totalExpected = idHashesByType.values().stream().mapToLong(this::expectedEntries).sum();
+			rebuiltFilters = new HashMap<>();
+			for (Map.Entry<String, List<String>> idHashes : idHashesByType.entrySet()) {
+				int expected = expectedEntries(idHashes.getValue());
+				CountingBloomFilter filter = CountingBloomFilter.create(expected, falsePositiveProbability,
+						Math.max(1, maxMemoryBytes * expected / totalExpected));
+				idHashes.getValue().forEach(filter::add);
+				rebuiltFilters.put(idHashes.getKey(), filter);
+			}
+		} catch (RuntimeException e) {
+			synchronized (this) {
+				addedDuringRebuild = null;
+				if (filters != null && isStale()) {
+					// Dropped rather than kept answering with the hotlist of the last build
+					filters = null;
+				}
+			}
+			logger.error(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "rebuild",
+					"Error building hotlist filter" + (isBuilt() ? "" : ", every id is looked up") + ": "
+							+ ExceptionUtils.getStackTrace(e));
+			return;
+		}
+		synchronized (this) {
+			addedDuringRebuild.forEach(addition -> addition.accept(rebuiltFilters));
+			addedDuringRebuild = null;
+			filters = rebuiltFilters;
+			// Counted from the start, as the hotlist events of other instances are read up to then
+			builtNanos = startTime;
+		}
+		if (rebuildTimer != null) {
+			rebuildTimer.record(nanoTime.getAsLong() - startTime, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	private int expectedEntries(List<String> idHashes) {
+		return Math.max(MIN_EXPECTED_ENTRIES, idHashes.size() * 2);
+	}
+
+	/**
+	 * Adds the newly hotlisted id once the current transaction commits.
+	 *
+	 * @param idHash the id hash
+	 * @param idType the id type
+	 */
+	public void add(String idHash, String idType) {
+		if (!enabled) {
+			return;
+		}
+		afterCommit(() -> apply(targetFilters -> add(targetFilters, idHash, idType)));
+	}
+
+	private synchronized void apply(Consumer<Map<String, CountingBloomFilter>> addition) {
+		if (addedDuringRebuild != null) {
+			addedDuringRebuild.add(addition);
+		}
+		if (filters != null) {
+			// Copied on write, as the lookups read the filters without locking
+			Map<String, CountingBloomFilter> updatedFilters = new HashMap<>(filters);
+			addition.accept(updatedFilters);
+			filters = updatedFilters;
+		}
+	}
+
+	/**
+	 * Adds the id to the filter of its id type, creating the filter if needed. The
+	 * filters are rebuilt when it outgrows its size.
+	 */
+	private void add(Map<String, CountingBloomFilter> targetFilters, String idHash, String idType) {
+		CountingBloomFilter filter = targetFilters.computeIfAbsent(idType,
+				newIdType -> CountingBloomFilter.create(MIN_EXPECTED_ENTRIES, falsePositiveProbability,
+						Math.max(1, maxMemoryBytes / (targetFilters.size() + 1))));
+		filter.add(idHash);
+		if (filter.size() > filter.getCapacity()) {
+			taskScheduler.execute(this::rebuild);
+		}
+	}
+
+	/**
+	 * Removes the hotlisted id once the current transaction commits.
+	 *
+	 * @param idHash the id hash
+	 * @param idType the id type
+	 */
+	public void remove(String idHash, String idType) {
+		if (!enabled) {
+			return;
+		}
+		afterCommit(() -> {
+			Map<String, CountingBloomFilter> currentFilters = filters;
+			CountingBloomFilter filter = currentFilters == null ? null : currentFilters.get(idType);
+			if (filter != null) {
+				filter.remove(idHash);
+			}
+		});
+	}
+
+	private void afterCommit(Runnable update) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+				@Override
+				public void afterCommit() {
+					update.run();
+				}
+			});
+		} else {
+			update.run();
+		}
+	}
+
+	/**
+	 * Gets the number of hotlisted ids in the filters.
+	 *
+	 * @return the size
+	 */
+	public int size() {
+		Map<String, CountingBloomFilter> currentFilters = filters;
+		return currentFilters == null ? 0 : currentFilters.values().stream().mapToInt(CountingBloomFilter::size).sum();
+	}
+
+	/**
+	 * Gets the memory used by the filters.
+	 *
+	 * @return the bytes
+	 */
+	public long getBytes() {
+		Map<String, CountingBloomFilter> currentFilters = filters;
+		return currentFilters == null ? 0
+				: currentFilters.values().stream().mapToLong(CountingBloomFilter::getBytes).sum();
+	}
+
+	public long getNegativeCount() {
+		return negativeCount.sum();
+	}
+
+	public long getConfirmedCount() {
+		return confirmedCount.sum();
+	}
+
+	public long getFalsePositiveCount() {
+		return falsePositiveCount.sum();
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		if (enabled) {
+			FunctionCounter.builder("ida.hotlist.filter.negatives", this, HotlistFilter::getNegativeCount)
+					.description("The number of ids found not hotlisted by the filter, without a lookup.")
+					.register(registry);
+			FunctionCounter.builder("ida.hotlist.filter.confirmed", this, HotlistFilter::getConfirmedCount)
+					.description("The number of ids passed by the filter and found hotlisted by the lookup.")
+					.register(registry);
+			FunctionCounter.builder("ida.hotlist.filter.false-positives", this, HotlistFilter::getFalsePositiveCount)
+					.description("The number of ids passed by the filter and not found hotlisted by the lookup.")
+					.register(registry);
+			Gauge.builder("ida.hotlist.filter.size", this, HotlistFilter::size)
+					.description("The number of hotlisted ids in the filters.")
+					.register(registry);
+			Gauge.builder("ida.hotlist.filter.bytes", this, HotlistFilter::getBytes)
+					.baseUnit("bytes")
+					.description("The memory used by the filters.")
+					.register(registry);
+			rebuildTimer = Timer.builder("ida.hotlist.filter.rebuild")
+					.description("The time taken to rebuild the hotlist filter from the database.")
+					.register(registry);
+		}
+	}
+
+}
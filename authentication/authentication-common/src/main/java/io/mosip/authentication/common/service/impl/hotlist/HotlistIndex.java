@@ -0,0 +1,248 @@
+package io.mosip.authentication.common.service.impl.hotlist;
+
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.HOTLIST_INDEX_ENABLED;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.HOTLIST_INDEX_MAX_STALENESS_MILLIS;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.HOTLIST_INDEX_REFRESH_INTERVAL_MILLIS;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.mosip.authentication.common.service.entity.HotlistCache;
+import io.mosip.authentication.common.service.repository.HotlistCacheRepository;
+import io.mosip.authentication.core.constant.IdAuthCommonConstants;
+import io.mosip.authentication.core.logger.IdaLogger;
+import io.mosip.kernel.core.exception.ExceptionUtils;
+import io.mosip.kernel.core.logger.spi.Logger;
+
+/**
+ * The Class HotlistIndex keeps a node-local copy of the hotlist cache table,
+ * keyed by the id hash and id type, so that the hotlist status is looked up
+ * without a database query. The index is loaded at startup and reloaded from
+ * the database periodically, which also brings in the hotlist events handled by
+ * other instances. The hotlist events handled by this instance update the index
+ * in place once their transaction commits. Until the first load succeeds, and
+ * whenever the last successful load is older than the max staleness, the
+ * lookups go to the database. The index is disabled by default.
+ */
+@Component
+public class HotlistIndex implements MeterBinder {
+
+	/** The logger. */
+	private static Logger logger = IdaLogger.getLogger(HotlistIndex.class);
+
+	@Value("${" + HOTLIST_INDEX_ENABLED + ":false}")
+	private boolean enabled;
+
+	@Value("${" + HOTLIST_INDEX_REFRESH_INTERVAL_MILLIS + ":60000}")
+	private long refreshIntervalMillis;
+
+	@Value("${" + HOTLIST_INDEX_MAX_STALENESS_MILLIS + ":300000}")
+	private long maxStalenessMillis;
+
+	@Autowired
+	private HotlistCacheRepository hotlistCacheRepo;
+
+	/** The task scheduler. */
+	@Autowired
+	private ThreadPoolTaskScheduler taskScheduler;
+
+	/** The hotlisted entries by id hash and id type, null until loaded. */
+	private volatile Map<List<String>, HotlistCache> entries;
+
+	/** The time of the last successful load. */
+	private volatile long loadedNanos;
+
+	private LongSupplier nanoTime = System::nanoTime;
+
+	/** The updates made while a reload is reading the database, replayed on the reloaded entries. */
+	private List<Consumer<Map<List<String>, HotlistCache>>> updatesDuringReload;
+
+	private ScheduledFuture<?> scheduledRefresh;
+
+	private volatile Timer refreshTimer;
+
+	/**
+	 * Loads the index and schedules the periodic refresh.
+	 */
+	@PostConstruct
+	public void init() {
+		if (enabled) {
+			refresh();
+			scheduledRefresh = taskScheduler.scheduleWithFixedDelay(this::refresh, refreshIntervalMillis);
+			logger.info(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "init",
+					"hotlist index enabled with refresh-interval-millis: " + refreshIntervalMillis);
+		}
+	}
+
+	/**
+	 * Stops the periodic refresh.
+	 */
+	@PreDestroy
+	public void destroy() {
+		if (scheduledRefresh != null) {
+			scheduledRefresh.cancel(false);
+		}
+	}
+
+	/**
+	 * Checks if the index is loaded, no longer ago than the max staleness, and
+	 * can answer the lookups.
+	 *
+	 * @return true, if is loaded
+	 */
+	public boolean isLoaded() {
+		return entries != null
+				&& nanoTime.getAsLong() - loadedNanos <= TimeUnit.MILLISECONDS.toNanos(maxStalenessMillis);
+	}
+
+	/**
+	 * Looks up the hotlist entry.
+	 *
+	 * @param idHash the id hash
+	 * @param idType the id type
+	 * @return the hotlist entry, if hotlisted
+	 */
+	public Optional<HotlistCache> lookup(String idHash, String idType) {
+		return Optional.ofNullable(entries.get(List.of(idHash, idType)));
+	}
+
+	/**
+	 * Gets the number of hotlisted entries.
+	 *
+	 * @return the size
+	 */
+	public int size() {
+		Map<List<String>, HotlistCache> currentEntries = entries;
+		return currentEntries == null ? 0 : currentEntries.size();
+	}
+
+	/**
+	 * Reloads the index from the database.
+	 */
+	public void refresh() {
+		synchronized (this) {
+			if (updatesDuringReload != null) {
+				return;
+			}
+			updatesDuringReload = new ArrayList<>();
+		}
+		long startTime = nanoTime.getAsLong();
+		Map<List<String>, HotlistCache> reloadedEntries = new HashMap<>();
+		try {
+			hotlistCacheRepo.findAll().forEach(hotlistCache -> reloadedEntries
+					.put(List.of(hotlistCache.getIdHash(), hotlistCache.getIdType()), copy(hotlistCache)));
+		} catch (RuntimeException e) {
+			logger.error(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "refresh",
+					"Error loading hotlist index" + (isLoaded() ? "" : ", the lookups go to the database") + ": "
+							+ ExceptionUtils.getStackTrace(e));
+			synchronized (this) {
+				updatesDuringReload = null;
+			}
+			return;
+		}
+		synchronized (this) {
+			updatesDuringReload.forEach(update -> update.accept(reloadedEntries));
+			updatesDuringReload = null;
+			entries = reloadedEntries;
+			// Counted from the start, as the hotlist events of other instances are read up to then
+			loadedNanos = startTime;
+		}
+		if (refreshTimer != null) {
+			refreshTimer.record(nanoTime.getAsLong() - startTime, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	/**
+	 * Adds or replaces the hotlist entry once the current transaction commits.
+	 *
+	 * @param hotlistCache the hotlist entry
+	 */
+	public void put(HotlistCache hotlistCache) {
+		HotlistCache entry = copy(hotlistCache);
+		List<String> key = List.of(entry.getIdHash(), entry.getIdType());
+		afterCommit(currentEntries -> currentEntries.put(key, entry));
+	}
+
+	/**
+	 * Removes the hotlist entry once the current transaction commits.
+	 *
+	 * @param idHash the id hash
+	 * @param idType the id type
+	 */
+	public void remove(String idHash, String idType) {
+		List<String> key = List.of(idHash, idType);
+		afterCommit(currentEntries -> currentEntries.remove(key));
+	}
+
+	private void afterCommit(Consumer<Map<List<String>, HotlistCache>> update) {
+		if (!enabled) {
+			return;
+		}
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+				@Override
+				public void afterCommit() {
+					apply(update);
+				}
+			});
+		} else {
+			apply(update);
+		}
+	}
+
+	private synchronized void apply(Consumer<Map<List<String>, HotlistCache>> update) {
+		if (updatesDuringReload != null) {
+			updatesDuringReload.add(update);
+		}
+		if (entries != null) {
+			// Copied on write, as the lookups read the entries without locking
+			Map<List<String>, HotlistCache> updatedEntries = new HashMap<>(entries);
+			update.accept(updatedEntries);
+			entries = updatedEntries;
+		}
+	}
+
+	private static HotlistCache copy(HotlistCache hotlistCache) {
+		HotlistCache copy = new HotlistCache();
+		copy.setIdHash(hotlistCache.getIdHash());
+		copy.setIdType(hotlistCache.getIdType());
+		copy.setStatus(hotlistCache.getStatus());
+		copy.setStartDTimes(hotlistCache.getStartDTimes());
+		copy.setExpiryDTimes(hotlistCache.getExpiryDTimes());
+		return copy;
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		if (enabled) {
+			Gauge.builder("ida.hotlist.index.size", this, HotlistIndex::size)
+					.description("The number of hotlisted entries in the hotlist index.")
+					.register(registry);
+			refreshTimer = Timer.builder("ida.hotlist.index.refresh")
+					.description("The time taken to reload the hotlist index from the database.")
+					.register(registry);
+		}
+	}
+
+}
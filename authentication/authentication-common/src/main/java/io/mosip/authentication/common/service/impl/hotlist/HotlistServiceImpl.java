@@ -1,10 +1,16 @@
 package io.mosip.authentication.common.service.impl.hotlist;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import javax.annotation.PostConstruct;
 import javax.transaction.Transactional;
@@ -18,6 +24,7 @@ import io.mosip.authentication.common.service.repository.HotlistCacheRepository;
 import io.mosip.authentication.core.constant.IdAuthCommonConstants;
 import io.mosip.authentication.core.exception.IdAuthenticationBusinessException;
 import io.mosip.authentication.core.hotlist.dto.HotlistDTO;
+import io.mosip.authentication.core.hotlist.dto.HotlistIdDTO;
 import io.mosip.authentication.core.indauth.dto.IdType;
 import io.mosip.authentication.core.spi.hotlist.service.HotlistService;
 import io.mosip.kernel.core.hotlist.constant.HotlistStatus;
@@ -54,6 +61,12 @@ public class HotlistServiceImpl implements HotlistService {
 	@Autowired
 	private HotlistCacheRepository hotlistCacheRepo;
 
+	@Autowired
+	private HotlistIndex hotlistIndex;
+
+	@Autowired
+	private HotlistFilter hotlistFilter;
+
 	@Override
 	public void updateHotlist(String id, String idType, String status, LocalDateTime expiryTimestamp)
 			throws IdAuthenticationBusinessException {
@@ -63,6 +76,7 @@ public class HotlistServiceImpl implements HotlistService {
 			hotlistCache.setStatus(status);
 			hotlistCache.setExpiryDTimes(expiryTimestamp);
 			hotlistCacheRepo.save(hotlistCache);
+			hotlistIndex.put(hotlistCache);
 		} else {
 			HotlistCache hotlistCache = new HotlistCache();
 			hotlistCache.setIdHash(id);
@@ -70,6 +84,8 @@ public class HotlistServiceImpl implements HotlistService {
 			hotlistCache.setStatus(status);
 			hotlistCache.setExpiryDTimes(expiryTimestamp);
 			hotlistCacheRepo.save(hotlistCache);
+			hotlistIndex.put(hotlistCache);
+			hotlistFilter.add(id, idType);
 		}
 	}
 
@@ -79,6 +95,8 @@ public class HotlistServiceImpl implements HotlistService {
 		if (hotlistData.isPresent()) {
 			HotlistCache hotlistCache = hotlistData.get();
 			hotlistCacheRepo.delete(hotlistCache);
+			hotlistIndex.remove(id, idType);
+			hotlistFilter.remove(id, idType);
 		}
 	}
 
@@ -98,8 +116,56 @@ public class HotlistServiceImpl implements HotlistService {
 	 */
 	@Override
 	public HotlistDTO getHotlistStatus(String id, String idType) {
+		if (!hotlistFilter.mightContain(id, idType)) {
+			return createHotlistDTO(Optional.empty());
+		}
+		Optional<HotlistCache> hotlistData = hotlistIndex.isLoaded() ? hotlistIndex.lookup(id, idType)
+				: hotlistCacheRepo.findByIdHashAndIdType(id, idType);
+		hotlistFilter.recordLookup(hotlistData.isPresent());
+		return createHotlistDTO(hotlistData);
+	}
+
+	/**
+	 * Retrieve the Hotlist Status information of all the ids, ruling them out with
+	 * the hotlist filter and looking up the rest with one hotlist index probe or
+	 * one database query.
+	 *
+	 * @param ids the ids
+	 * @return the HotlistDTO of each distinct id
+	 */
+	@Override
+	public Map<HotlistIdDTO, HotlistDTO> getHotlistStatus(Collection<HotlistIdDTO> ids) {
+		Map<HotlistIdDTO, HotlistDTO> hotlistStatus = new HashMap<>();
+		List<HotlistIdDTO> lookupIds = new ArrayList<>();
+		for (HotlistIdDTO hotlistId : new LinkedHashSet<>(ids)) {
+			if (hotlistFilter.mightContain(hotlistId.getIdHash(), hotlistId.getIdType())) {
+				lookupIds.add(hotlistId);
+			} else {
+				hotlistStatus.put(hotlistId, createHotlistDTO(Optional.empty()));
+			}
+		}
+		if (lookupIds.isEmpty()) {
+			return hotlistStatus;
+		}
+		boolean indexLoaded = hotlistIndex.isLoaded();
+		Map<HotlistIdDTO, HotlistCache> hotlistData = indexLoaded ? Map.of()
+				: hotlistCacheRepo
+						.findByIdHashIn(lookupIds.stream().map(HotlistIdDTO::getIdHash).collect(Collectors.toSet()))
+						.stream().collect(Collectors.toMap(
+								hotlistCache -> new HotlistIdDTO(hotlistCache.getIdHash(), hotlistCache.getIdType()),
+								Function.identity()));
+		for (HotlistIdDTO hotlistId : lookupIds) {
+			Optional<HotlistCache> hotlistCache = indexLoaded
+					? hotlistIndex.lookup(hotlistId.getIdHash(), hotlistId.getIdType())
+					: Optional.ofNullable(hotlistData.get(hotlistId));
+			hotlistFilter.recordLookup(hotlistCache.isPresent());
+			hotlistStatus.put(hotlistId, createHotlistDTO(hotlistCache));
+		}
+		return hotlistStatus;
+	}
+
+	private HotlistDTO createHotlistDTO(Optional<HotlistCache> hotlistData) {
 		HotlistDTO dto = new HotlistDTO();
-		Optional<HotlistCache> hotlistData = hotlistCacheRepo.findByIdHashAndIdType(id, idType);
 		if (hotlistData.isPresent()) {
 			HotlistCache hotlistCache = hotlistData.get();
 			dto.setStartDTimes(hotlistCache.getStartDTimes());
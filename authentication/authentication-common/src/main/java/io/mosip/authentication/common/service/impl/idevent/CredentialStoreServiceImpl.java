@@ -27,6 +27,10 @@ import org.springframework.util.Assert;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.mosip.authentication.common.service.cache.IdHashSaltTable;
+import io.mosip.authentication.common.service.cache.BirGalleryCache;
+import io.mosip.authentication.common.service.cache.IdentityDataCache;
+import io.mosip.authentication.common.service.cache.NormalizedTextCache;
 import io.mosip.authentication.common.service.entity.CredentialEventStore;
 import io.mosip.authentication.common.service.entity.IdaUinHashSalt;
 import io.mosip.authentication.common.service.entity.IdentityEntity;
@@ -114,6 +118,10 @@ public class CredentialStoreServiceImpl implements CredentialStoreService {
 	@Autowired
 	private IdaUinHashSaltRepo uinHashSaltRepo;
 
+	/** The ID hash salt table. */
+	@Autowired
+	private IdHashSaltTable idHashSaltTable;
+
 	/** The object mapper. */
 	@Autowired
 	private ObjectMapper objectMapper;
@@ -149,6 +157,18 @@ public class CredentialStoreServiceImpl implements CredentialStoreService {
 	/** The credential request manager. */
 	@Autowired
 	private CredentialRequestManager credentialRequestManager;
+
+	/** The identity data cache. */
+	@Autowired
+	private IdentityDataCache identityDataCache;
+
+	/** The BIR gallery cache. */
+	@Autowired
+	private BirGalleryCache birGalleryCache;
+
+	/** The normalized text cache. */
+	@Autowired
+	private NormalizedTextCache normalizedTextCache;
 	
 	/**
 	 * Process credential store event.
@@ -430,6 +450,10 @@ public class CredentialStoreServiceImpl implements CredentialStoreService {
 	@Override
 	public void storeIdentityEntity(List<? extends IdentityEntity> idEntities) {
 		identityCacheRepo.saveAll(idEntities);
+		identityDataCache.invalidate(idEntities.stream().map(IdentityEntity::getId).collect(Collectors.toList()));
+		List<String> tokens = idEntities.stream().map(IdentityEntity::getToken).collect(Collectors.toList());
+		birGalleryCache.invalidate(tokens);
+		normalizedTextCache.invalidate(tokens);
 	}
 
 	/**
@@ -467,6 +491,7 @@ public class CredentialStoreServiceImpl implements CredentialStoreService {
 			saltEntity.setCreatedBy(IDA);
 			saltEntity.setCreatedDTimes(DateUtils.getUTCCurrentDateTime());
 			uinHashSaltRepo.save(saltEntity);
+			idHashSaltTable.putSalt(saltModulo, salt);
 		}
 	}
 	
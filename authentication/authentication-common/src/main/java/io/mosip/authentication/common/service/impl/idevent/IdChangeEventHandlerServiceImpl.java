@@ -9,6 +9,9 @@ import javax.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import io.mosip.authentication.common.service.cache.BirGalleryCache;
+import io.mosip.authentication.common.service.cache.IdentityDataCache;
+import io.mosip.authentication.common.service.cache.NormalizedTextCache;
 import io.mosip.authentication.common.service.entity.IdentityEntity;
 import io.mosip.authentication.common.service.helper.AuditHelper;
 import io.mosip.authentication.common.service.repository.IdentityCacheRepository;
@@ -75,6 +78,18 @@ public class IdChangeEventHandlerServiceImpl implements IdChangeEventHandlerServ
 	
 	@Autowired
 	private CredentialStoreService credStorService;
+
+	/** The identity data cache. */
+	@Autowired
+	private IdentityDataCache identityDataCache;
+
+	/** The BIR gallery cache. */
+	@Autowired
+	private BirGalleryCache birGalleryCache;
+
+	/** The normalized text cache. */
+	@Autowired
+	private NormalizedTextCache normalizedTextCache;
 	
 	/* (non-Javadoc)
 	 * @see io.mosip.authentication.core.spi.idevent.service.IdChangeEventHandlerService#handleIdEvent(java.util.List)
@@ -186,7 +201,10 @@ public class IdChangeEventHandlerServiceImpl implements IdChangeEventHandlerServ
 		Optional<IdentityEntity> identityEntityOpt = identityCacheRepo.findById(idHash);
 		if(identityEntityOpt.isPresent()) {
 			identityCacheRepo.delete(identityEntityOpt.get());
+			birGalleryCache.invalidate(identityEntityOpt.get().getToken());
+			normalizedTextCache.invalidate(identityEntityOpt.get().getToken());
 		}
+		identityDataCache.invalidate(idHash);
 	}
 	
 	private void handleDeactivateId(EventModel eventModel) throws IdAuthenticationBusinessException {
@@ -212,6 +230,7 @@ public class IdChangeEventHandlerServiceImpl implements IdChangeEventHandlerServ
 			identityEntity.setTransactionLimit(transactionLimit);
 			
 			identityCacheRepo.save(identityEntity);
+			identityDataCache.invalidate(idHash);
 		} else {
 			throw new IdAuthenticationBusinessException(IdAuthenticationErrorConstants.INVALID_INPUT_PARAMETER.getErrorCode(), 
 					String.format(IdAuthenticationErrorConstants.INVALID_INPUT_PARAMETER.getErrorMessage(), ID_HASH));
@@ -20,6 +20,7 @@ public enum AddressMatchingStrategy implements TextMatchingStrategy {
 		return TextMatchingStrategy.normalizeAndMatch(reqInfo, 
 				entityInfo, 
 				props,
+				FullAddressMatchingStrategy.ADDRESS_NORMALIZER,
 				FullAddressMatchingStrategy::normalizeText,
 				getDemoMatcherUtilObject(props)::doExactMatch);
 	});
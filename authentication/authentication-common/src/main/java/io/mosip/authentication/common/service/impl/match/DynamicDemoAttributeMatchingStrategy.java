@@ -31,12 +31,14 @@ public enum DynamicDemoAttributeMatchingStrategy implements TextMatchingStrategy
 					return TextMatchingStrategy.normalizeAndMatch(reqInfo, 
 							entityInfo, 
 							props,
+							NameMatchingStrategy.NAME_NORMALIZER,
 							NameMatchingStrategy::normalizeText,
 							demoMatcherUtilObject::doExactMatch);
 				} else if(isFullAddressAttribute(idName, mappingConfig)) {
 					return TextMatchingStrategy.normalizeAndMatch(reqInfo, 
 							entityInfo, 
 							props,
+							FullAddressMatchingStrategy.ADDRESS_NORMALIZER,
 							FullAddressMatchingStrategy::normalizeText,
 							demoMatcherUtilObject::doExactMatch);
 				}
@@ -23,6 +23,7 @@ public enum FullAddressMatchingStrategy implements TextMatchingStrategy {
 		return TextMatchingStrategy.normalizeAndMatch(reqInfo, 
 				entityInfo, 
 				props,
+				FullAddressMatchingStrategy.ADDRESS_NORMALIZER,
 				FullAddressMatchingStrategy::normalizeText,
 				getDemoMatcherUtilObject(props)::doExactMatch);
 
@@ -30,12 +31,14 @@ public enum FullAddressMatchingStrategy implements TextMatchingStrategy {
 		return TextMatchingStrategy.normalizeAndMatch(reqInfo, 
 				entityInfo, 
 				props,
+				FullAddressMatchingStrategy.ADDRESS_NORMALIZER,
 				FullAddressMatchingStrategy::normalizeText,
 				getDemoMatcherUtilObject(props)::doPartialMatch);
 	}), PHONETICS(MatchingStrategyType.PHONETICS, (Object reqInfo, Object entityInfo, Map<String, Object> props) -> {
 		return TextMatchingStrategy.normalizeAndMatch(reqInfo, 
 				entityInfo,
 				props,
+				FullAddressMatchingStrategy.ADDRESS_NORMALIZER,
 				FullAddressMatchingStrategy::normalizeText,
 				(refInfoName, entityInfoName) -> {
 					String language = (String) props.get("language");
@@ -46,6 +49,9 @@ public enum FullAddressMatchingStrategy implements TextMatchingStrategy {
 
 	private final MatchingStrategyType matchStrategyType;
 
+	/** The name of the address normalizer, used to remember the normalized texts. */
+	public static final String ADDRESS_NORMALIZER = "address";
+
 	/**
 	 * Constructor for Full Address Matching Strategy
 	 * 
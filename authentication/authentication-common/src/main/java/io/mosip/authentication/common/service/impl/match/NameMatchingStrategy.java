@@ -22,6 +22,7 @@ public enum NameMatchingStrategy implements TextMatchingStrategy {
 		return TextMatchingStrategy.normalizeAndMatch(reqInfo, 
 				entityInfo, 
 				props,
+				NameMatchingStrategy.NAME_NORMALIZER,
 				NameMatchingStrategy::normalizeText,
 				getDemoMatcherUtilObject(props)::doExactMatch);
 
@@ -29,12 +30,14 @@ public enum NameMatchingStrategy implements TextMatchingStrategy {
 		return TextMatchingStrategy.normalizeAndMatch(reqInfo, 
 				entityInfo, 
 				props,
+				NameMatchingStrategy.NAME_NORMALIZER,
 				NameMatchingStrategy::normalizeText,
 				getDemoMatcherUtilObject(props)::doPartialMatch);
 	}), PHONETICS(MatchingStrategyType.PHONETICS, (Object reqInfo, Object entityInfo, Map<String, Object> props) -> {
 		return TextMatchingStrategy.normalizeAndMatch(reqInfo, 
 				entityInfo,
 				props,
+				NameMatchingStrategy.NAME_NORMALIZER,
 				NameMatchingStrategy::normalizeText,
 				(refInfoName, entityInfoName) -> {
 					String language = (String) props.get("language");
@@ -46,6 +49,9 @@ public enum NameMatchingStrategy implements TextMatchingStrategy {
 
 	private final MatchingStrategyType matchStrategyType;
 
+	/** The name of the name normalizer, used to remember the normalized texts. */
+	public static final String NAME_NORMALIZER = "name";
+
 	/**
 	 * Constructor for Name Matching Strategy
 	 * 
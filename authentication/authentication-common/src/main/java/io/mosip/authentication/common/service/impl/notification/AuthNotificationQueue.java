@@ -0,0 +1,176 @@
+package io.mosip.authentication.common.service.impl.notification;
+
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.AUTH_NOTIFICATION_QUEUE_CAPACITY;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.AUTH_NOTIFICATION_QUEUE_ENABLED;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.AUTH_NOTIFICATION_QUEUE_THREAD_COUNT;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.mosip.authentication.core.constant.IdAuthCommonConstants;
+import io.mosip.authentication.core.exception.IdAuthenticationBusinessException;
+import io.mosip.authentication.core.logger.IdaLogger;
+import io.mosip.kernel.core.exception.ExceptionUtils;
+import io.mosip.kernel.core.logger.spi.Logger;
+
+/**
+ * The Class AuthNotificationQueue takes the rendering and dispatch of the
+ * authentication notifications off the request threads. The notifications are
+ * queued in a bounded queue and sent by a fixed pool of workers. Notifications
+ * are dropped when the queue is full, and failed notifications are logged and
+ * counted. The queue is disabled by default.
+ */
+@Component
+public class AuthNotificationQueue implements MeterBinder {
+
+	/** The logger. */
+	private static Logger logger = IdaLogger.getLogger(AuthNotificationQueue.class);
+
+	@Value("${" + AUTH_NOTIFICATION_QUEUE_ENABLED + ":false}")
+	private boolean enabled;
+
+	@Value("${" + AUTH_NOTIFICATION_QUEUE_CAPACITY + ":1000}")
+	private int capacity;
+
+	@Value("${" + AUTH_NOTIFICATION_QUEUE_THREAD_COUNT + ":2}")
+	private int threadCount;
+
+	private ThreadPoolTaskExecutor executor;
+
+	private final LongAdder droppedCount = new LongAdder();
+
+	private final LongAdder failedCount = new LongAdder();
+
+	private volatile Timer sendTimer;
+
+	/**
+	 * The notification to be rendered and sent by a worker.
+	 */
+	@FunctionalInterface
+	public interface NotificationTask {
+
+		/**
+		 * Renders and sends the notification.
+		 *
+		 * @throws IdAuthenticationBusinessException the id authentication business
+		 *                                           exception
+		 */
+		void send() throws IdAuthenticationBusinessException;
+	}
+
+	/**
+	 * Initializes the worker pool.
+	 */
+	@PostConstruct
+	public void init() {
+		if (enabled) {
+			executor = new ThreadPoolTaskExecutor();
+			executor.setCorePoolSize(threadCount);
+			executor.setMaxPoolSize(threadCount);
+			executor.setQueueCapacity(capacity);
+			executor.setThreadNamePrefix("auth-notification-");
+			executor.setWaitForTasksToCompleteOnShutdown(true);
+			executor.setAwaitTerminationSeconds(10);
+			executor.initialize();
+			logger.info(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "init",
+					"auth notification queue enabled with capacity: " + capacity + ", thread-count: " + threadCount);
+		}
+	}
+
+	/**
+	 * Checks if the queue is enabled.
+	 *
+	 * @return true, if is enabled
+	 */
+	public boolean isEnabled() {
+		return executor != null;
+	}
+
+	/**
+	 * Queues the notification. The notification is dropped when the queue is
+	 * full.
+	 *
+	 * @param task the notification task
+	 */
+	public void submit(NotificationTask task) {
+		try {
+			executor.execute(() -> send(task));
+		} catch (TaskRejectedException e) {
+			droppedCount.increment();
+		}
+	}
+
+	private void send(NotificationTask task) {
+		long startTime = System.nanoTime();
+		try {
+			task.send();
+		} catch (IdAuthenticationBusinessException | RuntimeException e) {
+			failedCount.increment();
+			logger.error(IdAuthCommonConstants.SESSION_ID, this.getClass().getSimpleName(), "send",
+					"Error sending auth notification: " + ExceptionUtils.getStackTrace(e));
+		} finally {
+			if (sendTimer != null) {
+				sendTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+			}
+		}
+	}
+
+	/**
+	 * Stops accepting notifications and waits for the queued ones to be sent.
+	 */
+	@PreDestroy
+	public void destroy() {
+		if (isEnabled()) {
+			executor.shutdown();
+		}
+	}
+
+	/**
+	 * Gets the number of queued notifications.
+	 *
+	 * @return the size
+	 */
+	public int size() {
+		return isEnabled() ? executor.getThreadPoolExecutor().getQueue().size() : 0;
+	}
+
+	public long getDroppedCount() {
+		return droppedCount.sum();
+	}
+
+	public long getFailedCount() {
+		return failedCount.sum();
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		if (isEnabled()) {
+			Gauge.builder("ida.auth-notification.queue.size", this, AuthNotificationQueue::size)
+					.description("The number of auth notifications waiting to be sent.")
+					.register(registry);
+			FunctionCounter.builder("ida.auth-notification.queue.dropped", this, AuthNotificationQueue::getDroppedCount)
+					.description("The number of auth notifications dropped as the queue was full.")
+					.register(registry);
+			FunctionCounter.builder("ida.auth-notification.queue.failed", this, AuthNotificationQueue::getFailedCount)
+					.description("The number of auth notifications which could not be rendered or sent.")
+					.register(registry);
+			sendTimer = Timer.builder("ida.auth-notification.queue.send")
+					.description("The time taken to render and send an auth notification.")
+					.register(registry);
+		}
+	}
+
+}
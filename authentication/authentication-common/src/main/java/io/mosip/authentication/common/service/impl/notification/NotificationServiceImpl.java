@@ -80,17 +80,64 @@ public class NotificationServiceImpl implements NotificationService {
 	@Autowired
 	@Qualifier("NotificationLangComparator")
 	private LanguageComparator languageComparator;
+
+	/** The auth notification queue. */
+	@Autowired
+	private AuthNotificationQueue authNotificationQueue;
 	
 	public void sendAuthNotification(AuthRequestDTO authRequestDTO, String idvid, AuthResponseDTO authResponseDTO,
 			Map<String, List<IdentityInfoDTO>> idInfo, boolean isAuth) throws IdAuthenticationBusinessException {
+		if (authNotificationQueue.isEnabled()) {
+			// For internal auth no notification is done
+			if (isAuth) {
+				// Only the template values are queued, not the request and identity data
+				AuthNotification authNotification = createAuthNotification(authRequestDTO, idvid,
+						authResponseDTO.getResponseTime(), authResponseDTO.getResponse().isAuthStatus(), idInfo,
+						isAuth);
+				authNotificationQueue.submit(() -> sendAuthNotification(authNotification));
+			}
+		} else {
+			sendAuthNotification(createAuthNotification(authRequestDTO, idvid, authResponseDTO.getResponseTime(),
+					authResponseDTO.getResponse().isAuthStatus(), idInfo, isAuth));
+		}
+	}
+
+	/**
+	 * Renders and sends the auth notification.
+	 *
+	 * @param authNotification the auth notification
+	 * @throws IdAuthenticationBusinessException the id authentication business
+	 *                                           exception
+	 */
+	private void sendAuthNotification(AuthNotification authNotification) throws IdAuthenticationBusinessException {
+		sendNotification(authNotification.values, authNotification.email, authNotification.phoneNumber,
+				SenderType.AUTH, authNotification.notificationType, authNotification.templateLanguages);
+	}
 
+	/**
+	 * Extracts the values of the auth notification templates, along with the
+	 * recipients and languages of the notification.
+	 *
+	 * @param authRequestDTO the auth request DTO
+	 * @param idvid          the idvid
+	 * @param responseTime   the auth response time
+	 * @param authStatus     the auth status
+	 * @param idInfo         the id info
+	 * @param isAuth         false for internal auth, which is not notified
+	 * @return the auth notification
+	 * @throws IdAuthenticationBusinessException the id authentication business
+	 *                                           exception
+	 */
+	private AuthNotification createAuthNotification(AuthRequestDTO authRequestDTO, String idvid, String responseTime,
+			boolean authStatus, Map<String, List<IdentityInfoDTO>> idInfo, boolean isAuth)
+			throws IdAuthenticationBusinessException {
 		Map<String, Object> values = new HashMap<>();
 		List<String> templateLanguages = getTemplateLanguages(idInfo);
 		
 		for (String lang : templateLanguages) {
 			values.put(NAME + "_" + lang, infoHelper.getEntityInfoAsString(DemoMatchType.NAME, lang, idInfo));
 		}
-		Tuple2<String, String> dateAndTime = getDateAndTime(DateUtils.parseToLocalDateTime(authResponseDTO.getResponseTime()));
+		Tuple2<String, String> dateAndTime = getDateAndTime(DateUtils.parseToLocalDateTime(responseTime));
 		values.put(DATE, dateAndTime.getT1());
 		values.put(TIME, dateAndTime.getT2());
 		String maskedUin = "";
@@ -111,7 +158,7 @@ public class NotificationServiceImpl implements NotificationService {
 				.peek(System.out::println)
 				.map(authType -> authType.getDisplayName(authRequestDTO, idInfoFetcher)).distinct().collect(Collectors.joining(","));
 		values.put(AUTH_TYPE, authTypeStr);
-		if (authResponseDTO.getResponse().isAuthStatus()) {
+		if (authStatus) {
 			values.put(IdAuthCommonConstants.STATUS, "Passed");
 		} else {
 			values.put(IdAuthCommonConstants.STATUS, "Failed");
@@ -129,7 +176,7 @@ public class NotificationServiceImpl implements NotificationService {
 			notificationType = NotificationType.NONE.getName();
 		}
 
-		sendNotification(values, email, phoneNumber, SenderType.AUTH, notificationType, templateLanguages);
+		return new AuthNotification(values, email, phoneNumber, notificationType, templateLanguages);
 	}
 
 	public void sendOTPNotification(String idvid, String idvidType, Map<String, String> valueMap,
@@ -372,4 +419,31 @@ public class NotificationServiceImpl implements NotificationService {
 		return defaultTemplateLanguges;
 
 	}
+
+	/**
+	 * The auth notification to be rendered and sent, holding only the template
+	 * values (names, masked ID, auth types, status, date and time), the
+	 * recipients and the template languages.
+	 */
+	private static final class AuthNotification {
+
+		private final Map<String, Object> values;
+
+		private final String email;
+
+		private final String phoneNumber;
+
+		private final String notificationType;
+
+		private final List<String> templateLanguages;
+
+		private AuthNotification(Map<String, Object> values, String email, String phoneNumber,
+				String notificationType, List<String> templateLanguages) {
+			this.values = values;
+			this.email = email;
+			this.phoneNumber = phoneNumber;
+			this.notificationType = notificationType;
+			this.templateLanguages = templateLanguages;
+		}
+	}
 }
\ No newline at end of file
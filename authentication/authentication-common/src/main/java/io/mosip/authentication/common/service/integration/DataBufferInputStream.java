@@ -0,0 +1,156 @@
+package io.mosip.authentication.common.service.integration;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscription;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+
+import reactor.core.Exceptions;
+import reactor.core.publisher.BaseSubscriber;
+
+/**
+ * An input stream over a response body publisher, requesting the next data
+ * buffer only once the previous one is taken for reading, so that at most two
+ * buffers of the body are held in memory. The buffers are released once read,
+ * or on close. An error of the publisher is thrown from the read as an
+ * unchecked exception, while not receiving a buffer within the timeout fails
+ * the read with an {@link InterruptedIOException}.
+ */
+final class DataBufferInputStream extends InputStream {
+
+	/** The signal of the completion of the publisher. */
+	private static final Object COMPLETE = new Object();
+
+	/** The received buffers, error or completion. */
+	private final BlockingQueue<Object> signals = new LinkedBlockingQueue<>();
+
+	/** The subscriber requesting a buffer at a time. */
+	private final BaseSubscriber<DataBuffer> subscriber = new BaseSubscriber<DataBuffer>() {
+		@Override
+		protected void hookOnSubscribe(Subscription subscription) {
+			subscription.request(1);
+		}
+
+		@Override
+		protected void hookOnNext(DataBuffer buffer) {
+			signals.add(buffer);
+		}
+
+		@Override
+		protected void hookOnError(Throwable throwable) {
+			signals.add(throwable);
+		}
+
+		@Override
+		protected void hookOnComplete() {
+			signals.add(COMPLETE);
+		}
+	};
+
+	/** The time to wait for a buffer, null to wait without limit. */
+	private final Duration timeout;
+
+	/** The buffer being read. */
+	private DataBuffer current;
+
+	/** The completion or the error of the publisher, once received. */
+	private Object terminal;
+
+	/**
+	 * Instantiates a new data buffer input stream subscribing to the body.
+	 *
+	 * @param body    the body
+	 * @param timeout the time to wait for a buffer, null to wait without limit
+	 */
+	DataBufferInputStream(Publisher<DataBuffer> body, Duration timeout) {
+		this.timeout = timeout;
+		body.subscribe(subscriber);
+	}
+
+	@Override
+	public int read() throws IOException {
+		byte[] oneByte = new byte[1];
+		return read(oneByte, 0, 1) == -1 ? -1 : oneByte[0] & 0xFF;
+	}
+
+	@Override
+	public int read(byte[] bytes, int offset, int length) throws IOException {
+		if (length == 0) {
+			return 0;
+		}
+		while (current == null || current.readableByteCount() == 0) {
+			releaseCurrent();
+			if (!next()) {
+				return -1;
+			}
+		}
+		int count = Math.min(length, current.readableByteCount());
+		current.read(bytes, offset, count);
+		return count;
+	}
+
+	@Override
+	public int available() {
+		return current == null ? 0 : current.readableByteCount();
+	}
+
+	private boolean next() throws IOException {
+		if (terminal == null) {
+			Object signal = takeSignal();
+			if (signal instanceof DataBuffer) {
+				current = (DataBuffer) signal;
+				subscriber.request(1);
+				return true;
+			}
+			terminal = signal;
+		}
+		if (terminal instanceof Throwable) {
+			throw Exceptions.propagate((Throwable) terminal);
+		}
+		return false;
+	}
+
+	private Object takeSignal() throws IOException {
+		try {
+			if (timeout == null) {
+				return signals.take();
+			}
+			Object signal = signals.poll(timeout.toMillis(), TimeUnit.MILLISECONDS);
+			if (signal == null) {
+				throw new InterruptedIOException("No data received within " + timeout);
+			}
+			return signal;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException(e.getMessage());
+		}
+	}
+
+	private void releaseCurrent() {
+		if (current != null) {
+			DataBufferUtils.release(current);
+			current = null;
+		}
+	}
+
+	@Override
+	public void close() {
+		subscriber.dispose();
+		releaseCurrent();
+		Object signal;
+		while ((signal = signals.poll()) != null) {
+			if (signal instanceof DataBuffer) {
+				DataBufferUtils.release((DataBuffer) signal);
+			}
+		}
+	}
+
+}
@@ -1,15 +1,25 @@
 package io.mosip.authentication.common.service.integration;
 import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.DATA_SHARE_GET_DECRYPT_REF_ID;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.DATA_SHARE_STREAMING_ENABLED;
 import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.IDA_DATASHARE_THUMBPRINT_VALIDATION_REQUIRED;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Duration;
 import java.util.Map.Entry;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -19,10 +29,12 @@ import io.mosip.authentication.core.constant.IdAuthenticationErrorConstants;
 import io.mosip.authentication.core.constant.RestServicesConstants;
 import io.mosip.authentication.core.exception.IdAuthUncheckedException;
 import io.mosip.authentication.core.exception.IdAuthenticationBusinessException;
+import io.mosip.idrepository.core.constant.IdRepoErrorConstants;
 import io.mosip.idrepository.core.dto.RestRequestDTO;
 import io.mosip.idrepository.core.exception.RestServiceException;
 import io.mosip.idrepository.core.helper.RestHelper;
 import io.mosip.idrepository.core.util.RestUtil;
+import reactor.core.publisher.Flux;
 
 @Component
 public class DataShareManager {
@@ -30,6 +42,10 @@ public class DataShareManager {
 	@Autowired
 	@Qualifier("withSelfTokenWebclient")
 	private RestHelper restHelper;
+
+	@Autowired
+	@Qualifier("selfTokenWebClient")
+	private WebClient webClient;
 	
 	@Autowired
 	private RestRequestFactory restRequestFactory;
@@ -46,8 +62,14 @@ public class DataShareManager {
 	@Value("${" + IDA_DATASHARE_THUMBPRINT_VALIDATION_REQUIRED + ":true}")
 	private boolean thumbprintValidationRequired;
 
+	@Value("${" + DATA_SHARE_STREAMING_ENABLED + ":false}")
+	private boolean streamingEnabled;
+
 	@SuppressWarnings("unchecked")
 	public <R> R downloadObject(String dataShareUrl, Class<R> clazz, boolean decryptionRequired) throws  RestServiceException, IdAuthenticationBusinessException {
+		if (streamingEnabled && decryptionRequired && !clazz.equals(String.class)) {
+			return downloadDecryptedObject(dataShareUrl, clazz);
+		}
 		RestRequestDTO request = restRequestFactory.buildRequest(RestServicesConstants.DATA_SHARE_GET, null, String.class);
 		request.setUri(dataShareUrl);
 		String responseStr = restHelper.requestSync(request);
@@ -81,6 +103,62 @@ public class DataShareManager {
 		}
 	}
 
+	/**
+	 * Downloads, decrypts and parses the object as a stream. The response body is
+	 * read a network buffer at a time, then decoded and decrypted on the fly and
+	 * parsed incrementally, so that neither the encoded nor the decrypted data is
+	 * held as a string. The decryption still holds the encrypted data until it is
+	 * authenticated, so the peak memory is about the encrypted and the decrypted
+	 * data, instead of several copies of each.
+	 */
+	private <R> R downloadDecryptedObject(String dataShareUrl, Class<R> clazz)
+			throws RestServiceException, IdAuthenticationBusinessException {
+		RestRequestDTO request = restRequestFactory.buildRequest(RestServicesConstants.DATA_SHARE_GET, null, String.class);
+		Flux<DataBuffer> body = webClient.get()
+				.uri(dataShareUrl)
+				.headers(headers -> {
+					if (request.getHeaders() != null) {
+						headers.addAll(request.getHeaders());
+					}
+				})
+				.retrieve()
+				.bodyToFlux(DataBuffer.class);
+		Duration timeout = request.getTimeout() == null ? null : Duration.ofSeconds(request.getTimeout());
+		try (InputStream response = new BufferedInputStream(new DataBufferInputStream(body, timeout))) {
+			response.mark(1);
+			int first = response.read();
+			response.reset();
+			if (first == '{') {
+				// The encrypted data is base64 encoded, so a JSON is the error response
+				String responseStr = new String(response.readAllBytes(), StandardCharsets.UTF_8);
+				Optional<Entry<String, Object>> errorOpt = RestUtil.getError(responseStr, mapper);
+				if (errorOpt.isPresent()) {
+					//Unchecked exception is thrown so that retry will not be performed on this.
+					throw new IdAuthUncheckedException(IdAuthenticationErrorConstants.UNABLE_TO_PROCESS.getErrorCode(), IdAuthenticationErrorConstants.UNABLE_TO_PROCESS.getErrorMessage() + " : " + errorOpt.get().toString());
+				}
+				throw new IdAuthenticationBusinessException(IdAuthenticationErrorConstants.INVALID_ENCRYPTION);
+			}
+			try (InputStream decrypted = securityManager.decrypt(response, dataShareGetDecryptRefId)) {
+				return mapper.readValue(decrypted, clazz);
+			}
+		} catch (WebClientResponseException e) {
+			throw new RestServiceException(e.getStatusCode().is4xxClientError() ? IdRepoErrorConstants.CLIENT_ERROR
+					: IdRepoErrorConstants.SERVER_ERROR, e.getResponseBodyAsString(), null);
+		} catch (InterruptedIOException e) {
+			throw new RestServiceException(IdRepoErrorConstants.CONNECTION_TIMED_OUT, e);
+		} catch (IOException e) {
+			if (e.getCause() instanceof GeneralSecurityException) {
+				throw new IdAuthenticationBusinessException(IdAuthenticationErrorConstants.INVALID_ENCRYPTION, e);
+			}
+			throw new IdAuthenticationBusinessException(IdAuthenticationErrorConstants.UNABLE_TO_PROCESS, e);
+		} catch (RuntimeException e) {
+			if (e instanceof IdAuthUncheckedException) {
+				throw e;
+			}
+			throw new RestServiceException(IdRepoErrorConstants.UNKNOWN_ERROR, e);
+		}
+	}
+
 	private <R> R readToObject(Class<R> clazz, byte[] dataBytes) throws IdAuthenticationBusinessException {
 		try {
 			return mapper.readValue(dataBytes, clazz);
@@ -3,6 +3,7 @@ package io.mosip.authentication.common.service.integration;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.StringReader;
 import java.io.StringWriter;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
@@ -12,13 +13,20 @@ import java.util.Objects;
 import javax.annotation.PostConstruct;
 
 import org.apache.commons.io.IOUtils;
+import org.apache.velocity.Template;
+import org.apache.velocity.runtime.RuntimeConstants;
+import org.apache.velocity.runtime.RuntimeInstance;
+import org.apache.velocity.runtime.log.NullLogChute;
+import org.apache.velocity.runtime.parser.ParseException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import io.mosip.authentication.common.service.cache.CompiledTemplateCache;
 import io.mosip.authentication.core.constant.IdAuthenticationErrorConstants;
 import io.mosip.authentication.core.exception.IdAuthenticationBusinessException;
 import io.mosip.kernel.core.templatemanager.spi.TemplateManager;
 import io.mosip.kernel.core.templatemanager.spi.TemplateManagerBuilder;
+import io.mosip.kernel.templatemanager.velocity.util.TemplateManagerUtil;
 
 /**
  * 
@@ -42,6 +50,9 @@ public class IdTemplateManager {
 	/** The template manager to apply template for eKyc */
 	private TemplateManager templateManager;
 
+	/** The velocity runtime parsing the templates of the compiled template cache. */
+	private RuntimeInstance velocityRuntime;
+
 	/**
 	 * Template Manager Builder to build templates
 	 */
@@ -54,6 +65,10 @@ public class IdTemplateManager {
 	@Autowired
 	private MasterDataManager masterDataManager;
 
+	/** The compiled template cache. */
+	@Autowired
+	private CompiledTemplateCache compiledTemplateCache;
+
 	/**
 	 * Id template manager post construct.
 	 */
@@ -61,6 +76,11 @@ public class IdTemplateManager {
 	public void idTemplateManagerPostConstruct() {
 		templateManager = templateManagerBuilder.encodingType(ENCODE_TYPE).enableCache(false).resourceLoader(CLASSPATH)
 				.build();
+		if (compiledTemplateCache.isEnabled()) {
+			velocityRuntime = new RuntimeInstance();
+			velocityRuntime.setProperty(RuntimeConstants.RUNTIME_LOG_LOGSYSTEM_CLASS, NullLogChute.class.getName());
+			velocityRuntime.init();
+		}
 	}
 
 	/**
@@ -78,6 +98,9 @@ public class IdTemplateManager {
 			throws IdAuthenticationBusinessException, IOException {
 		Objects.requireNonNull(templateName);
 		Objects.requireNonNull(values);
+		if (compiledTemplateCache.isEnabled()) {
+			return applyCompiledTemplate(templateName, values, templateLanguages);
+		}
 		StringWriter writer = new StringWriter();
 		InputStream templateValue;
 		String fetchedTemplate = fetchTemplate(templateName, templateLanguages);
@@ -93,6 +116,53 @@ public class IdTemplateManager {
 		}
 	}
 
+	/**
+	 * Applies the template parsed once per template name and languages, instead
+	 * of fetching and parsing the template text on every call.
+	 *
+	 * @param templateName      the template name
+	 * @param values            the values
+	 * @param templateLanguages the template languages
+	 * @return the string
+	 * @throws IdAuthenticationBusinessException the id authentication business
+	 *                                           exception
+	 */
+	private String applyCompiledTemplate(String templateName, Map<String, Object> values,
+			List<String> templateLanguages) throws IdAuthenticationBusinessException {
+		Template template = compiledTemplateCache.get(templateName, templateLanguages);
+		if (template == null) {
+			long generation = compiledTemplateCache.getGeneration();
+			template = compileTemplate(templateName, fetchTemplate(templateName, templateLanguages));
+			compiledTemplateCache.put(templateName, templateLanguages, template, generation);
+		}
+		StringWriter writer = new StringWriter();
+		template.merge(TemplateManagerUtil.bindInputToContext(values), writer);
+		return writer.toString();
+	}
+
+	/**
+	 * Parses the template text.
+	 *
+	 * @param templateName the template name
+	 * @param templateText the template text
+	 * @return the template
+	 * @throws IdAuthenticationBusinessException the id authentication business
+	 *                                           exception
+	 */
+	private Template compileTemplate(String templateName, String templateText)
+			throws IdAuthenticationBusinessException {
+		try {
+			Template template = new Template();
+			template.setRuntimeServices(velocityRuntime);
+			template.setName(templateName);
+			template.setData(velocityRuntime.parse(new StringReader(templateText), templateName));
+			template.initDocument();
+			return template;
+		} catch (ParseException e) {
+			throw new IdAuthenticationBusinessException(IdAuthenticationErrorConstants.UNABLE_TO_PROCESS, e);
+		}
+	}
+
 	/**
 	 * Fetch Templates for e-KYC based on Template name.
 	 *
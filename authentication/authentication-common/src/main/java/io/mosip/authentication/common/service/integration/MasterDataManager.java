@@ -69,6 +69,9 @@ public class MasterDataManager {
 	@Autowired
 	private MasterDataCache masterDataCache;
 
+	/** The title index, built once per version of the cached titles. */
+	private volatile TitleIndex titleIndex;
+
 	/**
 	 * Fetch master data for provided languages.
 	 *
@@ -182,20 +185,54 @@ public class MasterDataManager {
 	}
 
 	/**
-	 * To fetch titles.
+	 * To fetch titles. The titles are indexed by language once and the same
+	 * immutable index is returned until the master data titles cache is cleared.
 	 *
 	 * @return the map
 	 * @throws IdAuthenticationBusinessException the id authentication business
 	 *                                           exception
 	 */
-	@SuppressWarnings("unchecked")
 	public Map<String, List<String>> fetchTitles() throws IdAuthenticationBusinessException {
+		long titlesVersion = masterDataCache.getTitlesVersion();
+		TitleIndex index = titleIndex;
+		if (index == null || index.version != titlesVersion) {
+			index = new TitleIndex(titlesVersion, buildTitleIndex());
+			titleIndex = index;
+		}
+		return index.titles;
+	}
+
+	/**
+	 * Builds the titles by language from the cached master data titles.
+	 *
+	 * @return the unmodifiable titles by language
+	 * @throws IdAuthenticationBusinessException the id authentication business
+	 *                                           exception
+	 */
+	@SuppressWarnings("unchecked")
+	private Map<String, List<String>> buildTitleIndex() throws IdAuthenticationBusinessException {
 		Map<String, Object> fetchMasterData = masterDataCache.getMasterDataTitles();
 		List<String> langCodes = ((List<String>) JsonPath.compile(LANG_CODE_JSON_PATH).read(fetchMasterData));
 		langCodes = langCodes.stream().collect(Collectors.toSet()).stream().collect(Collectors.toList());
-		return langCodes.stream().map(langCode -> new AbstractMap.SimpleEntry<String, List<String>>(langCode,
-				(List<String>) JsonPath.compile(String.format(TITLE_NAME_JSON_PATH, langCode)).read(fetchMasterData)))
-				.collect(Collectors.toMap(Entry::getKey, Entry::getValue));
+		return Collections.unmodifiableMap(langCodes.stream().map(langCode -> new AbstractMap.SimpleEntry<String, List<String>>(langCode,
+				Collections.unmodifiableList((List<String>) JsonPath.compile(String.format(TITLE_NAME_JSON_PATH, langCode)).read(fetchMasterData))))
+				.collect(Collectors.toMap(Entry::getKey, Entry::getValue)));
+	}
+
+	/**
+	 * The titles by language along with the version of the cached titles they
+	 * were built from.
+	 */
+	private static class TitleIndex {
+
+		private final long version;
+
+		private final Map<String, List<String>> titles;
+
+		private TitleIndex(long version, Map<String, List<String>> titles) {
+			this.version = version;
+			this.titles = titles;
+		}
 	}
 
 }
\ No newline at end of file
@@ -24,6 +24,7 @@ import io.mosip.authentication.core.indauth.dto.NotificationType;
 import io.mosip.authentication.core.logger.IdaLogger;
 import io.mosip.authentication.core.otp.dto.OtpRequestDTO;
 import io.mosip.authentication.core.spi.notification.service.NotificationService;
+import io.mosip.authentication.core.spi.otp.service.OtpGenerator;
 import io.mosip.idrepository.core.dto.RestRequestDTO;
 import io.mosip.idrepository.core.exception.RestServiceException;
 import io.mosip.idrepository.core.helper.RestHelper;
@@ -68,6 +69,10 @@ public class OTPManager {
 	@Autowired
 	private NotificationService notificationService;
 
+	/** The OTP generator, if absent the OTP is generated by the kernel OTP manager. */
+	@Autowired(required = false)
+	private OtpGenerator otpGenerator;
+
 	/** The logger. */
 	private static Logger logger = IdaLogger.getLogger(OTPManager.class);
 
@@ -123,7 +128,21 @@ public class OTPManager {
 		return true;
 	}
 
+	/**
+	 * Generates the OTP, with the OTP generator if present, else with the kernel
+	 * OTP manager. Only the kernel OTP manager reports a key blocked after
+	 * failed validations through its own validate API, which is rejected with
+	 * BLOCKED_OTP_VALIDATE; as the OTPs are validated here, no such block is
+	 * checked with the OTP generator.
+	 *
+	 * @param uin the uin
+	 * @return the otp
+	 * @throws IdAuthUncheckedException the id auth unchecked exception
+	 */
 	private String generateOTP(String uin) throws IdAuthUncheckedException {
+		if (otpGenerator != null) {
+			return otpGenerator.generateOtp(uin);
+		}
 		try {
 			OtpGenerateRequestDto otpGenerateRequestDto = new OtpGenerateRequestDto(uin);
 			RequestWrapper<OtpGenerateRequestDto> reqWrapper = new RequestWrapper<>();
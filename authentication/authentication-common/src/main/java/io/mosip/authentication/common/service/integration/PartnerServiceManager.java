@@ -19,6 +19,8 @@ import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.mosip.authentication.common.service.cache.PartnerPolicyCache;
+import io.mosip.authentication.common.service.cache.PartnerPolicyCache.PartnerPolicySnapshot;
 import io.mosip.authentication.common.service.entity.ApiKeyData;
 import io.mosip.authentication.common.service.entity.MispLicenseData;
 import io.mosip.authentication.common.service.entity.OIDCClientData;
@@ -104,6 +106,10 @@ public class PartnerServiceManager {
 	@Autowired
 	private IdAuthSecurityManager securityManager;
 
+	/** The partner policy cache. */
+	@Autowired
+	private PartnerPolicyCache partnerPolicyCache;
+
 	/**
 	 * Validate and get policy.
 	 *
@@ -117,19 +123,65 @@ public class PartnerServiceManager {
 	public PartnerPolicyResponseDTO validateAndGetPolicy(String partnerId, String partner_api_key, String misp_license_key,
 									boolean certificateNeeded, String headerCertificateThumbprint, boolean certValidationNeeded) 
 									throws IdAuthenticationBusinessException {
-		Optional<PartnerMapping> partnerMappingDataOptional = partnerMappingRepo.findByPartnerIdAndApiKeyId(partnerId, partner_api_key);
-		Optional<MispLicenseData> mispLicOptional = mispLicDataRepo.findByLicenseKey(misp_license_key);
-		Optional<OIDCClientData> oidcClientData = oidcClientDataRepo.findByClientId(partner_api_key);
-		validatePartnerMappingDetails(partnerMappingDataOptional, mispLicOptional, headerCertificateThumbprint, certValidationNeeded, oidcClientData);
+		PartnerPolicySnapshot snapshot = partnerPolicyCache.get(partnerId, partner_api_key, misp_license_key);
+		if (snapshot != null) {
+			validatePartnerMappingDetails(Optional.of(snapshot.getPartnerMapping()),
+					Optional.of(snapshot.getMispLicenseData()), headerCertificateThumbprint, certValidationNeeded,
+					Optional.ofNullable(snapshot.getOidcClientData()));
+		} else {
+			Optional<PartnerMapping> partnerMappingDataOptional = partnerMappingRepo.findByPartnerIdAndApiKeyId(partnerId, partner_api_key);
+			Optional<MispLicenseData> mispLicOptional = mispLicDataRepo.findByLicenseKey(misp_license_key);
+			Optional<OIDCClientData> oidcClientData = oidcClientDataRepo.findByClientId(partner_api_key);
+			validatePartnerMappingDetails(partnerMappingDataOptional, mispLicOptional, headerCertificateThumbprint, certValidationNeeded, oidcClientData);
+			snapshot = createPartnerPolicySnapshot(partnerMappingDataOptional.get(), mispLicOptional.get(), oidcClientData);
+			partnerPolicyCache.put(partnerId, partner_api_key, misp_license_key, snapshot);
+		}
+		return buildPartnerPolicyResponse(snapshot, certificateNeeded);
+	}
+
+	/**
+	 * Creates the partner policy snapshot from the validated partner details,
+	 * converting the policies to DTOs.
+	 *
+	 * @param partnerMapping the partner mapping
+	 * @param mispLicenseData the misp license data
+	 * @param oidcClientData the oidc client data
+	 * @return the partner policy snapshot
+	 */
+	private PartnerPolicySnapshot createPartnerPolicySnapshot(PartnerMapping partnerMapping,
+			MispLicenseData mispLicenseData, Optional<OIDCClientData> oidcClientData) {
+		PolicyDTO policy = mapper.convertValue(partnerMapping.getPolicyData().getPolicy(), PolicyDTO.class);
+		MispPolicyDTO mispPolicy = null;
+		String mispPolicyId = mispLicenseData.getPolicyId();
+		if (Objects.nonNull(mispPolicyId)) {
+			Optional<PolicyData> mispPolicyDataOpt = policyDataRepo.findByPolicyId(mispPolicyId);
+			if(mispPolicyDataOpt.isPresent()) {
+				PolicyData mispPolicyData = mispPolicyDataOpt.get();
+				mispPolicy = mapper.convertValue(mispPolicyData.getPolicy(), MispPolicyDTO.class);
+			}
+		}
+		return new PartnerPolicySnapshot(partnerMapping, mispLicenseData, oidcClientData.orElse(null), policy,
+				mispPolicy);
+	}
+
+	/**
+	 * Builds the partner policy response.
+	 *
+	 * @param snapshot the partner policy snapshot
+	 * @param certificateNeeded the certificate needed
+	 * @return the partner policy response DTO
+	 */
+	private PartnerPolicyResponseDTO buildPartnerPolicyResponse(PartnerPolicySnapshot snapshot,
+			boolean certificateNeeded) {
 		PartnerPolicyResponseDTO response = new PartnerPolicyResponseDTO();
-		PartnerMapping partnerMapping = partnerMappingDataOptional.get();
+		PartnerMapping partnerMapping = snapshot.getPartnerMapping();
 		PartnerData partnerData = partnerMapping.getPartnerData();
 		PolicyData policyData = partnerMapping.getPolicyData();
 		ApiKeyData apiKeyData = partnerMapping.getApiKeyData();
-		MispLicenseData mispLicenseData = mispLicOptional.get();
+		MispLicenseData mispLicenseData = snapshot.getMispLicenseData();
 		response.setPolicyId(policyData.getPolicyId());
 		response.setPolicyName(policyData.getPolicyName());
-		response.setPolicy(mapper.convertValue(policyData.getPolicy(), PolicyDTO.class));
+		response.setPolicy(snapshot.getPolicy());
 		response.setPolicyDescription(policyData.getPolicyDescription());
 		response.setPolicyStatus(policyData.getPolicyStatus().contentEquals("ACTIVE"));
 		response.setPartnerId(partnerData.getPartnerId());
@@ -146,15 +198,12 @@ public class PartnerServiceManager {
 		String mispPolicyId = mispLicenseData.getPolicyId();
 		if (Objects.nonNull(mispPolicyId)) {
 			response.setMispPolicyId(mispPolicyId);
-			Optional<PolicyData> mispPolicyDataOpt = policyDataRepo.findByPolicyId(mispPolicyId);
-			if(mispPolicyDataOpt.isPresent()) {
-				PolicyData mispPolicyData = mispPolicyDataOpt.get();
-				response.setMispPolicy(mapper.convertValue(mispPolicyData.getPolicy(), MispPolicyDTO.class));
-			}
+			response.setMispPolicy(snapshot.getMispPolicy());
 		}
-		if (oidcClientData.isPresent()){
-			String[] authContextRefs = oidcClientData.get().getAuthContextRefs();
-			String[] userClaims = oidcClientData.get().getUserClaims();
+		OIDCClientData oidcClientData = snapshot.getOidcClientData();
+		if (Objects.nonNull(oidcClientData)){
+			String[] authContextRefs = oidcClientData.getAuthContextRefs();
+			String[] userClaims = oidcClientData.getUserClaims();
 			response.setOidcClientDto(new OIDCClientDTO(authContextRefs, userClaims));
 		}
 		return response;
@@ -340,6 +389,9 @@ public class PartnerServiceManager {
 		apiKeyRepo.save(apiKeyEventData);
 		policyDataRepo.save(policyEventData);
 		partnerMappingRepo.save(mapping);
+		partnerPolicyCache.invalidatePartner(partnerEventData.getPartnerId());
+		partnerPolicyCache.invalidateApiKey(apiKeyEventData.getApiKeyId());
+		partnerPolicyCache.invalidatePolicy(policyEventData.getPolicyId());
 	}
 	
 
@@ -393,6 +445,7 @@ public class PartnerServiceManager {
 			apiKeyEventData.setCrDTimes(DateUtils.getUTCCurrentDateTime());
 			apiKeyRepo.save(apiKeyEventData);
 		}
+		partnerPolicyCache.invalidateApiKey(apiKeyEventData.getApiKeyId());
 	}
 
 	/**
@@ -417,6 +470,7 @@ public class PartnerServiceManager {
 			partnerEventData.setCrDTimes(DateUtils.getUTCCurrentDateTime());
 			partnerDataRepo.save(partnerEventData);
 		}
+		partnerPolicyCache.invalidatePartner(partnerEventData.getPartnerId());
 	}
 
 	/**
@@ -444,6 +498,7 @@ public class PartnerServiceManager {
 			policyEventData.setCrDTimes(DateUtils.getUTCCurrentDateTime());
 			policyDataRepo.save(policyEventData);
 		}
+		partnerPolicyCache.invalidatePolicy(policyEventData.getPolicyId());
 	}
 
 	/**
@@ -480,6 +535,7 @@ public class PartnerServiceManager {
 			mispLicenseEventData.setCrDTimes(DateUtils.getUTCCurrentDateTime());
 			mispLicDataRepo.save(mispLicenseEventData);
 		}
+		partnerPolicyCache.invalidateMisp(mispLicenseEventData.getMispId());
 	}
 
 	/**
@@ -530,6 +586,7 @@ public class PartnerServiceManager {
 			oidcClientEventData.setPartnerId(partnerData.getPartnerId());
 			oidcClientDataRepo.save(oidcClientEventData);
 		}
+		partnerPolicyCache.invalidateApiKey(oidcClientEventData.getClientId());
 
 		String partnerId = partnerData.getPartnerId();
 		String policyId = policyData.getPolicyId();
@@ -1,5 +1,6 @@
 package io.mosip.authentication.common.service.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.Query;
@@ -45,4 +46,13 @@ public interface AuthLockRepository extends BaseRepository<AuthtypeLock, Integer
 	
 	public List<AuthtypeLock> findByTokenAndAuthtypecode(String tokenId, String authtypecode);
 
+	/**
+	 * Finds the tokens whose auth type status was updated since the given time.
+	 *
+	 * @param since the time
+	 * @return the tokens
+	 */
+	@Query("select distinct a.token from AuthtypeLock a where a.crDTimes >= :since")
+	public List<String> findTokensUpdatedSince(@Param("since") LocalDateTime since);
+
 }	
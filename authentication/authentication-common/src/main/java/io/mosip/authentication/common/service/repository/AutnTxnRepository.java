@@ -1,6 +1,7 @@
 package io.mosip.authentication.common.service.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.domain.Pageable;
@@ -52,4 +53,13 @@ public interface AutnTxnRepository extends BaseRepository<AutnTxn, Integer> {
 	
 	Long countByEntityIdAndRequestDTtimesAfter(String entityId, LocalDateTime afterRequestTime);
 
+	/**
+	 * Obtain the ids among the given ids which are already stored.
+	 *
+	 * @param ids the ids
+	 * @return the stored ids
+	 */
+	@Query("Select id from AutnTxn where id in :ids")
+	List<String> findExistingIds(@Param("ids") Collection<String> ids);
+
 }
@@ -1,6 +1,7 @@
 package io.mosip.authentication.common.service.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,6 +20,14 @@ public interface HotlistCacheRepository extends BaseRepository<HotlistCache, Str
 	
 	Optional<HotlistCache> findByIdHashAndIdType(String idHash, String idType);
 
+	/**
+	 * Find by any of the id hashes.
+	 *
+	 * @param idHashes the id hashes
+	 * @return the list
+	 */
+	List<HotlistCache> findByIdHashIn(Collection<String> idHashes);
+
 	/**
 	 * Find by status.
 	 *
@@ -1,6 +1,6 @@
 package io.mosip.authentication.common.service.repository;
 
-import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -18,7 +18,36 @@ import io.mosip.kernel.core.dataaccess.spi.repository.BaseRepository;
 @Repository
 public interface IdentityCacheRepository extends BaseRepository<IdentityEntity, String> {
 
-	@Query("SELECT i.id, i.demographicData, i.expiryTimestamp, i.transactionLimit, i.token, i.crBy, i.crDTimes, "
-			+ "i.updBy, i.updDTimes, i.isDeleted, i.delDTimes FROM IdentityEntity i where i.id = :id")
-	List<Object[]> findDemoDataById(@Param("id") String id);
+	/**
+	 * Fetches the metadata of the identity, without loading its data, to check
+	 * that an identity read before is unchanged.
+	 *
+	 * @param id the id
+	 * @return the identity, or empty if the id is not available
+	 */
+	@Query("SELECT new IdentityEntity(i.id, i.token, i.expiryTimestamp, i.transactionLimit, i.crDTimes, "
+			+ "i.updDTimes) FROM IdentityEntity i where i.id = :id")
+	Optional<IdentityEntity> findMetadataById(@Param("id") String id);
+
+	/**
+	 * Fetches the fields needed to read the demographic data of the identity in a
+	 * single query, without loading the biometric data.
+	 *
+	 * @param id the id
+	 * @return the identity, or empty if the id is not available
+	 */
+	@Query("SELECT new IdentityEntity(i.id, i.token, i.demographicData, i.expiryTimestamp, i.transactionLimit, "
+			+ "i.crDTimes, i.updDTimes) FROM IdentityEntity i where i.id = :id")
+	Optional<IdentityEntity> findDemoDataById(@Param("id") String id);
+
+	/**
+	 * Fetches the fields needed to read the demographic and biometric data of the
+	 * identity in a single query.
+	 *
+	 * @param id the id
+	 * @return the identity, or empty if the id is not available
+	 */
+	@Query("SELECT new IdentityEntity(i.id, i.token, i.demographicData, i.biometricData, i.expiryTimestamp, "
+			+ "i.transactionLimit, i.crDTimes, i.updDTimes) FROM IdentityEntity i where i.id = :id")
+	Optional<IdentityEntity> findDemoAndBioDataById(@Param("id") String id);
 }
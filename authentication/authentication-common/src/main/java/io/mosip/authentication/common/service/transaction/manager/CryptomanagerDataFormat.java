@@ -0,0 +1,104 @@
+package io.mosip.authentication.common.service.transaction.manager;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import io.mosip.kernel.cryptomanager.constant.CryptomanagerConstant;
+
+/**
+ * The Class CryptomanagerDataFormat holds the assumptions made on the format of
+ * the data encrypted by the kernel crypto manager, for decrypting it as a
+ * stream instead of through the crypto manager. Without a salt, the crypto
+ * manager encrypts the data as the base64 URL encoding of:
+ * <ol>
+ * <li>the encrypted symmetric key, prefixed by the key header and the
+ * certificate thumbprint when versioned,</li>
+ * <li>the key splitter,</li>
+ * <li>for the {@link CryptomanagerConstant#VERSION_RSA_2048} key header, a
+ * random AAD of {@link CryptomanagerConstant#GCM_AAD_LENGTH} bytes whose first
+ * {@link CryptomanagerConstant#GCM_NONCE_LENGTH} bytes are the GCM nonce,
+ * followed by the AES/GCM encrypted data and its tag; without a key header,
+ * the encrypted data followed by its nonce, as decrypted by the crypto core.</li>
+ * </ol>
+ * A change of this format in the crypto manager is caught by
+ * IdAuthSecurityManagerTest, which decrypts the output of the crypto manager.
+ */
+final class CryptomanagerDataFormat {
+
+	/** The maximum length of the encrypted key preceding the key splitter. */
+	private static final int MAX_ENCRYPTED_KEY_LENGTH = 4096;
+
+	private CryptomanagerDataFormat() {
+	}
+
+	/**
+	 * Reads the encrypted key, along with its key header, preceding the key
+	 * splitter. The data is left at the encrypted data.
+	 *
+	 * @param data        the decoded data
+	 * @param keySplitter the key splitter
+	 * @return the encrypted key
+	 * @throws IOException Signals that the key splitter was not found.
+	 */
+	static byte[] readEncryptedKey(InputStream data, String keySplitter) throws IOException {
+		byte[] splitter = keySplitter.getBytes();
+		byte[] buffer = new byte[MAX_ENCRYPTED_KEY_LENGTH + splitter.length];
+		int length = 0;
+		while (length < splitter.length
+				|| !Arrays.equals(buffer, length - splitter.length, length, splitter, 0, splitter.length)) {
+			int value = data.read();
+			if (value == -1 || length == buffer.length) {
+				throw new EOFException("Key splitter not found in the encrypted data");
+			}
+			buffer[length++] = (byte) value;
+		}
+		return Arrays.copyOf(buffer, length - splitter.length);
+	}
+
+	/**
+	 * Checks if the encrypted data is prefixed by the AAD, which holds the nonce.
+	 * Otherwise the nonce follows the encrypted data, which can then only be
+	 * decrypted in full by the crypto core.
+	 *
+	 * @param keyHeader the key header
+	 * @return true, if the encrypted data is prefixed by the AAD
+	 */
+	static boolean isAadPrefixed(byte[] keyHeader) {
+		return Arrays.equals(keyHeader, CryptomanagerConstant.VERSION_RSA_2048);
+	}
+
+	/**
+	 * Reads the AAD prefixing the encrypted data and initializes the cipher
+	 * decrypting the rest of the data.
+	 *
+	 * @param data               the data, at the AAD
+	 * @param symmetricKey       the decrypted symmetric key
+	 * @param symmetricAlgorithm the symmetric algorithm of the crypto core
+	 * @param gcmTagLength       the GCM tag length of the crypto core
+	 * @return the cipher
+	 * @throws IOException              Signals that the data is shorter than the
+	 *                                  AAD.
+	 * @throws GeneralSecurityException the general security exception
+	 */
+	static Cipher initDecryptCipher(InputStream data, SecretKey symmetricKey, String symmetricAlgorithm,
+			int gcmTagLength) throws IOException, GeneralSecurityException {
+		byte[] aad = data.readNBytes(CryptomanagerConstant.GCM_AAD_LENGTH);
+		if (aad.length < CryptomanagerConstant.GCM_AAD_LENGTH) {
+			throw new EOFException("Encrypted data is shorter than the AAD");
+		}
+		Cipher cipher = Cipher.getInstance(symmetricAlgorithm);
+		cipher.init(Cipher.DECRYPT_MODE, new SecretKeySpec(symmetricKey.getEncoded(), "AES"),
+				new GCMParameterSpec(gcmTagLength, Arrays.copyOf(aad, CryptomanagerConstant.GCM_NONCE_LENGTH)));
+		cipher.updateAAD(aad);
+		return cipher;
+	}
+
+}
@@ -1,5 +1,7 @@
 package io.mosip.authentication.common.service.transaction.manager;
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.math.BigInteger;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
@@ -8,11 +10,15 @@ import java.security.SecureRandom;
 import java.security.cert.CertificateException;
 import java.security.cert.CertificateFactory;
 import java.security.cert.X509Certificate;
+import java.util.Arrays;
+import java.util.Base64;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
+import javax.crypto.CipherInputStream;
 import javax.crypto.SecretKey;
 
 import org.apache.commons.codec.DecoderException;
@@ -20,8 +26,10 @@ import org.apache.commons.codec.binary.Hex;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
-import io.mosip.authentication.common.service.repository.IdaUinHashSaltRepo;
+import io.mosip.authentication.common.service.cache.IdHashSaltTable;
 import io.mosip.authentication.common.service.util.EnvUtil;
 import io.mosip.authentication.common.service.util.TokenEncoderUtil;
 import io.mosip.authentication.core.constant.IdAuthConfigKeyConstants;
@@ -68,10 +76,22 @@ import reactor.util.function.Tuples;
 public class IdAuthSecurityManager {
 
 	private static final String HASH_ALGORITHM_NAME = "SHA-256";
-	
+
 	/** The Constant SALT_FOR_THE_GIVEN_ID. */
 	private static final String SALT_FOR_THE_GIVEN_ID = "Salt for the given ID";
 
+	/** The request attribute holding the ID hashes computed in the request. */
+	private static final String ID_HASHES_ATTRIBUTE = IdAuthSecurityManager.class.getName() + ".idHashes";
+
+	/** The SHA-256 digest reused by the thread for hashing IDs. */
+	private static final ThreadLocal<MessageDigest> ID_HASH_DIGEST = ThreadLocal.withInitial(() -> {
+		try {
+			return MessageDigest.getInstance(HASH_ALGORITHM_NAME);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IdAuthUncheckedException(IdAuthenticationErrorConstants.UNABLE_TO_PROCESS, e);
+		}
+	});
+
 	/** The application id. */
 	@Value("${application.id}")
 	private String applicationId;
@@ -105,9 +125,9 @@ public class IdAuthSecurityManager {
 	@Value("${mosip.sign.refid:SIGN}")
 	private String signRefid;
 
-	/** The uin hash salt repo. */
+	/** The ID hash salt table. */
 	@Autowired
-	private IdaUinHashSaltRepo uinHashSaltRepo;
+	private IdHashSaltTable idHashSaltTable;
 
 	/** The repo. */
 	@Autowired
@@ -140,6 +160,15 @@ public class IdAuthSecurityManager {
 	/** The cryptomanager utils. */
 	@Autowired
 	private CryptomanagerUtils cryptomanagerUtils;
+
+	/** The symmetric algorithm of the crypto core. */
+	@Value("${mosip.kernel.crypto.symmetric-algorithm-name:AES/GCM/PKCS5Padding}")
+	private String symmetricAlgorithm;
+
+	/** The GCM tag length of the crypto core. */
+	@Value("${mosip.kernel.crypto.gcm-tag-length:128}")
+	private int gcmTagLength;
+
 	/**
 	 * Gets the user.
 	 *
@@ -221,6 +250,53 @@ public class IdAuthSecurityManager {
 		}
 	}
 
+	/**
+	 * Decrypts the data encrypted by the crypto manager, read as a base64 URL
+	 * encoded stream, without holding the encoded or the encrypted data in full.
+	 * Only the encrypted symmetric key preceding the key splitter is read before
+	 * returning; the data is decoded and decrypted as the returned stream is
+	 * read. As with the crypto manager, the data is authenticated before any of
+	 * it is released, so the first read returns once the whole data is
+	 * decrypted and a tampered data fails the read with an {@link IOException}.
+	 *
+	 * @param dataToDecrypt the base64 URL encoded data to decrypt
+	 * @param refId         the ref id
+	 * @return the stream of the decrypted data
+	 * @throws IdAuthenticationBusinessException the id authentication business
+	 *                                           exception
+	 */
+	public InputStream decrypt(InputStream dataToDecrypt, String refId) throws IdAuthenticationBusinessException {
+		try {
+			if (!cryptomanagerUtils.hasKeyAccess(EnvUtil.getAppId())) {
+				throw new IdAuthenticationBusinessException(IdAuthenticationErrorConstants.INVALID_ENCRYPTION);
+			}
+			InputStream data = Base64.getUrlDecoder().wrap(dataToDecrypt);
+			byte[] encryptedKey = CryptomanagerDataFormat.readEncryptedKey(data, keySplitter);
+			byte[] keyHeader = cryptomanagerUtils.parseEncryptKeyHeader(encryptedKey);
+			CryptomanagerRequestDto request = new CryptomanagerRequestDto();
+			request.setApplicationId(EnvUtil.getAppId());
+			request.setTimeStamp(DateUtils.getUTCCurrentDateTime());
+			request.setReferenceId(refId);
+			request.setData(CryptoUtil.encodeBase64Url(Arrays.copyOfRange(encryptedKey, keyHeader.length, encryptedKey.length)));
+			SecretKey symmetricKey = cryptomanagerUtils.getDecryptedSymmetricKey(request);
+			if (!CryptomanagerDataFormat.isAadPrefixed(keyHeader)) {
+				return new ByteArrayInputStream(cryptoCore.symmetricDecrypt(symmetricKey, data.readAllBytes(), null));
+			}
+			return new CipherInputStream(data,
+					CryptomanagerDataFormat.initDecryptCipher(data, symmetricKey, symmetricAlgorithm, gcmTagLength));
+		} catch (IdAuthenticationBusinessException e) {
+			throw e;
+		} catch (NoUniqueAliasException e) {
+			mosipLogger.error(getUser(), ID_AUTH_TRANSACTION_MANAGER, ENCRYPT_DECRYPT_DATA,
+					ExceptionUtils.getStackTrace(e));
+			throw new IdAuthenticationBusinessException(IdAuthenticationErrorConstants.PUBLICKEY_EXPIRED, e);
+		} catch (Exception e) {
+			mosipLogger.error(getUser(), ID_AUTH_TRANSACTION_MANAGER, ENCRYPT_DECRYPT_DATA,
+					ExceptionUtils.getStackTrace(e));
+			throw new IdAuthenticationBusinessException(IdAuthenticationErrorConstants.INVALID_ENCRYPTION, e);
+		}
+	}
+
 	/**
 	 * Re encrypt random key.
 	 *
@@ -346,22 +422,40 @@ public class IdAuthSecurityManager {
 	}
 
 	/**
-	 * Hash.
+	 * Hash. The same ID is hashed only once within a request.
 	 *
 	 * @param id the id
 	 * @return the string
 	 * @throws IdAuthenticationBusinessException the id authentication business exception
 	 */
 	public String hash(String id) throws IdAuthenticationBusinessException {
-		Integer idModulo = getSaltKeyForHashOfId(id);
-		String hashSaltValue = uinHashSaltRepo.retrieveSaltById(idModulo);
-		if (hashSaltValue != null) {
-			try {
-				return HMACUtils2.digestAsPlainTextWithSalt(id.getBytes(), hashSaltValue.getBytes());
-			} catch (NoSuchAlgorithmException e) {
-				mosipLogger.error(String.format("No such algorithm exception: %s", e.getMessage()));
-				throw new IdAuthenticationBusinessException(IdAuthenticationErrorConstants.UNABLE_TO_PROCESS, e);
+		Map<String, String> requestIdHashes = getRequestIdHashes();
+		String idHash = requestIdHashes == null ? null : requestIdHashes.get(id);
+		if (idHash == null) {
+			idHash = computeHash(id);
+			if (requestIdHashes != null) {
+				requestIdHashes.put(id, idHash);
 			}
+		}
+		return idHash;
+	}
+
+	/**
+	 * Computes the salted hash of the ID.
+	 *
+	 * @param id the id
+	 * @return the string
+	 * @throws IdAuthenticationBusinessException the id authentication business exception
+	 */
+	private String computeHash(String id) throws IdAuthenticationBusinessException {
+		Integer idModulo = getSaltKeyForHashOfId(id);
+		byte[] hashSalt = idHashSaltTable.getSalt(idModulo);
+		if (hashSalt != null) {
+			MessageDigest messageDigest = ID_HASH_DIGEST.get();
+			messageDigest.reset();
+			messageDigest.update(id.getBytes());
+			messageDigest.update(hashSalt);
+			return toHex(messageDigest.digest());
 		} else {
 			mosipLogger.error(String.format("salt hash value does not exist for modulo: %s", idModulo));
 			throw new IdAuthenticationBusinessException(IdAuthenticationErrorConstants.ID_NOT_AVAILABLE.getErrorCode(),
@@ -523,6 +617,26 @@ public class IdAuthSecurityManager {
 		}
 	}
 	
+	/**
+	 * Gets the ID hashes memo of the current request.
+	 *
+	 * @return the ID hashes, or null if there is no current request
+	 */
+	@SuppressWarnings("unchecked")
+	private Map<String, String> getRequestIdHashes() {
+		RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+		if (requestAttributes == null) {
+			return null;
+		}
+		Map<String, String> idHashes = (Map<String, String>) requestAttributes.getAttribute(ID_HASHES_ATTRIBUTE,
+				RequestAttributes.SCOPE_REQUEST);
+		if (idHashes == null) {
+			idHashes = new ConcurrentHashMap<>();
+			requestAttributes.setAttribute(ID_HASHES_ATTRIBUTE, idHashes, RequestAttributes.SCOPE_REQUEST);
+		}
+		return idHashes;
+	}
+
 	private int getSaltKeyForHashOfId(String id) {
 		Integer saltKeyLength = EnvUtil.getSaltKeyLength();
 		return SaltUtil.getIdvidHashModulo(id, saltKeyLength);
@@ -1,6 +1,10 @@
 package io.mosip.authentication.common.service.util;
 
 import static io.mosip.authentication.core.constant.IdAuthCommonConstants.BDB_DEAULT_PROCESSED_LEVEL;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.BIO_MATCH_CONCURRENT_ENABLED;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.BIO_MATCH_FACE_TIMEOUT_MILLIS;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.BIO_MATCH_FINGER_TIMEOUT_MILLIS;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.BIO_MATCH_IRIS_TIMEOUT_MILLIS;
 import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.IDA_BDB_PROCESSED_LEVEL;
 
 import java.util.ArrayList;
@@ -12,14 +16,22 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import io.mosip.authentication.common.service.cache.BirGalleryCache;
 import io.mosip.authentication.core.constant.IdAuthCommonConstants;
 import io.mosip.authentication.core.constant.IdAuthenticationErrorConstants;
 import io.mosip.authentication.core.exception.IdAuthenticationBusinessException;
@@ -63,10 +75,35 @@ public class BioMatcherUtil {
 	/** The bio api factory. */
 	@Autowired
 	private BioAPIFactory bioApiFactory;
+
+	/** The BIR gallery cache. */
+	@Autowired
+	private BirGalleryCache birGalleryCache;
 	
 	@Value("${" + IDA_BDB_PROCESSED_LEVEL + ":" + BDB_DEAULT_PROCESSED_LEVEL + "}")
 	private String bdbProcessedLevel;
 
+	/** The modalities in the order they are matched. */
+	private static final List<BiometricType> MODALITIES = Arrays.asList(BiometricType.FINGER, BiometricType.IRIS,
+			BiometricType.FACE);
+
+	@Value("${" + BIO_MATCH_CONCURRENT_ENABLED + ":false}")
+	private boolean concurrentMatchEnabled;
+
+	@Value("${" + BIO_MATCH_FINGER_TIMEOUT_MILLIS + ":0}")
+	private long fingerMatchTimeoutMillis;
+
+	@Value("${" + BIO_MATCH_IRIS_TIMEOUT_MILLIS + ":0}")
+	private long irisMatchTimeoutMillis;
+
+	@Value("${" + BIO_MATCH_FACE_TIMEOUT_MILLIS + ":0}")
+	private long faceMatchTimeoutMillis;
+
+	/** The executor for matching the modalities concurrently. */
+	@Autowired(required = false)
+	@Qualifier("bioMatchExecutor")
+	private Executor bioMatchExecutor;
+
 	/**
 	 * Match function.
 	 *
@@ -81,7 +118,8 @@ public class BioMatcherUtil {
 		logger.debug(IdAuthCommonConstants.SESSION_ID, "IDA", "matchFunction", "Inside match method");
 		
 		IdMapping[] idMappings = (IdMapping[]) properties.get(IdMapping.class.getSimpleName()); 
-		BIR[][] objArrays = getBirValues(probe, gallery, idMappings);
+		String token = (String) properties.get(IdAuthCommonConstants.TOKEN);
+		BIR[][] objArrays = getBirValues(probe, gallery, idMappings, token);
 		BIR[] reqInfoObj = objArrays[0];
 		BIR[] entityBIR = objArrays[1];
 		
@@ -95,46 +133,223 @@ public class BioMatcherUtil {
 
 		
 		boolean res = !reqBirByType.isEmpty();
-		for (BiometricType modality : Arrays.asList(BiometricType.FINGER, BiometricType.IRIS, BiometricType.FACE)) {
+		if (res) {
+			res = isConcurrentMatchRequired(reqBirByType) ? matchConcurrently(reqBirByType, entityBirByType)
+					: matchSequentially(reqBirByType, entityBirByType);
+		}
+		
+		logger.debug(IdAuthCommonConstants.SESSION_ID, "IDA", "matchFunction", "Match Result: " + res);
+	
+		return res ? (double)  100 : (double) 0;
+	}
+
+	/**
+	 * Matches the modalities one after the other, stopping at the first
+	 * modality that does not match.
+	 *
+	 * @param reqBirByType the sample BIRs by type
+	 * @param entityBirByType the gallery BIRs by type
+	 * @return true, if all modalities match
+	 * @throws IdAuthenticationBusinessException the id authentication business exception
+	 */
+	private boolean matchSequentially(Map<BiometricType, List<BIR>> reqBirByType,
+			Map<BiometricType, List<BIR>> entityBirByType) throws IdAuthenticationBusinessException {
+		for (BiometricType modality : MODALITIES) {
 			if(reqBirByType.containsKey(modality)) {
-				logger.debug(IdAuthCommonConstants.SESSION_ID, "IDA", "matchFunction", "Matching for " + modality.name());
+				List<BIR> record = entityBirByType.get(modality);
+				if(record == null) {
+					throwBiometricMissing(modality);
+				}
 				try {
-					iBioProviderApi bioProvider = bioApiFactory.getBioProvider(modality,
-							BiometricFunction.MATCH);
-					logger.debug(IdAuthCommonConstants.SESSION_ID, "IDA", "matchFunction", "bioProvider - " + bioProvider.getClass().getCanonicalName());
+					if (!verify(modality, reqBirByType.get(modality), record)) {
+						return false;
+					}
+				} catch (BiometricException e) {
+					throw unableToProcessBio(e);
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Checks if the modalities are to be matched concurrently, which is when
+	 * enabled and more than one modality is requested.
+	 *
+	 * @param reqBirByType the sample BIRs by type
+	 * @return true, if concurrent match is required
+	 */
+	private boolean isConcurrentMatchRequired(Map<BiometricType, List<BIR>> reqBirByType) {
+		return concurrentMatchEnabled && bioMatchExecutor != null
+				&& MODALITIES.stream().filter(reqBirByType::containsKey).count() > 1;
+	}
+
+	/**
+	 * Matches the modalities concurrently on the bio match executor. The first
+	 * modality that does not match, fails or times out decides the result and
+	 * cancels the outstanding matches. As in the sequential match, a modality
+	 * missing in the gallery fails the match only if the modalities before it
+	 * match.
+	 *
+	 * @param reqBirByType the sample BIRs by type
+	 * @param entityBirByType the gallery BIRs by type
+	 * @return true, if all modalities match
+	 * @throws IdAuthenticationBusinessException the id authentication business exception
+	 */
+	private boolean matchConcurrently(Map<BiometricType, List<BIR>> reqBirByType,
+			Map<BiometricType, List<BIR>> entityBirByType) throws IdAuthenticationBusinessException {
+		CompletionService<Boolean> completionService = new ExecutorCompletionService<>(bioMatchExecutor);
+		Map<Future<Boolean>, BiometricType> pending = new HashMap<>();
+		Map<Future<Boolean>, Long> deadlines = new HashMap<>();
+		BiometricType missingModality = null;
+		try {
+			for (BiometricType modality : MODALITIES) {
+				if (reqBirByType.containsKey(modality)) {
 					List<BIR> sample = reqBirByType.get(modality);
 					List<BIR> record = entityBirByType.get(modality);
-					if(sample != null) {
-						logger.debug(IdAuthCommonConstants.SESSION_ID, "IDA", "matchFunction", "sample birs list is not null");
-						if(record != null) {
-							logger.debug(IdAuthCommonConstants.SESSION_ID, "IDA", "matchFunction", "record birs list is not null");
-							Map<String, String> flags = new HashMap<>();
-							flags.put("uniqueRefID", UUID.randomUUID().toString());
-							flags.put("timestamp", DateUtils.getUTCCurrentDateTimeString());
-							res =  bioProvider.verify(sample, record, modality, flags);
-							logger.debug(IdAuthCommonConstants.SESSION_ID, "IDA", "matchFunction", "match response : " + res + " for " + modality);
-							if(!res) {
-								break;
-							}
-						} else {
-							logger.debug(IdAuthCommonConstants.SESSION_ID, "IDA", "matchFunction", "record birs list is null");
-							throw new IdAuthenticationBusinessException(IdAuthenticationErrorConstants.BIOMETRIC_MISSING.getErrorCode(), 
-									String.format(IdAuthenticationErrorConstants.BIOMETRIC_MISSING.getErrorMessage(), modality));
-						}
-					} else {
-						logger.debug(IdAuthCommonConstants.SESSION_ID, "IDA", "matchFunction", "sample birs list is null");
+					if (record == null) {
+						missingModality = modality;
+						break;
+					}
+					Future<Boolean> future = completionService.submit(() -> verify(modality, sample, record));
+					pending.put(future, modality);
+					long timeoutMillis = getMatchTimeoutMillis(modality);
+					if (timeoutMillis > 0) {
+						deadlines.put(future, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis));
 					}
-				} catch (BiometricException e) {
-					logger.error(IdAuthCommonConstants.SESSION_ID, "IDA", "matchFunction",
-							String.format("%s: %s", e.getClass().getSimpleName(), ExceptionUtils.getStackTrace(e)));
-					throw new IdAuthenticationBusinessException(IdAuthenticationErrorConstants.UNABLE_TO_PROCESS_BIO, e);
 				}
 			}
+
+			while (!pending.isEmpty()) {
+				Future<Boolean> done = pollNext(completionService, pending, deadlines);
+				BiometricType modality = pending.remove(done);
+				if (!getMatchResult(done)) {
+					logger.debug(IdAuthCommonConstants.SESSION_ID, "IDA", "matchConcurrently",
+							"match response : false for " + modality);
+					return false;
+				}
+			}
+		} finally {
+			pending.keySet().forEach(future -> future.cancel(true));
+		}
+
+		if (missingModality != null) {
+			throwBiometricMissing(missingModality);
+		}
+		return true;
+	}
+
+	/**
+	 * Waits for the next completed match, up to the earliest deadline of the
+	 * pending matches.
+	 *
+	 * @param completionService the completion service
+	 * @param pending the pending matches
+	 * @param deadlines the deadlines of the pending matches
+	 * @return the completed match
+	 * @throws IdAuthenticationBusinessException if a match timed out or the wait was interrupted
+	 */
+	private Future<Boolean> pollNext(CompletionService<Boolean> completionService,
+			Map<Future<Boolean>, BiometricType> pending, Map<Future<Boolean>, Long> deadlines)
+			throws IdAuthenticationBusinessException {
+		try {
+			Optional<Entry<Future<Boolean>, Long>> nextDeadline = deadlines.entrySet().stream()
+					.filter(entry -> pending.containsKey(entry.getKey()))
+					.min(Entry.comparingByValue());
+			if (!nextDeadline.isPresent()) {
+				return completionService.take();
+			}
+			Future<Boolean> done = completionService.poll(nextDeadline.get().getValue() - System.nanoTime(),
+					TimeUnit.NANOSECONDS);
+			if (done == null) {
+				BiometricType modality = pending.get(nextDeadline.get().getKey());
+				logger.error(IdAuthCommonConstants.SESSION_ID, "IDA", "matchConcurrently",
+						"match timed out for " + modality);
+				throw new IdAuthenticationBusinessException(IdAuthenticationErrorConstants.UNABLE_TO_PROCESS_BIO);
+			}
+			return done;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IdAuthenticationBusinessException(IdAuthenticationErrorConstants.UNABLE_TO_PROCESS_BIO, e);
 		}
-		
-		logger.debug(IdAuthCommonConstants.SESSION_ID, "IDA", "matchFunction", "Match Result: " + res);
-	
-		return res ? (double)  100 : (double) 0;
+	}
+
+	/**
+	 * Gets the result of a completed match.
+	 *
+	 * @param future the completed match
+	 * @return the match result
+	 * @throws IdAuthenticationBusinessException the id authentication business exception
+	 */
+	private boolean getMatchResult(Future<Boolean> future) throws IdAuthenticationBusinessException {
+		try {
+			return future.get();
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof BiometricException) {
+				throw unableToProcessBio((BiometricException) cause);
+			} else if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			} else if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new IdAuthenticationBusinessException(IdAuthenticationErrorConstants.UNABLE_TO_PROCESS_BIO, cause);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IdAuthenticationBusinessException(IdAuthenticationErrorConstants.UNABLE_TO_PROCESS_BIO, e);
+		}
+	}
+
+	/**
+	 * Gets the configured match timeout of the modality, 0 for no timeout.
+	 *
+	 * @param modality the modality
+	 * @return the match timeout millis
+	 */
+	private long getMatchTimeoutMillis(BiometricType modality) {
+		switch (modality) {
+		case FINGER:
+			return fingerMatchTimeoutMillis;
+		case IRIS:
+			return irisMatchTimeoutMillis;
+		case FACE:
+			return faceMatchTimeoutMillis;
+		default:
+			return 0;
+		}
+	}
+
+	/**
+	 * Verifies the sample against the record with the bio provider of the modality.
+	 *
+	 * @param modality the modality
+	 * @param sample the sample
+	 * @param record the record
+	 * @return the match result
+	 * @throws BiometricException the biometric exception
+	 */
+	private boolean verify(BiometricType modality, List<BIR> sample, List<BIR> record) throws BiometricException {
+		logger.debug(IdAuthCommonConstants.SESSION_ID, "IDA", "matchFunction", "Matching for " + modality.name());
+		iBioProviderApi bioProvider = bioApiFactory.getBioProvider(modality, BiometricFunction.MATCH);
+		logger.debug(IdAuthCommonConstants.SESSION_ID, "IDA", "matchFunction", "bioProvider - " + bioProvider.getClass().getCanonicalName());
+		Map<String, String> flags = new HashMap<>();
+		flags.put("uniqueRefID", UUID.randomUUID().toString());
+		flags.put("timestamp", DateUtils.getUTCCurrentDateTimeString());
+		boolean res = bioProvider.verify(sample, record, modality, flags);
+		logger.debug(IdAuthCommonConstants.SESSION_ID, "IDA", "matchFunction", "match response : " + res + " for " + modality);
+		return res;
+	}
+
+	private void throwBiometricMissing(BiometricType modality) throws IdAuthenticationBusinessException {
+		logger.debug(IdAuthCommonConstants.SESSION_ID, "IDA", "matchFunction", "record birs list is null");
+		throw new IdAuthenticationBusinessException(IdAuthenticationErrorConstants.BIOMETRIC_MISSING.getErrorCode(), 
+				String.format(IdAuthenticationErrorConstants.BIOMETRIC_MISSING.getErrorMessage(), modality));
+	}
+
+	private IdAuthenticationBusinessException unableToProcessBio(BiometricException e) {
+		logger.error(IdAuthCommonConstants.SESSION_ID, "IDA", "matchFunction",
+				String.format("%s: %s", e.getClass().getSimpleName(), ExceptionUtils.getStackTrace(e)));
+		return new IdAuthenticationBusinessException(IdAuthenticationErrorConstants.UNABLE_TO_PROCESS_BIO, e);
 	}
 
 	/**
@@ -166,10 +381,12 @@ public class BioMatcherUtil {
 	 * @param reqInfo the req info
 	 * @param entityInfo the entity info
 	 * @param idMappings the id mappings
+	 * @param token the identity token, used to look up the cached gallery
 	 * @return the bir values
 	 * @throws IdAuthenticationBusinessException 
 	 */
-	private BIR[][] getBirValues(Map<String, String> reqInfo, Map<String, String> entityInfo, IdMapping[] idMappings) throws IdAuthenticationBusinessException {
+	private BIR[][] getBirValues(Map<String, String> reqInfo, Map<String, String> entityInfo, IdMapping[] idMappings,
+			String token) throws IdAuthenticationBusinessException {
 		BIR[] reqInfoObj;
 		BIR[] entityInfoObj;
 	
@@ -182,7 +399,7 @@ public class BioMatcherUtil {
 				String key = e.getKey();
 				
 				reqInfoObj[index] = getBir(e.getValue(), getType(key, idMappings));
-				entityInfoObj[index] = getBir(entityInfo.get(key), getType(key, idMappings));
+				entityInfoObj[index] = getGalleryBir(token, key, entityInfo.get(key), getType(key, idMappings));
 				index++;
 			}
 		} else {
@@ -206,7 +423,14 @@ public class BioMatcherUtil {
 
 			entityInfoObj = entityInfo.entrySet()
 								.stream()
-								.map(birMapper)
+								.map(e -> {
+									try {
+										return getGalleryBir(token, e.getKey(), e.getValue(), getType(e.getKey(), idMappings));
+									} catch (IdAuthenticationBusinessException e1) {
+										entityMapexceptions.add(e1);
+										return null;
+									}
+								})
 								.toArray(s -> new BIR[s]);
 			
 			if(!entityMapexceptions.isEmpty()) {
@@ -250,6 +474,22 @@ public class BioMatcherUtil {
 		return new BioInfo(String.valueOf(type), singleType, subTypes);
 	}
 
+	/**
+	 * Gets the gallery BIR, from the BIR gallery cache when enabled.
+	 *
+	 * @param token the identity token
+	 * @param galleryKey the gallery attribute name
+	 * @param galleryValue the stored gallery value
+	 * @param type the type
+	 * @return the bir
+	 */
+	private BIR getGalleryBir(String token, String galleryKey, String galleryValue, BioInfo type) {
+		if (birGalleryCache.isEnabled()) {
+			return birGalleryCache.get(token, galleryKey, galleryValue, () -> getBir(galleryValue, type));
+		}
+		return getBir(galleryValue, type);
+	}
+
 	/**
 	 * To create BIRType based on requested input.
 	 *
@@ -0,0 +1,48 @@
+package io.mosip.authentication.common.service.util;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.mosip.authentication.core.util.BoundedTtlCache;
+
+/**
+ * The Class CacheMetricsUtil registers the statistics of the in-memory IDA
+ * caches with the meter registry, using the common cache meter names tagged
+ * with the cache name.
+ */
+public final class CacheMetricsUtil {
+
+	private static final String CACHE_TAG = "cache";
+
+	private static final String RESULT_TAG = "result";
+
+	private CacheMetricsUtil() {
+	}
+
+	/**
+	 * Binds the hit, miss, eviction and size meters of the cache.
+	 *
+	 * @param registry  the registry
+	 * @param cacheName the cache name
+	 * @param cache     the cache
+	 */
+	public static void bindCacheMetrics(MeterRegistry registry, String cacheName, BoundedTtlCache<?, ?> cache) {
+		FunctionCounter.builder("cache.gets", cache, BoundedTtlCache::getHitCount)
+				.tags(CACHE_TAG, cacheName, RESULT_TAG, "hit")
+				.description("The number of times cache lookup methods have returned a cached value.")
+				.register(registry);
+		FunctionCounter.builder("cache.gets", cache, BoundedTtlCache::getMissCount)
+				.tags(CACHE_TAG, cacheName, RESULT_TAG, "miss")
+				.description("The number of times cache lookup methods have not returned a value.")
+				.register(registry);
+		FunctionCounter.builder("cache.evictions", cache, BoundedTtlCache::getEvictionCount)
+				.tags(CACHE_TAG, cacheName)
+				.description("The number of entries evicted for size or expiry.")
+				.register(registry);
+		Gauge.builder("cache.size", cache, BoundedTtlCache::size)
+				.tags(CACHE_TAG, cacheName)
+				.description("The number of entries in the cache.")
+				.register(registry);
+	}
+
+}
@@ -18,6 +18,13 @@ import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.AUT
 import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.AUTH_EMAIL_SUBJECT_TEMPLATE;
 import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.AUTH_SMS_TEMPLATE;
 import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.BIO_DATE_TIME_PATTERN;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.BIO_DECIPHER_PARALLEL_THRESHOLD;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.BIO_DECIPHER_QUEUE_CAPACITY;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.BIO_DECIPHER_THREAD_COUNT;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.BIO_MATCH_QUEUE_CAPACITY;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.BIO_MATCH_THREAD_COUNT;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.MATCH_INPUT_QUEUE_CAPACITY;
+import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.MATCH_INPUT_THREAD_COUNT;
 import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.BIO_SEGMENT_TIME_DIFF_ALLOWED;
 import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.DATE_TIME_PATTERN;
 import static io.mosip.authentication.core.constant.IdAuthConfigKeyConstants.DEFAULT_MATCH_VALUE;
@@ -205,6 +212,20 @@ public class EnvUtil {
 
 	@Getter @Setter private static String kycExchangeDefaultLanguage;
 
+	@Getter @Setter private static Integer bioDecipherParallelThreshold;
+
+	@Getter @Setter private static Integer bioDecipherThreadCount;
+
+	@Getter @Setter private static Integer bioDecipherQueueCapacity;
+
+	@Getter @Setter private static Integer bioMatchThreadCount;
+
+	@Getter @Setter private static Integer bioMatchQueueCapacity;
+
+	@Getter @Setter private static Integer matchInputThreadCount;
+
+	@Getter @Setter private static Integer matchInputQueueCapacity;
+
 	@Autowired
 	private Environment env;
 
@@ -278,6 +299,16 @@ public class EnvUtil {
 		setKycTokenExpireTimeAdjustmentSeconds(this.getProperty(KYC_TOKEN_EXPIRE_TIME_ADJUSTMENT_IN_SECONDS, Long.class,
 			DEFAULT_KYC_TOKEN_EXPIRE_TIME_ADJUSTMENT_IN_SECONDS));
 		setKycExchangeDefaultLanguage(this.getProperty(KYC_EXCHANGE_DEFAULT_LANGUAGE, DEFAULT_KYC_EXCHANGE_DEFAULT_LANGUAGE));
+		setBioDecipherParallelThreshold(this.getProperty(BIO_DECIPHER_PARALLEL_THRESHOLD, Integer.class, 0));
+		setBioDecipherThreadCount(this.getProperty(BIO_DECIPHER_THREAD_COUNT, Integer.class,
+				Runtime.getRuntime().availableProcessors()));
+		setBioDecipherQueueCapacity(this.getProperty(BIO_DECIPHER_QUEUE_CAPACITY, Integer.class, 100));
+		setBioMatchThreadCount(this.getProperty(BIO_MATCH_THREAD_COUNT, Integer.class,
+				Runtime.getRuntime().availableProcessors()));
+		setBioMatchQueueCapacity(this.getProperty(BIO_MATCH_QUEUE_CAPACITY, Integer.class, 100));
+		setMatchInputThreadCount(this.getProperty(MATCH_INPUT_THREAD_COUNT, Integer.class,
+				Runtime.getRuntime().availableProcessors()));
+		setMatchInputQueueCapacity(this.getProperty(MATCH_INPUT_QUEUE_CAPACITY, Integer.class, 100));
 			
 	}
 	
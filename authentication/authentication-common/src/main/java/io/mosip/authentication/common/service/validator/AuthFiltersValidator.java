@@ -1,21 +1,28 @@
 package io.mosip.authentication.common.service.validator;
 
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import io.mosip.authentication.authfilter.exception.IdAuthenticationFilterException;
 import io.mosip.authentication.authfilter.spi.IMosipAuthFilter;
+import io.mosip.authentication.authfilter.spi.IMosipHotlistAuthFilter;
 import io.mosip.authentication.common.service.factory.MosipAuthFilterFactory;
+import io.mosip.authentication.core.hotlist.dto.HotlistDTO;
+import io.mosip.authentication.core.hotlist.dto.HotlistIdDTO;
 import io.mosip.authentication.core.indauth.dto.AuthRequestDTO;
 import io.mosip.authentication.core.indauth.dto.IdentityInfoDTO;
+import io.mosip.authentication.core.spi.hotlist.service.HotlistService;
 
 
 /**
  * The Class AuthFiltersValidator - Validator to sequentially validate with the
- * authentication filters
+ * authentication filters. The hotlist status of the ids of all the hotlist
+ * filters is looked up at once before running the filters.
  * 
  * @author Loganathan Sekar
  */
@@ -25,6 +32,10 @@ public class AuthFiltersValidator {
 	/** The mosip auth filter factory. */
 	@Autowired
 	private MosipAuthFilterFactory mosipAuthFilterFactory;
+
+	/** The hotlist service. */
+	@Autowired
+	private HotlistService hotlistService;
 	
 	/**
 	 * Validate auth filters.
@@ -38,10 +49,25 @@ public class AuthFiltersValidator {
 			           Map<String, List<IdentityInfoDTO>> identityData,
 			           Map<String, Object> properties) throws IdAuthenticationFilterException {
 		List<IMosipAuthFilter> enabledAuthFilters = mosipAuthFilterFactory.getEnabledAuthFilters();
+		// The ids of all the hotlist filters are collected first and looked up together
+		Map<IMosipAuthFilter, List<HotlistIdDTO>> hotlistIdsByFilter = new LinkedHashMap<>();
+		for (IMosipAuthFilter authFilter : enabledAuthFilters) {
+			if (authFilter instanceof IMosipHotlistAuthFilter) {
+				hotlistIdsByFilter.put(authFilter, ((IMosipHotlistAuthFilter) authFilter).getHotlistIds(authRequestDto));
+			}
+		}
+		Map<HotlistIdDTO, HotlistDTO> hotlistStatus = hotlistIdsByFilter.isEmpty() ? Map.of()
+				: hotlistService.getHotlistStatus(hotlistIdsByFilter.values().stream().flatMap(List::stream)
+						.collect(Collectors.toList()));
 		for (IMosipAuthFilter authFilter : enabledAuthFilters) {
 			// This will run auth filter validate one by one and any exception thrown from
 			// one filter will skip the execution of the rest.
-			authFilter.validate(authRequestDto, identityData, properties);
+			List<HotlistIdDTO> hotlistIds = hotlistIdsByFilter.get(authFilter);
+			if (hotlistIds != null) {
+				((IMosipHotlistAuthFilter) authFilter).validateHotlistStatus(hotlistIds, hotlistStatus);
+			} else {
+				authFilter.validate(authRequestDto, identityData, properties);
+			}
 		}
 	}
 
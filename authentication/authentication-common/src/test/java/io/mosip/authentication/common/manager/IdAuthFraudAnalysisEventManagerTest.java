@@ -17,6 +17,7 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.TestContext;
 import org.springframework.test.context.junit4.SpringRunner;
@@ -26,7 +27,6 @@ import org.springframework.web.context.WebApplicationContext;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import io.mosip.authentication.common.service.entity.AutnTxn;
-import io.mosip.authentication.common.service.repository.AutnTxnRepository;
 import io.mosip.authentication.common.service.util.EnvUtil;
 import io.mosip.authentication.common.service.websub.impl.IdAuthFraudAnalysisEventPublisher;
 import io.mosip.authentication.core.dto.IdAuthFraudAnalysisEventDTO;
@@ -43,7 +43,7 @@ public class IdAuthFraudAnalysisEventManagerTest {
     private IdAuthFraudAnalysisEventDTO eventData;
 
     @Mock
-    private AutnTxnRepository authTxnRepo;
+    private ThreadPoolTaskScheduler taskScheduler;
 
     @Mock
     private AutnTxn txn;
@@ -58,7 +58,9 @@ public class IdAuthFraudAnalysisEventManagerTest {
     public void Before(){
     	EnvUtil.setIsFraudAnalysisEnabled(true);
         ReflectionTestUtils.setField(idAuthFraudAnalysisEventManager, "requestFloodingTimeDiff", 1);
+        ReflectionTestUtils.setField(idAuthFraudAnalysisEventManager, "requestCountForFlooding", 3);
         ReflectionTestUtils.setField(idAuthFraudAnalysisEventManager, "mapper", mapper);
+        idAuthFraudAnalysisEventManager.init();
     }
 
     /**
@@ -71,17 +73,47 @@ public class IdAuthFraudAnalysisEventManagerTest {
     @Test
     public void analyseEventTest(){
         AutnTxn autnTxn = getAutnTxn();
-        List<AutnTxn> requests = new ArrayList<>();
-        requests.add(autnTxn);
-        LocalDateTime t= LocalDateTime.of(2021, 11, 2, 12,24, 37, 3);
-        Mockito.when(eventData.getRequestTime()).thenReturn(t);
-        //Based on IdvId
-        Mockito.when(eventData.getIndividualIdHash()).thenReturn("IndividualIdHash");
-        Mockito.when(authTxnRepo.countByRefIdAndRequestDTtimesAfter("IndividualIdHash", t.minusSeconds(1))).thenReturn(1l);
-        //Based on Partner Id
-        Mockito.when(eventData.getPartnerId()).thenReturn("PartnerId");
-        Mockito.when(authTxnRepo.countByRefIdAndRequestDTtimesAfter("PartnerId", t.minusSeconds(1))).thenReturn(1l);
         ReflectionTestUtils.invokeMethod(idAuthFraudAnalysisEventManager, "analyseEvent", autnTxn);
+        Mockito.verify(publisher, Mockito.times(1)).publishEvent(Mockito.any());
+    }
+
+    /**
+     * This class tests the request flooding is published once the request count
+     * within the time difference reaches the configured count, as counted by the
+     * auth transaction queries
+     */
+    @Test
+    public void analyseEventRequestFloodingTest(){
+        List<IdAuthFraudAnalysisEventDTO> events = new ArrayList<>();
+        Mockito.doAnswer(invocation -> events.add(copy(invocation.getArgument(0)))).when(publisher).publishEvent(Mockito.any());
+        LocalDateTime t = LocalDateTime.of(2021, 11, 2, 12, 24, 37, 3);
+        AutnTxn autnTxn = getAutnTxn();
+        autnTxn.setRequestDTtimes(t);
+        idAuthFraudAnalysisEventManager.analyseEvent(autnTxn);
+        autnTxn.setRequestDTtimes(t.plusNanos(400_000_000));
+        idAuthFraudAnalysisEventManager.analyseEvent(autnTxn);
+        assertEquals(2, events.size());
+        autnTxn.setRequestDTtimes(t.plusNanos(800_000_000));
+        idAuthFraudAnalysisEventManager.analyseEvent(autnTxn);
+        // The event and the flooding of the individual and the partner
+        assertEquals(5, events.size());
+        assertEquals("Multple Request received with count : 3 within seconds : 1", events.get(3).getComment());
+        assertEquals("Multple Request received with count : 3 within seconds : 1", events.get(4).getComment());
+        // The first request is out of the time difference, the individual is still flooding
+        // and the other partner is not
+        autnTxn.setRequestDTtimes(t.plusSeconds(1).plusNanos(300_000_000));
+        autnTxn.setEntityId("other-partner");
+        idAuthFraudAnalysisEventManager.analyseEvent(autnTxn);
+        assertEquals(7, events.size());
+        assertEquals("Multple Request received with count : 3 within seconds : 1", events.get(6).getComment());
+    }
+
+    private IdAuthFraudAnalysisEventDTO copy(IdAuthFraudAnalysisEventDTO eventData) {
+        IdAuthFraudAnalysisEventDTO copy = new IdAuthFraudAnalysisEventDTO();
+        copy.setIndividualIdHash(eventData.getIndividualIdHash());
+        copy.setPartnerId(eventData.getPartnerId());
+        copy.setComment(eventData.getComment());
+        return copy;
     }
 
     /**
@@ -0,0 +1,121 @@
+package io.mosip.authentication.common.service.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.mosip.authentication.common.service.entity.AuthtypeLock;
+import io.mosip.authentication.common.service.repository.AuthLockRepository;
+
+@RunWith(MockitoJUnitRunner.class)
+public class AuthLockCacheTest {
+
+	@InjectMocks
+	private AuthLockCache authLockCache;
+
+	@Mock
+	private AuthLockRepository authLockRepository;
+
+	@Mock
+	private ThreadPoolTaskScheduler taskScheduler;
+
+	@Mock
+	private Function<String, List<AuthtypeLock>> loader;
+
+	@Test
+	public void testDisabledCache() {
+		init(false);
+		Mockito.when(loader.apply("token")).thenReturn(List.of(new AuthtypeLock("demo", "true", null)));
+		authLockCache.getAuthTypeLocks("token", loader);
+		authLockCache.getAuthTypeLocks("token", loader);
+		assertFalse(authLockCache.isEnabled());
+		assertEquals(2, authLockCache.getDatabaseQueryCount());
+		authLockCache.refresh();
+		Mockito.verifyZeroInteractions(authLockRepository, taskScheduler);
+	}
+
+	@Test
+	public void testLoadedOnce() {
+		init(true);
+		List<AuthtypeLock> authTypeLocks = List.of(new AuthtypeLock("demo", "true", null));
+		Mockito.when(loader.apply("token")).thenReturn(authTypeLocks);
+		assertEquals(authTypeLocks, authLockCache.getAuthTypeLocks("token", loader));
+		assertEquals(authTypeLocks, authLockCache.getAuthTypeLocks("token", loader));
+		assertEquals(1, authLockCache.getDatabaseQueryCount());
+		Mockito.verify(loader, Mockito.times(1)).apply("token");
+		Mockito.verify(taskScheduler).scheduleWithFixedDelay(Mockito.any(Runnable.class), Mockito.eq(1000L));
+	}
+
+	@Test
+	public void testInvalidate() {
+		init(true);
+		Mockito.when(loader.apply("token")).thenReturn(List.of());
+		authLockCache.getAuthTypeLocks("token", loader);
+		authLockCache.invalidate("token");
+		authLockCache.getAuthTypeLocks("token", loader);
+		Mockito.verify(loader, Mockito.times(2)).apply("token");
+	}
+
+	@Test
+	public void testRefreshInvalidatesUpdatedTokens() {
+		init(true);
+		Mockito.when(loader.apply(Mockito.anyString())).thenReturn(List.of());
+		authLockCache.getAuthTypeLocks("token1", loader);
+		authLockCache.getAuthTypeLocks("token2", loader);
+		LocalDateTime lastRefreshTime = (LocalDateTime) ReflectionTestUtils.getField(authLockCache, "lastRefreshTime");
+		Mockito.when(authLockRepository.findTokensUpdatedSince(lastRefreshTime.minusSeconds(1)))
+				.thenReturn(List.of("token1"));
+		authLockCache.refresh();
+		authLockCache.getAuthTypeLocks("token1", loader);
+		authLockCache.getAuthTypeLocks("token2", loader);
+		Mockito.verify(loader, Mockito.times(2)).apply("token1");
+		Mockito.verify(loader, Mockito.times(1)).apply("token2");
+		assertFalse(((LocalDateTime) ReflectionTestUtils.getField(authLockCache, "lastRefreshTime"))
+				.isBefore(lastRefreshTime));
+	}
+
+	@Test
+	public void testRefreshRetriedWhenDatabaseFails() {
+		init(true);
+		LocalDateTime lastRefreshTime = (LocalDateTime) ReflectionTestUtils.getField(authLockCache, "lastRefreshTime");
+		Mockito.when(authLockRepository.findTokensUpdatedSince(Mockito.any()))
+				.thenThrow(new DataAccessResourceFailureException("down"));
+		authLockCache.refresh();
+		assertEquals(lastRefreshTime, ReflectionTestUtils.getField(authLockCache, "lastRefreshTime"));
+	}
+
+	@Test
+	public void testBindMetrics() {
+		init(true);
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		authLockCache.bindTo(registry);
+		Mockito.when(loader.apply("token")).thenReturn(List.of());
+		authLockCache.getAuthTypeLocks("token", loader);
+		authLockCache.getAuthTypeLocks("token", loader);
+		assertEquals(2L, registry.get("ida.auth-lock.check").timer().count());
+		assertEquals(1d, registry.get("ida.auth-lock.database-queries").functionCounter().count(), 0d);
+		assertEquals(1d, registry.get("cache.size").tag("cache", "auth-lock").gauge().value(), 0d);
+	}
+
+	private void init(boolean enabled) {
+		ReflectionTestUtils.setField(authLockCache, "enabled", enabled);
+		ReflectionTestUtils.setField(authLockCache, "maxSize", 100);
+		ReflectionTestUtils.setField(authLockCache, "ttlSeconds", 60L);
+		ReflectionTestUtils.setField(authLockCache, "refreshIntervalMillis", 1000L);
+		authLockCache.init();
+	}
+}
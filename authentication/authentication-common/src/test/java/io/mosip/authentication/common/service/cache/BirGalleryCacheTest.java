@@ -0,0 +1,120 @@
+package io.mosip.authentication.common.service.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.mosip.kernel.biometrics.entities.BIR;
+
+public class BirGalleryCacheTest {
+
+	private final AtomicInteger decodeCount = new AtomicInteger();
+
+	@Test
+	public void testDisabledCache() {
+		BirGalleryCache birGalleryCache = createCache(false);
+		birGalleryCache.get("token", "Finger_Left", "value", birBuilder(4));
+		birGalleryCache.get("token", "Finger_Left", "value", birBuilder(4));
+		assertFalse(birGalleryCache.isEnabled());
+		assertEquals(2, decodeCount.get());
+		assertEquals(0, birGalleryCache.getCachedBytes());
+	}
+
+	@Test
+	public void testCachedBirReused() {
+		BirGalleryCache birGalleryCache = createCache(true);
+		BIR bir = birGalleryCache.get("token", "Finger_Left", "value", birBuilder(4));
+		assertTrue(birGalleryCache.isEnabled());
+		assertSame(bir, birGalleryCache.get("token", "Finger_Left", "value", birBuilder(4)));
+		assertEquals(1, decodeCount.get());
+		assertNotSame(bir, birGalleryCache.get("token2", "Finger_Left", "value", birBuilder(4)));
+		assertEquals(2, decodeCount.get());
+	}
+
+	@Test
+	public void testChangedValueRebuilt() {
+		BirGalleryCache birGalleryCache = createCache(true);
+		BIR bir = birGalleryCache.get("token", "Finger_Left", "value", birBuilder(4));
+		BIR newBir = birGalleryCache.get("token", "Finger_Left", "newValue", birBuilder(4));
+		assertNotSame(bir, newBir);
+		assertSame(newBir, birGalleryCache.get("token", "Finger_Left", "newValue", birBuilder(4)));
+		assertEquals(2, decodeCount.get());
+	}
+
+	@Test
+	public void testEqualValueReusedByDigest() {
+		BirGalleryCache birGalleryCache = createCache(true);
+		BIR bir = birGalleryCache.get("token", "Finger_Left", new String("value"), birBuilder(4));
+		assertSame(bir, birGalleryCache.get("token", "Finger_Left", new String("value"), birBuilder(4)));
+		assertEquals(1, decodeCount.get());
+	}
+
+	@Test
+	public void testOldestEvictedWhenOverBytes() {
+		BirGalleryCache birGalleryCache = createCache(true);
+		ReflectionTestUtils.setField(birGalleryCache, "maxBytes", 100L);
+		birGalleryCache.init();
+		birGalleryCache.get("token", "Finger_Left", "value", birBuilder(40));
+		birGalleryCache.get("token2", "Finger_Left", "value", birBuilder(40));
+		assertEquals(72, birGalleryCache.getCachedBytes());
+		birGalleryCache.get("token2", "Finger_Left", "value", birBuilder(40));
+		assertEquals(2, decodeCount.get());
+		birGalleryCache.get("token", "Finger_Left", "value", birBuilder(40));
+		assertEquals(3, decodeCount.get());
+	}
+
+	@Test
+	public void testInvalidate() {
+		BirGalleryCache birGalleryCache = createCache(true);
+		birGalleryCache.get("token", "Finger_Left", "value", birBuilder(4));
+		birGalleryCache.get("token2", "Finger_Left", "value", birBuilder(4));
+		birGalleryCache.invalidate("token");
+		birGalleryCache.invalidate(List.of("token2"));
+		birGalleryCache.get("token", "Finger_Left", "value", birBuilder(4));
+		birGalleryCache.get("token2", "Finger_Left", "value", birBuilder(4));
+		assertEquals(4, decodeCount.get());
+	}
+
+	@Test
+	public void testBindMetrics() {
+		BirGalleryCache birGalleryCache = createCache(true);
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		birGalleryCache.bindTo(registry);
+		birGalleryCache.get("token", "Finger_Left", "value", birBuilder(10));
+		birGalleryCache.get("token", "Iris_Left", "value", birBuilder(20));
+		birGalleryCache.get("token", "Iris_Left", "value", birBuilder(20));
+		// The data blocks along with the SHA-256 digests of the stored values
+		assertEquals(94.0, registry.get("ida.bir-gallery-cache.bytes").gauge().value(), 0);
+		assertEquals(94.0, registry.get("ida.bir-gallery-cache.identity.bytes").gauge().value(), 0);
+		assertEquals(2.0, registry.get("cache.gets").tags("cache", "bir-gallery", "result", "hit")
+				.functionCounter().count(), 0);
+		assertTrue(registry.get("ida.bir-gallery-cache.decode-time-saved").functionCounter().count() >= 0);
+	}
+
+	private Supplier<BIR> birBuilder(int bdbLength) {
+		return () -> {
+			decodeCount.incrementAndGet();
+			return new BIR.BIRBuilder().withBdb(new byte[bdbLength]).build();
+		};
+	}
+
+	private BirGalleryCache createCache(boolean enabled) {
+		BirGalleryCache birGalleryCache = new BirGalleryCache();
+		ReflectionTestUtils.setField(birGalleryCache, "enabled", enabled);
+		ReflectionTestUtils.setField(birGalleryCache, "maxSize", 10);
+		ReflectionTestUtils.setField(birGalleryCache, "ttlSeconds", 60L);
+		ReflectionTestUtils.setField(birGalleryCache, "maxBytes", 1024L);
+		birGalleryCache.init();
+		return birGalleryCache;
+	}
+}
@@ -0,0 +1,78 @@
+package io.mosip.authentication.common.service.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.apache.velocity.Template;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class CompiledTemplateCacheTest {
+
+	@Test
+	public void testDisabledCache() {
+		CompiledTemplateCache compiledTemplateCache = createCache(false);
+		compiledTemplateCache.put("auth-sms", List.of("eng"), new Template(), compiledTemplateCache.getGeneration());
+		assertFalse(compiledTemplateCache.isEnabled());
+		assertNull(compiledTemplateCache.get("auth-sms", List.of("eng")));
+	}
+
+	@Test
+	public void testKeyedByNameAndLanguageOrder() {
+		CompiledTemplateCache compiledTemplateCache = createCache(true);
+		Template template = new Template();
+		compiledTemplateCache.put("auth-sms", List.of("eng", "ara"), template, compiledTemplateCache.getGeneration());
+		assertTrue(compiledTemplateCache.isEnabled());
+		assertSame(template, compiledTemplateCache.get("auth-sms", List.of("eng", "ara")));
+		assertNull(compiledTemplateCache.get("auth-sms", List.of("ara", "eng")));
+		assertNull(compiledTemplateCache.get("otp-sms", List.of("eng", "ara")));
+	}
+
+	@Test
+	public void testInvalidateAllLanguagesOfTemplate() {
+		CompiledTemplateCache compiledTemplateCache = createCache(true);
+		Template otpTemplate = new Template();
+		compiledTemplateCache.put("auth-sms", List.of("eng"), new Template(), compiledTemplateCache.getGeneration());
+		compiledTemplateCache.put("auth-sms", List.of("ara", "eng"), new Template(), compiledTemplateCache.getGeneration());
+		compiledTemplateCache.put("otp-sms", List.of("eng"), otpTemplate, compiledTemplateCache.getGeneration());
+		compiledTemplateCache.invalidate("auth-sms");
+		assertNull(compiledTemplateCache.get("auth-sms", List.of("eng")));
+		assertNull(compiledTemplateCache.get("auth-sms", List.of("ara", "eng")));
+		assertSame(otpTemplate, compiledTemplateCache.get("otp-sms", List.of("eng")));
+	}
+
+	@Test
+	public void testTemplateParsedBeforeInvalidationNotCached() {
+		CompiledTemplateCache compiledTemplateCache = createCache(true);
+		long generation = compiledTemplateCache.getGeneration();
+		compiledTemplateCache.invalidate("auth-sms");
+		compiledTemplateCache.put("auth-sms", List.of("eng"), new Template(), generation);
+		assertNull(compiledTemplateCache.get("auth-sms", List.of("eng")));
+	}
+
+	@Test
+	public void testBindMetrics() {
+		CompiledTemplateCache compiledTemplateCache = createCache(true);
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		compiledTemplateCache.bindTo(registry);
+		compiledTemplateCache.get("auth-sms", List.of("eng"));
+		assertEquals(1.0, registry.get("cache.gets").tags("cache", "compiled-template", "result", "miss")
+				.functionCounter().count(), 0);
+	}
+
+	private CompiledTemplateCache createCache(boolean enabled) {
+		CompiledTemplateCache compiledTemplateCache = new CompiledTemplateCache();
+		ReflectionTestUtils.setField(compiledTemplateCache, "enabled", enabled);
+		ReflectionTestUtils.setField(compiledTemplateCache, "maxSize", 10);
+		ReflectionTestUtils.setField(compiledTemplateCache, "ttlSeconds", 0L);
+		compiledTemplateCache.init();
+		return compiledTemplateCache;
+	}
+}
@@ -0,0 +1,78 @@
+package io.mosip.authentication.common.service.cache;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import io.mosip.authentication.common.service.entity.IdaUinHashSalt;
+import io.mosip.authentication.common.service.repository.IdaUinHashSaltRepo;
+import io.mosip.authentication.common.service.util.EnvUtil;
+
+@RunWith(MockitoJUnitRunner.class)
+public class IdHashSaltTableTest {
+
+	@InjectMocks
+	private IdHashSaltTable idHashSaltTable;
+
+	@Mock
+	private IdaUinHashSaltRepo uinHashSaltRepo;
+
+	private Integer saltKeyLength;
+
+	@Before
+	public void before() {
+		saltKeyLength = EnvUtil.getSaltKeyLength();
+		EnvUtil.setSaltKeyLength(2);
+	}
+
+	@After
+	public void after() {
+		EnvUtil.setSaltKeyLength(saltKeyLength);
+	}
+
+	@Test
+	public void testGetPreloadedSalt() {
+		Mockito.when(uinHashSaltRepo.findAll()).thenReturn(List.of(getSaltEntity(5, "salt5")));
+		idHashSaltTable.onApplicationEvent(null);
+		assertArrayEquals("salt5".getBytes(), idHashSaltTable.getSalt(5));
+		assertArrayEquals("salt5".getBytes(), idHashSaltTable.getSalt(5));
+		Mockito.verify(uinHashSaltRepo, Mockito.times(1)).findAll();
+		Mockito.verify(uinHashSaltRepo, Mockito.never()).retrieveSaltById(Mockito.anyInt());
+	}
+
+	@Test
+	public void testGetMissingSaltFromRepository() {
+		Mockito.when(uinHashSaltRepo.findAll()).thenReturn(List.of());
+		Mockito.when(uinHashSaltRepo.retrieveSaltById(7)).thenReturn("salt7");
+		assertNull(idHashSaltTable.getSalt(6));
+		assertArrayEquals("salt7".getBytes(), idHashSaltTable.getSalt(7));
+		assertArrayEquals("salt7".getBytes(), idHashSaltTable.getSalt(7));
+		Mockito.verify(uinHashSaltRepo, Mockito.times(1)).retrieveSaltById(7);
+	}
+
+	@Test
+	public void testPutSalt() {
+		Mockito.when(uinHashSaltRepo.findAll()).thenReturn(List.of());
+		Mockito.when(uinHashSaltRepo.retrieveSaltById(8)).thenReturn(null);
+		assertNull(idHashSaltTable.getSalt(8));
+		idHashSaltTable.putSalt(8, "salt8");
+		assertArrayEquals("salt8".getBytes(), idHashSaltTable.getSalt(8));
+	}
+
+	private IdaUinHashSalt getSaltEntity(int id, String salt) {
+		IdaUinHashSalt saltEntity = new IdaUinHashSalt();
+		saltEntity.setId(id);
+		saltEntity.setSalt(salt);
+		return saltEntity;
+	}
+}
@@ -0,0 +1,103 @@
+package io.mosip.authentication.common.service.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.mosip.authentication.common.service.cache.IdentityDataCache.CachedIdentity;
+import io.mosip.authentication.common.service.entity.IdentityEntity;
+
+public class IdentityDataCacheTest {
+
+	@Test
+	public void testDisabledCache() {
+		IdentityDataCache identityDataCache = createCache(false);
+		identityDataCache.put("hash1", new CachedIdentity(entity("token", null)));
+		assertFalse(identityDataCache.isEnabled());
+		assertNull(identityDataCache.get("hash1"));
+	}
+
+	@Test
+	public void testPutGetAndInvalidate() {
+		IdentityDataCache identityDataCache = createCache(true);
+		CachedIdentity cachedIdentity = new CachedIdentity(entity("token", null))
+				.withView("view", Map.of("demographics", Map.of()));
+		identityDataCache.put("hash1", cachedIdentity);
+		identityDataCache.put("hash2", new CachedIdentity(entity("token2", null)));
+		assertTrue(identityDataCache.isEnabled());
+		assertSame(cachedIdentity, identityDataCache.get("hash1"));
+		assertEquals(Map.of("demographics", Map.of()), identityDataCache.get("hash1").getView("view"));
+
+		identityDataCache.invalidate("hash1");
+		assertNull(identityDataCache.get("hash1"));
+		identityDataCache.invalidate(List.of("hash2"));
+		assertNull(identityDataCache.get("hash2"));
+	}
+
+	@Test
+	public void testIsCurrent() {
+		LocalDateTime crDTimes = LocalDateTime.parse("2022-01-01T10:00:00");
+		CachedIdentity cachedIdentity = new CachedIdentity(entity("token", crDTimes));
+		assertTrue(cachedIdentity.isCurrent(entity("token", crDTimes)));
+		assertFalse(cachedIdentity.isCurrent(entity("token", crDTimes.plusSeconds(1))));
+		assertFalse(cachedIdentity.isCurrent(entity("token2", crDTimes)));
+	}
+
+	@Test
+	public void testOldestEvictedWhenOverMaxBytes() {
+		IdentityDataCache identityDataCache = createCache(true);
+		ReflectionTestUtils.setField(identityDataCache, "maxBytes", 1000L);
+		identityDataCache.init();
+		CachedIdentity cachedIdentity = new CachedIdentity(entity("token", null))
+				.withView("view", Map.of("demographics", Map.of("name", "a".repeat(200))));
+		assertTrue(cachedIdentity.getBytes() > 400);
+		identityDataCache.put("hash1", cachedIdentity);
+		identityDataCache.put("hash2", cachedIdentity);
+		identityDataCache.put("hash3", cachedIdentity);
+		assertNull(identityDataCache.get("hash1"));
+		assertSame(cachedIdentity, identityDataCache.get("hash3"));
+	}
+
+	@Test
+	public void testViewKeyIndependentOfAttributeOrder() {
+		assertEquals(IdentityDataCache.getViewKey(true, Set.of("name", "dob")),
+				IdentityDataCache.getViewKey(true, Set.of("dob", "name")));
+		assertFalse(IdentityDataCache.getViewKey(true, Set.of("name"))
+				.equals(IdentityDataCache.getViewKey(false, Set.of("name"))));
+	}
+
+	@Test
+	public void testBindMetrics() {
+		IdentityDataCache identityDataCache = createCache(true);
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		identityDataCache.bindTo(registry);
+		identityDataCache.get("hash1");
+		assertEquals(1.0, registry.get("cache.gets").tags("cache", "identity-data", "result", "miss")
+				.functionCounter().count(), 0);
+		assertEquals(0.0, registry.get("ida.identity-data-cache.bytes").gauge().value(), 0);
+	}
+
+	private IdentityEntity entity(String token, LocalDateTime updDTimes) {
+		return new IdentityEntity("hash", token, null, null, LocalDateTime.parse("2022-01-01T00:00:00"), updDTimes);
+	}
+
+	private IdentityDataCache createCache(boolean enabled) {
+		IdentityDataCache identityDataCache = new IdentityDataCache();
+		ReflectionTestUtils.setField(identityDataCache, "enabled", enabled);
+		ReflectionTestUtils.setField(identityDataCache, "maxSize", 10);
+		ReflectionTestUtils.setField(identityDataCache, "ttlSeconds", 60L);
+		identityDataCache.init();
+		return identityDataCache;
+	}
+}
@@ -19,6 +19,8 @@ import org.springframework.web.context.WebApplicationContext;
 
 import java.util.Map;
 
+import static org.junit.Assert.assertEquals;
+
 @WebMvcTest
 @ContextConfiguration(classes = {TestContext.class, WebApplicationContext.class})
 @RunWith(SpringRunner.class)
@@ -33,6 +35,9 @@ public class MasterDataCacheTest {
     @Mock
     private RestRequestFactory restFactory;
 
+    @Mock
+    private CompiledTemplateCache compiledTemplateCache;
+
     /**
      * This class tests the getMasterDataTitles method
      */
@@ -92,7 +97,10 @@ public class MasterDataCacheTest {
     @Test
     public void clearMasterData_CacheTest(){
         masterDataCache.clearMasterDataTemplateCache("1122");
+        long titlesVersion = masterDataCache.getTitlesVersion();
         masterDataCache.clearMasterDataTitlesCache();
+        assertEquals(titlesVersion + 1, masterDataCache.getTitlesVersion());
+        Mockito.verify(compiledTemplateCache).invalidate("1122");
     }
 
 }
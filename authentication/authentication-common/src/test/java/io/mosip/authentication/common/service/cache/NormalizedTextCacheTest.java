@@ -0,0 +1,121 @@
+package io.mosip.authentication.common.service.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.mosip.authentication.common.service.cache.NormalizedTextCache.RequestMemo;
+import io.mosip.authentication.core.exception.IdAuthenticationBusinessException;
+import io.mosip.authentication.core.spi.indauth.match.NormalizationMemo.Normalization;
+
+public class NormalizedTextCacheTest {
+
+	private final AtomicInteger normalizeCount = new AtomicInteger();
+
+	private final MasterDataCache masterDataCache = Mockito.mock(MasterDataCache.class);
+
+	@Test
+	public void testDisabledCache() {
+		NormalizedTextCache normalizedTextCache = createCache(false);
+		assertFalse(normalizedTextCache.isEnabled());
+		assertNull(normalizedTextCache.createMemo("token"));
+		normalizedTextCache.recordSaved(null);
+	}
+
+	@Test
+	public void testRequestMemo() throws IdAuthenticationBusinessException {
+		NormalizedTextCache normalizedTextCache = createCache(true);
+		RequestMemo memo = normalizedTextCache.createMemo("token");
+		assertEquals("ibrahim", memo.normalizeRequestText("name", "eng", "Mr Ibrahim", normalization("ibrahim")));
+		assertEquals("ibrahim", memo.normalizeRequestText("name", "eng", "Mr Ibrahim", normalization("ibrahim")));
+		assertEquals("ibrahim", memo.normalizeEntityText("name", "eng", "Mr Ibrahim", normalization("ibrahim")));
+		memo.normalizeRequestText("address", "eng", "Mr Ibrahim", normalization("mr ibrahim"));
+		memo.normalizeRequestText("name", "ara", "Mr Ibrahim", normalization("ibrahim"));
+		assertEquals(3, normalizeCount.get());
+		assertEquals(2, normalizedTextCache.getMemoHitCount());
+
+		normalizedTextCache.createMemo("token").normalizeRequestText("name", "eng", "Mr Ibrahim",
+				normalization("ibrahim"));
+		assertEquals(4, normalizeCount.get());
+	}
+
+	@Test
+	public void testEntityTextCachedAcrossRequests() throws IdAuthenticationBusinessException {
+		NormalizedTextCache normalizedTextCache = createCache(true);
+		normalizedTextCache.createMemo("token").normalizeEntityText("name", "eng", "Mr Ibrahim",
+				normalization("ibrahim"));
+		RequestMemo memo = normalizedTextCache.createMemo("token");
+		assertEquals("ibrahim", memo.normalizeEntityText("name", "eng", "Mr Ibrahim", normalization("ibrahim")));
+		normalizedTextCache.createMemo("token2").normalizeEntityText("name", "eng", "Mr Ibrahim",
+				normalization("ibrahim"));
+		normalizedTextCache.createMemo(null).normalizeEntityText("name", "eng", "Mr Ibrahim",
+				normalization("ibrahim"));
+		assertEquals(3, normalizeCount.get());
+		assertTrue(memo.getNanosSaved() >= 0);
+	}
+
+	@Test
+	public void testInvalidate() throws IdAuthenticationBusinessException {
+		NormalizedTextCache normalizedTextCache = createCache(true);
+		normalizedTextCache.createMemo("token").normalizeEntityText("name", "eng", "Ali", normalization("ali"));
+		normalizedTextCache.createMemo("token2").normalizeEntityText("name", "eng", "Ali", normalization("ali"));
+		normalizedTextCache.invalidate("token");
+		normalizedTextCache.invalidate(List.of("token2"));
+		normalizedTextCache.createMemo("token").normalizeEntityText("name", "eng", "Ali", normalization("ali"));
+		normalizedTextCache.createMemo("token2").normalizeEntityText("name", "eng", "Ali", normalization("ali"));
+		assertEquals(4, normalizeCount.get());
+	}
+
+	@Test
+	public void testTitlesChanged() throws IdAuthenticationBusinessException {
+		NormalizedTextCache normalizedTextCache = createCache(true);
+		normalizedTextCache.createMemo("token").normalizeEntityText("name", "eng", "Mr Ali", normalization("ali"));
+		Mockito.when(masterDataCache.getTitlesVersion()).thenReturn(1L);
+		normalizedTextCache.createMemo("token").normalizeEntityText("name", "eng", "Mr Ali", normalization("ali"));
+		normalizedTextCache.createMemo("token").normalizeEntityText("name", "eng", "Mr Ali", normalization("ali"));
+		assertEquals(2, normalizeCount.get());
+	}
+
+	@Test
+	public void testBindMetrics() throws IdAuthenticationBusinessException {
+		NormalizedTextCache normalizedTextCache = createCache(true);
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		normalizedTextCache.bindTo(registry);
+		normalizedTextCache.createMemo("token").normalizeEntityText("name", "eng", "Ali", normalization("ali"));
+		RequestMemo memo = normalizedTextCache.createMemo("token");
+		memo.normalizeEntityText("name", "eng", "Ali", normalization("ali"));
+		memo.normalizeRequestText("name", "eng", "Ali", normalization("ali"));
+		normalizedTextCache.recordSaved(memo);
+		assertEquals(1.0, registry.get("cache.gets").tags("cache", "normalized-text", "result", "hit")
+				.functionCounter().count(), 0);
+		assertEquals(1.0, registry.get("ida.normalized-text-cache.memo.hits").functionCounter().count(), 0);
+		assertTrue(registry.get("ida.normalized-text-cache.normalize-time-saved").functionCounter().count() >= 0);
+		assertEquals(1L, registry.get("ida.normalized-text-cache.demo-auth.time-saved").timer().count());
+	}
+
+	private Normalization normalization(String normalizedText) {
+		return () -> {
+			normalizeCount.incrementAndGet();
+			return normalizedText;
+		};
+	}
+
+	private NormalizedTextCache createCache(boolean enabled) {
+		NormalizedTextCache normalizedTextCache = new NormalizedTextCache();
+		ReflectionTestUtils.setField(normalizedTextCache, "enabled", enabled);
+		ReflectionTestUtils.setField(normalizedTextCache, "maxSize", 10);
+		ReflectionTestUtils.setField(normalizedTextCache, "ttlSeconds", 60L);
+		ReflectionTestUtils.setField(normalizedTextCache, "masterDataCache", masterDataCache);
+		normalizedTextCache.init();
+		return normalizedTextCache;
+	}
+}
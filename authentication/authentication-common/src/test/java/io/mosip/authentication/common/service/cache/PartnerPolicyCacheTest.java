@@ -0,0 +1,114 @@
+package io.mosip.authentication.common.service.cache;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.mosip.authentication.common.service.cache.PartnerPolicyCache.PartnerPolicySnapshot;
+import io.mosip.authentication.common.service.entity.MispLicenseData;
+import io.mosip.authentication.common.service.entity.PartnerMapping;
+
+public class PartnerPolicyCacheTest {
+
+	@Test
+	public void testDisabledCache() {
+		PartnerPolicyCache partnerPolicyCache = createCache(false);
+		partnerPolicyCache.put("partner", "apiKey", "license", createSnapshot("partner", "apiKey", "policy", "misp", null));
+		assertFalse(partnerPolicyCache.isEnabled());
+		assertNull(partnerPolicyCache.get("partner", "apiKey", "license"));
+	}
+
+	@Test
+	public void testPutAndGet() {
+		PartnerPolicyCache partnerPolicyCache = createCache(true);
+		PartnerPolicySnapshot snapshot = createSnapshot("partner", "apiKey", "policy", "misp", null);
+		partnerPolicyCache.put("partner", "apiKey", "license", snapshot);
+		assertSame(snapshot, partnerPolicyCache.get("partner", "apiKey", "license"));
+		assertNull(partnerPolicyCache.get("partner", "apiKey", "license2"));
+	}
+
+	@Test
+	public void testInvalidatePartner() {
+		PartnerPolicyCache partnerPolicyCache = createCacheWithTwoPartners();
+		partnerPolicyCache.invalidatePartner("partner1");
+		assertNull(partnerPolicyCache.get("partner1", "apiKey1", "license"));
+		assertNotNull(partnerPolicyCache.get("partner2", "apiKey2", "license"));
+	}
+
+	@Test
+	public void testInvalidateApiKey() {
+		PartnerPolicyCache partnerPolicyCache = createCacheWithTwoPartners();
+		partnerPolicyCache.invalidateApiKey("apiKey2");
+		assertNotNull(partnerPolicyCache.get("partner1", "apiKey1", "license"));
+		assertNull(partnerPolicyCache.get("partner2", "apiKey2", "license"));
+	}
+
+	@Test
+	public void testInvalidatePolicy() {
+		PartnerPolicyCache partnerPolicyCache = createCacheWithTwoPartners();
+		partnerPolicyCache.invalidatePolicy("policy1");
+		assertNull(partnerPolicyCache.get("partner1", "apiKey1", "license"));
+		assertNotNull(partnerPolicyCache.get("partner2", "apiKey2", "license"));
+		partnerPolicyCache.invalidatePolicy("mispPolicy");
+		assertNull(partnerPolicyCache.get("partner2", "apiKey2", "license"));
+	}
+
+	@Test
+	public void testInvalidateMisp() {
+		PartnerPolicyCache partnerPolicyCache = createCacheWithTwoPartners();
+		partnerPolicyCache.invalidateMisp("misp");
+		assertNull(partnerPolicyCache.get("partner1", "apiKey1", "license"));
+		assertNull(partnerPolicyCache.get("partner2", "apiKey2", "license"));
+	}
+
+	@Test
+	public void testInvalidateInTransaction() {
+		PartnerPolicyCache partnerPolicyCache = createCacheWithTwoPartners();
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			partnerPolicyCache.invalidateApiKey("apiKey1");
+			assertNotNull(partnerPolicyCache.get("partner1", "apiKey1", "license"));
+			TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+		assertNull(partnerPolicyCache.get("partner1", "apiKey1", "license"));
+		assertNotNull(partnerPolicyCache.get("partner2", "apiKey2", "license"));
+	}
+
+	private PartnerPolicyCache createCacheWithTwoPartners() {
+		PartnerPolicyCache partnerPolicyCache = createCache(true);
+		partnerPolicyCache.put("partner1", "apiKey1", "license",
+				createSnapshot("partner1", "apiKey1", "policy1", "misp", null));
+		partnerPolicyCache.put("partner2", "apiKey2", "license",
+				createSnapshot("partner2", "apiKey2", "policy2", "misp", "mispPolicy"));
+		return partnerPolicyCache;
+	}
+
+	private PartnerPolicyCache createCache(boolean enabled) {
+		PartnerPolicyCache partnerPolicyCache = new PartnerPolicyCache();
+		ReflectionTestUtils.setField(partnerPolicyCache, "enabled", enabled);
+		ReflectionTestUtils.setField(partnerPolicyCache, "maxSize", 10);
+		ReflectionTestUtils.setField(partnerPolicyCache, "ttlSeconds", 60L);
+		partnerPolicyCache.init();
+		return partnerPolicyCache;
+	}
+
+	private PartnerPolicySnapshot createSnapshot(String partnerId, String apiKeyId, String policyId, String mispId,
+			String mispPolicyId) {
+		PartnerMapping partnerMapping = new PartnerMapping();
+		partnerMapping.setPartnerId(partnerId);
+		partnerMapping.setApiKeyId(apiKeyId);
+		partnerMapping.setPolicyId(policyId);
+		MispLicenseData mispLicenseData = new MispLicenseData();
+		mispLicenseData.setMispId(mispId);
+		mispLicenseData.setPolicyId(mispPolicyId);
+		return new PartnerPolicySnapshot(partnerMapping, mispLicenseData, null, null, null);
+	}
+}
@@ -45,6 +45,7 @@ import io.mosip.authentication.common.service.helper.IdInfoHelper;
 import io.mosip.authentication.common.service.impl.AuthtypeStatusImpl;
 import io.mosip.authentication.common.service.impl.match.BioAuthType;
 import io.mosip.authentication.common.service.impl.match.DemoMatchType;
+import io.mosip.authentication.common.service.impl.notification.AuthNotificationQueue;
 import io.mosip.authentication.common.service.impl.notification.NotificationServiceImpl;
 import io.mosip.authentication.common.service.integration.IdTemplateManager;
 import io.mosip.authentication.common.service.integration.NotificationManager;
@@ -150,6 +151,9 @@ public class AuthFacadeImplTest {
 	@Mock
 	NotificationManager notificationManager;
 
+	@Mock
+	private AuthNotificationQueue authNotificationQueue;
+
 	@Mock
 	private IdTemplateManager idTemplateManager;
 
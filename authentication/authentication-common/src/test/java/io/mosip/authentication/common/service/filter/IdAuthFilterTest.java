@@ -2,16 +2,21 @@ package io.mosip.authentication.common.service.filter;
 
 import static io.mosip.authentication.core.constant.IdAuthCommonConstants.UTF_8;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
 
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.security.Principal;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Enumeration;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import javax.servlet.AsyncContext;
 import javax.servlet.DispatcherType;
@@ -28,6 +33,7 @@ import javax.servlet.http.HttpSession;
 import javax.servlet.http.HttpUpgradeHandler;
 import javax.servlet.http.Part;
 
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -49,11 +55,13 @@ import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import io.mosip.authentication.common.service.integration.KeyManager;
+import io.mosip.authentication.common.service.transaction.manager.IdAuthSecurityManager;
 import io.mosip.authentication.common.service.util.EnvUtil;
 import io.mosip.authentication.core.constant.IdAuthenticationErrorConstants;
 import io.mosip.authentication.core.exception.IdAuthenticationAppException;
 import io.mosip.authentication.core.partner.dto.PartnerPolicyResponseDTO;
 import io.mosip.authentication.core.spi.partner.service.PartnerService;
+import io.mosip.authentication.core.util.CryptoUtil;
 
 /**
  * The Class IdAuthFilterTest.
@@ -163,6 +171,85 @@ public class IdAuthFilterTest {
 		filter.decipherRequest(requestBody);
 	}
 
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testDecipherBioDataInParallel() throws Exception {
+		Map<String, Object> request = decipherBioRequest(4, -1, -1);
+		List<Map<String, Object>> biometrics = (List<Map<String, Object>>) request.get("biometrics");
+		assertEquals(4, biometrics.size());
+		for (int i = 0; i < biometrics.size(); i++) {
+			Map<String, Object> data = (Map<String, Object>) biometrics.get(i).get("data");
+			assertEquals("decrypted-" + i, data.get("bioValue"));
+		}
+	}
+
+	@Test
+	public void testDecipherBioDataInParallelWithFailedSegments() throws Exception {
+		try {
+			decipherBioRequest(4, 3, 1);
+			fail();
+		} catch (IdAuthenticationAppException e) {
+			assertEquals(IdAuthenticationErrorConstants.MISSING_INPUT_PARAMETER.getErrorCode(), e.getErrorCode());
+			assertEquals(String.format(IdAuthenticationErrorConstants.MISSING_INPUT_PARAMETER.getErrorMessage(),
+					"request/biometrics/1/sessionKey"), e.getErrorText());
+		}
+	}
+
+	@After
+	public void after() {
+		EnvUtil.setBioDecipherParallelThreshold(0);
+	}
+
+	@SuppressWarnings("unchecked")
+	private Map<String, Object> decipherBioRequest(int segmentCount, int... segmentsWithoutSessionKey)
+			throws Exception {
+		KeyManager keyManager = Mockito.mock(KeyManager.class);
+		IdAuthSecurityManager securityManager = Mockito.mock(IdAuthSecurityManager.class);
+		ReflectionTestUtils.setField(filter, "keyManager", keyManager);
+		ReflectionTestUtils.setField(filter, "securityManager", securityManager);
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		ReflectionTestUtils.setField(filter, "bioDecipherExecutor", executor);
+		EnvUtil.setBioDecipherParallelThreshold(2);
+		Boolean isBioHashValidationDisabled = EnvUtil.getIsBioHashValidationDisabled();
+		EnvUtil.setIsBioHashValidationDisabled(true);
+
+		List<Map<String, Object>> biometrics = new ArrayList<>();
+		for (int i = 0; i < segmentCount; i++) {
+			Map<String, Object> data = new HashMap<>();
+			data.put("bioValue", CryptoUtil.encodeBase64Url(("encrypted-" + i).getBytes()));
+			data.put("timestamp", "2021-01-01T10:00:00.000Z");
+			data.put("transactionId", "1234567890");
+			Map<String, Object> segment = new HashMap<>();
+			segment.put("data", "header." + CryptoUtil.encodeBase64Url(mapper.writeValueAsBytes(data)) + ".signature");
+			segment.put("sessionKey", CryptoUtil.encodeBase64Url("sessionKey".getBytes()));
+			biometrics.add(segment);
+		}
+		for (int i : segmentsWithoutSessionKey) {
+			if (i >= 0) {
+				biometrics.get(i).remove("sessionKey");
+			}
+		}
+		Map<String, Object> request = new HashMap<>();
+		request.put("biometrics", biometrics);
+
+		Mockito.when(securityManager.verifySignature(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyBoolean()))
+				.thenReturn(true);
+		Mockito.when(keyManager.requestData(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(),
+				Mockito.any())).thenReturn(request);
+		Mockito.when(keyManager.kernelDecrypt(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(),
+				Mockito.any(), Mockito.any()))
+				.thenAnswer(invocation -> new String((byte[]) invocation.getArgument(2)).replace("encrypted", "decrypted"));
+		requestBody.put("request", CryptoUtil.encodeBase64Url("{}".getBytes()));
+		requestBody.put("requestHMAC", CryptoUtil.encodeBase64Url("requestHMAC".getBytes()));
+		requestBody.put("requestSessionKey", CryptoUtil.encodeBase64Url("requestSessionKey".getBytes()));
+		try {
+			return (Map<String, Object>) filter.decipherRequest(requestBody).get("request");
+		} finally {
+			EnvUtil.setIsBioHashValidationDisabled(isBioHashValidationDisabled);
+			executor.shutdown();
+		}
+	}
+
 	/**
 	 * Valid partner id test.
 	 *
@@ -1,5 +1,8 @@
 package io.mosip.authentication.common.service.helper;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
@@ -67,6 +70,9 @@ public class AuditHelperTest {
 	@Mock
 	RestRequestFactory restFactory;
 
+	@Mock
+	AuditRequestQueue auditRequestQueue;
+
 	@InjectMocks
 	EnvUtil env;
 	
@@ -92,6 +98,14 @@ public class AuditHelperTest {
 	public void testAuditStatusWithStringIdType() throws IDDataValidationException {
 		auditHelper.audit(AuditModules.OTP_AUTH, AuditEvents.AUTH_REQUEST_RESPONSE, "id", IdType.UIN.name(), "desc");
 	}
+
+	@Test
+	public void testAuditWithQueueEnabled() throws IDDataValidationException {
+		when(auditRequestQueue.isEnabled()).thenReturn(true);
+		auditHelper.audit(AuditModules.OTP_AUTH, AuditEvents.AUTH_REQUEST_RESPONSE, "id", IdType.UIN, "desc");
+		verify(auditRequestQueue).submit(any());
+		verify(restHelper, never()).requestAsync(any());
+	}
 	
 	@Test
 	public void testAuditExceptionWithEnumIdType() throws IDDataValidationException {
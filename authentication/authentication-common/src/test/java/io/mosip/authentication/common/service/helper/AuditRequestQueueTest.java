@@ -0,0 +1,151 @@
+package io.mosip.authentication.common.service.helper;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.mosip.authentication.common.service.helper.AuditRequestQueue.FullQueuePolicy;
+import io.mosip.idrepository.core.dto.RestRequestDTO;
+import io.mosip.idrepository.core.helper.RestHelper;
+
+@RunWith(MockitoJUnitRunner.class)
+public class AuditRequestQueueTest {
+
+	@InjectMocks
+	private AuditRequestQueue auditRequestQueue;
+
+	@Mock
+	private RestHelper restHelper;
+
+	@Mock
+	private ScheduledExecutorService flushExecutor;
+
+	@Test
+	public void testDisabledQueue() {
+		init(false, 10, 5, FullQueuePolicy.DROP);
+		assertFalse(auditRequestQueue.isEnabled());
+		assertEquals(0, auditRequestQueue.size());
+		Mockito.verify(flushExecutor, Mockito.never()).scheduleWithFixedDelay(Mockito.any(), Mockito.anyLong(),
+				Mockito.anyLong(), Mockito.any());
+	}
+
+	@Test
+	public void testFlushInBatches() {
+		Mockito.when(restHelper.requestAsync(Mockito.any())).thenReturn(CompletableFuture.completedFuture(null));
+		init(true, 10, 2, FullQueuePolicy.DROP);
+		assertTrue(auditRequestQueue.isEnabled());
+		auditRequestQueue.submit(new RestRequestDTO());
+		Mockito.verify(flushExecutor, Mockito.never()).execute(Mockito.any());
+		auditRequestQueue.submit(new RestRequestDTO());
+		auditRequestQueue.submit(new RestRequestDTO());
+		Mockito.verify(flushExecutor, Mockito.times(1)).execute(Mockito.any());
+		Mockito.verify(restHelper, Mockito.never()).requestAsync(Mockito.any());
+		assertEquals(3, auditRequestQueue.size());
+		auditRequestQueue.flush();
+		assertEquals(0, auditRequestQueue.size());
+		Mockito.verify(restHelper, Mockito.times(3)).requestAsync(Mockito.any());
+	}
+
+	@Test
+	public void testFlushWithFailedRequest() {
+		CompletableFuture<Object> failed = new CompletableFuture<>();
+		failed.completeExceptionally(new IllegalStateException("audit failed"));
+		Mockito.when(restHelper.requestAsync(Mockito.any())).thenReturn(failed)
+				.thenThrow(new IllegalStateException("audit failed"))
+				.thenReturn(CompletableFuture.completedFuture(null));
+		init(true, 10, 1, FullQueuePolicy.DROP);
+		auditRequestQueue.submit(new RestRequestDTO());
+		auditRequestQueue.submit(new RestRequestDTO());
+		auditRequestQueue.submit(new RestRequestDTO());
+		auditRequestQueue.flush();
+		assertEquals(0, auditRequestQueue.size());
+		Mockito.verify(restHelper, Mockito.times(3)).requestAsync(Mockito.any());
+	}
+
+	@Test
+	public void testFlushLeavesRequestsQueuedMeanwhile() {
+		init(true, 10, 1, FullQueuePolicy.DROP);
+		Mockito.when(restHelper.requestAsync(Mockito.any())).thenAnswer(invocation -> {
+			auditRequestQueue.submit(new RestRequestDTO());
+			return CompletableFuture.completedFuture(null);
+		});
+		auditRequestQueue.submit(new RestRequestDTO());
+		auditRequestQueue.submit(new RestRequestDTO());
+		auditRequestQueue.flush();
+		Mockito.verify(restHelper, Mockito.times(2)).requestAsync(Mockito.any());
+		assertEquals(2, auditRequestQueue.size());
+	}
+
+	@Test
+	public void testDropWhenFull() {
+		init(true, 1, 5, FullQueuePolicy.DROP);
+		auditRequestQueue.submit(new RestRequestDTO());
+		auditRequestQueue.submit(new RestRequestDTO());
+		assertEquals(1, auditRequestQueue.size());
+		assertEquals(1, auditRequestQueue.getDroppedCount());
+		Mockito.verify(restHelper, Mockito.never()).requestAsync(Mockito.any());
+	}
+
+	@Test
+	public void testSendDirectWhenFull() {
+		init(true, 1, 5, FullQueuePolicy.DIRECT);
+		auditRequestQueue.submit(new RestRequestDTO());
+		auditRequestQueue.submit(new RestRequestDTO());
+		assertEquals(1, auditRequestQueue.size());
+		assertEquals(0, auditRequestQueue.getDroppedCount());
+		Mockito.verify(restHelper, Mockito.times(1)).requestAsync(Mockito.any());
+	}
+
+	@Test
+	public void testDestroyFlushesQueue() {
+		ScheduledFuture<?> scheduledFlush = Mockito.mock(ScheduledFuture.class);
+		Mockito.doReturn(scheduledFlush).when(flushExecutor).scheduleWithFixedDelay(Mockito.any(Runnable.class),
+				Mockito.anyLong(), Mockito.anyLong(), Mockito.eq(TimeUnit.MILLISECONDS));
+		Mockito.when(restHelper.requestAsync(Mockito.any())).thenReturn(CompletableFuture.completedFuture(null));
+		init(true, 10, 5, FullQueuePolicy.DROP);
+		auditRequestQueue.submit(new RestRequestDTO());
+		auditRequestQueue.destroy();
+		Mockito.verify(scheduledFlush).cancel(false);
+		assertEquals(0, auditRequestQueue.size());
+		Mockito.verify(restHelper, Mockito.times(1)).requestAsync(Mockito.any());
+	}
+
+	@Test
+	public void testBindTo() {
+		Mockito.when(restHelper.requestAsync(Mockito.any())).thenReturn(CompletableFuture.completedFuture(null));
+		init(true, 1, 5, FullQueuePolicy.DROP);
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		auditRequestQueue.bindTo(registry);
+		auditRequestQueue.submit(new RestRequestDTO());
+		auditRequestQueue.submit(new RestRequestDTO());
+		assertEquals(1d, registry.get("ida.audit.queue.size").gauge().value(), 0d);
+		assertEquals(1d, registry.get("ida.audit.queue.dropped").functionCounter().count(), 0d);
+		auditRequestQueue.flush();
+		assertNotNull(registry.get("ida.audit.queue.flush").timer());
+		assertEquals(1L, registry.get("ida.audit.queue.flush").timer().count());
+	}
+
+	private void init(boolean enabled, int capacity, int batchSize, FullQueuePolicy fullQueuePolicy) {
+		ReflectionTestUtils.setField(auditRequestQueue, "enabled", enabled);
+		ReflectionTestUtils.setField(auditRequestQueue, "capacity", capacity);
+		ReflectionTestUtils.setField(auditRequestQueue, "batchSize", batchSize);
+		ReflectionTestUtils.setField(auditRequestQueue, "flushIntervalMillis", 1000L);
+		ReflectionTestUtils.setField(auditRequestQueue, "fullQueuePolicy", fullQueuePolicy);
+		auditRequestQueue.init();
+	}
+}
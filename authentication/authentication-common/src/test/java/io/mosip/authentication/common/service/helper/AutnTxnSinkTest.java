@@ -0,0 +1,281 @@
+package io.mosip.authentication.common.service.helper;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.mosip.authentication.common.service.entity.AutnTxn;
+import io.mosip.authentication.common.service.helper.AutnTxnSink.DurabilityMode;
+import io.mosip.authentication.common.service.repository.AutnTxnRepository;
+
+@RunWith(MockitoJUnitRunner.class)
+public class AutnTxnSinkTest {
+
+	@InjectMocks
+	private AutnTxnSink autnTxnSink;
+
+	@Mock
+	private AutnTxnRepository autntxnrepository;
+
+	@Mock
+	private ScheduledExecutorService flushExecutor;
+
+	@Rule
+	public TemporaryFolder walFolder = new TemporaryFolder();
+
+	private final ObjectMapper mapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+	@Test
+	public void testSyncMode() throws IOException {
+		init(autnTxnSink, DurabilityMode.SYNC, 10, 5);
+		AutnTxn autnTxn = createAutnTxn("1", "token");
+		autnTxnSink.save(autnTxn);
+		assertFalse(autnTxnSink.isEnabled());
+		Mockito.verify(autntxnrepository).saveAndFlush(autnTxn);
+		assertEquals(0, autnTxnSink.countPending(txn -> true));
+	}
+
+	@Test
+	public void testAsyncModeInsertsInBatches() throws IOException {
+		init(autnTxnSink, DurabilityMode.ASYNC, 10, 2);
+		autnTxnSink.save(createAutnTxn("1", "token1"));
+		Mockito.verify(flushExecutor, Mockito.never()).execute(Mockito.any());
+		autnTxnSink.save(createAutnTxn("2", "token1"));
+		autnTxnSink.save(createAutnTxn("3", "token2"));
+		Mockito.verify(flushExecutor, Mockito.times(1)).execute(Mockito.any());
+		Mockito.verify(autntxnrepository, Mockito.never()).saveAndFlush(Mockito.any());
+		assertEquals(2, autnTxnSink.countPending(txn -> txn.getToken().equals("token1")));
+		assertEquals("3", autnTxnSink.findLatestPending(txn -> txn.getToken().equals("token2")).get().getId());
+
+		autnTxnSink.flush();
+		Mockito.verify(autntxnrepository, Mockito.times(2)).saveAll(Mockito.anyList());
+		assertEquals(0, autnTxnSink.getPendingCount());
+		assertFalse(autnTxnSink.findLatestPending(txn -> true).isPresent());
+	}
+
+	@Test
+	public void testAsyncModeInsertsRightAwayWhenFull() throws IOException {
+		init(autnTxnSink, DurabilityMode.ASYNC, 1, 5);
+		autnTxnSink.save(createAutnTxn("1", "token"));
+		AutnTxn autnTxn = createAutnTxn("2", "token");
+		autnTxnSink.save(autnTxn);
+		Mockito.verify(autntxnrepository).saveAndFlush(autnTxn);
+		assertEquals(1, autnTxnSink.getPendingCount());
+		assertEquals(1, autnTxnSink.getSyncFallbackCount());
+	}
+
+	@Test
+	public void testFailedTransactionsAreRetried() throws IOException {
+		init(autnTxnSink, DurabilityMode.ASYNC, 10, 5);
+		AutnTxn autnTxn1 = createAutnTxn("1", "token");
+		AutnTxn autnTxn2 = createAutnTxn("2", "token");
+		Mockito.when(autntxnrepository.saveAll(Mockito.anyList()))
+				.thenThrow(new DataAccessResourceFailureException("down"));
+		Mockito.when(autntxnrepository.saveAndFlush(autnTxn2)).thenThrow(new DataAccessResourceFailureException("down"));
+		autnTxnSink.save(autnTxn1);
+		autnTxnSink.save(autnTxn2);
+		autnTxnSink.flush();
+		Mockito.verify(autntxnrepository).saveAndFlush(autnTxn1);
+		assertEquals(1, autnTxnSink.getPendingCount());
+		assertTrue(autnTxnSink.findLatestPending(txn -> txn.getId().equals("2")).isPresent());
+	}
+
+	@Test
+	public void testFlushLeavesTransactionsQueuedMeanwhile() throws IOException {
+		init(autnTxnSink, DurabilityMode.ASYNC, 10, 1);
+		AtomicInteger nextId = new AtomicInteger(10);
+		Mockito.when(autntxnrepository.saveAll(Mockito.anyList())).thenAnswer(invocation -> {
+			autnTxnSink.save(createAutnTxn(String.valueOf(nextId.incrementAndGet()), "token"));
+			return invocation.getArgument(0);
+		});
+		autnTxnSink.save(createAutnTxn("1", "token"));
+		autnTxnSink.save(createAutnTxn("2", "token"));
+		autnTxnSink.flush();
+		Mockito.verify(autntxnrepository, Mockito.times(2)).saveAll(Mockito.anyList());
+		assertEquals(2, autnTxnSink.getPendingCount());
+	}
+
+	@Test
+	public void testFailedTransactionsAreNotDroppedWhenQueueIsFull() throws IOException {
+		init(autnTxnSink, DurabilityMode.ASYNC, 1, 5);
+		AutnTxn autnTxn1 = createAutnTxn("1", "token");
+		Mockito.when(autntxnrepository.saveAll(Mockito.anyList()))
+				.thenThrow(new DataAccessResourceFailureException("down"));
+		Mockito.when(autntxnrepository.saveAndFlush(autnTxn1)).thenThrow(new DataAccessResourceFailureException("down"));
+		autnTxnSink.save(autnTxn1);
+		autnTxnSink.flush();
+		Mockito.reset(autntxnrepository);
+		// Fills the queue again while the failed transaction waits to be retried
+		autnTxnSink.save(createAutnTxn("2", "token"));
+		assertEquals(2, autnTxnSink.getPendingCount());
+		autnTxnSink.flush();
+		assertEquals(0, autnTxnSink.getPendingCount());
+	}
+
+	@Test
+	public void testRejectedTransactionDeadLettered() throws IOException {
+		init(autnTxnSink, DurabilityMode.ASYNC_WAL, 10, 5);
+		AutnTxn autnTxn1 = createAutnTxn("1", "token");
+		AutnTxn autnTxn2 = createAutnTxn("2", "token");
+		Mockito.when(autntxnrepository.saveAll(Mockito.anyList()))
+				.thenThrow(new DataIntegrityViolationException("too long"));
+		Mockito.when(autntxnrepository.saveAndFlush(autnTxn2)).thenThrow(new DataIntegrityViolationException("too long"));
+		autnTxnSink.save(autnTxn1);
+		autnTxnSink.save(autnTxn2);
+		autnTxnSink.flush();
+		assertEquals(0, autnTxnSink.getPendingCount());
+		assertEquals(1, autnTxnSink.getDeadLetterCount());
+		assertEquals(0, listWalSegments().size());
+		List<String> deadLetters = Files.readAllLines(walFolder.getRoot().toPath().resolve("autn-txn-dead-letter.jsonl"));
+		assertEquals(1, deadLetters.size());
+		assertEquals("2", mapper.readValue(deadLetters.get(0), AutnTxn.class).getId());
+	}
+
+	@Test
+	public void testRepeatedlyFailingTransactionDeadLettered() throws IOException {
+		init(autnTxnSink, DurabilityMode.ASYNC, 10, 5);
+		ReflectionTestUtils.setField(autnTxnSink, "maxAttempts", 2);
+		AutnTxn poison = createAutnTxn("1", "token");
+		Mockito.when(autntxnrepository.saveAll(Mockito.anyList())).thenThrow(new IllegalStateException("poison"));
+		Mockito.when(autntxnrepository.saveAndFlush(poison)).thenThrow(new IllegalStateException("poison"));
+		autnTxnSink.save(poison);
+		autnTxnSink.save(createAutnTxn("2", "token"));
+		autnTxnSink.flush();
+		assertEquals(1, autnTxnSink.getPendingCount());
+		// Not an attempt, as nothing else was inserted
+		autnTxnSink.flush();
+		assertEquals(1, autnTxnSink.getPendingCount());
+		autnTxnSink.save(createAutnTxn("3", "token"));
+		autnTxnSink.flush();
+		assertEquals(0, autnTxnSink.getPendingCount());
+		assertEquals(1, autnTxnSink.getDeadLetterCount());
+	}
+
+	@Test
+	public void testWalSegmentKeptUntilAllTransactionsInserted() throws IOException {
+		init(autnTxnSink, DurabilityMode.ASYNC_WAL, 10, 5);
+		AutnTxn autnTxn2 = createAutnTxn("2", "token");
+		Mockito.when(autntxnrepository.saveAll(Mockito.anyList()))
+				.thenThrow(new DataAccessResourceFailureException("down"));
+		Mockito.when(autntxnrepository.saveAndFlush(autnTxn2)).thenThrow(new DataAccessResourceFailureException("down"));
+		autnTxnSink.save(createAutnTxn("1", "token"));
+		autnTxnSink.save(autnTxn2);
+		autnTxnSink.flush();
+		assertEquals(1, listWalSegments().size());
+		autnTxnSink.save(createAutnTxn("3", "token"));
+		assertEquals(2, listWalSegments().size());
+
+		Mockito.reset(autntxnrepository);
+		autnTxnSink.flush();
+		assertEquals(0, autnTxnSink.getPendingCount());
+		assertEquals(0, listWalSegments().size());
+	}
+
+	@Test
+	public void testWalReplayedOnStart() throws IOException {
+		init(autnTxnSink, DurabilityMode.ASYNC_WAL, 10, 5);
+		autnTxnSink.save(createAutnTxn("1", "token"));
+		autnTxnSink.save(createAutnTxn("2", "token"));
+		assertEquals(1, listWalSegments().size());
+
+		// Not flushed, as if the instance was killed
+		AutnTxnSink restarted = new AutnTxnSink();
+		ReflectionTestUtils.setField(restarted, "autntxnrepository", autntxnrepository);
+		ReflectionTestUtils.setField(restarted, "flushExecutor", flushExecutor);
+		Mockito.when(autntxnrepository.findExistingIds(Mockito.anyCollection())).thenReturn(List.of("1"));
+		init(restarted, DurabilityMode.ASYNC_WAL, 10, 5);
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<AutnTxn>> captor = ArgumentCaptor.forClass(List.class);
+		Mockito.verify(autntxnrepository).saveAll(captor.capture());
+		assertEquals(1, captor.getValue().size());
+		assertEquals("2", captor.getValue().get(0).getId());
+		assertEquals(LocalDateTime.of(2021, 1, 1, 10, 0), captor.getValue().get(0).getRequestDTtimes());
+		assertEquals(0, listWalSegments().size());
+	}
+
+	@Test
+	public void testWalDeletedAfterFlush() throws IOException {
+		Mockito.doReturn(Mockito.mock(ScheduledFuture.class)).when(flushExecutor).scheduleWithFixedDelay(
+				Mockito.any(Runnable.class), Mockito.anyLong(), Mockito.anyLong(), Mockito.eq(TimeUnit.MILLISECONDS));
+		init(autnTxnSink, DurabilityMode.ASYNC_WAL, 10, 5);
+		autnTxnSink.save(createAutnTxn("1", "token"));
+		autnTxnSink.flush();
+		Mockito.verify(autntxnrepository).saveAll(Mockito.anyList());
+		assertEquals(0, listWalSegments().size());
+		autnTxnSink.save(createAutnTxn("2", "token"));
+		assertEquals(1, listWalSegments().size());
+		autnTxnSink.destroy();
+		Mockito.verify(autntxnrepository, Mockito.times(2)).saveAll(Mockito.anyList());
+		assertEquals(0, walFolder.getRoot().list().length);
+	}
+
+	@Test
+	public void testBindTo() throws IOException {
+		init(autnTxnSink, DurabilityMode.ASYNC, 1, 5);
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		autnTxnSink.bindTo(registry);
+		autnTxnSink.save(createAutnTxn("1", "token"));
+		autnTxnSink.save(createAutnTxn("2", "token"));
+		assertEquals(1d, registry.get("ida.autn-txn.sink.pending").gauge().value(), 0d);
+		assertEquals(1d, registry.get("ida.autn-txn.sink.sync-fallback").functionCounter().count(), 0d);
+		assertEquals(0d, registry.get("ida.autn-txn.sink.dead-letter").functionCounter().count(), 0d);
+		autnTxnSink.flush();
+		assertEquals(1L, registry.get("ida.autn-txn.sink.flush").timer().count());
+	}
+
+	private void init(AutnTxnSink sink, DurabilityMode mode, int capacity, int batchSize) throws IOException {
+		ReflectionTestUtils.setField(sink, "mapper", mapper);
+		ReflectionTestUtils.setField(sink, "mode", mode);
+		ReflectionTestUtils.setField(sink, "capacity", capacity);
+		ReflectionTestUtils.setField(sink, "batchSize", batchSize);
+		ReflectionTestUtils.setField(sink, "flushIntervalMillis", 1000L);
+		ReflectionTestUtils.setField(sink, "maxAttempts", 5);
+		ReflectionTestUtils.setField(sink, "walDir", walFolder.getRoot().getAbsolutePath());
+		sink.init();
+	}
+
+	private List<Path> listWalSegments() throws IOException {
+		try (Stream<Path> files = Files.list(walFolder.getRoot().toPath())) {
+			return files.filter(path -> path.toString().endsWith(".wal") && path.toFile().length() > 0)
+					.collect(Collectors.toList());
+		}
+	}
+
+	private AutnTxn createAutnTxn(String id, String token) {
+		AutnTxn autnTxn = new AutnTxn();
+		autnTxn.setId(id);
+		autnTxn.setToken(token);
+		autnTxn.setRequestDTtimes(LocalDateTime.of(2021, 1, 1, 10, 0));
+		autnTxn.setCrDTimes(LocalDateTime.of(2021, 1, 1, 10, 0).plusSeconds(Long.parseLong(id)));
+		return autnTxn;
+	}
+}
@@ -0,0 +1,139 @@
+package io.mosip.authentication.common.service.helper;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.mosip.authentication.core.constant.IdAuthenticationErrorConstants;
+import io.mosip.authentication.core.exception.IdAuthenticationBusinessException;
+import io.mosip.authentication.core.indauth.dto.AuthRequestDTO;
+import io.mosip.authentication.core.spi.indauth.match.AuthType;
+import io.mosip.authentication.core.spi.indauth.match.IdInfoFetcher;
+import io.mosip.authentication.core.spi.indauth.match.MatchInput;
+import io.mosip.authentication.core.spi.indauth.match.MatchOutput;
+import io.mosip.authentication.core.spi.indauth.match.MatchType;
+import io.mosip.authentication.core.spi.indauth.match.MatchingStrategy;
+import io.mosip.authentication.core.spi.indauth.match.MatchingStrategyType;
+
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class IdInfoHelperParallelMatchTest {
+
+	@InjectMocks
+	private IdInfoHelper idInfoHelper;
+
+	@Mock
+	private IdInfoFetcher idInfoFetcher;
+
+	@Mock
+	private AuthType authType;
+
+	@Mock
+	private MatchType matchType;
+
+	@Mock
+	private MatchingStrategy matchingStrategy;
+
+	private ExecutorService executor;
+
+	private final CountDownLatch cancelled = new CountDownLatch(1);
+
+	@Before
+	public void before() throws IdAuthenticationBusinessException {
+		executor = Executors.newFixedThreadPool(4);
+		ReflectionTestUtils.setField(idInfoHelper, "parallelMatchEnabled", true);
+		ReflectionTestUtils.setField(idInfoHelper, "matchInputExecutor", executor);
+		Mockito.when(authType.getType()).thenReturn("demo");
+		Mockito.when(matchType.getAllowedMatchingStrategy(MatchingStrategyType.EXACT))
+				.thenReturn(Optional.of(matchingStrategy));
+		Mockito.when(matchType.getReqestInfoFunction()).thenReturn(request -> Map.of("value", "request"));
+		Mockito.when(matchingStrategy.match(Mockito.anyMap(), Mockito.anyMap(), Mockito.anyMap()))
+				.thenAnswer(invocation -> {
+					Map<String, Object> props = invocation.getArgument(2);
+					if (props.containsKey("error")) {
+						throw new IdAuthenticationBusinessException(IdAuthenticationErrorConstants.UNABLE_TO_PROCESS);
+					}
+					try {
+						Thread.sleep((Long) props.get("delay"));
+					} catch (InterruptedException e) {
+						cancelled.countDown();
+						throw e;
+					}
+					return props.get("score");
+				});
+	}
+
+	@After
+	public void after() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void testParallelMatchKeepsOrder() throws IdAuthenticationBusinessException {
+		List<MatchOutput> matchOutputs = idInfoHelper.matchIdentityData(new AuthRequestDTO(), Map.of(),
+				List.of(input("name", 60L, 100), input("email", 0L, 100), input("phone", 20L, 0)), "partner");
+		assertEquals(List.of("name", "email", "phone"),
+				matchOutputs.stream().map(MatchOutput::getIdName).collect(Collectors.toList()));
+		assertEquals(List.of(true, true, false),
+				matchOutputs.stream().map(MatchOutput::isMatched).collect(Collectors.toList()));
+	}
+
+	@Test
+	public void testParallelMatchStopsWhenDecided() throws Exception {
+		long startTime = System.nanoTime();
+		List<MatchOutput> matchOutputs = idInfoHelper.matchIdentityData(new AuthRequestDTO(), Map.of(),
+				List.of(input("name", 5000L, 100), input("email", 0L, 0)), "partner",
+				matchOutput -> !matchOutput.isMatched());
+		assertTrue(System.nanoTime() - startTime < TimeUnit.SECONDS.toNanos(5));
+		assertEquals(1, matchOutputs.size());
+		assertEquals("email", matchOutputs.get(0).getIdName());
+		assertTrue(cancelled.await(5, TimeUnit.SECONDS));
+	}
+
+	@Test(expected = IdAuthenticationBusinessException.class)
+	public void testParallelMatchFailure() throws IdAuthenticationBusinessException {
+		MatchInput failing = input("email", 0L, 100);
+		failing.getMatchProperties().put("error", true);
+		idInfoHelper.matchIdentityData(new AuthRequestDTO(), Map.of(), List.of(input("name", 5000L, 100), failing),
+				"partner");
+	}
+
+	@Test
+	public void testSequentialMatchRecordsTime() throws IdAuthenticationBusinessException {
+		ReflectionTestUtils.setField(idInfoHelper, "parallelMatchEnabled", false);
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		idInfoHelper.bindTo(registry);
+		List<MatchOutput> matchOutputs = idInfoHelper.matchIdentityData(new AuthRequestDTO(), Map.of(),
+				List.of(input("name", 0L, 0), input("email", 0L, 100)), "partner",
+				matchOutput -> !matchOutput.isMatched());
+		assertEquals(2, matchOutputs.size());
+		assertEquals(2L, registry.get("ida.match-input.match").tag("authType", "demo").timer().count());
+	}
+
+	private MatchInput input(String idName, long delay, int score) {
+		Map<String, Object> matchProperties = new HashMap<>();
+		matchProperties.put("delay", delay);
+		matchProperties.put("score", score);
+		return new MatchInput(authType, idName, matchType, MatchingStrategyType.EXACT.getType(), 100, matchProperties,
+				"eng");
+	}
+}
@@ -0,0 +1,139 @@
+package io.mosip.authentication.common.service.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.mosip.authentication.common.service.entity.AnonymousProfileEntity;
+import io.mosip.authentication.common.service.impl.idevent.AnonymousAuthenticationProfile;
+import io.mosip.authentication.common.service.repository.AuthAnonymousProfileRepository;
+import io.mosip.authentication.common.service.websub.impl.AuthAnonymousEventPublisher;
+
+@RunWith(MockitoJUnitRunner.class)
+public class AnonymousProfileQueueTest {
+
+	@InjectMocks
+	private AnonymousProfileQueue anonymousProfileQueue;
+
+	@Mock
+	private AuthAnonymousProfileRepository authAnonymousProfileRepository;
+
+	@Mock
+	private AuthAnonymousEventPublisher authAnonymousEventPublisher;
+
+	@Mock
+	private ThreadPoolTaskScheduler taskScheduler;
+
+	@Test
+	public void testDisabledQueue() {
+		init(false, 10, 5);
+		assertFalse(anonymousProfileQueue.isEnabled());
+		assertEquals(0, anonymousProfileQueue.size());
+	}
+
+	@Test
+	public void testFlushInBatches() {
+		init(true, 10, 2);
+		anonymousProfileQueue.submit(createProfile("2021"));
+		Mockito.verify(taskScheduler, Mockito.never()).execute(Mockito.any());
+		anonymousProfileQueue.submit(createProfile("2021"));
+		anonymousProfileQueue.submit(createProfile("2022"));
+		Mockito.verify(taskScheduler, Mockito.times(1)).execute(Mockito.any());
+		Mockito.verify(authAnonymousProfileRepository, Mockito.never()).saveAll(Mockito.anyList());
+
+		anonymousProfileQueue.flush();
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<AnonymousProfileEntity>> captor = ArgumentCaptor.forClass(List.class);
+		Mockito.verify(authAnonymousProfileRepository, Mockito.times(2)).saveAll(captor.capture());
+		assertEquals(2, captor.getAllValues().get(0).size());
+		assertEquals(1, captor.getAllValues().get(1).size());
+		Mockito.verify(authAnonymousProfileRepository, Mockito.times(2)).flush();
+		Mockito.verify(authAnonymousEventPublisher, Mockito.times(3)).publishEvent(Mockito.any());
+		assertEquals(0, anonymousProfileQueue.size());
+	}
+
+	@Test
+	public void testFlushLeavesProfilesQueuedMeanwhile() {
+		init(true, 10, 2);
+		anonymousProfileQueue.submit(createProfile("2021"));
+		anonymousProfileQueue.submit(createProfile("2022"));
+		anonymousProfileQueue.submit(createProfile("2023"));
+		Mockito.doAnswer(invocation -> {
+			anonymousProfileQueue.submit(createProfile("2024"));
+			return null;
+		}).when(authAnonymousEventPublisher).publishEvent(Mockito.any());
+		anonymousProfileQueue.flush();
+		Mockito.verify(authAnonymousProfileRepository, Mockito.times(2)).saveAll(Mockito.anyList());
+		Mockito.verify(authAnonymousEventPublisher, Mockito.times(3)).publishEvent(Mockito.any());
+		assertEquals(3, anonymousProfileQueue.size());
+	}
+
+	@Test
+	public void testNotPublishedWhenNotSaved() {
+		init(true, 10, 5);
+		Mockito.when(authAnonymousProfileRepository.saveAll(Mockito.anyList()))
+				.thenThrow(new DataAccessResourceFailureException("down"));
+		anonymousProfileQueue.submit(createProfile("2021"));
+		anonymousProfileQueue.flush();
+		Mockito.verify(authAnonymousEventPublisher, Mockito.never()).publishEvent(Mockito.any());
+		assertEquals(0, anonymousProfileQueue.size());
+	}
+
+	@Test
+	public void testDestroyFlushesQueue() {
+		ScheduledFuture<?> scheduledFlush = Mockito.mock(ScheduledFuture.class);
+		Mockito.doReturn(scheduledFlush).when(taskScheduler).scheduleWithFixedDelay(Mockito.any(Runnable.class),
+				Mockito.anyLong());
+		init(true, 10, 5);
+		anonymousProfileQueue.submit(createProfile("2021"));
+		anonymousProfileQueue.destroy();
+		Mockito.verify(scheduledFlush).cancel(false);
+		Mockito.verify(authAnonymousProfileRepository).saveAll(Mockito.anyList());
+		assertEquals(0, anonymousProfileQueue.size());
+	}
+
+	@Test
+	public void testDropWhenFull() {
+		init(true, 1, 5);
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		anonymousProfileQueue.bindTo(registry);
+		anonymousProfileQueue.submit(createProfile("2021"));
+		anonymousProfileQueue.submit(createProfile("2022"));
+		assertEquals(1, anonymousProfileQueue.getDroppedCount());
+		assertEquals(1d, registry.get("ida.anonymous-profile.queue.size").gauge().value(), 0d);
+		assertEquals(1d, registry.get("ida.anonymous-profile.queue.dropped").functionCounter().count(), 0d);
+		anonymousProfileQueue.flush();
+		assertEquals(1L, registry.get("ida.anonymous-profile.queue.flush").timer().count());
+	}
+
+	private void init(boolean enabled, int capacity, int batchSize) {
+		ReflectionTestUtils.setField(anonymousProfileQueue, "mapper", new ObjectMapper());
+		ReflectionTestUtils.setField(anonymousProfileQueue, "enabled", enabled);
+		ReflectionTestUtils.setField(anonymousProfileQueue, "capacity", capacity);
+		ReflectionTestUtils.setField(anonymousProfileQueue, "batchSize", batchSize);
+		ReflectionTestUtils.setField(anonymousProfileQueue, "flushIntervalMillis", 1000L);
+		anonymousProfileQueue.init();
+	}
+
+	private AnonymousAuthenticationProfile createProfile(String yearOfBirth) {
+		AnonymousAuthenticationProfile profile = new AnonymousAuthenticationProfile();
+		profile.setYearOfBirth(yearOfBirth);
+		return profile;
+	}
+}
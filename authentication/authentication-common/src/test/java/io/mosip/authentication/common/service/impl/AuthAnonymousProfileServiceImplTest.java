@@ -1,6 +1,7 @@
 package io.mosip.authentication.common.service.impl;
 
 import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -13,6 +14,7 @@ import java.util.Map;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
@@ -36,10 +38,12 @@ import io.mosip.authentication.common.service.impl.match.DemoMatchType;
 import io.mosip.authentication.common.service.repository.AuthAnonymousProfileRepository;
 import io.mosip.authentication.common.service.util.EnvUtil;
 import io.mosip.authentication.common.service.websub.impl.AuthAnonymousEventPublisher;
+import io.mosip.authentication.core.constant.IdAuthCommonConstants;
 import io.mosip.authentication.core.exception.IdAuthenticationBusinessException;
 import io.mosip.authentication.core.indauth.dto.AuthError;
 import io.mosip.authentication.core.indauth.dto.IdentityInfoDTO;
 import io.mosip.authentication.core.partner.dto.PartnerDTO;
+import io.mosip.kernel.core.util.DateUtils;
 
 @RunWith(SpringRunner.class)
 @ContextConfiguration(classes = { TestContext.class, WebApplicationContext.class })
@@ -57,6 +61,9 @@ public class AuthAnonymousProfileServiceImplTest {
 	@Mock
 	private AuthAnonymousProfileRepository authAnonymousProfileRepository;
 	
+	@Mock
+	private AnonymousProfileQueue anonymousProfileQueue;
+	
 	@InjectMocks
 	private IdInfoFetcherImpl idInfoFetcherImpl;
 	
@@ -269,5 +276,17 @@ public class AuthAnonymousProfileServiceImplTest {
 		verify(authAnonymousProfileRepository, times(1)).flush();
 	}
 	
+	@Test
+	public void test_storeAnonymouseProfileQueued() {
+		Mockito.when(anonymousProfileQueue.isEnabled()).thenReturn(true);
+		anonymousProfileServiceImpl.storeAnonymousProfile(requestBody, requestMetadata, responseMetadata, true, null);
+		verify(authAnonymousEventPublisher, never()).publishEvent(Mockito.any());
+		verify(authAnonymousProfileRepository, never()).save(Mockito.any());
+		ArgumentCaptor<AnonymousAuthenticationProfile> captor = ArgumentCaptor.forClass(AnonymousAuthenticationProfile.class);
+		verify(anonymousProfileQueue).submit(captor.capture());
+		AnonymousAuthenticationProfile anonymousProfile = captor.getValue();
+		assertEquals(DateUtils.getUTCCurrentDateTime().toLocalDate().toString(), anonymousProfile.getDate());
+		assertEquals(IdAuthCommonConstants.SUCCESS, anonymousProfile.getStatus());
+	}
 
 }
@@ -12,12 +12,14 @@ import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.TestContext;
 import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.web.context.WebApplicationContext;
 
+import io.mosip.authentication.common.service.cache.AuthLockCache;
 import io.mosip.authentication.common.service.impl.match.BioAuthType;
 import io.mosip.authentication.common.service.repository.AuthLockRepository;
 import io.mosip.authentication.core.authtype.dto.AuthtypeRequestDto;
@@ -36,6 +38,9 @@ public class AuthtypeStatusImplTest {
 	@Mock
 	private AuthLockRepository authLockRepository;
 
+	@Spy
+	private AuthLockCache authLockCache;
+
 	@Test
 	public void TestvalidfetchAuthtypeStatus() throws IdAuthenticationBusinessException {
 		AuthtypeRequestDto authtypeRequestDto = getAuthTypeRequestDto();
@@ -35,6 +35,7 @@ import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.context.WebApplicationContext;
 
 import io.mosip.authentication.common.service.builder.MatchInputBuilder;
+import io.mosip.authentication.common.service.cache.NormalizedTextCache;
 import io.mosip.authentication.common.service.config.IDAMappingConfig;
 import io.mosip.authentication.common.service.factory.IDAMappingFactory;
 import io.mosip.authentication.common.service.helper.IdInfoHelper;
@@ -100,6 +101,9 @@ public class DemoAuthServiceTest {
 	@Mock
 	private MasterDataManager masterDataManager;
 
+	@Mock
+	private NormalizedTextCache normalizedTextCache;
+
 	@Autowired
 	private IDAMappingConfig idaMappingConfig;
 
@@ -416,6 +420,16 @@ public class DemoAuthServiceTest {
 		assertTrue(!authStatusInfo.isStatus());
 	}
 
+	@Test
+	public void TestDemoAuthUsesNormalizationMemo() throws IdAuthenticationBusinessException {
+		AuthRequestDTO authRequestDTO = generateData();
+		Map<String, List<IdentityInfoDTO>> idInfo = new HashMap<>();
+		idInfo.put("fullName", List.of(new IdentityInfoDTO("fre", "mosip")));
+		demoAuthServiceImpl.authenticate(authRequestDTO, "121212", idInfo, "123456");
+		Mockito.verify(normalizedTextCache).createMemo("121212");
+		Mockito.verify(normalizedTextCache).recordSaved(null);
+	}
+
 	private AuthRequestDTO generateData() {
 		AuthRequestDTO authRequestDTO = new AuthRequestDTO();
 		AuthRequestDTO authRequest = new AuthRequestDTO();
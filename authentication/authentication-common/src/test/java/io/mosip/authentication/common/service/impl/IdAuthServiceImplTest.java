@@ -5,12 +5,11 @@ import static org.junit.Assert.assertNotNull;
 import java.io.IOException;
 import java.lang.reflect.UndeclaredThrowableException;
 import java.text.SimpleDateFormat;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import org.junit.Before;
 import org.junit.Ignore;
@@ -36,6 +35,7 @@ import io.mosip.authentication.common.service.entity.AutnTxn;
 import io.mosip.authentication.common.service.entity.IdentityEntity;
 import io.mosip.authentication.common.service.factory.AuditRequestFactory;
 import io.mosip.authentication.common.service.factory.RestRequestFactory;
+import io.mosip.authentication.common.service.helper.AutnTxnSink;
 import io.mosip.authentication.common.service.repository.AutnTxnRepository;
 import io.mosip.authentication.common.service.repository.IdentityCacheRepository;
 import io.mosip.authentication.common.service.transaction.manager.IdAuthSecurityManager;
@@ -81,6 +81,8 @@ public class IdAuthServiceImplTest {
 	@Mock
 	AutnTxnRepository autntxnrepository;
 	@Mock
+	AutnTxnSink autnTxnSink;
+	@Mock
 	AutnTxn autnTxn;
 
 	@Autowired
@@ -122,11 +124,8 @@ public class IdAuthServiceImplTest {
 			byte[] demoData = ("{\"UIN\":" + idvId + "}").getBytes();
 			byte[] bioData = CryptoUtil.encodeBase64("fingreprintdata".getBytes()).getBytes();
 			entity.setDemographicData(demoData);
-			Mockito.when(identityRepo.getOne(idvId)).thenReturn(entity);
-			List<Object[]> data = new ArrayList<>();
-			Object[] iddata = new Object[] {idvId, demoData, null, null};
-			data.add(iddata);
-			Mockito.when(identityRepo.findDemoDataById(idvId)).thenReturn(data);
+			Mockito.when(identityRepo.findDemoAndBioDataById(idvId)).thenReturn(Optional.of(entity));
+			Mockito.when(identityRepo.findDemoDataById(idvId)).thenReturn(Optional.of(entity));
 			Map<String, String> demoDataMap = mapper.readValue(demoData, Map.class);
 			Map<String, String> bioDataMap = mapper.readValue(bioData, Map.class);
 			Mockito.when(securityManager.zkDecrypt(idvId, demoDataMap)).thenReturn(demoDataMap);
@@ -152,11 +151,8 @@ public class IdAuthServiceImplTest {
 			byte[] demoData = ("{\"UIN\":" + idvId + "}").getBytes();
 			byte[] bioData = CryptoUtil.encodeBase64("fingreprintdata".getBytes()).getBytes();
 			entity.setDemographicData(demoData);
-			Mockito.when(identityRepo.getOne(idvId)).thenReturn(entity);
-			List<Object[]> data = new ArrayList<>();
-			Object[] iddata = new Object[] {idvId, demoData, null, null};
-			data.add(iddata);
-			Mockito.when(identityRepo.findDemoDataById(idvId)).thenReturn(data);
+			Mockito.when(identityRepo.findDemoAndBioDataById(idvId)).thenReturn(Optional.of(entity));
+			Mockito.when(identityRepo.findDemoDataById(idvId)).thenReturn(Optional.of(entity));
 			Map<String, String> demoDataMap = mapper.readValue(demoData, Map.class);
 			Map<String, String> bioDataMap = mapper.readValue(bioData, Map.class);
 			Mockito.when(securityManager.zkDecrypt(idvId, demoDataMap)).thenReturn(demoDataMap);
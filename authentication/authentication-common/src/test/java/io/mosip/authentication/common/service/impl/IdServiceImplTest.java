@@ -23,8 +23,10 @@ import org.springframework.test.util.ReflectionTestUtils;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.mosip.authentication.common.service.cache.IdentityDataCache;
 import io.mosip.authentication.common.service.entity.AutnTxn;
 import io.mosip.authentication.common.service.entity.IdentityEntity;
+import io.mosip.authentication.common.service.helper.AutnTxnSink;
 import io.mosip.authentication.common.service.repository.AutnTxnRepository;
 import io.mosip.authentication.common.service.repository.IdentityCacheRepository;
 import io.mosip.authentication.common.service.transaction.manager.IdAuthSecurityManager;
@@ -49,6 +51,12 @@ public class IdServiceImplTest {
 
 	@Mock
 	private AutnTxnRepository autntxnrepository;
+
+	@Mock
+	private AutnTxnSink autnTxnSink;
+
+	@Mock
+	private IdentityDataCache identityDataCache;
 	
 	@Test
 	public void getIdentityTest1() throws IdAuthenticationBusinessException, IOException {
@@ -72,9 +80,7 @@ public class IdServiceImplTest {
 		Mockito.when(mapper.readValue(entity.getDemographicData(), Map.class)).thenReturn(demoDataMap);
 		Mockito.when(mapper.readValue(entity.getBiometricData(), Map.class)).thenReturn(bioDataMap);
 		Mockito.when(securityManager.hash(uin)).thenReturn("12");
-		Mockito.when(identityRepo.existsById("12")).thenReturn(true);
-
-		Mockito.when(identityRepo.getOne("12")).thenReturn(entity);
+				Mockito.when(identityRepo.findDemoAndBioDataById("12")).thenReturn(Optional.of(entity));
 		idServiceImpl.getIdentity(uin, isBio, idType, filterAttributes);
 	}
 
@@ -85,14 +91,83 @@ public class IdServiceImplTest {
 		IdType idType = IdType.VID;
 		Set<String> filterAttributes = new HashSet<String>();
 		Mockito.when(securityManager.hash(uin)).thenReturn("12");
-		Mockito.when(identityRepo.existsById("12")).thenReturn(true);
 		byte[] demographicData = {};
-		Object[] data = new Object[] { 1, demographicData, null, null, 1 };
+		IdentityEntity entity = new IdentityEntity("12", "1", demographicData, null, null, null, null);
 
-		Mockito.when(identityRepo.findDemoDataById("12")).thenReturn(Collections.singletonList(data));
+		Mockito.when(identityRepo.findDemoDataById("12")).thenReturn(Optional.of(entity));
 		idServiceImpl.getIdentity(uin, isBio, idType, filterAttributes);
 	}
 
+	@Test
+	public void getIdentityFromIdentityDataCacheTest() throws IdAuthenticationBusinessException, IOException {
+		IdentityDataCache cache = new IdentityDataCache();
+		ReflectionTestUtils.setField(cache, "enabled", true);
+		ReflectionTestUtils.setField(cache, "maxSize", 10);
+		ReflectionTestUtils.setField(cache, "ttlSeconds", 60L);
+		cache.init();
+		ReflectionTestUtils.setField(idServiceImpl, "identityDataCache", cache);
+
+		String uin = "12312312";
+		Set<String> filterAttributes = Set.of("name");
+		byte[] demographicData = {};
+		LocalDateTime crDTimes = LocalDateTime.parse("2022-01-01T10:00:00");
+		IdentityEntity entity = new IdentityEntity("12", "token", demographicData, null, null, crDTimes, null);
+		Mockito.when(securityManager.hash(uin)).thenReturn("12");
+		Mockito.when(identityRepo.findDemoDataById("12")).thenReturn(Optional.of(entity));
+		Mockito.when(identityRepo.findMetadataById("12"))
+				.thenReturn(Optional.of(new IdentityEntity("12", "token", null, null, crDTimes, null)));
+		Mockito.when(mapper.readValue(demographicData, Map.class)).thenReturn(Map.of("name", "encrypted"));
+		Mockito.when(securityManager.zkDecrypt(uin, Map.of("name", "encrypted"))).thenReturn(Map.of("name", "abc"));
+
+		Map<String, Object> identity = idServiceImpl.getIdentity(uin, false, IdType.UIN, filterAttributes);
+		Map<String, Object> cachedIdentity = idServiceImpl.getIdentity(uin, false, IdType.UIN, filterAttributes);
+		assertEquals(identity, cachedIdentity);
+		assertEquals(Map.of("name", "abc"), cachedIdentity.get("demographics"));
+		assertEquals("token", cachedIdentity.get("TOKEN"));
+		assertEquals("12", cachedIdentity.get("ID_HASH"));
+		Mockito.verify(identityRepo, Mockito.times(1)).findDemoDataById("12");
+		Mockito.verify(securityManager, Mockito.times(1)).zkDecrypt(Mockito.anyString(), Mockito.anyMap());
+
+		cache.invalidate("12");
+		idServiceImpl.getIdentity(uin, false, IdType.UIN, filterAttributes);
+		Mockito.verify(identityRepo, Mockito.times(2)).findDemoDataById("12");
+
+		// Updated through another instance
+		Mockito.when(identityRepo.findMetadataById("12")).thenReturn(Optional.of(
+				new IdentityEntity("12", "token", null, null, crDTimes, crDTimes.plusMinutes(1))));
+		idServiceImpl.getIdentity(uin, false, IdType.UIN, filterAttributes);
+		Mockito.verify(identityRepo, Mockito.times(3)).findDemoDataById("12");
+	}
+
+	@Test(expected = IdAuthenticationBusinessException.class)
+	public void getIdentityFromIdentityDataCacheDeactivatedTest() throws IdAuthenticationBusinessException, IOException {
+		IdentityDataCache cache = new IdentityDataCache();
+		ReflectionTestUtils.setField(cache, "enabled", true);
+		ReflectionTestUtils.setField(cache, "maxSize", 10);
+		ReflectionTestUtils.setField(cache, "maxBytes", 1_000_000L);
+		ReflectionTestUtils.setField(cache, "ttlSeconds", 60L);
+		cache.init();
+		ReflectionTestUtils.setField(idServiceImpl, "identityDataCache", cache);
+
+		String uin = "12312312";
+		Set<String> filterAttributes = Set.of("name");
+		byte[] demographicData = {};
+		IdentityEntity entity = new IdentityEntity("12", "token", demographicData, null, null, null, null);
+		Mockito.when(securityManager.hash(uin)).thenReturn("12");
+		Mockito.when(identityRepo.findDemoDataById("12")).thenReturn(Optional.of(entity));
+		Mockito.when(mapper.readValue(demographicData, Map.class)).thenReturn(Map.of("name", "encrypted"));
+		Mockito.when(securityManager.zkDecrypt(uin, Map.of("name", "encrypted"))).thenReturn(Map.of("name", "abc"));
+		idServiceImpl.getIdentity(uin, false, IdType.UIN, filterAttributes);
+
+		// Deactivated through another instance
+		LocalDateTime expiry = LocalDateTime.parse("2018-12-30T19:34:50.63");
+		Mockito.when(identityRepo.findMetadataById("12"))
+				.thenReturn(Optional.of(new IdentityEntity("12", "token", expiry, null, null, expiry)));
+		Mockito.when(identityRepo.findDemoDataById("12")).thenReturn(Optional
+				.of(new IdentityEntity("12", "token", demographicData, expiry, null, null, expiry)));
+		idServiceImpl.getIdentity(uin, false, IdType.UIN, filterAttributes);
+	}
+
 	@Test(expected = IdAuthenticationBusinessException.class)
 	public void getIdentityTestException1() throws IdAuthenticationBusinessException {
 		String uin = "12312312";
@@ -122,9 +197,7 @@ public class IdServiceImplTest {
 		Mockito.when(mapper.readValue(entity.getDemographicData(), Map.class)).thenReturn(demoDataMap);
 		Mockito.when(mapper.readValue(entity.getBiometricData(), Map.class)).thenReturn(bioDataMap);
 		Mockito.when(securityManager.hash(uin)).thenReturn("12");
-		Mockito.when(identityRepo.existsById("12")).thenReturn(true);
-
-		Mockito.when(identityRepo.getOne("12")).thenReturn(entity);
+				Mockito.when(identityRepo.findDemoAndBioDataById("12")).thenReturn(Optional.of(entity));
 		idServiceImpl.getIdentity(uin, isBio, idType, filterAttributes);
 	}
 
@@ -135,12 +208,11 @@ public class IdServiceImplTest {
 		IdType idType = IdType.UIN;
 		Set<String> filterAttributes = new HashSet<String>();
 		Mockito.when(securityManager.hash(uin)).thenReturn("12");
-		Mockito.when(identityRepo.existsById("12")).thenReturn(true);
 		byte[] demographicData = {};
-		Object[] data = new Object[] { 1, demographicData, "2018-12-30T19:34:50.63", 1, 1 };
+		IdentityEntity entity = new IdentityEntity("12", "1", demographicData,
+				LocalDateTime.parse("2018-12-30T19:34:50.63"), 1, null, null);
 
-		System.out.println("time=" + LocalDateTime.parse(String.valueOf(data[2])));
-		Mockito.when(identityRepo.findDemoDataById("12")).thenReturn(Collections.singletonList(data));
+		Mockito.when(identityRepo.findDemoDataById("12")).thenReturn(Optional.of(entity));
 		idServiceImpl.getIdentity(uin, isBio, idType, filterAttributes);
 	}
 
@@ -151,7 +223,7 @@ public class IdServiceImplTest {
 		IdType idType = IdType.UIN;
 		Set<String> filterAttributes = new HashSet<String>();
 		Mockito.when(securityManager.hash(uin)).thenReturn("12");
-		Mockito.when(identityRepo.existsById("12")).thenReturn(false);
+		Mockito.when(identityRepo.findDemoDataById("12")).thenReturn(Optional.empty());
 		idServiceImpl.getIdentity(uin, isBio, idType, filterAttributes);
 	}
 
@@ -167,8 +239,7 @@ public class IdServiceImplTest {
 		IdentityEntity entity = getEntity();
 		Mockito.doThrow(IOException.class).when(mapper).readValue(entity.getDemographicData(), Map.class);
 		Mockito.when(securityManager.hash(uin)).thenReturn("12");
-		Mockito.when(identityRepo.existsById("12")).thenReturn(true);
-		Mockito.when(identityRepo.getOne("12")).thenReturn(entity);
+				Mockito.when(identityRepo.findDemoAndBioDataById("12")).thenReturn(Optional.of(entity));
 		idServiceImpl.getIdentity(uin, isBio, idType, filterAttributes);
 	}
 
@@ -179,12 +250,11 @@ public class IdServiceImplTest {
 		IdType idType = IdType.VID;
 		Set<String> filterAttributes = new HashSet<String>();
 		Mockito.when(securityManager.hash(uin)).thenReturn("12");
-		Mockito.when(identityRepo.existsById("12")).thenReturn(true);
 		byte[] demographicData = {};
-		Object[] data = new Object[] { 1, demographicData, "2018-12-30T19:34:50.63", 1, 1 };
+		IdentityEntity entity = new IdentityEntity("12", "1", demographicData,
+				LocalDateTime.parse("2018-12-30T19:34:50.63"), 1, null, null);
 
-		System.out.println("time=" + LocalDateTime.parse(String.valueOf(data[2])));
-		Mockito.when(identityRepo.findDemoDataById("12")).thenReturn(Collections.singletonList(data));
+		Mockito.when(identityRepo.findDemoDataById("12")).thenReturn(Optional.of(entity));
 		idServiceImpl.getIdentity(uin, isBio, idType, filterAttributes);
 	}
 
@@ -210,8 +280,7 @@ public class IdServiceImplTest {
 		Mockito.when(mapper.readValue(entity.getDemographicData(), Map.class)).thenReturn(demoDataMap);
 		Mockito.when(mapper.readValue(entity.getBiometricData(), Map.class)).thenReturn(bioDataMap);
 		Mockito.when(securityManager.hash(idvId)).thenReturn("12");
-		Mockito.when(identityRepo.existsById("12")).thenReturn(true);
-		Mockito.when(identityRepo.getOne("12")).thenReturn(entity);
+				Mockito.when(identityRepo.findDemoAndBioDataById("12")).thenReturn(Optional.of(entity));
 
 		String idvIdType = "VID";
 		idServiceImpl.processIdType(idvIdType, idvId, isBio, markVidConsumed, filterAttributes);
@@ -268,6 +337,7 @@ public class IdServiceImplTest {
 	public void saveAutnTxnTest() throws IdAuthenticationBusinessException {
 		AutnTxn autnTxn = new AutnTxn();
 		idServiceImpl.saveAutnTxn(autnTxn);
+		Mockito.verify(autnTxnSink).save(autnTxn);
 	}
 
 	@Test
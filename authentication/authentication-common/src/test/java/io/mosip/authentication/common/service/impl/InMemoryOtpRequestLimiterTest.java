@@ -0,0 +1,99 @@
+package io.mosip.authentication.common.service.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.mosip.authentication.common.service.util.EnvUtil;
+
+@RunWith(MockitoJUnitRunner.class)
+public class InMemoryOtpRequestLimiterTest {
+
+	@InjectMocks
+	private InMemoryOtpRequestLimiter otpRequestLimiter;
+
+	@Mock
+	private ThreadPoolTaskScheduler taskScheduler;
+
+	private final AtomicLong nanoTime = new AtomicLong();
+
+	private Integer floodingDuration;
+
+	private Integer floodingMaxCount;
+
+	@Before
+	public void before() {
+		floodingDuration = EnvUtil.getOtpRequestFloodingDuration();
+		floodingMaxCount = EnvUtil.getOtpRequestFloodingMaxCount();
+		EnvUtil.setOtpRequestFloodingDuration(1);
+		EnvUtil.setOtpRequestFloodingMaxCount(2);
+		ReflectionTestUtils.setField(otpRequestLimiter, "nanoTime", (LongSupplier) nanoTime::get);
+		otpRequestLimiter.init();
+	}
+
+	@After
+	public void after() {
+		EnvUtil.setOtpRequestFloodingDuration(floodingDuration);
+		EnvUtil.setOtpRequestFloodingMaxCount(floodingMaxCount);
+	}
+
+	@Test
+	public void testFloodedAfterMaxCount() {
+		assertFalse(otpRequestLimiter.isRequestFlooded("token1"));
+		assertFalse(otpRequestLimiter.isRequestFlooded("token1"));
+		assertFalse(otpRequestLimiter.isRequestFlooded("token1"));
+		assertTrue(otpRequestLimiter.isRequestFlooded("token1"));
+		assertTrue(otpRequestLimiter.isRequestFlooded("token1"));
+		assertFalse(otpRequestLimiter.isRequestFlooded("token2"));
+		Mockito.verify(taskScheduler).scheduleWithFixedDelay(Mockito.any(Runnable.class), Mockito.eq(60000L));
+	}
+
+	@Test
+	public void testWindowSlides() {
+		otpRequestLimiter.isRequestFlooded("token");
+		nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(30));
+		otpRequestLimiter.isRequestFlooded("token");
+		otpRequestLimiter.isRequestFlooded("token");
+		assertTrue(otpRequestLimiter.isRequestFlooded("token"));
+		nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(31));
+		assertFalse(otpRequestLimiter.isRequestFlooded("token"));
+		assertTrue(otpRequestLimiter.isRequestFlooded("token"));
+	}
+
+	@Test
+	public void testRemoveExpired() {
+		otpRequestLimiter.isRequestFlooded("token1");
+		nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(40));
+		otpRequestLimiter.isRequestFlooded("token2");
+		nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(30));
+		otpRequestLimiter.removeExpired();
+		assertEquals(1, otpRequestLimiter.getTokenCount());
+	}
+
+	@Test
+	public void testBindMetrics() {
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		otpRequestLimiter.bindTo(registry);
+		for (int i = 0; i < 4; i++) {
+			otpRequestLimiter.isRequestFlooded("token");
+		}
+		assertEquals(1d, registry.get("ida.otp.request-limiter.flooded").functionCounter().count(), 0d);
+		assertEquals(1d, registry.get("ida.otp.request-limiter.tokens").gauge().value(), 0d);
+	}
+}
@@ -0,0 +1,49 @@
+package io.mosip.authentication.common.service.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+public class LocalOtpGeneratorTest {
+
+	@Test
+	public void testNumericOtp() {
+		LocalOtpGenerator otpGenerator = createGenerator(6, "numeric");
+		Set<String> otps = IntStream.range(0, 100).mapToObj(i -> otpGenerator.generateOtp("key"))
+				.collect(Collectors.toSet());
+		assertTrue(otps.stream().allMatch(otp -> otp.matches("[0-9]{6}")));
+		assertTrue(otps.size() > 90);
+	}
+
+	@Test
+	public void testAlphanumericOtp() {
+		LocalOtpGenerator otpGenerator = createGenerator(8, "ALPHANUMERIC");
+		String otp = otpGenerator.generateOtp("key");
+		assertEquals(8, otp.length());
+		assertTrue(otp.matches("[0-9A-Z]{8}"));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidScheme() {
+		createGenerator(6, "hex");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidLength() {
+		createGenerator(0, "numeric");
+	}
+
+	private LocalOtpGenerator createGenerator(int length, String scheme) {
+		LocalOtpGenerator otpGenerator = new LocalOtpGenerator();
+		ReflectionTestUtils.setField(otpGenerator, "length", length);
+		ReflectionTestUtils.setField(otpGenerator, "scheme", scheme);
+		otpGenerator.init();
+		return otpGenerator;
+	}
+}
@@ -11,6 +11,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import org.junit.AfterClass;
 import org.junit.Before;
@@ -33,6 +34,7 @@ import io.mosip.authentication.common.service.builder.MatchInputBuilder;
 import io.mosip.authentication.common.service.entity.AutnTxn;
 import io.mosip.authentication.common.service.helper.IdInfoHelper;
 import io.mosip.authentication.common.service.integration.OTPManager;
+import io.mosip.authentication.common.service.helper.AutnTxnSink;
 import io.mosip.authentication.common.service.repository.AutnTxnRepository;
 import io.mosip.authentication.common.service.transaction.manager.IdAuthSecurityManager;
 import io.mosip.authentication.common.service.util.EnvUtil;
@@ -71,6 +73,9 @@ public class OTPAuthServiceTest {
 	@Mock
 	private AutnTxnRepository repository;
 
+	@Mock
+	private AutnTxnSink autnTxnSink;
+
 	@Mock
 	OTPManager otpmanager;
 
@@ -200,6 +205,18 @@ public class OTPAuthServiceTest {
 		assertTrue(otpauthserviceimpl.validateTxnAndIdvidPartner("1234567890", "123456", "UIN", "PARTNER1"));
 	}
 
+	@Test
+	public void TestValidTxnIdNotYetInserted() throws IdAuthenticationBusinessException {
+		AutnTxn autTxn = new AutnTxn();
+		autTxn.setRequestTrnId("1234567890");
+		autTxn.setToken("123456");
+		autTxn.setRefIdType("UIN");
+		autTxn.setEntityId("PARTNER1");
+		Mockito.when(autnTxnSink.findLatestPending(Mockito.any())).thenReturn(Optional.of(autTxn));
+		assertTrue(otpauthserviceimpl.validateTxnAndIdvidPartner("1234567890", "123456", "UIN", "PARTNER1"));
+		Mockito.verify(repository, Mockito.never()).findByTxnId(Mockito.anyString(), Mockito.any(), Mockito.any());
+	}
+
 	/**
 	 * To test the Transaction id with UIN
 	 * 
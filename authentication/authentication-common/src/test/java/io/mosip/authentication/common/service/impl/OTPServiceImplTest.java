@@ -1,6 +1,7 @@
 package io.mosip.authentication.common.service.impl;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
 
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
@@ -40,7 +41,7 @@ import io.mosip.authentication.common.service.integration.OTPManager;
 import io.mosip.authentication.common.service.integration.PartnerServiceManager;
 import io.mosip.authentication.common.service.integration.dto.OtpGeneratorRequestDto;
 import io.mosip.authentication.common.service.integration.dto.OtpGeneratorResponseDto;
-import io.mosip.authentication.common.service.repository.AuthLockRepository;
+import io.mosip.authentication.common.service.helper.AutnTxnSink;
 import io.mosip.authentication.common.service.repository.AutnTxnRepository;
 import io.mosip.authentication.common.service.repository.IdaUinHashSaltRepo;
 import io.mosip.authentication.common.service.repository.PartnerMappingRepository;
@@ -53,9 +54,12 @@ import io.mosip.authentication.core.exception.IdAuthenticationBusinessException;
 import io.mosip.authentication.core.indauth.dto.IdType;
 import io.mosip.authentication.core.indauth.dto.IdentityInfoDTO;
 import io.mosip.authentication.core.otp.dto.OtpRequestDTO;
+import io.mosip.authentication.core.spi.authtype.status.service.AuthtypeStatusService;
 import io.mosip.authentication.core.spi.id.service.IdService;
+import io.mosip.authentication.core.spi.otp.service.OtpRequestLimiter;
 import io.mosip.authentication.core.spi.partner.service.PartnerService;
 import io.mosip.idrepository.core.constant.IdRepoErrorConstants;
+import io.mosip.idrepository.core.dto.AuthtypeStatus;
 import io.mosip.idrepository.core.dto.RestRequestDTO;
 import io.mosip.idrepository.core.exception.RestServiceException;
 import io.mosip.idrepository.core.helper.RestHelper;
@@ -76,6 +80,9 @@ public class OTPServiceImplTest {
     @Mock
     AutnTxnRepository autntxnrepository;
 
+    @Mock
+    AutnTxnSink autnTxnSink;
+
     @Mock
     IdService<AutnTxn> idAuthService;
 
@@ -138,9 +145,12 @@ public class OTPServiceImplTest {
     private IdAuthFraudAnalysisEventManager fraudEventManager;
     
     
-    /** The auth lock repository. */
+    /** The auth type status service. */
     @Mock
-	private AuthLockRepository authLockRepository;
+    private AuthtypeStatusService authtypeStatusService;
+
+    @Mock
+    private OtpRequestLimiter otpRequestLimiter;
 
 
     @Before
@@ -185,7 +195,6 @@ public class OTPServiceImplTest {
         Mockito.when(idAuthService.processIdType(Mockito.any(), Mockito.any(), Mockito.anyBoolean(), Mockito.anyBoolean(), Mockito.anySet()))
                 .thenReturn(idResDTO);
         Mockito.when(idAuthService.getToken(Mockito.any())).thenReturn("426789089018");
-        Mockito.when(autntxnrepository.countRequestDTime(Mockito.any(), Mockito.any(), Mockito.any())).thenReturn(1);
         Mockito.when(uinHashSaltRepo.retrieveSaltById(Mockito.anyInt())).thenReturn("2344");
         Mockito.when(idAuthSecurityManager.getUser()).thenReturn("ida_app_user");
         RestRequestDTO value = getRestDto();
@@ -236,7 +245,6 @@ public class OTPServiceImplTest {
         Mockito.when(idAuthService.processIdType(Mockito.any(), Mockito.any(), Mockito.anyBoolean(), Mockito.anyBoolean(), Mockito.anySet()))
                 .thenReturn(valueMap);
         Mockito.when(idAuthService.getToken(Mockito.any())).thenReturn("2345678901234");
-        Mockito.when(autntxnrepository.countRequestDTime(Mockito.any(), Mockito.any(), Mockito.any())).thenReturn(1);
         Mockito.when(uinHashSaltRepo.retrieveSaltById(Mockito.anyInt())).thenReturn("2344");
         Mockito.when(idAuthSecurityManager.getUser()).thenReturn("ida_app_user");
         RestRequestDTO value = getRestDto();
@@ -285,7 +293,6 @@ public class OTPServiceImplTest {
         Mockito.when(idAuthService.processIdType(Mockito.any(), Mockito.any(), Mockito.anyBoolean(), Mockito.anyBoolean(), Mockito.anySet()))
                 .thenReturn(valueMap);
         Mockito.when(idAuthService.getToken(Mockito.any())).thenReturn(individualId);
-        Mockito.when(autntxnrepository.countRequestDTime(Mockito.any(), Mockito.any(), Mockito.any())).thenReturn(1);
         RestRequestDTO value = getRestDto();
         Mockito.when(restRequestFactory.buildRequest(Mockito.any(), Mockito.any(), Mockito.any())).thenReturn(value);
         ResponseWrapper<OtpGeneratorResponseDto> response = new ResponseWrapper<>();
@@ -337,7 +344,7 @@ public class OTPServiceImplTest {
         Mockito.when(uinHashSaltRepo.retrieveSaltById(Mockito.anyInt())).thenReturn("2344");
         Mockito.when(idAuthSecurityManager.getUser()).thenReturn("ida_app_user");
         System.out.println("oid= "+otpRequestDTO.getIndividualId());
-        Mockito.when(autntxnrepository.countRequestDTime(Mockito.any(), Mockito.any(), Mockito.any())).thenReturn(100);
+        Mockito.when(otpRequestLimiter.isRequestFlooded(Mockito.any())).thenReturn(true);
         try {
             otpServiceImpl.generateOtp(otpRequestDTO, "1234567890", new TestObjectWithMetadata());
         }
@@ -347,6 +354,39 @@ public class OTPServiceImplTest {
         }
     }
 
+    @Test
+    public void TestOtpChannelLocked() throws IdAuthenticationBusinessException {
+        OtpRequestDTO otpRequestDTO = getOtpRequestDTO();
+        otpRequestDTO.setOtpChannel(List.of("EMAIL"));
+        Mockito.when(idAuthService.processIdType(Mockito.any(), Mockito.any(), Mockito.anyBoolean(), Mockito.anyBoolean(), Mockito.anySet()))
+                .thenReturn(new HashMap<>());
+        Mockito.when(idAuthService.getToken(Mockito.any())).thenReturn("426789089018");
+        AuthtypeStatus smsStatus = new AuthtypeStatus();
+        smsStatus.setAuthType("otp");
+        smsStatus.setAuthSubType("sms");
+        smsStatus.setLocked(true);
+        AuthtypeStatus emailStatus = new AuthtypeStatus();
+        emailStatus.setAuthType("otp");
+        emailStatus.setAuthSubType("email");
+        emailStatus.setLocked(true);
+        Mockito.when(authtypeStatusService.fetchAuthtypeStatus("426789089018")).thenReturn(List.of(smsStatus, emailStatus));
+        try {
+            otpServiceImpl.generateOtp(otpRequestDTO, "1234567890", new TestObjectWithMetadata());
+            fail();
+        } catch (IdAuthenticationBusinessException ex) {
+            assertEquals(IdAuthenticationErrorConstants.AUTH_TYPE_LOCKED.getErrorCode(), ex.getErrorCode());
+            assertEquals(String.format(IdAuthenticationErrorConstants.AUTH_TYPE_LOCKED.getErrorMessage(), "otp-email"), ex.getErrorText());
+        }
+        emailStatus.setLocked(false);
+        Mockito.when(otpRequestLimiter.isRequestFlooded("426789089018")).thenReturn(true);
+        try {
+            otpServiceImpl.generateOtp(otpRequestDTO, "1234567890", new TestObjectWithMetadata());
+            fail();
+        } catch (IdAuthenticationBusinessException ex) {
+            assertEquals(IdAuthenticationErrorConstants.OTP_REQUEST_FLOODED.getErrorCode(), ex.getErrorCode());
+        }
+    }
+
     private RestRequestDTO getRestDto() {
         RestRequestDTO restRequestDTO = new RestRequestDTO();
         restRequestDTO.setHttpMethod(HttpMethod.POST);
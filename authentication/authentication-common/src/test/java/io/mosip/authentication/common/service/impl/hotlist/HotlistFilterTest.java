@@ -0,0 +1,177 @@
+package io.mosip.authentication.common.service.impl.hotlist;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.mosip.authentication.common.service.entity.HotlistCache;
+import io.mosip.authentication.common.service.repository.HotlistCacheRepository;
+
+@RunWith(MockitoJUnitRunner.class)
+public class HotlistFilterTest {
+
+	@InjectMocks
+	private HotlistFilter hotlistFilter;
+
+	@Mock
+	private HotlistCacheRepository hotlistCacheRepo;
+
+	@Mock
+	private ThreadPoolTaskScheduler taskScheduler;
+
+	private final AtomicLong nanoTime = new AtomicLong();
+
+	@Test
+	public void testDisabledFilter() {
+		init(false);
+		assertFalse(hotlistFilter.isBuilt());
+		assertTrue(hotlistFilter.mightContain("id1", "DEVICE"));
+		hotlistFilter.add("id1", "DEVICE");
+		hotlistFilter.rebuild();
+		assertFalse(hotlistFilter.isBuilt());
+		Mockito.verifyZeroInteractions(hotlistCacheRepo, taskScheduler);
+	}
+
+	@Test
+	public void testStaleFilterDropped() {
+		Mockito.when(hotlistCacheRepo.findAll()).thenReturn(List.of(createHotlistCache("id1", "DEVICE")));
+		init(true);
+		nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(5));
+		assertFalse(hotlistFilter.mightContain("id2", "DEVICE"));
+		Mockito.when(hotlistCacheRepo.findAll()).thenThrow(new DataAccessResourceFailureException("down"));
+		hotlistFilter.rebuild();
+		assertTrue(hotlistFilter.isBuilt());
+		nanoTime.incrementAndGet();
+		assertFalse(hotlistFilter.isBuilt());
+		assertTrue(hotlistFilter.mightContain("id2", "DEVICE"));
+		hotlistFilter.rebuild();
+		assertEquals(0, hotlistFilter.size());
+		Mockito.reset(hotlistCacheRepo);
+		Mockito.when(hotlistCacheRepo.findAll()).thenReturn(List.of(createHotlistCache("id1", "DEVICE")));
+		hotlistFilter.rebuild();
+		assertTrue(hotlistFilter.isBuilt());
+		assertFalse(hotlistFilter.mightContain("id2", "DEVICE"));
+	}
+
+	@Test
+	public void testBuildAndCheck() {
+		Mockito.when(hotlistCacheRepo.findAll()).thenReturn(List.of(createHotlistCache("id1", "DEVICE")));
+		init(true);
+		assertTrue(hotlistFilter.isBuilt());
+		assertTrue(hotlistFilter.mightContain("id1", "DEVICE"));
+		assertFalse(hotlistFilter.mightContain("id1", "PARTNER_ID"));
+		assertFalse(hotlistFilter.mightContain("id2", "DEVICE"));
+		assertEquals(2, hotlistFilter.getNegativeCount());
+		Mockito.verify(taskScheduler).scheduleWithFixedDelay(Mockito.any(Runnable.class), Mockito.eq(1000L));
+	}
+
+	@Test
+	public void testNotBuiltWhenDatabaseFails() {
+		Mockito.when(hotlistCacheRepo.findAll()).thenThrow(new DataAccessResourceFailureException("down"));
+		init(true);
+		assertFalse(hotlistFilter.isBuilt());
+		assertTrue(hotlistFilter.mightContain("id1", "DEVICE"));
+	}
+
+	@Test
+	public void testAddAndRemove() {
+		Mockito.when(hotlistCacheRepo.findAll()).thenReturn(List.of(createHotlistCache("id1", "DEVICE")));
+		init(true);
+		hotlistFilter.add("id2", "PARTNER_ID");
+		hotlistFilter.remove("id1", "DEVICE");
+		assertTrue(hotlistFilter.mightContain("id2", "PARTNER_ID"));
+		assertFalse(hotlistFilter.mightContain("id1", "DEVICE"));
+		assertEquals(1, hotlistFilter.size());
+	}
+
+	@Test
+	public void testAddDuringRebuildKept() {
+		Mockito.when(hotlistCacheRepo.findAll()).thenReturn(List.of(createHotlistCache("id1", "DEVICE")));
+		init(true);
+		Mockito.when(hotlistCacheRepo.findAll()).thenAnswer(invocation -> {
+			// Handled after the rebuild read the table
+			hotlistFilter.add("id2", "DEVICE");
+			return List.of(createHotlistCache("id1", "DEVICE"));
+		});
+		hotlistFilter.rebuild();
+		assertTrue(hotlistFilter.mightContain("id2", "DEVICE"));
+		assertEquals(2, hotlistFilter.size());
+	}
+
+	@Test
+	public void testRebuildWhenOutgrown() {
+		Mockito.when(hotlistCacheRepo.findAll()).thenReturn(List.of());
+		init(true);
+		IntStream.range(0, 1000).forEach(i -> hotlistFilter.add("id" + i, "DEVICE"));
+		Mockito.verify(taskScheduler, Mockito.never()).execute(Mockito.any());
+		hotlistFilter.add("id1000", "DEVICE");
+		Mockito.verify(taskScheduler).execute(Mockito.any());
+	}
+
+	@Test
+	public void testSizedWithinMemory() {
+		Mockito.when(hotlistCacheRepo.findAll()).thenReturn(IntStream.range(0, 5000)
+				.mapToObj(i -> createHotlistCache("id" + i, i % 2 == 0 ? "DEVICE" : "PARTNER_ID"))
+				.collect(Collectors.toList()));
+		init(true, 4096L);
+		assertTrue(hotlistFilter.getBytes() <= 4096);
+		assertTrue(IntStream.range(0, 5000)
+				.allMatch(i -> hotlistFilter.mightContain("id" + i, i % 2 == 0 ? "DEVICE" : "PARTNER_ID")));
+	}
+
+	@Test
+	public void testBindMetrics() {
+		Mockito.when(hotlistCacheRepo.findAll()).thenReturn(List.of(createHotlistCache("id1", "DEVICE")));
+		init(true);
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		hotlistFilter.bindTo(registry);
+		hotlistFilter.mightContain("id2", "DEVICE");
+		hotlistFilter.recordLookup(true);
+		hotlistFilter.recordLookup(false);
+		hotlistFilter.rebuild();
+		assertEquals(1d, registry.get("ida.hotlist.filter.negatives").functionCounter().count(), 0d);
+		assertEquals(1d, registry.get("ida.hotlist.filter.confirmed").functionCounter().count(), 0d);
+		assertEquals(1d, registry.get("ida.hotlist.filter.false-positives").functionCounter().count(), 0d);
+		assertEquals(1d, registry.get("ida.hotlist.filter.size").gauge().value(), 0d);
+		assertEquals(1L, registry.get("ida.hotlist.filter.rebuild").timer().count());
+	}
+
+	private void init(boolean enabled) {
+		init(enabled, 1048576L);
+	}
+
+	private void init(boolean enabled, long maxMemoryBytes) {
+		ReflectionTestUtils.setField(hotlistFilter, "enabled", enabled);
+		ReflectionTestUtils.setField(hotlistFilter, "falsePositiveProbability", 0.01);
+		ReflectionTestUtils.setField(hotlistFilter, "maxMemoryBytes", maxMemoryBytes);
+		ReflectionTestUtils.setField(hotlistFilter, "rebuildIntervalMillis", 1000L);
+		ReflectionTestUtils.setField(hotlistFilter, "maxStalenessMillis", 5000L);
+		ReflectionTestUtils.setField(hotlistFilter, "nanoTime", (LongSupplier) nanoTime::get);
+		hotlistFilter.init();
+	}
+
+	private HotlistCache createHotlistCache(String idHash, String idType) {
+		HotlistCache hotlistCache = new HotlistCache();
+		hotlistCache.setIdHash(idHash);
+		hotlistCache.setIdType(idType);
+		return hotlistCache;
+	}
+}
@@ -0,0 +1,145 @@
+package io.mosip.authentication.common.service.impl.hotlist;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.mosip.authentication.common.service.entity.HotlistCache;
+import io.mosip.authentication.common.service.repository.HotlistCacheRepository;
+import io.mosip.kernel.core.hotlist.constant.HotlistStatus;
+
+@RunWith(MockitoJUnitRunner.class)
+public class HotlistIndexTest {
+
+	@InjectMocks
+	private HotlistIndex hotlistIndex;
+
+	@Mock
+	private HotlistCacheRepository hotlistCacheRepo;
+
+	@Mock
+	private ThreadPoolTaskScheduler taskScheduler;
+
+	private final AtomicLong nanoTime = new AtomicLong();
+
+	@Test
+	public void testDisabledIndex() {
+		init(false);
+		assertFalse(hotlistIndex.isLoaded());
+		hotlistIndex.put(createHotlistCache("id1", "DEVICE"));
+		assertFalse(hotlistIndex.isLoaded());
+		Mockito.verifyZeroInteractions(hotlistCacheRepo, taskScheduler);
+	}
+
+	@Test
+	public void testLoadAndLookup() {
+		Mockito.when(hotlistCacheRepo.findAll()).thenReturn(List.of(createHotlistCache("id1", "DEVICE")));
+		init(true);
+		assertTrue(hotlistIndex.isLoaded());
+		assertEquals(HotlistStatus.BLOCKED, hotlistIndex.lookup("id1", "DEVICE").get().getStatus());
+		assertFalse(hotlistIndex.lookup("id1", "PARTNER_ID").isPresent());
+		assertFalse(hotlistIndex.lookup("id2", "DEVICE").isPresent());
+		Mockito.verify(taskScheduler).scheduleWithFixedDelay(Mockito.any(Runnable.class), Mockito.eq(1000L));
+	}
+
+	@Test
+	public void testNotLoadedWhenDatabaseFails() {
+		Mockito.when(hotlistCacheRepo.findAll()).thenThrow(new DataAccessResourceFailureException("down"));
+		init(true);
+		assertFalse(hotlistIndex.isLoaded());
+		Mockito.reset(hotlistCacheRepo);
+		Mockito.when(hotlistCacheRepo.findAll()).thenReturn(List.of(createHotlistCache("id1", "DEVICE")));
+		hotlistIndex.refresh();
+		assertTrue(hotlistIndex.lookup("id1", "DEVICE").isPresent());
+	}
+
+	@Test
+	public void testNotLoadedWhenStale() {
+		Mockito.when(hotlistCacheRepo.findAll()).thenReturn(List.of(createHotlistCache("id1", "DEVICE")));
+		init(true);
+		nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(5));
+		assertTrue(hotlistIndex.isLoaded());
+		Mockito.when(hotlistCacheRepo.findAll()).thenThrow(new DataAccessResourceFailureException("down"));
+		hotlistIndex.refresh();
+		nanoTime.incrementAndGet();
+		assertFalse(hotlistIndex.isLoaded());
+		Mockito.reset(hotlistCacheRepo);
+		Mockito.when(hotlistCacheRepo.findAll()).thenReturn(List.of(createHotlistCache("id1", "DEVICE")));
+		hotlistIndex.refresh();
+		assertTrue(hotlistIndex.isLoaded());
+	}
+
+	@Test
+	public void testUpdateInPlace() {
+		Mockito.when(hotlistCacheRepo.findAll()).thenReturn(List.of(createHotlistCache("id1", "DEVICE")));
+		init(true);
+		hotlistIndex.put(createHotlistCache("id2", "PARTNER_ID"));
+		hotlistIndex.remove("id1", "DEVICE");
+		assertTrue(hotlistIndex.lookup("id2", "PARTNER_ID").isPresent());
+		assertFalse(hotlistIndex.lookup("id1", "DEVICE").isPresent());
+		assertEquals(1, hotlistIndex.size());
+	}
+
+	@Test
+	public void testUpdateDuringReloadKept() {
+		Mockito.when(hotlistCacheRepo.findAll()).thenReturn(List.of(createHotlistCache("id1", "DEVICE")));
+		init(true);
+		Mockito.when(hotlistCacheRepo.findAll()).thenAnswer(invocation -> {
+			// Handled after the reload read the table
+			hotlistIndex.put(createHotlistCache("id2", "DEVICE"));
+			return List.of(createHotlistCache("id1", "DEVICE"));
+		});
+		hotlistIndex.refresh();
+		assertTrue(hotlistIndex.lookup("id2", "DEVICE").isPresent());
+		assertEquals(2, hotlistIndex.size());
+	}
+
+	@Test
+	public void testBindMetricsAndDestroy() {
+		ScheduledFuture<?> scheduledRefresh = Mockito.mock(ScheduledFuture.class);
+		Mockito.doReturn(scheduledRefresh).when(taskScheduler).scheduleWithFixedDelay(Mockito.any(Runnable.class),
+				Mockito.anyLong());
+		Mockito.when(hotlistCacheRepo.findAll()).thenReturn(List.of(createHotlistCache("id1", "DEVICE")));
+		init(true);
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		hotlistIndex.bindTo(registry);
+		hotlistIndex.refresh();
+		assertEquals(1d, registry.get("ida.hotlist.index.size").gauge().value(), 0d);
+		assertEquals(1L, registry.get("ida.hotlist.index.refresh").timer().count());
+		hotlistIndex.destroy();
+		Mockito.verify(scheduledRefresh).cancel(false);
+	}
+
+	private void init(boolean enabled) {
+		ReflectionTestUtils.setField(hotlistIndex, "enabled", enabled);
+		ReflectionTestUtils.setField(hotlistIndex, "refreshIntervalMillis", 1000L);
+		ReflectionTestUtils.setField(hotlistIndex, "maxStalenessMillis", 5000L);
+		ReflectionTestUtils.setField(hotlistIndex, "nanoTime", (LongSupplier) nanoTime::get);
+		hotlistIndex.init();
+	}
+
+	private HotlistCache createHotlistCache(String idHash, String idType) {
+		HotlistCache hotlistCache = new HotlistCache();
+		hotlistCache.setIdHash(idHash);
+		hotlistCache.setIdType(idType);
+		hotlistCache.setStatus(HotlistStatus.BLOCKED);
+		return hotlistCache;
+	}
+}
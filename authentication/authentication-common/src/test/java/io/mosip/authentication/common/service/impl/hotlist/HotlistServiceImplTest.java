@@ -3,6 +3,9 @@ package io.mosip.authentication.common.service.impl.hotlist;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.mosip.authentication.common.service.entity.HotlistCache;
 import io.mosip.authentication.common.service.repository.HotlistCacheRepository;
+import io.mosip.authentication.core.hotlist.dto.HotlistDTO;
+import io.mosip.authentication.core.hotlist.dto.HotlistIdDTO;
+import io.mosip.kernel.core.hotlist.constant.HotlistStatus;
 import io.mosip.kernel.core.websub.model.Event;
 import io.mosip.kernel.core.websub.model.EventModel;
 import org.junit.Before;
@@ -23,6 +26,8 @@ import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.*;
 
+import static org.junit.Assert.assertEquals;
+
 @RunWith(SpringRunner.class)
 @WebMvcTest
 @ContextConfiguration(classes = { TestContext.class, WebApplicationContext.class })
@@ -35,6 +40,12 @@ public class HotlistServiceImplTest {
     @Mock
     private HotlistCacheRepository hotlistCacheRepo;
 
+    @Mock
+    private HotlistIndex hotlistIndex;
+
+    @Mock
+    private HotlistFilter hotlistFilter;
+
     /** The object mapper. */
     @Autowired
     private ObjectMapper objectMapper;
@@ -44,6 +55,7 @@ public class HotlistServiceImplTest {
      */
     @Before
     public void Before(){
+        Mockito.when(hotlistFilter.mightContain(Mockito.any(), Mockito.any())).thenReturn(true);
     }
 
     @Test
@@ -112,6 +124,78 @@ public class HotlistServiceImplTest {
         ReflectionTestUtils.invokeMethod(hotlistServiceImpl, "getHotlistStatus", id, idType);
     }
 
+    /**
+     * This class tests the getHotlistStatus method with the hotlist index loaded
+     */
+    @Test
+    public void getHotlistStatusFromIndexTest(){
+        HotlistCache hotlistCache = new HotlistCache();
+        hotlistCache.setStatus(HotlistStatus.BLOCKED);
+        Mockito.when(hotlistIndex.isLoaded()).thenReturn(true);
+        Mockito.when(hotlistIndex.lookup("idHash", "DEVICE")).thenReturn(Optional.of(hotlistCache));
+        Mockito.when(hotlistIndex.lookup("idHash2", "DEVICE")).thenReturn(Optional.empty());
+        assertEquals(HotlistStatus.BLOCKED, hotlistServiceImpl.getHotlistStatus("idHash", "DEVICE").getStatus());
+        assertEquals(HotlistStatus.UNBLOCKED, hotlistServiceImpl.getHotlistStatus("idHash2", "DEVICE").getStatus());
+        Mockito.verify(hotlistCacheRepo, Mockito.never()).findByIdHashAndIdType(Mockito.any(), Mockito.any());
+    }
+
+    /**
+     * This class tests the getHotlistStatus method for many ids at once
+     */
+    @Test
+    public void getHotlistStatusBatchTest(){
+        HotlistCache hotlistCache = new HotlistCache();
+        hotlistCache.setIdHash("idHash1");
+        hotlistCache.setIdType("DEVICE");
+        hotlistCache.setStatus(HotlistStatus.BLOCKED);
+        HotlistIdDTO device1 = new HotlistIdDTO("idHash1", "DEVICE");
+        HotlistIdDTO partner1 = new HotlistIdDTO("idHash1", "PARTNER_ID");
+        HotlistIdDTO device2 = new HotlistIdDTO("idHash2", "DEVICE");
+        HotlistIdDTO device3 = new HotlistIdDTO("idHash3", "DEVICE");
+        Mockito.when(hotlistFilter.mightContain("idHash3", "DEVICE")).thenReturn(false);
+        Mockito.when(hotlistCacheRepo.findByIdHashIn(Set.of("idHash1", "idHash2"))).thenReturn(List.of(hotlistCache));
+        Map<HotlistIdDTO, HotlistDTO> hotlistStatus = hotlistServiceImpl
+                .getHotlistStatus(List.of(device1, partner1, device2, device1, device3));
+        assertEquals(4, hotlistStatus.size());
+        assertEquals(HotlistStatus.BLOCKED, hotlistStatus.get(device1).getStatus());
+        assertEquals(HotlistStatus.UNBLOCKED, hotlistStatus.get(partner1).getStatus());
+        assertEquals(HotlistStatus.UNBLOCKED, hotlistStatus.get(device2).getStatus());
+        assertEquals(HotlistStatus.UNBLOCKED, hotlistStatus.get(device3).getStatus());
+        Mockito.verify(hotlistCacheRepo, Mockito.times(1)).findByIdHashIn(Mockito.any());
+        Mockito.verify(hotlistCacheRepo, Mockito.never()).findByIdHashAndIdType(Mockito.any(), Mockito.any());
+        Mockito.verify(hotlistFilter, Mockito.times(3)).recordLookup(Mockito.anyBoolean());
+    }
+
+    /**
+     * This class tests the getHotlistStatus method for many ids with the hotlist index loaded
+     */
+    @Test
+    public void getHotlistStatusBatchFromIndexTest(){
+        HotlistCache hotlistCache = new HotlistCache();
+        hotlistCache.setStatus(HotlistStatus.BLOCKED);
+        HotlistIdDTO device1 = new HotlistIdDTO("idHash1", "DEVICE");
+        HotlistIdDTO device2 = new HotlistIdDTO("idHash2", "DEVICE");
+        Mockito.when(hotlistIndex.isLoaded()).thenReturn(true);
+        Mockito.when(hotlistIndex.lookup("idHash1", "DEVICE")).thenReturn(Optional.of(hotlistCache));
+        Mockito.when(hotlistIndex.lookup("idHash2", "DEVICE")).thenReturn(Optional.empty());
+        Map<HotlistIdDTO, HotlistDTO> hotlistStatus = hotlistServiceImpl.getHotlistStatus(List.of(device1, device2));
+        assertEquals(HotlistStatus.BLOCKED, hotlistStatus.get(device1).getStatus());
+        assertEquals(HotlistStatus.UNBLOCKED, hotlistStatus.get(device2).getStatus());
+        Mockito.verify(hotlistCacheRepo, Mockito.never()).findByIdHashIn(Mockito.any());
+    }
+
+    /**
+     * This class tests the getHotlistStatus method when the hotlist filter rules out the id
+     */
+    @Test
+    public void getHotlistStatusFilteredTest(){
+        Mockito.when(hotlistFilter.mightContain("idHash", "DEVICE")).thenReturn(false);
+        assertEquals(HotlistStatus.UNBLOCKED, hotlistServiceImpl.getHotlistStatus("idHash", "DEVICE").getStatus());
+        Mockito.verify(hotlistCacheRepo, Mockito.never()).findByIdHashAndIdType(Mockito.any(), Mockito.any());
+        Mockito.verify(hotlistIndex, Mockito.never()).lookup(Mockito.any(), Mockito.any());
+        Mockito.verify(hotlistFilter, Mockito.never()).recordLookup(Mockito.anyBoolean());
+    }
+
     /**
      * This class tests the handlingHotlistEvent method
      * @throws IOException
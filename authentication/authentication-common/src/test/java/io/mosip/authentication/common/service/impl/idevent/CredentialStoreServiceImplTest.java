@@ -29,6 +29,10 @@ import org.springframework.web.context.WebApplicationContext;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.mosip.authentication.common.service.cache.IdHashSaltTable;
+import io.mosip.authentication.common.service.cache.BirGalleryCache;
+import io.mosip.authentication.common.service.cache.IdentityDataCache;
+import io.mosip.authentication.common.service.cache.NormalizedTextCache;
 import io.mosip.authentication.common.service.entity.CredentialEventStore;
 import io.mosip.authentication.common.service.entity.IdentityEntity;
 import io.mosip.authentication.common.service.helper.AuditHelper;
@@ -83,6 +87,18 @@ public class CredentialStoreServiceImplTest {
     @Mock
     private IdAuthSecurityManager securityManager;
 
+    @Mock
+    private IdentityDataCache identityDataCache;
+
+    @Mock
+    private BirGalleryCache birGalleryCache;
+
+    @Mock
+    private NormalizedTextCache normalizedTextCache;
+
+    @Mock
+    private IdHashSaltTable idHashSaltTable;
+
     @Autowired
     private ObjectMapper objectMapper;
 
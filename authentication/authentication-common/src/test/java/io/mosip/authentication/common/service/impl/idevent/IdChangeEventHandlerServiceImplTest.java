@@ -15,6 +15,9 @@ import org.springframework.test.context.TestContext;
 import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.web.context.WebApplicationContext;
 
+import io.mosip.authentication.common.service.cache.BirGalleryCache;
+import io.mosip.authentication.common.service.cache.IdentityDataCache;
+import io.mosip.authentication.common.service.cache.NormalizedTextCache;
 import io.mosip.authentication.common.service.helper.AuditHelper;
 import io.mosip.authentication.common.service.repository.IdentityCacheRepository;
 import io.mosip.authentication.common.service.spi.idevent.CredentialStoreService;
@@ -40,6 +43,15 @@ public class IdChangeEventHandlerServiceImplTest {
 	@Mock
 	private CredentialStoreService credStorService;
 
+	@Mock
+	private IdentityDataCache identityDataCache;
+
+	@Mock
+	private BirGalleryCache birGalleryCache;
+
+	@Mock
+	private NormalizedTextCache normalizedTextCache;
+
 	private static final String IDA = "IDA";
 
 	private static final String EXPIRY_TIME = "expiry_timestamp";
@@ -24,10 +24,12 @@ import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.web.context.WebApplicationContext;
 
 import io.mosip.authentication.common.service.util.EnvUtil;
+import io.mosip.authentication.core.constant.IdAuthCommonConstants;
 import io.mosip.authentication.core.exception.IdAuthenticationBusinessException;
 import io.mosip.authentication.core.spi.indauth.match.MasterDataFetcher;
 import io.mosip.authentication.core.spi.indauth.match.MatchFunction;
 import io.mosip.authentication.core.spi.indauth.match.MatchingStrategyType;
+import io.mosip.authentication.core.spi.indauth.match.NormalizationMemo;
 import io.mosip.authentication.core.util.DemoMatcherUtil;
 import io.mosip.authentication.core.util.DemoNormalizer;
 
@@ -108,6 +110,22 @@ public class NameMatchingStrategyTest {
 		assertEquals(100, value);
 	}
 
+	@Test
+	public void TestExactMatchingStrategyFunctionWithNormalizationMemo() throws IdAuthenticationBusinessException {
+		MatchFunction matchFunction = NameMatchingStrategy.EXACT.getMatchFunction();
+		NormalizationMemo normalizationMemo = Mockito.mock(NormalizationMemo.class);
+		Mockito.when(normalizationMemo.normalizeRequestText(Mockito.eq("name"), Mockito.eq("fra"),
+				Mockito.eq("Mr dinesh"), Mockito.any())).thenReturn("dinesh");
+		Mockito.when(normalizationMemo.normalizeEntityText(Mockito.eq("name"), Mockito.eq("fra"),
+				Mockito.eq("Dr dinesh"), Mockito.any())).thenReturn("dinesh");
+		Mockito.when(demoMatcherUtil.doExactMatch("dinesh", "dinesh")).thenReturn(100);
+		Map<String, Object> props = getFetcher();
+		props.put(IdAuthCommonConstants.NORMALIZATION_MEMO, normalizationMemo);
+		assertEquals(100, matchFunction.match("Mr dinesh", "Dr dinesh", props));
+		Mockito.verify(demoNormalizer, Mockito.never()).normalizeName(Mockito.anyString(), Mockito.anyString(),
+				Mockito.any());
+	}
+
 	private Map<String, Object> getFetcher() {
 		HashMap<String, Object> valuemap = new HashMap<>();
 		valuemap.put("demoNormalizer", demoNormalizer);
@@ -0,0 +1,96 @@
+package io.mosip.authentication.common.service.impl.notification;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.mosip.authentication.core.constant.IdAuthenticationErrorConstants;
+import io.mosip.authentication.core.exception.IdAuthenticationBusinessException;
+
+public class AuthNotificationQueueTest {
+
+	private AuthNotificationQueue authNotificationQueue = new AuthNotificationQueue();
+
+	@After
+	public void after() {
+		authNotificationQueue.destroy();
+	}
+
+	@Test
+	public void testDisabledQueue() {
+		init(false, 10);
+		assertFalse(authNotificationQueue.isEnabled());
+		assertEquals(0, authNotificationQueue.size());
+	}
+
+	@Test
+	public void testSentOnWorker() throws InterruptedException {
+		init(true, 10);
+		CountDownLatch sent = new CountDownLatch(1);
+		Thread requestThread = Thread.currentThread();
+		authNotificationQueue.submit(() -> {
+			if (Thread.currentThread() != requestThread) {
+				sent.countDown();
+			}
+		});
+		assertTrue(sent.await(5, TimeUnit.SECONDS));
+	}
+
+	@Test
+	public void testDropWhenFull() throws InterruptedException {
+		init(true, 1);
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		authNotificationQueue.bindTo(registry);
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		authNotificationQueue.submit(() -> {
+			started.countDown();
+			await(release);
+		});
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+		authNotificationQueue.submit(() -> {});
+		authNotificationQueue.submit(() -> {});
+		assertEquals(1, authNotificationQueue.getDroppedCount());
+		assertEquals(1d, registry.get("ida.auth-notification.queue.size").gauge().value(), 0d);
+		assertEquals(1d, registry.get("ida.auth-notification.queue.dropped").functionCounter().count(), 0d);
+		release.countDown();
+		authNotificationQueue.destroy();
+		assertEquals(2L, registry.get("ida.auth-notification.queue.send").timer().count());
+	}
+
+	@Test
+	public void testFailedNotificationCounted() throws InterruptedException {
+		init(true, 10);
+		authNotificationQueue.submit(() -> {
+			throw new IdAuthenticationBusinessException(IdAuthenticationErrorConstants.UNABLE_TO_PROCESS);
+		});
+		authNotificationQueue.submit(() -> {
+			throw new IllegalStateException("render failed");
+		});
+		authNotificationQueue.destroy();
+		assertEquals(2, authNotificationQueue.getFailedCount());
+	}
+
+	private void init(boolean enabled, int capacity) {
+		ReflectionTestUtils.setField(authNotificationQueue, "enabled", enabled);
+		ReflectionTestUtils.setField(authNotificationQueue, "capacity", capacity);
+		ReflectionTestUtils.setField(authNotificationQueue, "threadCount", 1);
+		authNotificationQueue.init();
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
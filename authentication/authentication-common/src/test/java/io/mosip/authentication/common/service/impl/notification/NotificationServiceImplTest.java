@@ -21,6 +21,7 @@ import org.junit.Before;
 import org.junit.Ignore;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
@@ -92,6 +93,9 @@ public class NotificationServiceImplTest {
 
 	@Mock
 	private NotificationManager notificationManager;
+
+	@Mock
+	private AuthNotificationQueue authNotificationQueue;
 	@Mock
 	private IdInfoFetcher idInfoFetcher;
 
@@ -214,6 +218,44 @@ public class NotificationServiceImplTest {
 		notificationService.sendAuthNotification(authRequestDTO, uin, authResponseDTO, idInfo, true);
 	}
 
+	@Test
+	public void TestAuthNotificationQueued()
+			throws IdAuthenticationBusinessException, IdAuthenticationDaoException, IOException {
+		AuthRequestDTO authRequestDTO = new AuthRequestDTO();
+		AuthResponseDTO authResponseDTO = new AuthResponseDTO();
+		ResponseDTO res = new ResponseDTO();
+		res.setAuthStatus(Boolean.TRUE);
+		authResponseDTO.setResponse(res);
+		authResponseDTO.setResponseTime(DateUtils.getUTCCurrentDateTimeString("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'"));
+		List<IdentityInfoDTO> list = new ArrayList<IdentityInfoDTO>();
+		list.add(new IdentityInfoDTO("en", "mosip"));
+		Map<String, List<IdentityInfoDTO>> idInfo = new HashMap<>();
+		idInfo.put("name", list);
+		Mockito.when(demoHelper.getEntityInfoAsString(DemoMatchType.EMAIL, idInfo)).thenReturn("mosip");
+		Mockito.when(demoHelper.getEntityInfoAsString(DemoMatchType.PHONE, idInfo)).thenReturn("mosip");
+		Mockito.when(idTemplateManager.applyTemplate(Mockito.anyString(), Mockito.any(), Mockito.any()))
+				.thenReturn("test");
+		Mockito.when(authNotificationQueue.isEnabled()).thenReturn(true);
+
+		notificationService.sendAuthNotification(authRequestDTO, "274390482564", authResponseDTO, idInfo, false);
+		Mockito.verify(authNotificationQueue, Mockito.never()).submit(Mockito.any());
+
+		notificationService.sendAuthNotification(authRequestDTO, "274390482564", authResponseDTO, idInfo, true);
+		ArgumentCaptor<AuthNotificationQueue.NotificationTask> captor = ArgumentCaptor
+				.forClass(AuthNotificationQueue.NotificationTask.class);
+		Mockito.verify(authNotificationQueue).submit(captor.capture());
+		Mockito.verify(idTemplateManager, Mockito.never()).applyTemplate(Mockito.anyString(), Mockito.any(),
+				Mockito.any());
+		// The identity data is read before queuing, the queued task does not hold it
+		Mockito.verify(demoHelper).getEntityInfoAsString(DemoMatchType.EMAIL, idInfo);
+
+		Mockito.clearInvocations(demoHelper);
+		captor.getValue().send();
+		Mockito.verifyZeroInteractions(demoHelper);
+		Mockito.verify(idTemplateManager, Mockito.atLeastOnce()).applyTemplate(Mockito.anyString(), Mockito.any(),
+				Mockito.any());
+	}
+
 	@Test
 	public void testSendOtpNotification()
 			throws IdAuthenticationBusinessException, IdAuthenticationDaoException, IOException {
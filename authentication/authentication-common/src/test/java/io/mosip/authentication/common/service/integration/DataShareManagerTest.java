@@ -1,12 +1,27 @@
 package io.mosip.authentication.common.service.integration;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
 import java.util.Map;
 
+import javax.crypto.Cipher;
+import javax.crypto.KeyGenerator;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -21,16 +36,22 @@ import org.springframework.test.context.TestContext;
 import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.reactive.function.client.WebClient;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
 
 import io.mosip.authentication.common.service.factory.RestRequestFactory;
 import io.mosip.authentication.common.service.transaction.manager.IdAuthSecurityManager;
+import io.mosip.authentication.core.constant.IdAuthenticationErrorConstants;
 import io.mosip.authentication.core.constant.RestServicesConstants;
 import io.mosip.authentication.core.exception.IdAuthUncheckedException;
 import io.mosip.authentication.core.exception.IdAuthenticationBusinessException;
 import io.mosip.idrepository.core.dto.RestRequestDTO;
+import io.mosip.idrepository.core.exception.RestServiceException;
 import io.mosip.idrepository.core.helper.RestHelper;
+import io.mosip.kernel.cryptomanager.constant.CryptomanagerConstant;
+import io.mosip.kernel.cryptomanager.util.CryptomanagerUtils;
 
 @RunWith(SpringRunner.class)
 @ContextConfiguration(classes = { TestContext.class, WebApplicationContext.class })
@@ -49,9 +70,14 @@ public class DataShareManagerTest {
 	@Autowired
 	private ObjectMapper mapper;
 	
+	@Mock
+	private CryptomanagerUtils cryptomanagerUtils;
+
 	@InjectMocks
 	private DataShareManager dataShareManager;
 
+	private HttpServer server;
+
 	@Before
 	public void setUp() throws Exception {
 		ReflectionTestUtils.setField(dataShareManager, "mapper", mapper);
@@ -61,7 +87,9 @@ public class DataShareManagerTest {
 
 	@After
 	public void tearDown() throws Exception {
-
+		if (server != null) {
+			server.stop(0);
+		}
 	}
 
 	private DataShareManager getTestSubject() {
@@ -206,4 +234,112 @@ public class DataShareManagerTest {
 		when(securityManager.decrypt(Mockito.anyString(), Mockito.anyString(), isNull(), isNull(), Mockito.anyBoolean())).thenReturn(responseStr.getBytes());
 		testSubject.downloadObject(dataShareUrl, clazz, decryptionRequred);
 	}
+	
+	@Test
+	public void testDownloadObject_streaming_largeObject() throws Exception {
+		Map<String, Object> credential = new HashMap<>();
+		credential.put("UIN", "2345678901");
+		credential.put("biometrics", createBiometrics(8 * 1024 * 1024));
+		byte[] encrypted = encrypt(mapper.writeValueAsBytes(credential), false);
+		String dataShareUrl = startServer(200, encrypted);
+
+		Map<?, ?> result = getStreamingTestSubject().downloadObject(dataShareUrl, Map.class, true);
+		assertEquals(credential, result);
+		Mockito.verifyZeroInteractions(restHelper);
+	}
+	
+	@Test
+	public void testDownloadObject_streaming_tamperedData() throws Exception {
+		byte[] encrypted = encrypt(mapper.writeValueAsBytes(Map.of("biometrics", createBiometrics(1024 * 1024))), true);
+		String dataShareUrl = startServer(200, encrypted);
+		try {
+			getStreamingTestSubject().downloadObject(dataShareUrl, Map.class, true);
+			fail();
+		} catch (IdAuthenticationBusinessException e) {
+			assertEquals(IdAuthenticationErrorConstants.INVALID_ENCRYPTION.getErrorCode(), e.getErrorCode());
+		}
+	}
+	
+	@Test(expected = IdAuthUncheckedException.class)
+	public void testDownloadObject_streaming_errorResponse() throws Exception {
+		String response = "{ \"errors\":[{\"errorCode\":\"DAT-SER-006\",\"errorMessage\":\"Data share usuage expired\"}]}";
+		String dataShareUrl = startServer(200, response.getBytes(StandardCharsets.UTF_8));
+		getStreamingTestSubject().downloadObject(dataShareUrl, Map.class, true);
+	}
+	
+	@Test(expected = RestServiceException.class)
+	public void testDownloadObject_streaming_serverError() throws Exception {
+		String dataShareUrl = startServer(500, "{}".getBytes(StandardCharsets.UTF_8));
+		getStreamingTestSubject().downloadObject(dataShareUrl, Map.class, true);
+	}
+
+	private DataShareManager getStreamingTestSubject() {
+		IdAuthSecurityManager streamingSecurityManager = new IdAuthSecurityManager();
+		ReflectionTestUtils.setField(streamingSecurityManager, "cryptomanagerUtils", cryptomanagerUtils);
+		ReflectionTestUtils.setField(streamingSecurityManager, "keySplitter", "#KEY_SPLITTER#");
+		ReflectionTestUtils.setField(streamingSecurityManager, "symmetricAlgorithm", "AES/GCM/PKCS5Padding");
+		ReflectionTestUtils.setField(streamingSecurityManager, "gcmTagLength", 128);
+		ReflectionTestUtils.setField(dataShareManager, "securityManager", streamingSecurityManager);
+		ReflectionTestUtils.setField(dataShareManager, "webClient", WebClient.create());
+		ReflectionTestUtils.setField(dataShareManager, "streamingEnabled", true);
+		ReflectionTestUtils.setField(dataShareManager, "dataShareGetDecryptRefId", "ds_ref_id_sample");
+		return dataShareManager;
+	}
+
+	/**
+	 * Starts a local HTTP stub serving the response in chunks.
+	 */
+	private String startServer(int status, byte[] response) throws IOException {
+		server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		server.createContext("/datashare", exchange -> {
+			exchange.sendResponseHeaders(status, 0);
+			try (OutputStream body = exchange.getResponseBody()) {
+				for (int offset = 0; offset < response.length; offset += 8192) {
+					body.write(response, offset, Math.min(8192, response.length - offset));
+				}
+			}
+		});
+		server.start();
+		return "http://localhost:" + server.getAddress().getPort() + "/datashare";
+	}
+
+	private static String createBiometrics(int length) {
+		byte[] biometrics = new byte[length * 3 / 4];
+		new SecureRandom().nextBytes(biometrics);
+		return Base64.getUrlEncoder().encodeToString(biometrics);
+	}
+
+	/**
+	 * Encrypts the data in the format of the crypto manager, base64 URL encoded.
+	 */
+	private byte[] encrypt(byte[] data, boolean tamper) throws Exception {
+		KeyGenerator keyGenerator = KeyGenerator.getInstance("AES");
+		keyGenerator.init(256);
+		SecretKey symmetricKey = keyGenerator.generateKey();
+		byte[] encryptedKey = new byte[32 + 256];
+		Arrays.fill(encryptedKey, (byte) 1);
+		when(cryptomanagerUtils.hasKeyAccess(any())).thenReturn(true);
+		when(cryptomanagerUtils.parseEncryptKeyHeader(any())).thenReturn(CryptomanagerConstant.VERSION_RSA_2048);
+		when(cryptomanagerUtils.getDecryptedSymmetricKey(Mockito.argThat(request -> Base64.getUrlEncoder()
+				.withoutPadding().encodeToString(encryptedKey).equals(request.getData())))).thenReturn(symmetricKey);
+
+		byte[] aad = new byte[CryptomanagerConstant.GCM_AAD_LENGTH];
+		new SecureRandom().nextBytes(aad);
+		Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+		cipher.init(Cipher.ENCRYPT_MODE, symmetricKey,
+				new GCMParameterSpec(128, Arrays.copyOf(aad, CryptomanagerConstant.GCM_NONCE_LENGTH)));
+		cipher.updateAAD(aad);
+		byte[] encryptedData = cipher.doFinal(data);
+		if (tamper) {
+			encryptedData[encryptedData.length / 2] ^= 1;
+		}
+
+		ByteArrayOutputStream encrypted = new ByteArrayOutputStream();
+		encrypted.write(CryptomanagerConstant.VERSION_RSA_2048);
+		encrypted.write(encryptedKey);
+		encrypted.write("#KEY_SPLITTER#".getBytes(StandardCharsets.UTF_8));
+		encrypted.write(aad);
+		encrypted.write(encryptedData);
+		return Base64.getUrlEncoder().withoutPadding().encode(encrypted.toByteArray());
+	}
 }
\ No newline at end of file
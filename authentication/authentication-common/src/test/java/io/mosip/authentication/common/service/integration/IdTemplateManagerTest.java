@@ -1,5 +1,6 @@
 package io.mosip.authentication.common.service.integration;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
@@ -36,6 +37,7 @@ import org.springframework.web.context.WebApplicationContext;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.mosip.authentication.common.service.cache.CompiledTemplateCache;
 import io.mosip.authentication.common.service.cache.MasterDataCache;
 import io.mosip.authentication.common.service.factory.RestRequestFactory;
 import io.mosip.authentication.common.service.impl.IdInfoFetcherImpl;
@@ -95,6 +97,9 @@ public class IdTemplateManagerTest {
 	@Mock
 	private IdInfoFetcher idInfoFetcher;
 
+	@Mock
+	private CompiledTemplateCache compiledTemplateCache;
+
 	/** UTF type. */
 	private static final String ENCODE_TYPE = "UTF-8";
 
@@ -182,6 +187,33 @@ public class IdTemplateManagerTest {
 		assertNotNull(idTemplateManager.applyTemplate(AUTH_SMS, valueMap, templateLanguages));
 	}
 
+	@Test
+	public void TestApplyCompiledTemplate() throws IOException, IdAuthenticationBusinessException, RestServiceException {
+		CompiledTemplateCache enabledCache = new CompiledTemplateCache();
+		ReflectionTestUtils.setField(enabledCache, "enabled", true);
+		ReflectionTestUtils.setField(enabledCache, "maxSize", 10);
+		enabledCache.init();
+		ReflectionTestUtils.setField(idTemplateManager, "compiledTemplateCache", enabledCache);
+		ReflectionTestUtils.setField(masterDataCache, "compiledTemplateCache", enabledCache);
+		idTemplateManager.idTemplateManagerPostConstruct();
+		mockRestCalls();
+		Map<String, Object> valueMap = new HashMap<>();
+		valueMap.put("uin", "1234567890");
+		valueMap.put("otp", "123456");
+		valueMap.put("validTime", "3");
+		String expected = "OTP pour UIN 1234567890 est 123456 et est valide pour 3 minutes.";
+		assertTrue(idTemplateManager.applyTemplate(AUTH_SMS, valueMap, templateLanguages).startsWith(expected));
+		valueMap.put("otp", "654321");
+		assertTrue(idTemplateManager.applyTemplate(AUTH_SMS, valueMap, templateLanguages)
+				.startsWith("OTP pour UIN 1234567890 est 654321"));
+		Mockito.verify(restHelper, Mockito.times(1)).requestSync(Mockito.any());
+
+		masterDataCache.clearMasterDataTemplateCache(AUTH_SMS);
+		assertEquals(idTemplateManager.applyTemplate(AUTH_SMS, valueMap, templateLanguages),
+				idTemplateManager.applyTemplate(AUTH_SMS, valueMap, templateLanguages));
+		Mockito.verify(restHelper, Mockito.times(2)).requestSync(Mockito.any());
+	}
+
 	@Test(expected = FileNotFoundException.class)
 	public void testInvalidPdfGeneration() throws IOException {
 		InputStream is = new FileInputStream("dummy1.html");
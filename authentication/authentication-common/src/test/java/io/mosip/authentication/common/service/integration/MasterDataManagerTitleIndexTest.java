@@ -0,0 +1,64 @@
+package io.mosip.authentication.common.service.integration;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import io.mosip.authentication.common.service.cache.MasterDataCache;
+import io.mosip.authentication.core.exception.IdAuthenticationBusinessException;
+
+@RunWith(MockitoJUnitRunner.class)
+public class MasterDataManagerTitleIndexTest {
+
+	@InjectMocks
+	private MasterDataManager masterDataManager;
+
+	@Mock
+	private MasterDataCache masterDataCache;
+
+	@Test
+	public void testTitlesIndexedByLanguage() throws IdAuthenticationBusinessException {
+		Mockito.when(masterDataCache.getMasterDataTitles()).thenReturn(createTitles("Mr", "Dr"));
+		Map<String, List<String>> titles = masterDataManager.fetchTitles();
+		assertEquals(Map.of("eng", List.of("Mr", "Dr"), "ara", List.of("Mr"), "fra", List.of("M")), titles);
+	}
+
+	@Test
+	public void testIndexReusedUntilTitlesCleared() throws IdAuthenticationBusinessException {
+		Mockito.when(masterDataCache.getMasterDataTitles()).thenReturn(createTitles("Mr", "Dr"),
+				createTitles("Mr", "Prof"));
+		Map<String, List<String>> titles = masterDataManager.fetchTitles();
+		assertSame(titles, masterDataManager.fetchTitles());
+		Mockito.verify(masterDataCache, Mockito.times(1)).getMasterDataTitles();
+
+		Mockito.when(masterDataCache.getTitlesVersion()).thenReturn(1L);
+		Map<String, List<String>> newTitles = masterDataManager.fetchTitles();
+		assertNotSame(titles, newTitles);
+		assertEquals(List.of("Mr", "Prof"), newTitles.get("eng"));
+		assertSame(newTitles, masterDataManager.fetchTitles());
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testIndexImmutable() throws IdAuthenticationBusinessException {
+		Mockito.when(masterDataCache.getMasterDataTitles()).thenReturn(createTitles("Mr", "Dr"));
+		masterDataManager.fetchTitles().get("eng").add("Sir");
+	}
+
+	private Map<String, Object> createTitles(String engTitle1, String engTitle2) {
+		return Map.of("response", Map.of("titleList", List.of(
+				Map.of("langCode", "eng", "titleName", engTitle1),
+				Map.of("langCode", "ara", "titleName", "Mr"),
+				Map.of("langCode", "eng", "titleName", engTitle2),
+				Map.of("langCode", "fra", "titleName", "M"))));
+	}
+}
@@ -47,6 +47,7 @@ import io.mosip.authentication.core.exception.IdAuthenticationBusinessException;
 import io.mosip.authentication.core.indauth.dto.IdType;
 import io.mosip.authentication.core.otp.dto.OtpRequestDTO;
 import io.mosip.authentication.core.spi.notification.service.NotificationService;
+import io.mosip.authentication.core.spi.otp.service.OtpGenerator;
 import io.mosip.idrepository.core.constant.IdRepoErrorConstants;
 import io.mosip.idrepository.core.dto.RestRequestDTO;
 import io.mosip.idrepository.core.exception.RestServiceException;
@@ -132,6 +133,18 @@ public class OTPManagerTest {
 		assertEquals(sendOtpResponse, true);
 	}
 
+	@Test
+	public void sendOtpWithOtpGeneratorTest() throws RestServiceException, IdAuthenticationBusinessException {
+		ReflectionTestUtils.setField(otpManager, "otpGenerator", (OtpGenerator) key -> "111111");
+		OtpRequestDTO otpRequestDTO = getOtpRequestDto();
+		boolean sendOtpResponse = otpManager.sendOtp(otpRequestDTO, "426789089018", "UIN", new HashMap<>(),
+				templateLanguages);
+		assertEquals(true, sendOtpResponse);
+		Mockito.verifyZeroInteractions(restHelper);
+		Mockito.verify(notificationService).sendOTPNotification(Mockito.eq("426789089018"), Mockito.eq("UIN"),
+				Mockito.any(), Mockito.any(), Mockito.eq("111111"), Mockito.any(), Mockito.any());
+	}
+
 	@Test(expected = IdAuthUncheckedException.class)
 	public void sendOtpNullResponseExceptionTest() throws RestServiceException, IdAuthenticationBusinessException {
 		OtpGeneratorRequestDto otpGeneratorRequestDto = getOtpGeneratorRequestDto();
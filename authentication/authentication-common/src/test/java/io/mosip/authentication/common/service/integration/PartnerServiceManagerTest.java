@@ -28,6 +28,7 @@ import org.springframework.web.context.WebApplicationContext;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.mosip.authentication.common.service.cache.PartnerPolicyCache;
 import io.mosip.authentication.common.service.entity.ApiKeyData;
 import io.mosip.authentication.common.service.entity.MispLicenseData;
 import io.mosip.authentication.common.service.entity.PartnerData;
@@ -88,6 +89,9 @@ public class PartnerServiceManagerTest {
 	@Mock
 	private OIDCClientDataRepository oidcClientDataRepo; 
 
+	@Mock
+	private PartnerPolicyCache partnerPolicyCache;
+
 	@InjectMocks
 	private PartnerServiceManager partnerServiceManager;
 
@@ -160,6 +164,54 @@ public class PartnerServiceManagerTest {
 		assertEquals(partnerPolicyResponseDTO, partnerServiceManager.validateAndGetPolicy("1635497344579", "591856","rtaCBxYlsrWeuYpLgfUFT5ic6LetsOZzbvxBEe8yR5FCKkEsvQ", true, "RFVNTVktQ0VSVElGSUNBVEUtREFUQQ", false));
 	}
 
+	@Test
+	public void validateAndGetPolicyFromCacheTest() throws IdAuthenticationBusinessException, Exception {
+		PartnerPolicyCache cache = new PartnerPolicyCache();
+		ReflectionTestUtils.setField(cache, "enabled", true);
+		ReflectionTestUtils.setField(cache, "maxSize", 10);
+		ReflectionTestUtils.setField(cache, "ttlSeconds", 60L);
+		cache.init();
+		ReflectionTestUtils.setField(partnerServiceManager, "partnerPolicyCache", cache);
+
+		String partnerMappingObj = "{\"partnerId\":\"1635497344579\",\"policyId\":\"644269\",\"apiKeyId\":\"591856\",\"partnerData\":{\"partnerId\":\"1635497344579\",\"partnerName\":\"1635497344579\",\"certificateData\":\"data\",\"partnerStatus\":\"ACTIVE\"},\"policyData\":{\"policyId\":\"644269\",\"policyName\":\"policy 1635497343191\",\"policyDescription\":\"Auth Policy\",\"policyStatus\":\"ACTIVE\",\"policyCommenceOn\":\"2021-10-10T06:12:52.994Z\",\"policy\":{\"allowedAuthTypes\":[{\"authType\":\"otp\",\"authSubType\":\"\",\"mandatory\":true}]}},\"apiKeyData\":{\"apiKeyId\":\"591856\",\"apiKeyStatus\":\"ACTIVE\",\"apiKeyCommenceOn\":\"2021-10-10T06:12:52.994Z\"}}";
+		String mispLicenseDataObj = "{\"mispId\":\"1635497344579\",\"licenseKey\":\"licenseKey\",\"mispCommenceOn\":\"2021-10-10T06:12:52.994Z\",\"mispStatus\":\"ACTIVE\"}";
+		PartnerMapping partnerMapping = mapper.readValue(partnerMappingObj, PartnerMapping.class);
+		MispLicenseData mispLicenseData = mapper.readValue(mispLicenseDataObj, MispLicenseData.class);
+		LocalDateTime plusHours = LocalDateTime.now().plusHours(1);
+		partnerMapping.getPolicyData().setPolicyExpiresOn(plusHours);
+		partnerMapping.getApiKeyData().setApiKeyExpiresOn(plusHours);
+		mispLicenseData.setMispExpiresOn(plusHours);
+		Mockito.when(partnerMappingRepo.findByPartnerIdAndApiKeyId("1635497344579", "591856"))
+				.thenReturn(Optional.of(partnerMapping));
+		Mockito.when(mispLicDataRepo.findByLicenseKey("licenseKey")).thenReturn(Optional.of(mispLicenseData));
+
+		PartnerPolicyResponseDTO response = partnerServiceManager.validateAndGetPolicy("1635497344579", "591856",
+				"licenseKey", false, null, false);
+		PartnerPolicyResponseDTO cachedResponse = partnerServiceManager.validateAndGetPolicy("1635497344579",
+				"591856", "licenseKey", false, null, false);
+		assertEquals(response, cachedResponse);
+		assertEquals("otp", cachedResponse.getPolicy().getAllowedAuthTypes().get(0).getAuthType());
+		Mockito.verify(partnerMappingRepo, Mockito.times(1)).findByPartnerIdAndApiKeyId("1635497344579", "591856");
+
+		// expiry is validated on every request, even when cached
+		partnerMapping.getApiKeyData().setApiKeyExpiresOn(LocalDateTime.now().minusHours(1));
+		try {
+			partnerServiceManager.validateAndGetPolicy("1635497344579", "591856", "licenseKey", false, null, false);
+			Assert.fail();
+		} catch (IdAuthenticationBusinessException e) {
+			assertEquals(IdAuthenticationErrorConstants.PARTNER_NOT_REGISTERED.getErrorCode(), e.getErrorCode());
+		}
+		partnerMapping.getApiKeyData().setApiKeyExpiresOn(plusHours);
+
+		HashMap<String, Object> data = new HashMap<String, Object>();
+		data.put("policyData", partnerMapping.getPolicyData());
+		event.setData(data);
+		eventModel.setEvent(event);
+		partnerServiceManager.updatePolicyData(eventModel);
+		partnerServiceManager.validateAndGetPolicy("1635497344579", "591856", "licenseKey", false, null, false);
+		Mockito.verify(partnerMappingRepo, Mockito.times(2)).findByPartnerIdAndApiKeyId("1635497344579", "591856");
+	}
+
 	// io.mosip.authentication.core.exception.IdAuthenticationBusinessException:IDA-MPA-012 --> Partner is deactivated
 	@Test(expected = IdAuthenticationBusinessException.class)
 	public void validateAndGetPolicyException1Test() throws IdAuthenticationBusinessException, Exception {
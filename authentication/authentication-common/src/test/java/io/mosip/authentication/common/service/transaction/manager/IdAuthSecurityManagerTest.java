@@ -1,15 +1,26 @@
 package io.mosip.authentication.common.service.transaction.manager;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNotSame;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.SecureRandom;
+import java.security.cert.Certificate;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import javax.crypto.spec.SecretKeySpec;
+
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -19,16 +30,19 @@ import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.TestContext;
 import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import io.mosip.authentication.common.service.factory.RestRequestFactory;
-import io.mosip.authentication.common.service.repository.IdaUinHashSaltRepo;
+import io.mosip.authentication.common.service.cache.IdHashSaltTable;
 import io.mosip.kernel.zkcryptoservice.dto.CryptoDataDto;
 import io.mosip.authentication.common.service.util.EnvUtil;
 import io.mosip.authentication.core.constant.IdAuthConfigKeyConstants;
@@ -36,8 +50,12 @@ import io.mosip.authentication.core.exception.IdAuthenticationBusinessException;
 import io.mosip.authentication.core.util.CryptoUtil;
 import io.mosip.kernel.core.exception.BaseUncheckedException;
 import io.mosip.kernel.crypto.jce.core.CryptoCore;
+import io.mosip.kernel.core.util.DateUtils;
+import io.mosip.kernel.cryptomanager.dto.CryptomanagerRequestDto;
 import io.mosip.kernel.cryptomanager.dto.CryptomanagerResponseDto;
 import io.mosip.kernel.cryptomanager.service.CryptomanagerService;
+import io.mosip.kernel.cryptomanager.service.impl.CryptomanagerServiceImpl;
+import io.mosip.kernel.cryptomanager.util.CryptomanagerUtils;
 import io.mosip.kernel.keygenerator.bouncycastle.KeyGenerator;
 import io.mosip.kernel.keymanagerservice.exception.NoUniqueAliasException;
 import io.mosip.kernel.keymanagerservice.repository.DataEncryptKeystoreRepository;
@@ -88,7 +106,7 @@ public class IdAuthSecurityManagerTest {
 	private SignatureService signatureService;
 
 	@Mock
-	private IdaUinHashSaltRepo uinHashSaltRepo;
+	private IdHashSaltTable idHashSaltTable;
 
 	@Value("${mosip.sign.applicationid:KERNEL}")
 	private String signApplicationid;
@@ -101,6 +119,8 @@ public class IdAuthSecurityManagerTest {
 
 	private int tokenIDLength;
 
+	private CryptomanagerServiceImpl realCryptomanagerService;
+
 	@Before
 	public void before() {
 		ReflectionTestUtils.setField(authSecurityManager, "signApplicationid", "22");
@@ -298,10 +318,26 @@ public class IdAuthSecurityManagerTest {
 	@Test
 	public void hashTest() throws IdAuthenticationBusinessException {
 		String id = "12";
-		Mockito.when(uinHashSaltRepo.retrieveSaltById(Mockito.any())).thenReturn(id);
+		Mockito.when(idHashSaltTable.getSalt(Mockito.anyInt())).thenReturn(id.getBytes());
 		String actualResponse = "CBFAD02F9ED2A8D1E08D8F74F5303E9EB93637D47F82AB6F1C15871CF8DD0481";
 		String response = authSecurityManager.hash(id);
 		assertEquals(response, actualResponse);
+		assertEquals(actualResponse, authSecurityManager.hash(id));
+	}
+
+	@Test
+	public void hashOncePerRequestTest() throws IdAuthenticationBusinessException {
+		String id = "12";
+		Mockito.when(idHashSaltTable.getSalt(Mockito.anyInt())).thenReturn(id.getBytes());
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+		try {
+			String actualResponse = "CBFAD02F9ED2A8D1E08D8F74F5303E9EB93637D47F82AB6F1C15871CF8DD0481";
+			assertEquals(actualResponse, authSecurityManager.hash(id));
+			assertEquals(actualResponse, authSecurityManager.hash(id));
+			Mockito.verify(idHashSaltTable, Mockito.times(1)).getSalt(Mockito.anyInt());
+		} finally {
+			RequestContextHolder.resetRequestAttributes();
+		}
 	}
 
 	@Test(expected = IdAuthenticationBusinessException.class)
@@ -332,4 +368,95 @@ public class IdAuthSecurityManagerTest {
 		assertNotNull(response);
 	}
 
+	@Test
+	public void testDecryptStreamOfCryptomanagerOutput() throws Exception {
+		byte[] data = new byte[1 << 20];
+		new SecureRandom().nextBytes(data);
+		IdAuthSecurityManager securityManager = createStreamDecryptSecurityManager();
+		for (Boolean prependThumbprint : new Boolean[] { true, false, null }) {
+			String encrypted = cryptomanagerEncrypt(data, prependThumbprint);
+			try (InputStream decrypted = securityManager.decrypt(new ByteArrayInputStream(encrypted.getBytes()), "")) {
+				assertArrayEquals(data, decrypted.readAllBytes());
+			}
+		}
+	}
+
+	@Test(expected = IOException.class)
+	public void testDecryptStreamOfTamperedCryptomanagerOutput() throws Exception {
+		IdAuthSecurityManager securityManager = createStreamDecryptSecurityManager();
+		byte[] encrypted = CryptoUtil.decodeBase64Url(cryptomanagerEncrypt("Hello".getBytes(), true));
+		encrypted[encrypted.length - 1] ^= 1;
+		securityManager.decrypt(new ByteArrayInputStream(CryptoUtil.encodeBase64Url(encrypted).getBytes()), "")
+				.readAllBytes();
+	}
+
+	@Test(expected = IdAuthenticationBusinessException.class)
+	public void testDecryptStreamWithoutKeySplitter() throws Exception {
+		createStreamDecryptSecurityManager()
+				.decrypt(new ByteArrayInputStream(CryptoUtil.encodeBase64Url("Hello".getBytes()).getBytes()), "");
+	}
+
+	/**
+	 * Creates the security manager decrypting the output of a crypto manager
+	 * encrypting with a test key pair in place of the key manager.
+	 */
+	private IdAuthSecurityManager createStreamDecryptSecurityManager() throws Exception {
+		KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+		keyPairGenerator.initialize(2048);
+		KeyPair keyPair = keyPairGenerator.generateKeyPair();
+		Certificate certificate = Mockito.mock(Certificate.class);
+		when(certificate.getPublicKey()).thenReturn(keyPair.getPublic());
+		when(certificate.getEncoded()).thenReturn("certificate".getBytes());
+
+		CryptoCore realCryptoCore = new CryptoCore();
+		ReflectionTestUtils.setField(realCryptoCore, "asymmetricKeyLength", 2048);
+		ReflectionTestUtils.setField(realCryptoCore, "tagLength", 128);
+		ReflectionTestUtils.setField(realCryptoCore, "symmetricAlgorithm", "AES/GCM/PKCS5Padding");
+		ReflectionTestUtils.setField(realCryptoCore, "asymmetricAlgorithm", "RSA/ECB/OAEPWITHSHA-256ANDMGF1PADDING");
+		ReflectionTestUtils.setField(realCryptoCore, "symmetricKeyLength", 256);
+		ReflectionTestUtils.setField(realCryptoCore, "keystoreType", "PKCS12");
+		realCryptoCore.init();
+
+		CryptomanagerUtils cryptomanagerUtils = Mockito.spy(new CryptomanagerUtils());
+		Mockito.doReturn(true).when(cryptomanagerUtils).hasKeyAccess(Mockito.any());
+		Mockito.doReturn(certificate).when(cryptomanagerUtils).getCertificate(Mockito.any());
+		Mockito.doAnswer(invocation -> {
+			byte[] encryptedKey = CryptoUtil
+					.decodeBase64Url(invocation.<CryptomanagerRequestDto>getArgument(0).getData());
+			byte[] symmetricKey = realCryptoCore.asymmetricDecrypt(keyPair.getPrivate(),
+					Arrays.copyOfRange(encryptedKey, encryptedKey.length - 256, encryptedKey.length));
+			return new SecretKeySpec(symmetricKey, "AES");
+		}).when(cryptomanagerUtils).getDecryptedSymmetricKey(Mockito.any());
+
+		KeyGenerator realKeyGenerator = new KeyGenerator();
+		ReflectionTestUtils.setField(realKeyGenerator, "symmetricKeyAlgorithm", "AES");
+		ReflectionTestUtils.setField(realKeyGenerator, "symmetricKeyLength", 256);
+
+		realCryptomanagerService = new CryptomanagerServiceImpl();
+		ReflectionTestUtils.setField(realCryptomanagerService, "keySplitter", "#KEY_SPLITTER#");
+		ReflectionTestUtils.setField(realCryptomanagerService, "signApplicationId", "KERNEL");
+		ReflectionTestUtils.setField(realCryptomanagerService, "signRefId", "SIGN");
+		ReflectionTestUtils.setField(realCryptomanagerService, "keyGenerator", realKeyGenerator);
+		ReflectionTestUtils.setField(realCryptomanagerService, "cryptomanagerUtil", cryptomanagerUtils);
+		ReflectionTestUtils.setField(realCryptomanagerService, "cryptoCore", realCryptoCore);
+
+		IdAuthSecurityManager securityManager = new IdAuthSecurityManager();
+		ReflectionTestUtils.setField(securityManager, "keySplitter", "#KEY_SPLITTER#");
+		ReflectionTestUtils.setField(securityManager, "cryptomanagerUtils", cryptomanagerUtils);
+		ReflectionTestUtils.setField(securityManager, "cryptoCore", realCryptoCore);
+		ReflectionTestUtils.setField(securityManager, "symmetricAlgorithm", "AES/GCM/PKCS5Padding");
+		ReflectionTestUtils.setField(securityManager, "gcmTagLength", 128);
+		return securityManager;
+	}
+
+	private String cryptomanagerEncrypt(byte[] data, Boolean prependThumbprint) {
+		CryptomanagerRequestDto request = new CryptomanagerRequestDto();
+		request.setApplicationId("IDA");
+		request.setReferenceId("PARTNER");
+		request.setTimeStamp(DateUtils.getUTCCurrentDateTime());
+		request.setData(CryptoUtil.encodeBase64Url(data));
+		request.setPrependThumbprint(prependThumbprint);
+		return realCryptomanagerService.encrypt(request).getData();
+	}
+
 }
@@ -2,12 +2,21 @@ package io.mosip.authentication.common.service.util;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -22,12 +31,14 @@ import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.context.WebApplicationContext;
 
+import io.mosip.authentication.common.service.cache.BirGalleryCache;
 import io.mosip.authentication.core.constant.IdAuthCommonConstants;
 import io.mosip.authentication.core.constant.IdAuthenticationErrorConstants;
 import io.mosip.authentication.core.exception.IdAuthenticationBusinessException;
 import io.mosip.authentication.core.spi.indauth.match.IdInfoFetcher;
 import io.mosip.authentication.core.spi.indauth.match.IdMapping;
 import io.mosip.kernel.biometrics.constant.BiometricType;
+import io.mosip.kernel.biometrics.entities.BIR;
 import io.mosip.kernel.biosdk.provider.factory.BioAPIFactory;
 import io.mosip.kernel.biosdk.provider.spi.iBioProviderApi;
 import io.mosip.kernel.core.bioapi.exception.BiometricException;
@@ -46,6 +57,9 @@ public class BioMatcherUtilTest {
 	
 	@Mock
 	private BioAPIFactory bioApiFactory;
+
+	@Mock
+	private BirGalleryCache birGalleryCache;
 	
 	@InjectMocks
 	private BioMatcherUtil bioMatcherUtil;
@@ -223,6 +237,23 @@ public class BioMatcherUtilTest {
 		assertEquals(0, (int)matchValue);
 	}
 	
+	@Test
+	public void TestmatchValueWithBirGalleryCache() throws IdAuthenticationBusinessException, BiometricException {
+		valueMap.put(value, value);
+		Mockito.when(idInfoFetcher.getTypeForIdName(Mockito.anyString(), Mockito.any())).thenReturn(Optional.of(BiometricType.FINGER.value()));
+		HashMap<String, Object> properties = new HashMap<>();
+		properties.put(IdMapping.class.getSimpleName(), new IdMapping[0]);
+		properties.put(IdAuthCommonConstants.TOKEN, "token");
+		Mockito.when(birGalleryCache.isEnabled()).thenReturn(true);
+		Mockito.when(birGalleryCache.get(Mockito.anyString(), Mockito.anyString(), Mockito.anyString(), Mockito.any()))
+				.thenAnswer(invocation -> ((Supplier<BIR>) invocation.getArgument(3)).get());
+		mockBioProvider();
+		
+		double matchValue = bioMatcherUtil.match(valueMap, valueMap, properties);
+		assertEquals(0, Double.compare(SUCCESS_SCORE, matchValue));
+		Mockito.verify(birGalleryCache).get(Mockito.eq("token"), Mockito.eq(value), Mockito.eq(value), Mockito.any());
+	}
+
 	private void mockBioProvider() throws BiometricException {
 		mockBioProvider(true);
 	}
@@ -266,6 +297,141 @@ public class BioMatcherUtilTest {
 		bioMatcherUtil.match(reqInfo, entityInfo, Collections.emptyMap());
 	}
 
+	@Test
+	public void TestConcurrentMatch() throws IdAuthenticationBusinessException, BiometricException {
+		CountDownLatch allStarted = new CountDownLatch(3);
+		enableConcurrentMatch();
+		mockLatencyBioProvider(modality -> {
+			allStarted.countDown();
+			// Only completes if the three modalities are matched at the same time
+			return await(allStarted, 5000);
+		});
+		
+		double matchValue = bioMatcherUtil.match(multiModalValues(), multiModalValues(), multiModalProperties());
+		assertEquals(0, Double.compare(SUCCESS_SCORE, matchValue));
+	}
+
+	@Test
+	public void TestConcurrentMatchCancelledOnFirstMismatch() throws IdAuthenticationBusinessException, BiometricException {
+		CountDownLatch interrupted = new CountDownLatch(1);
+		enableConcurrentMatch();
+		mockLatencyBioProvider(modality -> {
+			if (modality == BiometricType.FACE) {
+				return false;
+			}
+			try {
+				Thread.sleep(10000);
+			} catch (InterruptedException e) {
+				interrupted.countDown();
+			}
+			return true;
+		});
+		
+		double matchValue = bioMatcherUtil.match(multiModalValues(), multiModalValues(), multiModalProperties());
+		assertEquals(0, Double.compare(0, matchValue));
+		assertTrue(await(interrupted, 5000));
+	}
+
+	@Test
+	public void TestConcurrentMatchTimeout() throws IdAuthenticationBusinessException, BiometricException {
+		enableConcurrentMatch();
+		ReflectionTestUtils.setField(bioMatcherUtil, "irisMatchTimeoutMillis", 100L);
+		mockLatencyBioProvider(modality -> modality == BiometricType.IRIS ? await(new CountDownLatch(1), 10000) : true);
+		
+		try {
+			bioMatcherUtil.match(multiModalValues(), multiModalValues(), multiModalProperties());
+			fail();
+		} catch (IdAuthenticationBusinessException e) {
+			assertEquals(IdAuthenticationErrorConstants.UNABLE_TO_PROCESS_BIO.getErrorCode(), e.getErrorCode());
+		}
+	}
+
+	@Test
+	public void TestConcurrentMatchBiometricMissing() throws IdAuthenticationBusinessException, BiometricException {
+		enableConcurrentMatch();
+		mockLatencyBioProvider(modality -> true);
+		Map<String, String> entityInfo = multiModalValues();
+		entityInfo.remove("Iris");
+		
+		try {
+			bioMatcherUtil.match(multiModalValues(), entityInfo, multiModalProperties());
+			fail();
+		} catch (IdAuthenticationBusinessException e) {
+			assertEquals(IdAuthenticationErrorConstants.BIOMETRIC_MISSING.getErrorCode(), e.getErrorCode());
+		}
+		
+		// As in the sequential match, a mismatch before the missing modality is not an error
+		mockLatencyBioProvider(modality -> false);
+		double matchValue = bioMatcherUtil.match(multiModalValues(), entityInfo, multiModalProperties());
+		assertEquals(0, Double.compare(0, matchValue));
+	}
+
+	@Test
+	public void TestConcurrentMatchBioError() throws IdAuthenticationBusinessException, BiometricException {
+		enableConcurrentMatch();
+		Mockito.when(bioApiFactory.getBioProvider(Mockito.any(), Mockito.any()))
+				.thenThrow(new BiometricException("error", "sdk error"));
+		
+		try {
+			bioMatcherUtil.match(multiModalValues(), multiModalValues(), multiModalProperties());
+			fail();
+		} catch (IdAuthenticationBusinessException e) {
+			assertEquals(IdAuthenticationErrorConstants.UNABLE_TO_PROCESS_BIO.getErrorCode(), e.getErrorCode());
+		}
+	}
+
+	private ExecutorService bioMatchExecutor;
+
+	@After
+	public void after() {
+		if (bioMatchExecutor != null) {
+			bioMatchExecutor.shutdownNow();
+		}
+	}
+
+	private void enableConcurrentMatch() {
+		bioMatchExecutor = Executors.newFixedThreadPool(3);
+		ReflectionTestUtils.setField(bioMatcherUtil, "concurrentMatchEnabled", true);
+		ReflectionTestUtils.setField(bioMatcherUtil, "bioMatchExecutor", bioMatchExecutor);
+	}
+
+	private Map<String, String> multiModalValues() {
+		Map<String, String> values = new HashMap<>();
+		values.put("Finger", value);
+		values.put("Iris", value);
+		values.put("Face", value);
+		return values;
+	}
+
+	private Map<String, Object> multiModalProperties() {
+		IdMapping[] idMappings = new IdMapping[0];
+		Mockito.when(idInfoFetcher.getTypeForIdName("Finger", idMappings)).thenReturn(Optional.of(BiometricType.FINGER.value()));
+		Mockito.when(idInfoFetcher.getTypeForIdName("Iris", idMappings)).thenReturn(Optional.of(BiometricType.IRIS.value()));
+		Mockito.when(idInfoFetcher.getTypeForIdName("Face", idMappings)).thenReturn(Optional.of(BiometricType.FACE.value()));
+		Map<String, Object> properties = new HashMap<>();
+		properties.put(IdMapping.class.getSimpleName(), idMappings);
+		return properties;
+	}
+
+	/**
+	 * Mocks a bio provider whose verification, run per modality, may block to simulate the SDK latency.
+	 */
+	private void mockLatencyBioProvider(Function<BiometricType, Boolean> verification) throws BiometricException {
+		iBioProviderApi bioProvider = Mockito.mock(iBioProviderApi.class);
+		Mockito.when(bioApiFactory.getBioProvider(Mockito.any(), Mockito.any())).thenReturn(bioProvider);
+		Mockito.when(bioProvider.verify(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any()))
+				.thenAnswer(invocation -> verification.apply(invocation.getArgument(2)));
+	}
+
+	private static boolean await(CountDownLatch latch, long timeoutMillis) {
+		try {
+			return latch.await(timeoutMillis, TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
 	@Test(expected=IdAuthenticationBusinessException.class)
 	public void TestUnknownValues() throws IdAuthenticationBusinessException, BiometricException {
 		Map<String, String> reqInfo = new HashMap<>();
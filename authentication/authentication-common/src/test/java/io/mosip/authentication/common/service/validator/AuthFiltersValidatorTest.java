@@ -0,0 +1,110 @@
+package io.mosip.authentication.common.service.validator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import io.mosip.authentication.authfilter.exception.IdAuthenticationFilterException;
+import io.mosip.authentication.authfilter.spi.IMosipAuthFilter;
+import io.mosip.authentication.authfilter.spi.IMosipHotlistAuthFilter;
+import io.mosip.authentication.common.service.factory.MosipAuthFilterFactory;
+import io.mosip.authentication.core.hotlist.dto.HotlistDTO;
+import io.mosip.authentication.core.hotlist.dto.HotlistIdDTO;
+import io.mosip.authentication.core.indauth.dto.AuthRequestDTO;
+import io.mosip.authentication.core.spi.hotlist.service.HotlistService;
+import io.mosip.kernel.core.hotlist.constant.HotlistStatus;
+
+@RunWith(MockitoJUnitRunner.class)
+public class AuthFiltersValidatorTest {
+
+	@InjectMocks
+	private AuthFiltersValidator authFiltersValidator;
+
+	@Mock
+	private MosipAuthFilterFactory mosipAuthFilterFactory;
+
+	@Mock
+	private HotlistService hotlistService;
+
+	@Mock
+	private IMosipHotlistAuthFilter partnerIdFilter;
+
+	@Mock
+	private IMosipHotlistAuthFilter deviceFilter;
+
+	@Mock
+	private IMosipAuthFilter authTypeLockFilter;
+
+	@Test
+	public void testHotlistIdsLookedUpTogether() throws IdAuthenticationFilterException {
+		AuthRequestDTO authRequest = new AuthRequestDTO();
+		HotlistIdDTO partnerId = new HotlistIdDTO("partner", "PARTNER_ID");
+		HotlistIdDTO device = new HotlistIdDTO("device", "DEVICE");
+		Mockito.when(mosipAuthFilterFactory.getEnabledAuthFilters())
+				.thenReturn(List.of(partnerIdFilter, deviceFilter, authTypeLockFilter));
+		Mockito.when(partnerIdFilter.getHotlistIds(authRequest)).thenReturn(List.of(partnerId));
+		Mockito.when(deviceFilter.getHotlistIds(authRequest)).thenReturn(List.of(device, device));
+		Mockito.when(hotlistService.getHotlistStatus(Mockito.anyCollection())).thenAnswer(invocation -> unblocked(
+				invocation.getArgument(0)));
+
+		authFiltersValidator.validateAuthFilters(authRequest, Map.of(), Map.of());
+
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<Collection<HotlistIdDTO>> captor = ArgumentCaptor.forClass(Collection.class);
+		Mockito.verify(hotlistService, Mockito.times(1)).getHotlistStatus(captor.capture());
+		assertEquals(List.of(partnerId, device, device), List.copyOf(captor.getValue()));
+		Mockito.verify(hotlistService, Mockito.never()).getHotlistStatus(Mockito.any(), Mockito.any());
+		Mockito.verify(partnerIdFilter).validateHotlistStatus(Mockito.eq(List.of(partnerId)), Mockito.anyMap());
+		Mockito.verify(deviceFilter).validateHotlistStatus(Mockito.eq(List.of(device, device)), Mockito.anyMap());
+		Mockito.verify(partnerIdFilter, Mockito.never()).validate(Mockito.any(), Mockito.any(), Mockito.any());
+		Mockito.verify(authTypeLockFilter).validate(authRequest, Map.of(), Map.of());
+	}
+
+	@Test
+	public void testFirstFailingFilterStopsValidation() throws IdAuthenticationFilterException {
+		AuthRequestDTO authRequest = new AuthRequestDTO();
+		Mockito.when(mosipAuthFilterFactory.getEnabledAuthFilters())
+				.thenReturn(List.of(partnerIdFilter, authTypeLockFilter));
+		Mockito.when(partnerIdFilter.getHotlistIds(authRequest)).thenReturn(List.of());
+		Mockito.when(hotlistService.getHotlistStatus(Mockito.anyCollection())).thenReturn(Map.of());
+		Mockito.doThrow(new IdAuthenticationFilterException("IDA-MLC-018", "blocked")).when(partnerIdFilter)
+				.validateHotlistStatus(Mockito.anyList(), Mockito.anyMap());
+		try {
+			authFiltersValidator.validateAuthFilters(authRequest, Map.of(), Map.of());
+			fail();
+		} catch (IdAuthenticationFilterException e) {
+			assertEquals("IDA-MLC-018", e.getErrorCode());
+		}
+		Mockito.verify(authTypeLockFilter, Mockito.never()).validate(Mockito.any(), Mockito.any(), Mockito.any());
+	}
+
+	@Test
+	public void testNoHotlistLookupWithoutHotlistFilters() throws IdAuthenticationFilterException {
+		AuthRequestDTO authRequest = new AuthRequestDTO();
+		Mockito.when(mosipAuthFilterFactory.getEnabledAuthFilters()).thenReturn(List.of(authTypeLockFilter));
+		authFiltersValidator.validateAuthFilters(authRequest, Map.of(), Map.of());
+		Mockito.verifyZeroInteractions(hotlistService);
+		Mockito.verify(authTypeLockFilter).validate(authRequest, Map.of(), Map.of());
+	}
+
+	private static Map<HotlistIdDTO, HotlistDTO> unblocked(Collection<HotlistIdDTO> hotlistIds) {
+		return hotlistIds.stream().distinct().collect(Collectors.toMap(Function.identity(), hotlistId -> {
+			HotlistDTO hotlistDTO = new HotlistDTO();
+			hotlistDTO.setStatus(HotlistStatus.UNBLOCKED);
+			return hotlistDTO;
+		}));
+	}
+}
@@ -48,6 +48,8 @@ public final class IdAuthCommonConstants {
   
 	public static final String TOKEN = "TOKEN";
 
+	public static final String NORMALIZATION_MEMO = "normalizationMemo";
+
 	public static final String INTERNAL = "INTERNAL";
 
 	/** The Constant SESSION_ID. */
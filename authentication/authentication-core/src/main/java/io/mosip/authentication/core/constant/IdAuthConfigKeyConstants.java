@@ -172,4 +172,84 @@ public final class IdAuthConfigKeyConstants {
 	public static final String KYC_EXCHANGE_DEFAULT_LANGUAGE = "kyc.exchange.default.lang";
 
 	public static final String IDP_AMR_ACR_IDA_MAPPING_SOURCE = "idp.amr-acr.ida.mapping.property.source";
+
+	public static final String IDENTITY_DATA_CACHE_ENABLED = "ida.identity-data-cache.enabled";
+	public static final String IDENTITY_DATA_CACHE_MAX_SIZE = "ida.identity-data-cache.max-size";
+	public static final String IDENTITY_DATA_CACHE_TTL_SECONDS = "ida.identity-data-cache.ttl-seconds";
+	public static final String IDENTITY_DATA_CACHE_MAX_BYTES = "ida.identity-data-cache.max-bytes";
+
+	public static final String PARTNER_POLICY_CACHE_ENABLED = "ida.partner-policy-cache.enabled";
+	public static final String PARTNER_POLICY_CACHE_MAX_SIZE = "ida.partner-policy-cache.max-size";
+	public static final String PARTNER_POLICY_CACHE_TTL_SECONDS = "ida.partner-policy-cache.ttl-seconds";
+
+	public static final String AUDIT_QUEUE_ENABLED = "ida.audit.queue.enabled";
+	public static final String AUDIT_QUEUE_CAPACITY = "ida.audit.queue.capacity";
+	public static final String AUDIT_QUEUE_BATCH_SIZE = "ida.audit.queue.batch-size";
+	public static final String AUDIT_QUEUE_FLUSH_INTERVAL_MILLIS = "ida.audit.queue.flush-interval-millis";
+	public static final String AUDIT_QUEUE_FULL_POLICY = "ida.audit.queue.full-queue-policy";
+
+	public static final String AUTN_TXN_SINK_MODE = "ida.autn-txn.sink.mode";
+	public static final String AUTN_TXN_SINK_CAPACITY = "ida.autn-txn.sink.capacity";
+	public static final String AUTN_TXN_SINK_BATCH_SIZE = "ida.autn-txn.sink.batch-size";
+	public static final String AUTN_TXN_SINK_FLUSH_INTERVAL_MILLIS = "ida.autn-txn.sink.flush-interval-millis";
+	public static final String AUTN_TXN_SINK_WAL_DIR = "ida.autn-txn.sink.wal-dir";
+	public static final String AUTN_TXN_SINK_MAX_ATTEMPTS = "ida.autn-txn.sink.max-attempts";
+
+	public static final String ANONYMOUS_PROFILE_QUEUE_ENABLED = "ida.anonymous-profile.queue.enabled";
+	public static final String ANONYMOUS_PROFILE_QUEUE_CAPACITY = "ida.anonymous-profile.queue.capacity";
+	public static final String ANONYMOUS_PROFILE_QUEUE_BATCH_SIZE = "ida.anonymous-profile.queue.batch-size";
+	public static final String ANONYMOUS_PROFILE_QUEUE_FLUSH_INTERVAL_MILLIS = "ida.anonymous-profile.queue.flush-interval-millis";
+
+	public static final String BIO_DECIPHER_PARALLEL_THRESHOLD = "ida.bio.decipher.parallel-threshold";
+	public static final String BIO_DECIPHER_THREAD_COUNT = "ida.bio.decipher.thread-count";
+	public static final String BIO_DECIPHER_QUEUE_CAPACITY = "ida.bio.decipher.queue-capacity";
+
+	public static final String BIR_GALLERY_CACHE_ENABLED = "ida.bir-gallery-cache.enabled";
+	public static final String BIR_GALLERY_CACHE_MAX_SIZE = "ida.bir-gallery-cache.max-size";
+	public static final String BIR_GALLERY_CACHE_TTL_SECONDS = "ida.bir-gallery-cache.ttl-seconds";
+	public static final String BIR_GALLERY_CACHE_MAX_BYTES = "ida.bir-gallery-cache.max-bytes";
+
+	public static final String BIO_MATCH_CONCURRENT_ENABLED = "ida.bio.match.concurrent.enabled";
+	public static final String BIO_MATCH_THREAD_COUNT = "ida.bio.match.concurrent.thread-count";
+	public static final String BIO_MATCH_QUEUE_CAPACITY = "ida.bio.match.concurrent.queue-capacity";
+	public static final String BIO_MATCH_FINGER_TIMEOUT_MILLIS = "ida.bio.match.concurrent.finger-timeout-millis";
+	public static final String BIO_MATCH_IRIS_TIMEOUT_MILLIS = "ida.bio.match.concurrent.iris-timeout-millis";
+	public static final String BIO_MATCH_FACE_TIMEOUT_MILLIS = "ida.bio.match.concurrent.face-timeout-millis";
+
+	public static final String COMPILED_TEMPLATE_CACHE_ENABLED = "ida.compiled-template-cache.enabled";
+	public static final String COMPILED_TEMPLATE_CACHE_MAX_SIZE = "ida.compiled-template-cache.max-size";
+	public static final String COMPILED_TEMPLATE_CACHE_TTL_SECONDS = "ida.compiled-template-cache.ttl-seconds";
+
+	public static final String AUTH_NOTIFICATION_QUEUE_ENABLED = "ida.auth-notification.queue.enabled";
+	public static final String AUTH_NOTIFICATION_QUEUE_CAPACITY = "ida.auth-notification.queue.capacity";
+	public static final String AUTH_NOTIFICATION_QUEUE_THREAD_COUNT = "ida.auth-notification.queue.thread-count";
+
+	public static final String NORMALIZED_TEXT_CACHE_ENABLED = "ida.normalized-text-cache.enabled";
+	public static final String NORMALIZED_TEXT_CACHE_MAX_SIZE = "ida.normalized-text-cache.max-size";
+	public static final String NORMALIZED_TEXT_CACHE_TTL_SECONDS = "ida.normalized-text-cache.ttl-seconds";
+
+	public static final String MATCH_INPUT_PARALLEL_ENABLED = "ida.match-input.parallel.enabled";
+	public static final String MATCH_INPUT_THREAD_COUNT = "ida.match-input.parallel.thread-count";
+	public static final String MATCH_INPUT_QUEUE_CAPACITY = "ida.match-input.parallel.queue-capacity";
+
+	public static final String HOTLIST_INDEX_ENABLED = "ida.hotlist.index.enabled";
+	public static final String HOTLIST_INDEX_REFRESH_INTERVAL_MILLIS = "ida.hotlist.index.refresh-interval-millis";
+	public static final String HOTLIST_INDEX_MAX_STALENESS_MILLIS = "ida.hotlist.index.max-staleness-millis";
+
+	public static final String HOTLIST_FILTER_ENABLED = "ida.hotlist.filter.enabled";
+	public static final String HOTLIST_FILTER_FALSE_POSITIVE_PROBABILITY = "ida.hotlist.filter.false-positive-probability";
+	public static final String HOTLIST_FILTER_MAX_MEMORY_BYTES = "ida.hotlist.filter.max-memory-bytes";
+	public static final String HOTLIST_FILTER_REBUILD_INTERVAL_MILLIS = "ida.hotlist.filter.rebuild-interval-millis";
+	public static final String HOTLIST_FILTER_MAX_STALENESS_MILLIS = "ida.hotlist.filter.max-staleness-millis";
+
+	public static final String AUTH_LOCK_CACHE_ENABLED = "ida.auth-lock-cache.enabled";
+	public static final String AUTH_LOCK_CACHE_MAX_SIZE = "ida.auth-lock-cache.max-size";
+	public static final String AUTH_LOCK_CACHE_TTL_SECONDS = "ida.auth-lock-cache.ttl-seconds";
+	public static final String AUTH_LOCK_CACHE_REFRESH_INTERVAL_MILLIS = "ida.auth-lock-cache.refresh-interval-millis";
+
+	public static final String OTP_GENERATOR_TYPE = "ida.otp-generator.type";
+	public static final String OTP_GENERATOR_LENGTH = "ida.otp-generator.length";
+	public static final String OTP_GENERATOR_SCHEME = "ida.otp-generator.scheme";
+
+	public static final String DATA_SHARE_STREAMING_ENABLED = "ida.datashare.streaming.enabled";
 }
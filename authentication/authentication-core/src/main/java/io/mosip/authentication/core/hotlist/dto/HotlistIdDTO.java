@@ -0,0 +1,21 @@
+package io.mosip.authentication.core.hotlist.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The id checked against the hotlist, identified by its hash and id type.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class HotlistIdDTO {
+
+	/** The id hash. */
+	private String idHash;
+
+	/** The id type. */
+	private String idType;
+
+}
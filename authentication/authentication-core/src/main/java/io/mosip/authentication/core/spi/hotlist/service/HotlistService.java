@@ -1,8 +1,12 @@
 package io.mosip.authentication.core.spi.hotlist.service;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
+
 import io.mosip.authentication.core.exception.IdAuthenticationBusinessException;
 import io.mosip.authentication.core.hotlist.dto.HotlistDTO;
+import io.mosip.authentication.core.hotlist.dto.HotlistIdDTO;
 import io.mosip.kernel.core.websub.model.EventModel;
 /**
  * 
@@ -24,5 +28,13 @@ public interface HotlistService {
 	 */
 	HotlistDTO getHotlistStatus(String id, String idType);
 
+	/**
+	 * Method used to retrieve the Hotlist Status information for all the given ids
+	 * at once
+	 * @param ids 			the ids by id_hash and id_type
+	 * @return the HotlistDTO of each distinct id
+	 */
+	Map<HotlistIdDTO, HotlistDTO> getHotlistStatus(Collection<HotlistIdDTO> ids);
+
 	void handlingHotlistingEvent(EventModel eventModel) throws IdAuthenticationBusinessException;
 }
@@ -0,0 +1,48 @@
+package io.mosip.authentication.core.spi.indauth.match;
+
+import io.mosip.authentication.core.exception.IdAuthenticationBusinessException;
+
+/**
+ * The Interface NormalizationMemo remembers the normalized texts of a demo
+ * authentication, so that the same text is not normalized again with the same
+ * normalizer and language.
+ */
+public interface NormalizationMemo {
+
+	/**
+	 * Gets the normalized request text.
+	 *
+	 * @param normalizer    the normalizer name
+	 * @param langCode      the language code
+	 * @param text          the request text
+	 * @param normalization normalizes the text when not remembered
+	 * @return the normalized text
+	 * @throws IdAuthenticationBusinessException the id authentication business
+	 *                                           exception
+	 */
+	String normalizeRequestText(String normalizer, String langCode, String text, Normalization normalization)
+			throws IdAuthenticationBusinessException;
+
+	/**
+	 * Gets the normalized stored text of the individual.
+	 *
+	 * @param normalizer    the normalizer name
+	 * @param langCode      the language code
+	 * @param text          the stored text
+	 * @param normalization normalizes the text when not remembered
+	 * @return the normalized text
+	 * @throws IdAuthenticationBusinessException the id authentication business
+	 *                                           exception
+	 */
+	String normalizeEntityText(String normalizer, String langCode, String text, Normalization normalization)
+			throws IdAuthenticationBusinessException;
+
+	/**
+	 * Normalizes a text.
+	 */
+	@FunctionalInterface
+	public static interface Normalization {
+		String normalize() throws IdAuthenticationBusinessException;
+	}
+
+}
@@ -6,6 +6,7 @@ import java.util.Map;
 import java.util.function.BiFunction;
 import java.util.stream.Collectors;
 
+import io.mosip.authentication.core.constant.IdAuthCommonConstants;
 import io.mosip.authentication.core.exception.IdAuthenticationBusinessException;
 import io.mosip.authentication.core.util.DemoMatcherUtil;
 import io.mosip.authentication.core.util.DemoNormalizer;
@@ -25,6 +26,7 @@ public interface TextMatchingStrategy extends MatchingStrategy {
 	public static int normalizeAndMatch(Object reqInfo, 
 			Object entityInfo, 
 			Map<String, Object> props,
+			String normalizer,
 			NormalizeFunction normalizeFunction, 
 			BiFunction<String, String, Integer> matchFunction) throws IdAuthenticationBusinessException {
 		if (reqInfo instanceof String && entityInfo instanceof String) {
@@ -33,8 +35,19 @@ public interface TextMatchingStrategy extends MatchingStrategy {
 			if(demoNormalizerObject instanceof  DemoNormalizer && langObject instanceof String) {
 				DemoNormalizer demoNormalizer=(DemoNormalizer)demoNormalizerObject;
 			    String langCode=(String)langObject;
-				String refInfoText = normalizeFunction.normalizeText(demoNormalizer, (String) reqInfo, langCode, props);
-				String entityInfoText = normalizeFunction.normalizeText(demoNormalizer, (String) entityInfo, langCode, props);
+				String refInfoText;
+				String entityInfoText;
+				Object memoObject = props.get(IdAuthCommonConstants.NORMALIZATION_MEMO);
+				if (memoObject instanceof NormalizationMemo) {
+					NormalizationMemo memo = (NormalizationMemo) memoObject;
+					refInfoText = memo.normalizeRequestText(normalizer, langCode, (String) reqInfo,
+							() -> normalizeFunction.normalizeText(demoNormalizer, (String) reqInfo, langCode, props));
+					entityInfoText = memo.normalizeEntityText(normalizer, langCode, (String) entityInfo,
+							() -> normalizeFunction.normalizeText(demoNormalizer, (String) entityInfo, langCode, props));
+				} else {
+					refInfoText = normalizeFunction.normalizeText(demoNormalizer, (String) reqInfo, langCode, props);
+					entityInfoText = normalizeFunction.normalizeText(demoNormalizer, (String) entityInfo, langCode, props);
+				}
 				return matchFunction.apply(refInfoText, entityInfoText);
 			} else {
 				//If language code is not present or demo normalizer is not present, directly perform match
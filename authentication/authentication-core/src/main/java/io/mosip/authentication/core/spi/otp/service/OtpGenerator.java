@@ -0,0 +1,19 @@
+package io.mosip.authentication.core.spi.otp.service;
+
+/**
+ * The {@code OtpGenerator} interface generates the OTP values sent to the
+ * individuals. The OTP is hashed and stored, and validated, by ID
+ * Authentication itself, so a generator only provides the value.
+ */
+@FunctionalInterface
+public interface OtpGenerator {
+
+	/**
+	 * Generates an OTP.
+	 *
+	 * @param key the key the OTP is generated for, the individual id
+	 * @return the OTP
+	 */
+	String generateOtp(String key);
+
+}
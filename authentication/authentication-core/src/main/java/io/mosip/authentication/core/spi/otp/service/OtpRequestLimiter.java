@@ -0,0 +1,22 @@
+package io.mosip.authentication.core.spi.otp.service;
+
+/**
+ * The {@code OtpRequestLimiter} interface limits the OTP requests of a token
+ * to the configured flooding max count within the configured flooding
+ * duration. An implementation may keep the requests in memory or in a store
+ * shared by all the instances.
+ */
+@FunctionalInterface
+public interface OtpRequestLimiter {
+
+	/**
+	 * Checks if the OTP requests of the token are flooded, that is if more than
+	 * the flooding max count of requests were allowed within the flooding
+	 * duration. The request is recorded if it is allowed.
+	 *
+	 * @param token the token
+	 * @return true, if the request is flooded
+	 */
+	boolean isRequestFlooded(String token);
+
+}
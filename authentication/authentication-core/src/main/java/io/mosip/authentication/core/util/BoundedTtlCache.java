@@ -0,0 +1,316 @@
+package io.mosip.authentication.core.util;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiPredicate;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+
+/**
+ * A thread safe in-memory cache bounded by the number of entries, optionally
+ * by the total weight of the values, and by the time-to-live of each entry.
+ * When the size or weight bound is crossed the oldest inserted entries are
+ * evicted first. Hit, miss and eviction counts are kept so that callers can
+ * publish them as metrics.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+public class BoundedTtlCache<K, V> {
+
+	/** The entries. */
+	private final Map<K, CacheEntry<K, V>> entries = new ConcurrentHashMap<>();
+
+	/** The insertion order of the entries, used for size based eviction. */
+	private final Queue<CacheEntry<K, V>> insertionOrder = new ConcurrentLinkedQueue<>();
+
+	/** The number of elements in the insertion order queue. */
+	private final AtomicInteger insertionOrderSize = new AtomicInteger();
+
+	/** The max size. */
+	private final int maxSize;
+
+	/** The max total weight, zero or less means the weight is not bounded. */
+	private final long maxWeight;
+
+	/** The weigher of the values. */
+	private final ToLongFunction<? super V> weigher;
+
+	/** The total weight of the entries. */
+	private final AtomicLong weight = new AtomicLong();
+
+	/** The time to live in nanos, zero or less means entries do not expire. */
+	private final long ttlNanos;
+
+	/** The nano time source. */
+	private final LongSupplier nanoTime;
+
+	private final LongAdder hitCount = new LongAdder();
+
+	private final LongAdder missCount = new LongAdder();
+
+	private final LongAdder evictionCount = new LongAdder();
+
+	/**
+	 * Instantiates a new bounded ttl cache.
+	 *
+	 * @param maxSize    the max number of entries
+	 * @param ttlSeconds the time to live of an entry in seconds, zero or less to
+	 *                   disable expiry
+	 */
+	public BoundedTtlCache(int maxSize, long ttlSeconds) {
+		this(maxSize, ttlSeconds, 0, value -> 0, System::nanoTime);
+	}
+
+	/**
+	 * Instantiates a new bounded ttl cache also bounded by the total weight of
+	 * the values, such as their estimated size in bytes.
+	 *
+	 * @param maxSize    the max number of entries
+	 * @param ttlSeconds the time to live of an entry in seconds, zero or less to
+	 *                   disable expiry
+	 * @param maxWeight  the max total weight, zero or less to not bound it
+	 * @param weigher    the weigher, called once when a value is put
+	 */
+	public BoundedTtlCache(int maxSize, long ttlSeconds, long maxWeight, ToLongFunction<? super V> weigher) {
+		this(maxSize, ttlSeconds, maxWeight, weigher, System::nanoTime);
+	}
+
+	/**
+	 * Instantiates a new bounded ttl cache with the given time source.
+	 *
+	 * @param maxSize    the max number of entries
+	 * @param ttlSeconds the time to live of an entry in seconds
+	 * @param maxWeight  the max total weight
+	 * @param weigher    the weigher
+	 * @param nanoTime   the nano time source
+	 */
+	BoundedTtlCache(int maxSize, long ttlSeconds, long maxWeight, ToLongFunction<? super V> weigher,
+			LongSupplier nanoTime) {
+		if (maxSize <= 0) {
+			throw new IllegalArgumentException("maxSize should be greater than 0");
+		}
+		this.maxSize = maxSize;
+		this.maxWeight = maxWeight;
+		this.weigher = Objects.requireNonNull(weigher);
+		this.ttlNanos = ttlSeconds <= 0 ? 0 : ttlSeconds * 1_000_000_000L;
+		this.nanoTime = Objects.requireNonNull(nanoTime);
+	}
+
+	/**
+	 * Gets the value cached for the key.
+	 *
+	 * @param key the key
+	 * @return the value, or null if absent or expired
+	 */
+	public V get(K key) {
+		CacheEntry<K, V> entry = entries.get(key);
+		if (entry == null) {
+			missCount.increment();
+			return null;
+		}
+		V value = entry.value;
+		if (value == null || isExpired(entry)) {
+			if (remove(entry)) {
+				evictionCount.increment();
+			}
+			missCount.increment();
+			return null;
+		}
+		hitCount.increment();
+		return value;
+	}
+
+	/**
+	 * Puts the value for the key, replacing any existing value.
+	 *
+	 * @param key   the key
+	 * @param value the value
+	 */
+	public void put(K key, V value) {
+		CacheEntry<K, V> entry = new CacheEntry<>(key, value, maxWeight > 0 ? weigher.applyAsLong(value) : 0,
+				ttlNanos == 0 ? Long.MAX_VALUE : nanoTime.getAsLong() + ttlNanos);
+		weight.addAndGet(entry.weight);
+		CacheEntry<K, V> replaced = entries.put(key, entry);
+		if (replaced != null) {
+			release(replaced);
+		}
+		insertionOrder.offer(entry);
+		if (insertionOrderSize.incrementAndGet() > maxSize || isOverweight()) {
+			evictOldest();
+		}
+	}
+
+	/**
+	 * Removes the value cached for the key.
+	 *
+	 * @param key the key
+	 */
+	public void invalidate(K key) {
+		CacheEntry<K, V> entry = entries.remove(key);
+		if (entry != null) {
+			release(entry);
+		}
+	}
+
+	/**
+	 * Removes the values whose keys match the predicate.
+	 *
+	 * @param keyPredicate the key predicate
+	 */
+	public void invalidateIf(Predicate<? super K> keyPredicate) {
+		entries.values().forEach(entry -> {
+			if (keyPredicate.test(entry.key)) {
+				remove(entry);
+			}
+		});
+	}
+
+	/**
+	 * Removes the entries whose key and value match the predicate.
+	 *
+	 * @param entryPredicate the entry predicate
+	 */
+	public void invalidateEntriesIf(BiPredicate<? super K, ? super V> entryPredicate) {
+		entries.values().forEach(entry -> {
+			V value = entry.value;
+			if (value != null && entryPredicate.test(entry.key, value)) {
+				remove(entry);
+			}
+		});
+	}
+
+	/**
+	 * Removes all the values.
+	 */
+	public void invalidateAll() {
+		entries.values().forEach(this::remove);
+	}
+
+	/**
+	 * Evicts the oldest inserted entries until the size and weight bounds are
+	 * met. Entries which were already replaced or invalidated are skipped.
+	 */
+	private void evictOldest() {
+		while (insertionOrderSize.get() > maxSize || isOverweight()) {
+			CacheEntry<K, V> oldest = insertionOrder.poll();
+			if (oldest == null) {
+				return;
+			}
+			insertionOrderSize.decrementAndGet();
+			if (remove(oldest)) {
+				evictionCount.increment();
+			}
+		}
+	}
+
+	private boolean isOverweight() {
+		return maxWeight > 0 && weight.get() > maxWeight;
+	}
+
+	/**
+	 * Removes the entry if it is still the one cached for its key.
+	 *
+	 * @param entry the entry
+	 * @return true, if removed
+	 */
+	private boolean remove(CacheEntry<K, V> entry) {
+		if (entries.remove(entry.key, entry)) {
+			release(entry);
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Subtracts the weight of a removed entry and drops its value, as the entry
+	 * stays in the insertion order queue until polled.
+	 *
+	 * @param entry the entry
+	 */
+	private void release(CacheEntry<K, V> entry) {
+		if (entry.released.compareAndSet(false, true)) {
+			weight.addAndGet(-entry.weight);
+			entry.value = null;
+		}
+	}
+
+	private boolean isExpired(CacheEntry<K, V> entry) {
+		return ttlNanos != 0 && nanoTime.getAsLong() - entry.expiresAtNanos > 0;
+	}
+
+	/**
+	 * Streams the values currently cached, skipping the expired ones.
+	 *
+	 * @return the values
+	 */
+	public Stream<V> values() {
+		return entries.values().stream().filter(entry -> !isExpired(entry)).map(entry -> entry.value)
+				.filter(Objects::nonNull);
+	}
+
+	/**
+	 * Gets the number of entries currently cached, including expired entries not
+	 * yet removed.
+	 *
+	 * @return the size
+	 */
+	public int size() {
+		return entries.size();
+	}
+
+	/**
+	 * Gets the total weight of the entries currently cached, always zero when
+	 * the weight is not bounded.
+	 *
+	 * @return the weight
+	 */
+	public long getWeight() {
+		return weight.get();
+	}
+
+	public long getHitCount() {
+		return hitCount.sum();
+	}
+
+	public long getMissCount() {
+		return missCount.sum();
+	}
+
+	public long getEvictionCount() {
+		return evictionCount.sum();
+	}
+
+	/**
+	 * The cache entry.
+	 */
+	private static final class CacheEntry<K, V> {
+
+		private final K key;
+
+		private volatile V value;
+
+		private final long weight;
+
+		private final long expiresAtNanos;
+
+		private final AtomicBoolean released = new AtomicBoolean();
+
+		private CacheEntry(K key, V value, long weight, long expiresAtNanos) {
+			this.key = key;
+			this.value = value;
+			this.weight = weight;
+			this.expiresAtNanos = expiresAtNanos;
+		}
+	}
+
+}
@@ -0,0 +1,207 @@
+package io.mosip.authentication.core.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A thread safe counting Bloom filter of strings. It answers whether a value
+ * might have been added, with no false negatives and a false positive rate
+ * bounded by its sizing, and unlike a plain Bloom filter it supports removing
+ * values. Each position holds a 4-bit counter, sixteen to a long; a counter
+ * that reaches its maximum stays there, so that removals never make it reach
+ * zero while values still map to it.
+ */
+public class CountingBloomFilter {
+
+	/** The bits per counter. */
+	private static final int COUNTER_BITS = 4;
+
+	/** The counters per long. */
+	private static final int COUNTERS_PER_LONG = Long.SIZE / COUNTER_BITS;
+
+	/** The max counter value, at which the counter sticks. */
+	private static final long COUNTER_MAX = (1L << COUNTER_BITS) - 1;
+
+	/** The minimum number of counters. */
+	private static final int MIN_COUNTERS = COUNTERS_PER_LONG;
+
+	/** The counters. */
+	private final AtomicLongArray counters;
+
+	/** The number of counters. */
+	private final int counterCount;
+
+	/** The number of counters set per value. */
+	private final int hashCount;
+
+	/** The number of values the filter was sized for. */
+	private final int capacity;
+
+	/** The number of values added and not removed. */
+	private final AtomicInteger size = new AtomicInteger();
+
+	private CountingBloomFilter(int counterCount, int hashCount, int capacity) {
+		this.counters = new AtomicLongArray((counterCount + COUNTERS_PER_LONG - 1) / COUNTERS_PER_LONG);
+		this.counterCount = counterCount;
+		this.hashCount = hashCount;
+		this.capacity = capacity;
+	}
+
+	/**
+	 * Creates a filter sized for the expected number of values at the false
+	 * positive probability, using at most the given memory. When the memory is
+	 * not enough the filter is made as large as the memory allows, at a higher
+	 * false positive probability.
+	 *
+	 * @param expectedValues           the expected number of values
+	 * @param falsePositiveProbability the false positive probability
+	 * @param maxBytes                 the max bytes used by the counters
+	 * @return the counting Bloom filter
+	 */
+	public static CountingBloomFilter create(int expectedValues, double falsePositiveProbability, long maxBytes) {
+		if (expectedValues <= 0 || falsePositiveProbability <= 0 || falsePositiveProbability >= 1 || maxBytes <= 0) {
+			throw new IllegalArgumentException("invalid counting Bloom filter sizing");
+		}
+		double optimalCounters = -expectedValues * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2));
+		long maxCounters = Math.min(maxBytes * Byte.SIZE / COUNTER_BITS, Integer.MAX_VALUE - COUNTERS_PER_LONG);
+		int counterCount = (int) Math.max(MIN_COUNTERS, Math.min((long) Math.ceil(optimalCounters), maxCounters));
+		int hashCount = (int) Math.max(1, Math.round((double) counterCount / expectedValues * Math.log(2)));
+		return new CountingBloomFilter(counterCount, hashCount, expectedValues);
+	}
+
+	/**
+	 * Adds the value.
+	 *
+	 * @param value the value
+	 */
+	public void add(String value) {
+		long hash = hash(value);
+		for (int i = 0; i < hashCount; i++) {
+			updateCounter(index(hash, i), 1);
+		}
+		size.incrementAndGet();
+	}
+
+	/**
+	 * Removes the value, which must have been added before. A value which might
+	 * not have been added is left alone, as removing it could remove other values.
+	 *
+	 * @param value the value
+	 * @return true, if removed
+	 */
+	public boolean remove(String value) {
+		if (!mightContain(value)) {
+			return false;
+		}
+		long hash = hash(value);
+		for (int i = 0; i < hashCount; i++) {
+			updateCounter(index(hash, i), -1);
+		}
+		size.decrementAndGet();
+		return true;
+	}
+
+	/**
+	 * Checks if the value might have been added. A false result means the value
+	 * was definitely not added.
+	 *
+	 * @param value the value
+	 * @return true, if the value might have been added
+	 */
+	public boolean mightContain(String value) {
+		long hash = hash(value);
+		for (int i = 0; i < hashCount; i++) {
+			if (getCounter(index(hash, i)) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Gets the number of values added and not removed.
+	 *
+	 * @return the size
+	 */
+	public int size() {
+		return size.get();
+	}
+
+	/**
+	 * Gets the number of values the filter was sized for.
+	 *
+	 * @return the capacity
+	 */
+	public int getCapacity() {
+		return capacity;
+	}
+
+	/**
+	 * Gets the number of counters set per value.
+	 *
+	 * @return the hash count
+	 */
+	public int getHashCount() {
+		return hashCount;
+	}
+
+	/**
+	 * Gets the memory used by the counters.
+	 *
+	 * @return the bytes
+	 */
+	public long getBytes() {
+		return (long) counters.length() * Long.BYTES;
+	}
+
+	private long getCounter(int index) {
+		return (counters.get(index / COUNTERS_PER_LONG) >>> shift(index)) & COUNTER_MAX;
+	}
+
+	private void updateCounter(int index, int delta) {
+		int slot = index / COUNTERS_PER_LONG;
+		int shift = shift(index);
+		while (true) {
+			long current = counters.get(slot);
+			long counter = (current >>> shift) & COUNTER_MAX;
+			if (counter == COUNTER_MAX || (delta < 0 && counter == 0)) {
+				return;
+			}
+			long updated = (current & ~(COUNTER_MAX << shift)) | ((counter + delta) << shift);
+			if (counters.compareAndSet(slot, current, updated)) {
+				return;
+			}
+		}
+	}
+
+	private static int shift(int index) {
+		return (index % COUNTERS_PER_LONG) * COUNTER_BITS;
+	}
+
+	/**
+	 * Gets the counter index of the i-th hash, derived from the two halves of the
+	 * value hash.
+	 */
+	private int index(long hash, int i) {
+		int combined = (int) hash + i * (int) (hash >>> 32);
+		return (combined & Integer.MAX_VALUE) % counterCount;
+	}
+
+	/**
+	 * Hashes the value with 64-bit FNV-1a followed by the MurmurHash3 finalizer.
+	 */
+	private static long hash(String value) {
+		long hash = 0xcbf29ce484222325L;
+		for (int i = 0; i < value.length(); i++) {
+			hash ^= value.charAt(i);
+			hash *= 0x100000001b3L;
+		}
+		hash ^= hash >>> 33;
+		hash *= 0xff51afd7ed558ccdL;
+		hash ^= hash >>> 33;
+		hash *= 0xc4ceb34fe1a85ec3L;
+		hash ^= hash >>> 33;
+		return hash;
+	}
+
+}
@@ -0,0 +1,146 @@
+package io.mosip.authentication.core.util;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A thread safe in-memory counter of events per key within a sliding time
+ * window. The events of a key are counted in time buckets of a fixed width,
+ * kept in a ring covering twice the window, so the memory per key does not
+ * grow with the event rate and the events arriving up to a window late are
+ * still counted completely. A count covers whole buckets, so it may include the
+ * events of the bucket the window starts in which are older than the window
+ * start, but never misses an event within the window.
+ *
+ * @param <K> the key type
+ */
+public class SlidingWindowCounter<K> {
+
+	/** The bucket width in millis. */
+	private final long bucketMillis;
+
+	/** The number of buckets of a key, covering twice the window. */
+	private final int bucketCount;
+
+	/** The buckets by key. */
+	private final Map<K, Buckets> buckets = new ConcurrentHashMap<>();
+
+	/**
+	 * Instantiates a new sliding window counter.
+	 *
+	 * @param windowMillis the window covered in millis
+	 * @param bucketMillis the bucket width in millis
+	 */
+	public SlidingWindowCounter(long windowMillis, long bucketMillis) {
+		if (windowMillis <= 0 || bucketMillis <= 0) {
+			throw new IllegalArgumentException("windowMillis and bucketMillis should be greater than 0");
+		}
+		this.bucketMillis = bucketMillis;
+		this.bucketCount = (int) (2 * ((windowMillis + bucketMillis - 1) / bucketMillis)) + 1;
+	}
+
+	/**
+	 * Counts an event of the key. The event is counted within the map operation,
+	 * so that it cannot be counted in the buckets of a key being removed.
+	 *
+	 * @param key        the key
+	 * @param timeMillis the event time in millis
+	 */
+	public void increment(K key, long timeMillis) {
+		long bucketIndex = Math.floorDiv(timeMillis, bucketMillis);
+		buckets.compute(key, (keyToCount, keyBuckets) -> {
+			Buckets countedBuckets = keyBuckets == null ? new Buckets(bucketCount) : keyBuckets;
+			countedBuckets.increment(bucketIndex);
+			return countedBuckets;
+		});
+	}
+
+	/**
+	 * Counts the events of the key after the given time, to the bucket
+	 * granularity. The time should be within twice the window of the latest
+	 * events of the key.
+	 *
+	 * @param key        the key
+	 * @param afterMillis the time in millis
+	 * @return the count
+	 */
+	public long count(K key, long afterMillis) {
+		Buckets keyBuckets = buckets.get(key);
+		return keyBuckets == null ? 0 : keyBuckets.countFrom(Math.floorDiv(afterMillis, bucketMillis));
+	}
+
+	/**
+	 * Removes the keys without an event after the given time. Each key is
+	 * checked and removed within a map operation, so that an event counted
+	 * concurrently either keeps the key or comes after its removal.
+	 *
+	 * @param beforeMillis the time in millis
+	 */
+	public void removeBefore(long beforeMillis) {
+		long bucketIndex = Math.floorDiv(beforeMillis, bucketMillis);
+		for (K key : buckets.keySet()) {
+			buckets.computeIfPresent(key,
+					(keyToCheck, keyBuckets) -> keyBuckets.getLatestIndex() < bucketIndex ? null : keyBuckets);
+		}
+	}
+
+	/**
+	 * Gets the number of keys counted.
+	 *
+	 * @return the size
+	 */
+	public int size() {
+		return buckets.size();
+	}
+
+	/**
+	 * The ring of buckets of a key. Each slot holds the index of the bucket it
+	 * currently counts, a slot is reused once the bucket is out of the window.
+	 */
+	private static final class Buckets {
+
+		private final long[] indexes;
+
+		private final long[] counts;
+
+		private volatile long latestIndex = Long.MIN_VALUE;
+
+		private Buckets(int bucketCount) {
+			indexes = new long[bucketCount];
+			counts = new long[bucketCount];
+			Arrays.fill(indexes, Long.MIN_VALUE);
+		}
+
+		private synchronized void increment(long bucketIndex) {
+			if (latestIndex != Long.MIN_VALUE && bucketIndex <= latestIndex - indexes.length) {
+				// Older than the buckets kept
+				return;
+			}
+			int slot = (int) Math.floorMod(bucketIndex, (long) indexes.length);
+			if (indexes[slot] != bucketIndex) {
+				indexes[slot] = bucketIndex;
+				counts[slot] = 0;
+			}
+			counts[slot]++;
+			if (bucketIndex > latestIndex) {
+				latestIndex = bucketIndex;
+			}
+		}
+
+		private synchronized long countFrom(long bucketIndex) {
+			long count = 0;
+			for (int slot = 0; slot < indexes.length; slot++) {
+				if (indexes[slot] != Long.MIN_VALUE && indexes[slot] >= bucketIndex) {
+					count += counts[slot];
+				}
+			}
+			return count;
+		}
+
+		private long getLatestIndex() {
+			return latestIndex;
+		}
+	}
+
+}
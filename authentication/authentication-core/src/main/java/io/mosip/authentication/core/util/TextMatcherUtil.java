@@ -1,11 +1,13 @@
 package io.mosip.authentication.core.util;
 
-import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.codec.EncoderException;
 import org.apache.commons.codec.language.Soundex;
-import org.apache.commons.codec.language.bm.Languages;
+import org.apache.commons.codec.language.bm.Languages.LanguageSet;
 import org.apache.commons.codec.language.bm.NameType;
 import org.apache.commons.codec.language.bm.PhoneticEngine;
 import org.apache.commons.codec.language.bm.RuleType;
@@ -18,6 +20,28 @@ import org.apache.commons.codec.language.bm.RuleType;
  */
 public final class TextMatcherUtil {
 
+	/** The max number of stored string encodings kept. */
+	private static final int STORED_ENCODING_CACHE_SIZE = 10000;
+
+	/**
+	 * The phonetic engine, shared as it is immutable and its construction looks up
+	 * the rule tables.
+	 */
+	private static final PhoneticEngine PHONETIC_ENGINE = new PhoneticEngine(NameType.GENERIC, RuleType.EXACT, true);
+
+	/** The language sets by language. */
+	private static final Map<String, LanguageSet> LANGUAGE_SETS = new ConcurrentHashMap<>();
+
+	/**
+	 * The phonetic encodings of the stored strings by language and stored string,
+	 * as the stored string of an individual is the same on every authentication.
+	 */
+	private static final BoundedTtlCache<List<String>, String> STORED_ENCODINGS = new BoundedTtlCache<>(
+			STORED_ENCODING_CACHE_SIZE, 0);
+
+	private TextMatcherUtil() {
+	}
+
 	/**
 	 * This method gets two strings as input along with their language and gets
 	 * their phonetic values using PhoneticEngine class. Then the phonetic matching
@@ -34,18 +58,18 @@ public final class TextMatcherUtil {
 	 */
 	public static Integer phoneticsMatch(String inputString, String storedString, String language)
 			throws EncoderException {
-		PhoneticEngine phoneticEngine = new PhoneticEngine(NameType.GENERIC, RuleType.EXACT, true);
-
-		Soundex soundex = new Soundex();
-
-		Set<String> languageSet = new HashSet<>();
-		languageSet.add(language);
+		LanguageSet languageSet = LANGUAGE_SETS.computeIfAbsent(language, lang -> LanguageSet.from(Set.of(lang)));
 
-		String encodedInputString = phoneticEngine.encode(inputString, Languages.LanguageSet.from(languageSet));
+		String encodedInputString = PHONETIC_ENGINE.encode(inputString, languageSet);
 
-		String encodedStoredString = phoneticEngine.encode(storedString, Languages.LanguageSet.from(languageSet));
+		List<String> storedKey = List.of(language, storedString);
+		String encodedStoredString = STORED_ENCODINGS.get(storedKey);
+		if (encodedStoredString == null) {
+			encodedStoredString = PHONETIC_ENGINE.encode(storedString, languageSet);
+			STORED_ENCODINGS.put(storedKey, encodedStoredString);
+		}
 
-		return (soundex.difference(encodedInputString, encodedStoredString) + 1) * 20;
+		return (Soundex.US_ENGLISH.difference(encodedInputString, encodedStoredString) + 1) * 20;
 	}
 
 }
@@ -0,0 +1,127 @@
+package io.mosip.authentication.core.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+/**
+ * The Class BoundedTtlCacheTest.
+ */
+public class BoundedTtlCacheTest {
+
+	@Test
+	public void testGetAfterPut() {
+		BoundedTtlCache<String, String> cache = new BoundedTtlCache<>(2, 0);
+		cache.put("k1", "v1");
+		assertEquals("v1", cache.get("k1"));
+		assertNull(cache.get("k2"));
+		assertEquals(1, cache.getHitCount());
+		assertEquals(1, cache.getMissCount());
+	}
+
+	@Test
+	public void testOldestEvictedWhenFull() {
+		BoundedTtlCache<String, String> cache = new BoundedTtlCache<>(2, 0);
+		cache.put("k1", "v1");
+		cache.put("k2", "v2");
+		cache.put("k3", "v3");
+		assertNull(cache.get("k1"));
+		assertEquals("v2", cache.get("k2"));
+		assertEquals("v3", cache.get("k3"));
+		assertEquals(2, cache.size());
+		assertEquals(1, cache.getEvictionCount());
+	}
+
+	@Test
+	public void testReplacedEntryNotEvictedTwice() {
+		BoundedTtlCache<String, String> cache = new BoundedTtlCache<>(2, 0);
+		cache.put("k1", "v1");
+		cache.put("k1", "v1-new");
+		cache.put("k2", "v2");
+		assertEquals("v1-new", cache.get("k1"));
+		assertEquals("v2", cache.get("k2"));
+		assertEquals(0, cache.getEvictionCount());
+	}
+
+	@Test
+	public void testExpiredEntryRemoved() {
+		AtomicLong now = new AtomicLong();
+		BoundedTtlCache<String, String> cache = new BoundedTtlCache<>(2, 10, 0, value -> 0, now::get);
+		cache.put("k1", "v1");
+		now.addAndGet(9_000_000_000L);
+		assertEquals("v1", cache.get("k1"));
+		now.addAndGet(2_000_000_000L);
+		assertNull(cache.get("k1"));
+		assertEquals(0, cache.size());
+		assertEquals(1, cache.getEvictionCount());
+	}
+
+	@Test
+	public void testInvalidate() {
+		BoundedTtlCache<String, String> cache = new BoundedTtlCache<>(5, 0);
+		cache.put("a1", "v1");
+		cache.put("a2", "v2");
+		cache.put("b1", "v3");
+		cache.invalidate("a1");
+		assertNull(cache.get("a1"));
+		cache.invalidateIf(key -> key.startsWith("a"));
+		assertNull(cache.get("a2"));
+		assertEquals("v3", cache.get("b1"));
+		cache.put("c1", "v4");
+		cache.invalidateEntriesIf((key, value) -> value.equals("v4"));
+		assertNull(cache.get("c1"));
+		assertEquals("v3", cache.get("b1"));
+		cache.invalidateAll();
+		assertEquals(0, cache.size());
+	}
+
+	@Test
+	public void testValuesSkipExpiredEntries() {
+		AtomicLong now = new AtomicLong();
+		BoundedTtlCache<String, String> cache = new BoundedTtlCache<>(5, 10, 0, value -> 0, now::get);
+		cache.put("k1", "v1");
+		now.addAndGet(5_000_000_000L);
+		cache.put("k2", "v2");
+		now.addAndGet(6_000_000_000L);
+		assertEquals(List.of("v2"), cache.values().collect(Collectors.toList()));
+	}
+
+	@Test
+	public void testOldestEvictedWhenOverweight() {
+		BoundedTtlCache<String, String> cache = new BoundedTtlCache<>(10, 0, 10, String::length);
+		cache.put("k1", "1234");
+		cache.put("k2", "1234");
+		assertEquals(8, cache.getWeight());
+		cache.put("k3", "1234");
+		assertNull(cache.get("k1"));
+		assertEquals("1234", cache.get("k3"));
+		assertEquals(8, cache.getWeight());
+		assertEquals(1, cache.getEvictionCount());
+	}
+
+	@Test
+	public void testWeightReleasedOnRemoval() {
+		BoundedTtlCache<String, String> cache = new BoundedTtlCache<>(10, 0, 100, String::length);
+		cache.put("a1", "12");
+		cache.put("a1", "123");
+		cache.put("a2", "1234");
+		cache.put("b1", "12345");
+		assertEquals(12, cache.getWeight());
+		cache.invalidate("a1");
+		assertEquals(9, cache.getWeight());
+		cache.invalidateIf(key -> key.startsWith("a"));
+		assertEquals(5, cache.getWeight());
+		cache.invalidateAll();
+		assertEquals(0, cache.getWeight());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidMaxSize() {
+		new BoundedTtlCache<>(0, 0);
+	}
+}
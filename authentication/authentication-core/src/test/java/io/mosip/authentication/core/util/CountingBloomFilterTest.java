@@ -0,0 +1,67 @@
+package io.mosip.authentication.core.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+/**
+ * The Class CountingBloomFilterTest.
+ */
+public class CountingBloomFilterTest {
+
+	@Test
+	public void testNoFalseNegatives() {
+		CountingBloomFilter filter = CountingBloomFilter.create(1000, 0.01, 1024 * 1024);
+		IntStream.range(0, 1000).forEach(i -> filter.add("id" + i));
+		assertTrue(IntStream.range(0, 1000).allMatch(i -> filter.mightContain("id" + i)));
+		assertEquals(1000, filter.size());
+	}
+
+	@Test
+	public void testFalsePositiveRate() {
+		CountingBloomFilter filter = CountingBloomFilter.create(1000, 0.01, 1024 * 1024);
+		IntStream.range(0, 1000).forEach(i -> filter.add("id" + i));
+		long falsePositives = IntStream.range(0, 100000).filter(i -> filter.mightContain("other" + i)).count();
+		assertTrue("false positives: " + falsePositives, falsePositives < 2000);
+	}
+
+	@Test
+	public void testRemove() {
+		CountingBloomFilter filter = CountingBloomFilter.create(100, 0.01, 1024);
+		filter.add("id1");
+		filter.add("id2");
+		assertTrue(filter.remove("id1"));
+		assertFalse(filter.mightContain("id1"));
+		assertTrue(filter.mightContain("id2"));
+		assertEquals(1, filter.size());
+	}
+
+	@Test
+	public void testRemoveNotAdded() {
+		CountingBloomFilter filter = CountingBloomFilter.create(100, 0.01, 1024);
+		filter.add("id1");
+		assertFalse(filter.remove("id2"));
+		assertTrue(filter.mightContain("id1"));
+		assertEquals(1, filter.size());
+	}
+
+	@Test
+	public void testSizedWithinMemory() {
+		CountingBloomFilter filter = CountingBloomFilter.create(100000, 0.01, 1024);
+		assertEquals(1024, filter.getBytes());
+		assertEquals(100000, filter.getCapacity());
+		assertEquals(1, filter.getHashCount());
+		CountingBloomFilter unbounded = CountingBloomFilter.create(1000, 0.01, 1024 * 1024);
+		assertEquals(7, unbounded.getHashCount());
+		assertTrue(unbounded.getBytes() < 1024 * 1024);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidSizing() {
+		CountingBloomFilter.create(100, 1, 1024);
+	}
+}
@@ -0,0 +1,86 @@
+package io.mosip.authentication.core.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * The Class SlidingWindowCounterTest.
+ */
+public class SlidingWindowCounterTest {
+
+	@Test
+	public void testCountWithinWindow() {
+		SlidingWindowCounter<String> counter = new SlidingWindowCounter<>(1000, 100);
+		counter.increment("key1", 10_000);
+		counter.increment("key1", 10_450);
+		counter.increment("key1", 10_900);
+		counter.increment("key2", 10_900);
+		assertEquals(3, counter.count("key1", 9_900));
+		assertEquals(2, counter.count("key1", 10_400));
+		assertEquals(1, counter.count("key2", 9_900));
+		assertEquals(0, counter.count("key3", 9_900));
+	}
+
+	@Test
+	public void testBucketReuse() {
+		SlidingWindowCounter<String> counter = new SlidingWindowCounter<>(1000, 100);
+		counter.increment("key", 10_000);
+		counter.increment("key", 11_000);
+		assertEquals(2, counter.count("key", 9_000));
+		// Reuses the bucket of the first event
+		counter.increment("key", 12_100);
+		assertEquals(2, counter.count("key", 9_000));
+		assertEquals(1, counter.count("key", 11_500));
+		// Older than the buckets kept
+		counter.increment("key", 10_000);
+		assertEquals(2, counter.count("key", 9_000));
+	}
+
+	@Test
+	public void testCountMatchesExactCount() {
+		long windowMillis = 1000;
+		long bucketMillis = 100;
+		SlidingWindowCounter<String> counter = new SlidingWindowCounter<>(windowMillis, bucketMillis);
+		Random random = new Random(7);
+		List<Long> times = new ArrayList<>();
+		long time = 1_000_000;
+		for (int i = 0; i < 5000; i++) {
+			// Mostly ordered, with times up to 200ms late as from concurrent requests
+			time += random.nextInt(20);
+			long eventTime = time - random.nextInt(200);
+			times.add(eventTime);
+			counter.increment("key", eventTime);
+
+			long after = eventTime - windowMillis;
+			long exact = times.stream().filter(t -> t > after).count();
+			long boundaryBucket = times.stream()
+					.filter(t -> t <= after && Math.floorDiv(t, bucketMillis) == Math.floorDiv(after, bucketMillis))
+					.count();
+			long count = counter.count("key", after);
+			assertTrue("count: " + count + ", exact: " + exact, count >= exact);
+			assertTrue("count: " + count + ", exact: " + exact, count <= exact + boundaryBucket);
+		}
+	}
+
+	@Test
+	public void testRemoveBefore() {
+		SlidingWindowCounter<String> counter = new SlidingWindowCounter<>(1000, 100);
+		counter.increment("key1", 10_000);
+		counter.increment("key2", 20_000);
+		counter.removeBefore(15_000);
+		assertEquals(1, counter.size());
+		assertEquals(0, counter.count("key1", 9_000));
+		assertEquals(1, counter.count("key2", 19_500));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidWindow() {
+		new SlidingWindowCounter<>(0, 100);
+	}
+}
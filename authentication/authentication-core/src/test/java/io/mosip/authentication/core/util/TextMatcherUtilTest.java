@@ -1,6 +1,15 @@
 package io.mosip.authentication.core.util;
 
+import static org.junit.Assert.assertEquals;
+
+import java.util.Set;
+
 import org.apache.commons.codec.EncoderException;
+import org.apache.commons.codec.language.Soundex;
+import org.apache.commons.codec.language.bm.Languages.LanguageSet;
+import org.apache.commons.codec.language.bm.NameType;
+import org.apache.commons.codec.language.bm.PhoneticEngine;
+import org.apache.commons.codec.language.bm.RuleType;
 import org.junit.Test;
 
 public class TextMatcherUtilTest {
@@ -15,4 +24,23 @@ public class TextMatcherUtilTest {
 		TextMatcherUtil.phoneticsMatch("dinesh", "esh", "english");
 	}
 
+	@Test
+	public void TestCachedStoredEncoding() throws EncoderException {
+		assertEquals(100, TextMatcherUtil.phoneticsMatch("dinesh", "dinesh", "english").intValue());
+		assertEquals(100, TextMatcherUtil.phoneticsMatch("dinesh", "dinesh", "english").intValue());
+		assertEquals(encodeAndMatch("dinesh", "esh", "english"),
+				TextMatcherUtil.phoneticsMatch("dinesh", "esh", "english").intValue());
+		assertEquals(encodeAndMatch("dinish", "esh", "english"),
+				TextMatcherUtil.phoneticsMatch("dinish", "esh", "english").intValue());
+		assertEquals(encodeAndMatch("ibrahim", "ibrahim", "arabic"),
+				TextMatcherUtil.phoneticsMatch("ibrahim", "ibrahim", "arabic").intValue());
+	}
+
+	private int encodeAndMatch(String inputString, String storedString, String language) throws EncoderException {
+		PhoneticEngine phoneticEngine = new PhoneticEngine(NameType.GENERIC, RuleType.EXACT, true);
+		LanguageSet languageSet = LanguageSet.from(Set.of(language));
+		return (new Soundex().difference(phoneticEngine.encode(inputString, languageSet),
+				phoneticEngine.encode(storedString, languageSet)) + 1) * 20;
+	}
+
 }
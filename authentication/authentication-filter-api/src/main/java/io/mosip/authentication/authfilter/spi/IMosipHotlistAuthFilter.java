@@ -0,0 +1,39 @@
+package io.mosip.authentication.authfilter.spi;
+
+import java.util.List;
+import java.util.Map;
+
+import io.mosip.authentication.authfilter.exception.IdAuthenticationFilterException;
+import io.mosip.authentication.core.hotlist.dto.HotlistDTO;
+import io.mosip.authentication.core.hotlist.dto.HotlistIdDTO;
+import io.mosip.authentication.core.indauth.dto.AuthRequestDTO;
+
+/**
+ * The Interface IMosipHotlistAuthFilter - an auth filter validating the ids of
+ * the authentication request against the hotlist. The ids of all the hotlist
+ * filters are collected first and their hotlist status looked up together, and
+ * each filter then validates its ids from the shared hotlist status.
+ */
+public interface IMosipHotlistAuthFilter extends IMosipAuthFilter {
+
+	/**
+	 * Gets the ids of the authentication request validated by this filter. The
+	 * same list is passed back to {@link #validateHotlistStatus}, so it may be
+	 * positional, such as one id per biometric segment.
+	 *
+	 * @param authRequest the auth request
+	 * @return the hotlist ids
+	 */
+	List<HotlistIdDTO> getHotlistIds(AuthRequestDTO authRequest);
+
+	/**
+	 * Validates the ids of this filter from the looked up hotlist status.
+	 *
+	 * @param hotlistIds    the hotlist ids returned by {@link #getHotlistIds}
+	 * @param hotlistStatus the hotlist status of at least those ids
+	 * @throws IdAuthenticationFilterException the IdAuthenticationFilterException
+	 *                                         if any of the ids is hotlisted
+	 */
+	void validateHotlistStatus(List<HotlistIdDTO> hotlistIds, Map<HotlistIdDTO, HotlistDTO> hotlistStatus)
+			throws IdAuthenticationFilterException;
+}
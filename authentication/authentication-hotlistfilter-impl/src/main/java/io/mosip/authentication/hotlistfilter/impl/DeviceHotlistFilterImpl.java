@@ -2,23 +2,28 @@ package io.mosip.authentication.hotlistfilter.impl;
 
 import static io.mosip.authentication.core.constant.IdAuthCommonConstants.BIO_PATH;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.OptionalInt;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import org.springframework.beans.factory.annotation.Autowired;
 
 import io.mosip.authentication.authfilter.exception.IdAuthenticationFilterException;
-import io.mosip.authentication.authfilter.spi.IMosipAuthFilter;
+import io.mosip.authentication.authfilter.spi.IMosipHotlistAuthFilter;
 import io.mosip.authentication.common.service.transaction.manager.IdAuthSecurityManager;
 import io.mosip.authentication.common.service.util.AuthTypeUtil;
 import io.mosip.authentication.core.constant.IdAuthenticationErrorConstants;
 import io.mosip.authentication.core.exception.IdAuthenticationBusinessException;
 import io.mosip.authentication.core.hotlist.dto.HotlistDTO;
+import io.mosip.authentication.core.hotlist.dto.HotlistIdDTO;
 import io.mosip.authentication.core.indauth.dto.AuthRequestDTO;
 import io.mosip.authentication.core.indauth.dto.BioIdentityInfoDTO;
+import io.mosip.authentication.core.indauth.dto.DigitalId;
 import io.mosip.authentication.core.indauth.dto.IdentityInfoDTO;
 import io.mosip.authentication.core.spi.hotlist.service.HotlistService;
 import io.mosip.kernel.core.hotlist.constant.HotlistIdTypes;
@@ -30,7 +35,7 @@ import io.mosip.kernel.core.hotlist.constant.HotlistStatus;
  * 
  * @author Loganathan Sekar
  */
-public class DeviceHotlistFilterImpl implements IMosipAuthFilter {
+public class DeviceHotlistFilterImpl implements IMosipHotlistAuthFilter {
 	
 	/** The hotlist service. */
 	@Autowired
@@ -64,19 +69,61 @@ public class DeviceHotlistFilterImpl implements IMosipAuthFilter {
 	 */
 	private void isDevicesHotlisted(List<BioIdentityInfoDTO> biometrics) throws IdAuthenticationFilterException {
 		if (Objects.nonNull(biometrics) && !biometrics.isEmpty()) {
-			OptionalInt indexOpt = IntStream.range(0, biometrics.size()).filter(index -> {
-				HotlistDTO hotlistStatus = hotlistService.getHotlistStatus(
-						IdAuthSecurityManager.generateHashAndDigestAsPlainText(biometrics.get(index).getData().getDigitalId()
-								.getSerialNo().concat(biometrics.get(index).getData().getDigitalId().getMake())
-								.concat(biometrics.get(index).getData().getDigitalId().getModel()).getBytes()),
-						HotlistIdTypes.DEVICE);
-				return hotlistStatus.getStatus().contentEquals(HotlistStatus.BLOCKED);
-			}).findAny();
-			if(indexOpt.isPresent()) {
-				throw new IdAuthenticationFilterException(IdAuthenticationErrorConstants.IDVID_DEACTIVATED_BLOCKED.getErrorCode(),
-							String.format(IdAuthenticationErrorConstants.IDVID_DEACTIVATED_BLOCKED.getErrorMessage(),
-									String.format(BIO_PATH, indexOpt.getAsInt(), HotlistIdTypes.DEVICE)));
-			}
+			List<HotlistIdDTO> hotlistIds = getDeviceIds(biometrics);
+			validateHotlistStatus(hotlistIds, hotlistIds.stream().distinct().collect(Collectors.toMap(Function.identity(),
+					hotlistId -> hotlistService.getHotlistStatus(hotlistId.getIdHash(), hotlistId.getIdType()))));
+		}
+	}
+
+	/**
+	 * Gets the hotlist ids of the devices, one per biometric segment. The segments
+	 * captured with the same device are hashed once.
+	 *
+	 * @param biometrics the biometrics
+	 * @return the hotlist ids
+	 */
+	private List<HotlistIdDTO> getDeviceIds(List<BioIdentityInfoDTO> biometrics) {
+		if (Objects.isNull(biometrics)) {
+			return List.of();
+		}
+		Map<String, String> deviceHashes = new HashMap<>();
+		return biometrics.stream().map(biometric -> {
+			DigitalId digitalId = biometric.getData().getDigitalId();
+			String device = digitalId.getSerialNo().concat(digitalId.getMake()).concat(digitalId.getModel());
+			return new HotlistIdDTO(deviceHashes.computeIfAbsent(device,
+					key -> IdAuthSecurityManager.generateHashAndDigestAsPlainText(key.getBytes())), HotlistIdTypes.DEVICE);
+		}).collect(Collectors.toList());
+	}
+
+	/**
+	 * Gets the hotlist ids of the devices of the biometric segments.
+	 *
+	 * @param authRequest the auth request
+	 * @return the hotlist ids
+	 */
+	@Override
+	public List<HotlistIdDTO> getHotlistIds(AuthRequestDTO authRequest) {
+		return AuthTypeUtil.isBio(authRequest) ? getDeviceIds(authRequest.getRequest().getBiometrics()) : List.of();
+	}
+
+	/**
+	 * Validates the devices, reporting the first biometric segment captured with a
+	 * hotlisted device.
+	 *
+	 * @param hotlistIds    the hotlist ids
+	 * @param hotlistStatus the hotlist status
+	 * @throws IdAuthenticationFilterException
+	 */
+	@Override
+	public void validateHotlistStatus(List<HotlistIdDTO> hotlistIds, Map<HotlistIdDTO, HotlistDTO> hotlistStatus)
+			throws IdAuthenticationFilterException {
+		OptionalInt indexOpt = IntStream.range(0, hotlistIds.size())
+				.filter(index -> hotlistStatus.get(hotlistIds.get(index)).getStatus().contentEquals(HotlistStatus.BLOCKED))
+				.findFirst();
+		if(indexOpt.isPresent()) {
+			throw new IdAuthenticationFilterException(IdAuthenticationErrorConstants.IDVID_DEACTIVATED_BLOCKED.getErrorCode(),
+						String.format(IdAuthenticationErrorConstants.IDVID_DEACTIVATED_BLOCKED.getErrorMessage(),
+								String.format(BIO_PATH, indexOpt.getAsInt(), HotlistIdTypes.DEVICE)));
 		}
 	}
 
@@ -2,22 +2,28 @@ package io.mosip.authentication.hotlistfilter.impl;
 
 import static io.mosip.authentication.core.constant.IdAuthCommonConstants.BIO_PATH;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.OptionalInt;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import org.springframework.beans.factory.annotation.Autowired;
 
 import io.mosip.authentication.authfilter.exception.IdAuthenticationFilterException;
-import io.mosip.authentication.authfilter.spi.IMosipAuthFilter;
+import io.mosip.authentication.authfilter.spi.IMosipHotlistAuthFilter;
 import io.mosip.authentication.common.service.transaction.manager.IdAuthSecurityManager;
 import io.mosip.authentication.common.service.util.AuthTypeUtil;
 import io.mosip.authentication.core.constant.IdAuthenticationErrorConstants;
 import io.mosip.authentication.core.exception.IdAuthenticationBusinessException;
+import io.mosip.authentication.core.hotlist.dto.HotlistDTO;
+import io.mosip.authentication.core.hotlist.dto.HotlistIdDTO;
 import io.mosip.authentication.core.indauth.dto.AuthRequestDTO;
 import io.mosip.authentication.core.indauth.dto.BioIdentityInfoDTO;
+import io.mosip.authentication.core.indauth.dto.DigitalId;
 import io.mosip.authentication.core.indauth.dto.IdentityInfoDTO;
 import io.mosip.authentication.core.spi.hotlist.service.HotlistService;
 import io.mosip.kernel.core.hotlist.constant.HotlistIdTypes;
@@ -29,7 +35,7 @@ import io.mosip.kernel.core.hotlist.constant.HotlistStatus;
  * 
  * @author Loganathan Sekar
  */
-public class DeviceProviderHotlistFilterImpl implements IMosipAuthFilter {
+public class DeviceProviderHotlistFilterImpl implements IMosipHotlistAuthFilter {
 	
 	/** The hotlist service. */
 	@Autowired
@@ -64,25 +70,65 @@ public class DeviceProviderHotlistFilterImpl implements IMosipAuthFilter {
 	protected void isDeviceProviderHotlisted(List<BioIdentityInfoDTO> biometrics)
 			throws IdAuthenticationFilterException {
 		if (Objects.nonNull(biometrics) && !biometrics.isEmpty()) {
-			OptionalInt indexOpt = IntStream
-					.range(0, biometrics.size()).filter(
-							index -> hotlistService
-									.getHotlistStatus(
-											IdAuthSecurityManager.generateHashAndDigestAsPlainText(
-													biometrics.get(index).getData().getDigitalId().getDp()
-															.concat(biometrics.get(index).getData().getDigitalId()
-																	.getDpId())
-															.getBytes()),
-											HotlistIdTypes.DEVICE_PROVIDER)
-									.getStatus().contentEquals(HotlistStatus.BLOCKED))
-					.findFirst();
-			if (indexOpt.isPresent()) {
-				throw new IdAuthenticationFilterException(
-						IdAuthenticationErrorConstants.IDVID_DEACTIVATED_BLOCKED.getErrorCode(),
-						String.format(IdAuthenticationErrorConstants.IDVID_DEACTIVATED_BLOCKED.getErrorMessage(),
-								String.format(BIO_PATH, indexOpt.getAsInt(), HotlistIdTypes.DEVICE_PROVIDER)));
-			}
+			List<HotlistIdDTO> hotlistIds = getDeviceProviderIds(biometrics);
+			validateHotlistStatus(hotlistIds,
+					hotlistIds.stream().distinct().collect(Collectors.toMap(Function.identity(),
+							hotlistId -> hotlistService.getHotlistStatus(hotlistId.getIdHash(), hotlistId.getIdType()))));
+		}
+	}
+
+	/**
+	 * Gets the hotlist ids of the device providers, one per biometric segment. The
+	 * segments captured with devices of the same provider are hashed once.
+	 *
+	 * @param biometrics the biometrics
+	 * @return the hotlist ids
+	 */
+	private List<HotlistIdDTO> getDeviceProviderIds(List<BioIdentityInfoDTO> biometrics) {
+		if (Objects.isNull(biometrics)) {
+			return List.of();
+		}
+		Map<String, String> deviceProviderHashes = new HashMap<>();
+		return biometrics.stream().map(biometric -> {
+			DigitalId digitalId = biometric.getData().getDigitalId();
+			String deviceProvider = digitalId.getDp().concat(digitalId.getDpId());
+			return new HotlistIdDTO(deviceProviderHashes.computeIfAbsent(deviceProvider,
+					key -> IdAuthSecurityManager.generateHashAndDigestAsPlainText(key.getBytes())),
+					HotlistIdTypes.DEVICE_PROVIDER);
+		}).collect(Collectors.toList());
+	}
 
+	/**
+	 * Gets the hotlist ids of the device providers of the biometric segments.
+	 *
+	 * @param authRequest the auth request
+	 * @return the hotlist ids
+	 */
+	@Override
+	public List<HotlistIdDTO> getHotlistIds(AuthRequestDTO authRequest) {
+		return AuthTypeUtil.isBio(authRequest) ? getDeviceProviderIds(authRequest.getRequest().getBiometrics())
+				: List.of();
+	}
+
+	/**
+	 * Validates the device providers, reporting the first biometric segment
+	 * captured with a device of a hotlisted provider.
+	 *
+	 * @param hotlistIds    the hotlist ids
+	 * @param hotlistStatus the hotlist status
+	 * @throws IdAuthenticationFilterException
+	 */
+	@Override
+	public void validateHotlistStatus(List<HotlistIdDTO> hotlistIds, Map<HotlistIdDTO, HotlistDTO> hotlistStatus)
+			throws IdAuthenticationFilterException {
+		OptionalInt indexOpt = IntStream.range(0, hotlistIds.size())
+				.filter(index -> hotlistStatus.get(hotlistIds.get(index)).getStatus().contentEquals(HotlistStatus.BLOCKED))
+				.findFirst();
+		if (indexOpt.isPresent()) {
+			throw new IdAuthenticationFilterException(
+					IdAuthenticationErrorConstants.IDVID_DEACTIVATED_BLOCKED.getErrorCode(),
+					String.format(IdAuthenticationErrorConstants.IDVID_DEACTIVATED_BLOCKED.getErrorMessage(),
+							String.format(BIO_PATH, indexOpt.getAsInt(), HotlistIdTypes.DEVICE_PROVIDER)));
 		}
 	}
 
@@ -3,16 +3,19 @@ package io.mosip.authentication.hotlistfilter.impl;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
 
 import io.mosip.authentication.authfilter.exception.IdAuthenticationFilterException;
-import io.mosip.authentication.authfilter.spi.IMosipAuthFilter;
+import io.mosip.authentication.authfilter.spi.IMosipHotlistAuthFilter;
 import io.mosip.authentication.common.service.transaction.manager.IdAuthSecurityManager;
 import io.mosip.authentication.core.constant.IdAuthCommonConstants;
 import io.mosip.authentication.core.constant.IdAuthenticationErrorConstants;
 import io.mosip.authentication.core.exception.IdAuthenticationBusinessException;
 import io.mosip.authentication.core.hotlist.dto.HotlistDTO;
+import io.mosip.authentication.core.hotlist.dto.HotlistIdDTO;
 import io.mosip.authentication.core.indauth.dto.AuthRequestDTO;
 import io.mosip.authentication.core.indauth.dto.IdentityInfoDTO;
 import io.mosip.authentication.core.spi.hotlist.service.HotlistService;
@@ -24,7 +27,7 @@ import io.mosip.kernel.core.hotlist.constant.HotlistStatus;
  * 
  * @author Loganathan Sekar
  */
-public class IndividualIdHotlistFilterImpl implements IMosipAuthFilter {
+public class IndividualIdHotlistFilterImpl implements IMosipHotlistAuthFilter {
 	
 	/** The hotlist service. */
 	@Autowired
@@ -58,13 +61,51 @@ public class IndividualIdHotlistFilterImpl implements IMosipAuthFilter {
 	 * @throws IdAuthenticationFilterException 
 	 */
 	private void isIndividualIdHotlisted(String individualId, String individualIdType) throws IdAuthenticationFilterException {
+		List<HotlistIdDTO> hotlistIds = getIndividualIds(individualId, individualIdType);
+		validateHotlistStatus(hotlistIds, hotlistIds.stream().collect(Collectors.toMap(Function.identity(),
+				hotlistId -> hotlistService.getHotlistStatus(hotlistId.getIdHash(), hotlistId.getIdType()))));
+	}
+
+	/**
+	 * Gets the hotlist id of the individual id, if any.
+	 *
+	 * @param individualId     the individual id
+	 * @param individualIdType the individual id type
+	 * @return the hotlist ids
+	 */
+	private List<HotlistIdDTO> getIndividualIds(String individualId, String individualIdType) {
 		if (Objects.nonNull(individualId) && Objects.nonNull(individualIdType)) {
-			HotlistDTO hotlistStatus = hotlistService.getHotlistStatus(
-					IdAuthSecurityManager.generateHashAndDigestAsPlainText(individualId.getBytes()), IdAuthCommonConstants.INDIVIDUAL_ID);
-			if (hotlistStatus.getStatus().contentEquals(HotlistStatus.BLOCKED)) {
-				throw new IdAuthenticationFilterException(IdAuthenticationErrorConstants.IDVID_DEACTIVATED_BLOCKED.getErrorCode(), String
-						.format(IdAuthenticationErrorConstants.IDVID_DEACTIVATED_BLOCKED.getErrorMessage(), IdAuthCommonConstants.INDIVIDUAL_ID));
-			}
+			return List.of(new HotlistIdDTO(IdAuthSecurityManager.generateHashAndDigestAsPlainText(individualId.getBytes()),
+					IdAuthCommonConstants.INDIVIDUAL_ID));
+		}
+		return List.of();
+	}
+
+	/**
+	 * Gets the hotlist id of the individual id of the request.
+	 *
+	 * @param authRequest the auth request
+	 * @return the hotlist ids
+	 */
+	@Override
+	public List<HotlistIdDTO> getHotlistIds(AuthRequestDTO authRequest) {
+		return getIndividualIds(authRequest.getIndividualId(), authRequest.getIndividualIdType());
+	}
+
+	/**
+	 * Validates the individual id.
+	 *
+	 * @param hotlistIds    the hotlist ids
+	 * @param hotlistStatus the hotlist status
+	 * @throws IdAuthenticationFilterException
+	 */
+	@Override
+	public void validateHotlistStatus(List<HotlistIdDTO> hotlistIds, Map<HotlistIdDTO, HotlistDTO> hotlistStatus)
+			throws IdAuthenticationFilterException {
+		if (hotlistIds.stream()
+				.anyMatch(hotlistId -> hotlistStatus.get(hotlistId).getStatus().contentEquals(HotlistStatus.BLOCKED))) {
+			throw new IdAuthenticationFilterException(IdAuthenticationErrorConstants.IDVID_DEACTIVATED_BLOCKED.getErrorCode(), String
+					.format(IdAuthenticationErrorConstants.IDVID_DEACTIVATED_BLOCKED.getErrorMessage(), IdAuthCommonConstants.INDIVIDUAL_ID));
 		}
 	}
 	
@@ -4,15 +4,19 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
 
 import io.mosip.authentication.authfilter.exception.IdAuthenticationFilterException;
-import io.mosip.authentication.authfilter.spi.IMosipAuthFilter;
+import io.mosip.authentication.authfilter.spi.IMosipHotlistAuthFilter;
 import io.mosip.authentication.common.service.transaction.manager.IdAuthSecurityManager;
 import io.mosip.authentication.core.constant.IdAuthCommonConstants;
 import io.mosip.authentication.core.constant.IdAuthenticationErrorConstants;
 import io.mosip.authentication.core.exception.IdAuthenticationBusinessException;
+import io.mosip.authentication.core.hotlist.dto.HotlistDTO;
+import io.mosip.authentication.core.hotlist.dto.HotlistIdDTO;
 import io.mosip.authentication.core.indauth.dto.AuthRequestDTO;
 import io.mosip.authentication.core.indauth.dto.IdentityInfoDTO;
 import io.mosip.authentication.core.spi.hotlist.service.HotlistService;
@@ -25,7 +29,7 @@ import io.mosip.kernel.core.hotlist.constant.HotlistStatus;
  * 
  * @author Loganathan Sekar
  */
-public class PartnerIdHotlistFilterImpl implements IMosipAuthFilter {
+public class PartnerIdHotlistFilterImpl implements IMosipHotlistAuthFilter {
 	
 	/** The hotlist service. */
 	@Autowired
@@ -58,18 +62,53 @@ public class PartnerIdHotlistFilterImpl implements IMosipAuthFilter {
 	 * @throws IdAuthenticationFilterException 
 	 */
 	protected void isPartnerIdHotlisted(Optional<Object> metadata) throws IdAuthenticationFilterException {
+		List<HotlistIdDTO> hotlistIds = getPartnerIds(metadata);
+		validateHotlistStatus(hotlistIds, hotlistIds.stream().collect(Collectors.toMap(Function.identity(),
+				hotlistId -> hotlistService.getHotlistStatus(hotlistId.getIdHash(), hotlistId.getIdType()))));
+	}
+
+	/**
+	 * Gets the hotlist id of the partner id, if any.
+	 *
+	 * @param metadata the partner id metadata
+	 * @return the hotlist ids
+	 */
+	private List<HotlistIdDTO> getPartnerIds(Optional<Object> metadata) {
 		if (Objects.nonNull(metadata) && metadata.isPresent()) {
-			Optional<Object> blockedOpt = metadata
-					.filter(partnerId -> hotlistService
-							.getHotlistStatus(IdAuthSecurityManager.generateHashAndDigestAsPlainText(
-									((String) partnerId).getBytes()), HotlistIdTypes.PARTNER_ID)
-							.getStatus().contentEquals(HotlistStatus.BLOCKED));
-			if(blockedOpt.isPresent()) {
-				throw new IdAuthenticationFilterException(
-						IdAuthenticationErrorConstants.IDVID_DEACTIVATED_BLOCKED.getErrorCode(),
-						String.format(IdAuthenticationErrorConstants.IDVID_DEACTIVATED_BLOCKED.getErrorMessage(),
-								IdAuthCommonConstants.PARTNER_ID));
-			}
+			return List.of(new HotlistIdDTO(
+					IdAuthSecurityManager.generateHashAndDigestAsPlainText(((String) metadata.get()).getBytes()),
+					HotlistIdTypes.PARTNER_ID));
+		}
+		return List.of();
+	}
+
+	/**
+	 * Gets the hotlist id of the partner id of the request.
+	 *
+	 * @param authRequest the auth request
+	 * @return the hotlist ids
+	 */
+	@Override
+	public List<HotlistIdDTO> getHotlistIds(AuthRequestDTO authRequest) {
+		return getPartnerIds(authRequest.getMetadata(IdAuthCommonConstants.PARTNER_ID));
+	}
+
+	/**
+	 * Validates the partner id.
+	 *
+	 * @param hotlistIds    the hotlist ids
+	 * @param hotlistStatus the hotlist status
+	 * @throws IdAuthenticationFilterException
+	 */
+	@Override
+	public void validateHotlistStatus(List<HotlistIdDTO> hotlistIds, Map<HotlistIdDTO, HotlistDTO> hotlistStatus)
+			throws IdAuthenticationFilterException {
+		if (hotlistIds.stream()
+				.anyMatch(hotlistId -> hotlistStatus.get(hotlistId).getStatus().contentEquals(HotlistStatus.BLOCKED))) {
+			throw new IdAuthenticationFilterException(
+					IdAuthenticationErrorConstants.IDVID_DEACTIVATED_BLOCKED.getErrorCode(),
+					String.format(IdAuthenticationErrorConstants.IDVID_DEACTIVATED_BLOCKED.getErrorMessage(),
+							IdAuthCommonConstants.PARTNER_ID));
 		}
 	}
 	
@@ -1,11 +1,15 @@
 package io.mosip.authentication.hotlistfilter.impl;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.Mockito.when;
 
 import java.lang.reflect.UndeclaredThrowableException;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.junit.Before;
@@ -26,6 +30,7 @@ import io.mosip.authentication.authfilter.exception.IdAuthenticationFilterExcept
 import io.mosip.authentication.core.constant.IdAuthCommonConstants;
 import io.mosip.authentication.core.constant.IdAuthenticationErrorConstants;
 import io.mosip.authentication.core.hotlist.dto.HotlistDTO;
+import io.mosip.authentication.core.hotlist.dto.HotlistIdDTO;
 import io.mosip.authentication.core.indauth.dto.BioIdentityInfoDTO;
 import io.mosip.authentication.core.indauth.dto.DataDTO;
 import io.mosip.authentication.core.indauth.dto.DigitalId;
@@ -143,6 +148,42 @@ public class HotlistFilterImplTest {
 				Collections.singletonList(biometric));
 	}
 
+	@Test
+	public void testDevicesHotlistStatusReportsSegmentIndex() {
+		List<BioIdentityInfoDTO> biometrics = List.of(createBiometric("serial1"), createBiometric("serial2"),
+				createBiometric("serial1"));
+		List<HotlistIdDTO> hotlistIds = ReflectionTestUtils.invokeMethod(deviceHotlistFilterImpl, "getDeviceIds",
+				biometrics);
+		assertEquals(3, hotlistIds.size());
+		assertEquals(hotlistIds.get(0), hotlistIds.get(2));
+		assertNotEquals(hotlistIds.get(0), hotlistIds.get(1));
+		HotlistDTO unblocked = new HotlistDTO();
+		unblocked.setStatus(HotlistStatus.UNBLOCKED);
+		HotlistDTO blocked = new HotlistDTO();
+		blocked.setStatus(HotlistStatus.BLOCKED);
+		try {
+			deviceHotlistFilterImpl.validateHotlistStatus(hotlistIds,
+					Map.of(hotlistIds.get(0), unblocked, hotlistIds.get(1), blocked));
+			fail();
+		} catch (IdAuthenticationFilterException e) {
+			assertEquals(String.format(IdAuthenticationErrorConstants.IDVID_DEACTIVATED_BLOCKED.getErrorMessage(),
+					String.format(IdAuthCommonConstants.BIO_PATH, "1", HotlistIdTypes.DEVICE)), e.getErrorText());
+		}
+		Mockito.verify(hotlistService, Mockito.never()).getHotlistStatus(Mockito.any(), Mockito.any());
+	}
+
+	private BioIdentityInfoDTO createBiometric(String serialNo) {
+		BioIdentityInfoDTO biometric = new BioIdentityInfoDTO();
+		DataDTO data = new DataDTO();
+		DigitalId digitalId = new DigitalId();
+		digitalId.setSerialNo(serialNo);
+		digitalId.setMake("make");
+		digitalId.setModel("model");
+		data.setDigitalId(digitalId);
+		biometric.setData(data);
+		return biometric;
+	}
+
 	@Test
 	public void testIsDeviceProviderHotlisted() {
 		HotlistDTO result = new HotlistDTO();
@@ -4,6 +4,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import io.mosip.authentication.common.service.entity.HotlistCache;
+import io.mosip.authentication.common.service.impl.hotlist.HotlistFilter;
+import io.mosip.authentication.common.service.impl.hotlist.HotlistIndex;
 import io.mosip.authentication.common.service.repository.HotlistCacheRepository;
 import io.mosip.authentication.common.service.transaction.manager.IdAuthSecurityManager;
 import io.mosip.authentication.core.logger.IdaLogger;
@@ -30,6 +33,12 @@ public class HotlistScheduledCleanupJob {
 	@Autowired
 	private IdAuthSecurityManager securityManager;
 
+	@Autowired
+	private HotlistIndex hotlistIndex;
+
+	@Autowired
+	private HotlistFilter hotlistFilter;
+
 	/**
 	 * Cleanup unblocked ids.
 	 */
@@ -38,7 +47,7 @@ public class HotlistScheduledCleanupJob {
 		try {
 			mosipLogger.info(securityManager.getUser(), "HotlistScheduledCleanupJob", "cleanupUnblockedIds",
 					"INITIATED CLEANUP OF UNBLOCKED IDs");
-			hotlistRepo.findByStatusAndExpiryDTimes(HotlistStatus.UNBLOCKED, null).forEach(hotlistRepo::delete);
+			hotlistRepo.findByStatusAndExpiryDTimes(HotlistStatus.UNBLOCKED, null).forEach(this::delete);
 		} catch (Exception e) {
 			mosipLogger.warn(securityManager.getUser(), "HotlistScheduledCleanupJob", "cleanupUnblockedIds",
 					"HOTLIST STATUS CLEANUP FAILED WITH EXCEPTION - " + ExceptionUtils.getStackTrace(e));
@@ -54,10 +63,21 @@ public class HotlistScheduledCleanupJob {
 		try {
 			mosipLogger.info(securityManager.getUser(), "HotlistScheduledCleanupJob", "cleanupExpiredIds",
 					"INITIATED CLEANUP OF EXPIRED IDs");
-			hotlistRepo.findByExpiryDTimesLessThanAndStatus(DateUtils.getUTCCurrentDateTime(), HotlistStatus.UNBLOCKED).forEach(hotlistRepo::delete);
+			hotlistRepo.findByExpiryDTimesLessThanAndStatus(DateUtils.getUTCCurrentDateTime(), HotlistStatus.UNBLOCKED).forEach(this::delete);
 		} catch (Exception e) {
 			mosipLogger.warn(securityManager.getUser(), "HotlistScheduledCleanupJob", "cleanupUnblockedIds",
 					"HOTLIST STATUS CLEANUP FAILED WITH EXCEPTION - " + ExceptionUtils.getStackTrace(e));
 		}
 	}
+
+	/**
+	 * Deletes the hotlist entry and removes it from the hotlist index and filter.
+	 *
+	 * @param hotlistCache the hotlist entry
+	 */
+	private void delete(HotlistCache hotlistCache) {
+		hotlistRepo.delete(hotlistCache);
+		hotlistIndex.remove(hotlistCache.getIdHash(), hotlistCache.getIdType());
+		hotlistFilter.remove(hotlistCache.getIdHash(), hotlistCache.getIdType());
+	}
 }
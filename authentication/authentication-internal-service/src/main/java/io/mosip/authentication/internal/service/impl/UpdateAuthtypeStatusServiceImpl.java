@@ -12,6 +12,7 @@ import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import io.mosip.authentication.common.service.cache.AuthLockCache;
 import io.mosip.authentication.common.service.entity.AuthtypeLock;
 import io.mosip.authentication.common.service.repository.AuthLockRepository;
 import io.mosip.authentication.common.service.util.EnvUtil;
@@ -49,6 +50,10 @@ public class UpdateAuthtypeStatusServiceImpl implements UpdateAuthtypeStatusServ
 	@Autowired
 	private AuthTypeStatusEventPublisher authTypeStatusEventPublisherManager;
 
+	/** The auth lock cache. */
+	@Autowired
+	private AuthLockCache authLockCache;
+
 	/**
 	 * Update auth type status.
 	 *
@@ -68,6 +73,7 @@ public class UpdateAuthtypeStatusServiceImpl implements UpdateAuthtypeStatusServ
 		entities.forEach(entity -> authLockRepository.findByTokenAndAuthtypecode(tokenId, entity.getAuthtypecode())
 				.forEach(authLockRepository::delete));
 		authLockRepository.saveAll(entities);
+		authLockCache.invalidate(tokenId);
 		mosipLogger.debug("List of Auth Type Status- "+ authTypeStatusList);
 		authTypeStatusEventPublisherManager.publishEvent(authTypeStatusList);
 	}
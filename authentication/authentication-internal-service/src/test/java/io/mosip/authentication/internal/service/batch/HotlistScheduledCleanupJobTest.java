@@ -1,11 +1,15 @@
 package io.mosip.authentication.internal.service.batch;
 
+import io.mosip.authentication.common.service.entity.HotlistCache;
+import io.mosip.authentication.common.service.impl.hotlist.HotlistFilter;
+import io.mosip.authentication.common.service.impl.hotlist.HotlistIndex;
 import io.mosip.authentication.common.service.repository.HotlistCacheRepository;
 import io.mosip.authentication.common.service.transaction.manager.IdAuthSecurityManager;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.test.context.ContextConfiguration;
@@ -14,6 +18,10 @@ import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.context.WebApplicationContext;
 
+import io.mosip.kernel.core.hotlist.constant.HotlistStatus;
+
+import java.util.List;
+
 @WebMvcTest
 @ContextConfiguration(classes ={TestContext.class, WebApplicationContext.class})
 @RunWith(SpringRunner.class)
@@ -28,6 +36,12 @@ public class HotlistScheduledCleanupJobTest {
     @Mock
     private HotlistCacheRepository hotlistRepo;
 
+    @Mock
+    private HotlistIndex hotlistIndex;
+
+    @Mock
+    private HotlistFilter hotlistFilter;
+
     @Test
     public void cleanupUnblockedIdsTest(){
         hotlistScheduledCleanupJob.cleanupUnblockedIds();
@@ -36,6 +50,18 @@ public class HotlistScheduledCleanupJobTest {
         hotlistScheduledCleanupJob.cleanupUnblockedIds();
     }
 
+    @Test
+    public void cleanupRemovesFromIndexAndFilterTest(){
+        HotlistCache hotlistCache = new HotlistCache();
+        hotlistCache.setIdHash("idHash");
+        hotlistCache.setIdType("DEVICE");
+        Mockito.when(hotlistRepo.findByStatusAndExpiryDTimes(HotlistStatus.UNBLOCKED, null)).thenReturn(List.of(hotlistCache));
+        hotlistScheduledCleanupJob.cleanupUnblockedIds();
+        Mockito.verify(hotlistRepo).delete(hotlistCache);
+        Mockito.verify(hotlistIndex).remove("idHash", "DEVICE");
+        Mockito.verify(hotlistFilter).remove("idHash", "DEVICE");
+    }
+
     @Test
     public void cleanupExpiredIds(){
         hotlistScheduledCleanupJob.cleanupExpiredIds();
@@ -1,5 +1,6 @@
 package io.mosip.authentication.internal.service.impl;
 
+import io.mosip.authentication.common.service.cache.AuthLockCache;
 import io.mosip.authentication.common.service.repository.AuthLockRepository;
 import io.mosip.authentication.common.service.websub.impl.AuthTypeStatusEventPublisher;
 import io.mosip.authentication.core.exception.IdAuthenticationBusinessException;
@@ -8,6 +9,7 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Mockito;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.TestContext;
@@ -34,6 +36,9 @@ public class UpdateAuthtypeStatusServiceImplTest {
     @Mock
     private AuthTypeStatusEventPublisher authTypeStatusEventPublisherManager;
 
+    @Mock
+    private AuthLockCache authLockCache;
+
     /**
      * This class tests the putAuthTypeStatus method
      */
@@ -77,5 +82,6 @@ public class UpdateAuthtypeStatusServiceImplTest {
         authtypeStatus1.setLocked(true);
         authtypeStatusList.add(authtypeStatus1);
         updateAuthtypeStatusService.updateAuthTypeStatus(tokenId, authtypeStatusList);
+        Mockito.verify(authLockCache).invalidate(tokenId);
     }
 }
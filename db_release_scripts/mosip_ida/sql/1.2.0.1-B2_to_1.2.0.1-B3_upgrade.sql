@@ -0,0 +1,13 @@
+-- -------------------------------------------------------------------------------------------------
+-- Database Name	: mosip_ida
+-- Release Version 	: 1.2.0.1-B3
+-- Purpose    		: Database Alter scripts for the release for ID Authentication DB.       
+-- Created Date		: Oct-2026
+-- 
+-- Modified Date        Modified By         Comments / Remarks
+-- -------------------------------------------------------------------------------------------------
+-- Oct-2026		Adding the cr_dtimes index polled by the auth type lock cache
+----------------------------------------------------------------------------------------------------
+\c mosip_ida sysadmin
+
+CREATE INDEX IF NOT EXISTS ind_ual_crdtimes ON ida.uin_auth_lock (cr_dtimes);
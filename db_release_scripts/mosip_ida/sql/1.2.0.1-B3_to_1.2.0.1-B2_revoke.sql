@@ -0,0 +1,14 @@
+-- -------------------------------------------------------------------------------------------------
+-- Database Name: mosip_ida
+-- Release Version 	: 1.2.0.1-B3
+-- Purpose    		: Revoking Database Alter deployement done for release in ID Authentication DB.       
+-- Created Date		: Oct-2026
+-- 
+-- Modified Date        Modified By         Comments / Remarks
+-- -------------------------------------------------------------------------------------------------
+-- Oct-2026		Dropping the cr_dtimes index of uin_auth_lock
+-------------------------------------------------------------------------------------------------
+
+\c mosip_ida sysadmin
+
+DROP INDEX IF EXISTS ida.ind_ual_crdtimes;
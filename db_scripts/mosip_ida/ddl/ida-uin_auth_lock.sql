@@ -33,6 +33,7 @@ CREATE TABLE ida.uin_auth_lock(
 -- ddl-end --
 --index section starts----
 CREATE INDEX ind_ual_id ON ida.uin_auth_lock (token_id);
+CREATE INDEX ind_ual_crdtimes ON ida.uin_auth_lock (cr_dtimes);
 --index section ends------
 
 COMMENT ON TABLE ida.uin_auth_lock IS 'UIN Authentication Lock: An individual is provided an option to lock or unlock any of the authentication types that are provided by the system. When an individual locks a particular type of authentication, any requests received by the system will be rejected. The details of the locked authentication types are stored in this table. ';